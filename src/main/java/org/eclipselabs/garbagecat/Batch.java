@@ -0,0 +1,395 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat;
+
+import static org.eclipselabs.garbagecat.util.Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
+import static org.eclipselabs.garbagecat.util.Constants.LINE_SEPARATOR;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_BATCH_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_PREPROCESS_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_ROTATION_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_THREADS_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_LONG;
+import static org.eclipselabs.garbagecat.util.GcUtil.parseStartDateTime;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.cli.CommandLine;
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.service.GcLogFormat;
+import org.eclipselabs.garbagecat.service.GcLogSet;
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.service.GcSnapshot;
+import org.eclipselabs.garbagecat.util.GcLogInput;
+import org.eclipselabs.garbagecat.util.GcLogReader;
+import org.eclipselabs.garbagecat.util.jdk.JdkMath;
+
+/**
+ * <p>
+ * Analyze many gc logs in one process: files, directories (searched recursively), and globs (e.g. "logs/*&#47;gc.log").
+ * Each log is analyzed by its own <code>GcManager</code> on a worker pool, a report is written for each log to the
+ * batch directory, and a fleet summary ranks the JVMs by GC throughput, max pause, and number of analysis findings.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class Batch {
+
+    /**
+     * The result of analyzing one gc log.
+     */
+    static class Result {
+
+        /**
+         * The number of error analysis findings.
+         */
+        private int errors;
+
+        /**
+         * The error analyzing the gc log, or null if the analysis succeeded.
+         */
+        private String failure;
+
+        /**
+         * The total number of analysis findings.
+         */
+        private int findings;
+
+        /**
+         * Max GC pause (microseconds).
+         */
+        private long gcPauseMax;
+
+        /**
+         * GC throughput (percent).
+         */
+        private long gcThroughput;
+
+        /**
+         * The gc log file.
+         */
+        private File logFile;
+
+        /**
+         * The number of warning analysis findings.
+         */
+        private int warnings;
+
+        Result(File logFile) {
+            this.logFile = logFile;
+        }
+
+        int getErrors() {
+            return errors;
+        }
+
+        String getFailure() {
+            return failure;
+        }
+
+        int getFindings() {
+            return findings;
+        }
+
+        long getGcPauseMax() {
+            return gcPauseMax;
+        }
+
+        long getGcThroughput() {
+            return gcThroughput;
+        }
+
+        File getLogFile() {
+            return logFile;
+        }
+
+        int getWarnings() {
+            return warnings;
+        }
+
+        void setFindings(int findings) {
+            this.findings = findings;
+        }
+
+        void setGcPauseMax(long gcPauseMax) {
+            this.gcPauseMax = gcPauseMax;
+        }
+
+        void setGcThroughput(long gcThroughput) {
+            this.gcThroughput = gcThroughput;
+        }
+    }
+
+    /**
+     * Fleet summary ranking: lowest GC throughput, then longest max pause, then most analysis findings first.
+     */
+    static final Comparator<Result> RANKING = Comparator.comparingLong(Result::getGcThroughput)
+            .thenComparing(Comparator.comparingLong(Result::getGcPauseMax).reversed())
+            .thenComparing(Comparator.comparingInt(Result::getFindings).reversed());
+
+    /**
+     * Fleet summary file name.
+     */
+    public static final String SUMMARY_FILE_NAME = "summary.txt";
+
+    /**
+     * Analyze one gc log and write its report.
+     * 
+     * @param logFile
+     *            The gc log file.
+     * @param reportFile
+     *            The report file.
+     * @param cmd
+     *            The command line options.
+     * @return The <code>Result</code>.
+     */
+    static Result analyze(File logFile, File reportFile, CommandLine cmd) {
+        Result result = new Result(logFile);
+        try {
+            Date jvmStartDate = cmd.hasOption(OPTION_STARTDATETIME_LONG)
+                    ? parseStartDateTime(cmd.getOptionValue(OPTION_STARTDATETIME_SHORT))
+                    : null;
+            String jvmOptions = cmd.hasOption(OPTION_JVMOPTIONS_LONG) ? cmd.getOptionValue(OPTION_JVMOPTIONS_SHORT)
+                    : null;
+            boolean preprocess = cmd.hasOption(OPTION_PREPROCESS_LONG);
+            boolean reorder = cmd.hasOption(OPTION_REORDER_LONG);
+            int throughputThreshold = cmd.hasOption(OPTION_THRESHOLD_LONG)
+                    ? Integer.parseInt(cmd.getOptionValue(OPTION_THRESHOLD_SHORT))
+                    : DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
+
+            GcLogFormat.verify(logFile);
+            GcManager gcManager = new GcManager(jvmStartDate);
+            if (cmd.hasOption(OPTION_ROTATION_LONG)) {
+                new GcLogSet(GcLogSet.find(logFile)).parse(gcManager, jvmStartDate, preprocess, reorder);
+            } else if (cmd.hasOption(OPTION_SNAPSHOT_LONG) && !GcLogInput.isCompressed(logFile)) {
+                new GcSnapshot(logFile, preprocess, reorder).parse(gcManager, jvmStartDate);
+            } else {
+                List<String> logLines;
+                try (GcLogReader reader = GcLogInput.reader(logFile)) {
+                    logLines = reader.readAllLines();
+                    gcManager.addDamagedLogLines(reader.getDamagedLineCount());
+                }
+                gcManager.parse(logLines, preprocess, reorder);
+            }
+            JvmRun jvmRun = gcManager.getJvmRun(jvmOptions, throughputThreshold);
+            Main.createReport(jvmRun, false, reportFile, logFile.getPath());
+
+            result.gcThroughput = jvmRun.getGcThroughput();
+            result.gcPauseMax = jvmRun.getDurationMax();
+            List<String[]> analysis = jvmRun.getAnalysis();
+            result.findings = analysis.size();
+            for (String[] a : analysis) {
+                if (a[0].startsWith("error.")) {
+                    result.errors++;
+                } else if (a[0].startsWith("warn.")) {
+                    result.warnings++;
+                }
+            }
+        } catch (Exception | StackOverflowError e) {
+            result.failure = e.getClass().getSimpleName() + (e.getMessage() == null ? "" : ": " + e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * @param logFile
+     *            The gc log file.
+     * @param names
+     *            The report file names already used.
+     * @return A unique report file name for the gc log, derived from its path.
+     */
+    static String reportFileName(File logFile, Set<String> names) {
+        String name = logFile.getPath().replaceAll("^[./\\\\]+", "").replaceAll("[^A-Za-z0-9._-]", "_");
+        String reportFileName = name + ".txt";
+        for (int i = 2; !names.add(reportFileName); i++) {
+            reportFileName = name + "-" + i + ".txt";
+        }
+        return reportFileName;
+    }
+
+    /**
+     * Resolve gc log files, directories, and globs to gc log files.
+     * 
+     * @param inputs
+     *            The files, directories (searched recursively), and globs.
+     * @return The gc log files, in input order, without duplicates.
+     * @throws IOException
+     *             if a directory cannot be read.
+     */
+    static List<File> resolve(List<String> inputs) throws IOException {
+        Set<File> logFiles = new LinkedHashSet<File>();
+        for (String input : inputs) {
+            File file = new File(input);
+            if (file.isFile()) {
+                logFiles.add(file);
+            } else if (file.isDirectory()) {
+                logFiles.addAll(walk(file.toPath(), null));
+            } else if (input.matches(".*[*?\\[{].*")) {
+                // Walk from the deepest directory without glob characters.
+                Path base = Paths.get(input).getRoot();
+                for (Path element : Paths.get(input)) {
+                    if (element.toString().matches(".*[*?\\[{].*")) {
+                        break;
+                    }
+                    base = base == null ? element : base.resolve(element);
+                }
+                if (base == null) {
+                    base = Paths.get("");
+                }
+                PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + input);
+                if (Files.isDirectory(base.toString().isEmpty() ? Paths.get(".") : base)) {
+                    logFiles.addAll(walk(base, matcher));
+                }
+            }
+        }
+        return new ArrayList<File>(logFiles);
+    }
+
+    /**
+     * Analyze the gc logs on a worker pool, writing a report for each and a fleet summary.
+     * 
+     * @param cmd
+     *            The command line options.
+     * @throws IOException
+     *             if an input directory cannot be read or the summary cannot be written.
+     */
+    public static void run(CommandLine cmd) throws IOException {
+        File batchDir = new File(cmd.getOptionValue(OPTION_BATCH_LONG));
+        if (!batchDir.isDirectory() && !batchDir.mkdirs()) {
+            throw new IOException("Unable to create batch directory: " + batchDir);
+        }
+        int threads = cmd.hasOption(OPTION_THREADS_LONG) ? Integer.parseInt(cmd.getOptionValue(OPTION_THREADS_LONG))
+                : Runtime.getRuntime().availableProcessors();
+        boolean verbose = cmd.hasOption(OPTION_VERBOSE_LONG);
+
+        List<File> logFiles = resolve(cmd.getArgList());
+        if (cmd.hasOption(OPTION_ROTATION_LONG)) {
+            // Analyze each rotated log file set once.
+            Set<List<File>> logSets = new HashSet<List<File>>();
+            logFiles.removeIf(logFile -> !logSets.add(GcLogSet.find(logFile)));
+        }
+        if (verbose) {
+            System.out.println("analyzing " + logFiles.size() + " gc logs with " + threads + " threads...");
+        }
+        Set<String> reportFileNames = new HashSet<String>();
+        reportFileNames.add(SUMMARY_FILE_NAME);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Result>> futures = new ArrayList<Future<Result>>();
+        try {
+            for (File logFile : logFiles) {
+                File reportFile = new File(batchDir, reportFileName(logFile, reportFileNames));
+                futures.add(pool.submit(() -> analyze(logFile, reportFile, cmd)));
+            }
+            List<Result> results = new ArrayList<Result>();
+            for (Future<Result> future : futures) {
+                Result result = future.get();
+                if (verbose) {
+                    System.out.println(result.getLogFile() + (result.getFailure() == null ? "" : " FAILED"));
+                }
+                results.add(result);
+            }
+            File summaryFile = new File(batchDir, SUMMARY_FILE_NAME);
+            try (PrintWriter printWriter = new PrintWriter(summaryFile, StandardCharsets.UTF_8.name())) {
+                printWriter.write(summary(results));
+            }
+            if (verbose) {
+                System.out.println("fleet summary: " + summaryFile);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * @param results
+     *            The gc log results.
+     * @return The fleet summary table.
+     */
+    static String summary(List<Result> results) {
+        List<Result> analyzed = results.stream().filter(r -> r.getFailure() == null).sorted(RANKING)
+                .collect(Collectors.toList());
+        StringBuilder summary = new StringBuilder();
+        summary.append("Fleet Summary: " + analyzed.size() + " gc logs analyzed");
+        if (analyzed.size() < results.size()) {
+            summary.append(", " + (results.size() - analyzed.size()) + " failed");
+        }
+        summary.append(LINE_SEPARATOR);
+        summary.append(String.format("%-6s%-12s%-16s%-10s%-8s%-10s%s%n", "Rank", "Throughput", "Pause Max (s)",
+                "Findings", "Errors", "Warnings", "Log"));
+        int rank = 1;
+        for (Result result : analyzed) {
+            BigDecimal gcPauseMax = JdkMath.convertMicrosToSecs(result.getGcPauseMax());
+            summary.append(String.format("%-6d%-12s%-16s%-10d%-8d%-10d%s%n", rank++, result.getGcThroughput() + "%",
+                    gcPauseMax.toString(), result.getFindings(), result.getErrors(), result.getWarnings(),
+                    result.getLogFile()));
+        }
+        for (Result result : results) {
+            if (result.getFailure() != null) {
+                summary.append("FAILED " + result.getLogFile() + ": " + result.getFailure() + LINE_SEPARATOR);
+            }
+        }
+        return summary.toString();
+    }
+
+    /**
+     * @param dir
+     *            The directory.
+     * @param matcher
+     *            The glob matcher, or null to include all files.
+     * @return The regular files in the directory and its subdirectories, sorted, excluding snapshots.
+     * @throws IOException
+     *             if the directory cannot be read.
+     */
+    private static List<File> walk(Path dir, PathMatcher matcher) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir.toString().isEmpty() ? Paths.get(".") : dir)) {
+            return paths.map(path -> dir.toString().isEmpty() ? Paths.get(".").relativize(path) : path)
+                    .filter(path -> Files.isRegularFile(path) && (matcher == null || matcher.matches(path))
+                            && !path.toString().endsWith(GcSnapshot.FILE_EXTENSION))
+                    .sorted().map(Path::toFile).collect(Collectors.toList());
+        }
+    }
+}
@@ -16,20 +16,26 @@ import static org.eclipselabs.garbagecat.OptionsParser.options;
 import static org.eclipselabs.garbagecat.OptionsParser.parseOptions;
 import static org.eclipselabs.garbagecat.util.Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
 import static org.eclipselabs.garbagecat.util.Constants.LINE_SEPARATOR;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_BATCH_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_FOLLOW_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_OUTPUT_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_OUTPUT_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_PREPROCESS_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_PROFILE_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REPORT_CONSOLE_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_ROTATION_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OUTPUT_FILE_NAME;
+import static org.eclipselabs.garbagecat.util.Constants.STDIN_FILE_NAME;
 import static org.eclipselabs.garbagecat.util.GcUtil.parseStartDateTime;
 import static org.eclipselabs.garbagecat.util.Memory.ZERO;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
@@ -37,32 +43,41 @@ import static org.eclipselabs.garbagecat.util.Memory.Unit.MEGABYTES;
 import static org.eclipselabs.garbagecat.util.jdk.Analysis.INFO_PERM_GEN;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.net.URI;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.HelpFormatter;
 import org.apache.commons.cli.ParseException;
 import org.eclipselabs.garbagecat.domain.JvmRun;
 import org.eclipselabs.garbagecat.domain.jdk.unified.SafepointEventSummary;
+import org.eclipselabs.garbagecat.service.GcFollower;
+import org.eclipselabs.garbagecat.service.GcLogFormat;
+import org.eclipselabs.garbagecat.service.GcLogSet;
 import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.service.GcSnapshot;
+import org.eclipselabs.garbagecat.util.GcLogInput;
+import org.eclipselabs.garbagecat.util.GcLogReader;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.Profiler;
+import org.eclipselabs.garbagecat.util.Profiler.Stage;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint;
+import org.eclipselabs.garbagecat.util.jfr.PipelineEvent;
 
 /**
  * <p>
@@ -87,6 +102,16 @@ public class Main {
     private static final String LINEBREAK_SINGLE = "-------------------------------------------------------------------"
             + "----" + LINE_SEPARATOR;
 
+    /**
+     * How often to check a followed gc log for new logging.
+     */
+    private static final long FOLLOW_POLL_MILLIS = 1000;
+
+    /**
+     * How long to wait on shutdown for the final report when following a gc log.
+     */
+    private static final long FOLLOW_SHUTDOWN_MILLIS = 30000;
+
     /**
      * The maximum number of rejected log lines to track. A throttle to limit memory consumption.
      */
@@ -108,47 +133,117 @@ public class Main {
                 : null;
         String jvmOptions = cmd.hasOption(OPTION_JVMOPTIONS_LONG) ? cmd.getOptionValue(OPTION_JVMOPTIONS_SHORT) : null;
 
-        URI logFileUri = logFile.toURI();
-
         boolean verbose = cmd.hasOption(OPTION_VERBOSE_LONG);
-        if (verbose) {
-            System.out.println("reading gc logging...");
-        }
-        List<String> logLines = Files.readAllLines(Paths.get(logFileUri));
+        Profiler profiler = cmd.hasOption(OPTION_PROFILE_LONG) ? new Profiler() : null;
+        PipelineEvent chunk = PipelineEvent.chunkParsed().begin();
 
         GcManager gcManager = new GcManager(jvmStartDate);
+        gcManager.setProfiler(profiler);
 
-        // Do preprocessing
-        if (cmd.hasOption(OPTION_PREPROCESS_LONG) || cmd.hasOption(OPTION_STARTDATETIME_LONG)) {
-            /*
-             * Requiring the JVM start date/time for preprocessing is a hack to handle datestamps. When garbagecat was
-             * started there was no <code>-XX:+PrintGCDateStamps</code> option. When it was introduced in JDK 1.6 update
-             * 4, the easiest thing to do to handle datestamps was to preprocess the datestamps and convert them to
-             * timestamps.
-             *
-             * TODO: Handle datetimes separately from preprocessing so preprocessing doesn't require passing in the JVM
-             * start date/time.
-             */
-            if (verbose) {
-                System.out.println("preprocessing...");
-            }
-            logLines = gcManager.preprocess(logLines, jvmStartDate);
-        }
+        /*
+         * Datestamps are converted to timestamps as events are parsed (<code>JdkUtil.convertDatestampToMillis</code>),
+         * and the JVM start date/time is only used to convert timestamps to datestamps in the report, so it does not
+         * require preprocessing.
+         */
+        boolean preprocess = cmd.hasOption(OPTION_PREPROCESS_LONG);
 
         // Allow logging to be reordered?
         boolean reorder = cmd.hasOption(OPTION_REORDER_LONG);
 
-        // Store garbage collection logging in data store.
-        gcManager.store(logLines, reorder);
+        if (cmd.hasOption(OPTION_FOLLOW_LONG)) {
+            follow(cmd, gcManager, logFile, logFileName, reportFile, preprocess, reorder);
+            return;
+        }
+
+        // Logging of unknown length (stdin or a named pipe) is read and stored as it arrives.
+        boolean stdin = logFileName.equals(STDIN_FILE_NAME);
+        if (!stdin && logFile.isFile()) {
+            GcLogFormat.verify(logFile);
+        }
+        int logLineCount;
+        if (stdin || !logFile.isFile()) {
+            if (verbose) {
+                System.out.println("reading gc logging from " + (stdin ? "stdin" : logFileName) + "...");
+            }
+            if (profiler != null) {
+                profiler.start(Stage.STORE);
+            }
+            try (GcLogReader reader = new GcLogReader(stdin ? System.in : new FileInputStream(logFile))) {
+                logLineCount = gcManager.stream(reader.lines(), jvmStartDate, preprocess, reorder);
+                gcManager.addDamagedLogLines(reader.getDamagedLineCount());
+            }
+            if (profiler != null) {
+                profiler.stop(Stage.STORE);
+            }
+        } else if (cmd.hasOption(OPTION_ROTATION_LONG)) {
+            // Stream the rotated log files merged in logging order.
+            GcLogSet logSet = new GcLogSet(GcLogSet.find(logFile));
+            if (verbose) {
+                System.out.println("reading rotated gc logging: " + logSet.getLogFiles());
+            }
+            if (profiler != null) {
+                profiler.start(Stage.STORE);
+            }
+            logLineCount = logSet.parse(gcManager, jvmStartDate, preprocess, reorder);
+            if (profiler != null) {
+                profiler.stop(Stage.STORE);
+            }
+        } else if (cmd.hasOption(OPTION_SNAPSHOT_LONG)) {
+            // Resume from the last snapshot, if any, and save a new one.
+            if (verbose) {
+                System.out.println("reading gc logging...");
+            }
+            GcSnapshot snapshot = new GcSnapshot(logFile, preprocess, reorder);
+            logLineCount = snapshot.parse(gcManager, jvmStartDate);
+            if (verbose && snapshot.getResumeOffset() > 0) {
+                System.out.println("resumed from snapshot at byte " + snapshot.getResumeOffset());
+            }
+        } else {
+            if (verbose) {
+                System.out.println("reading gc logging...");
+            }
+            if (profiler != null) {
+                profiler.start(Stage.READ);
+            }
+            List<String> logLines;
+            try (GcLogReader reader = GcLogInput.reader(logFile)) {
+                logLines = reader.readAllLines();
+                gcManager.addDamagedLogLines(reader.getDamagedLineCount());
+            }
+            logLineCount = logLines.size();
+            if (profiler != null) {
+                profiler.stop(Stage.READ);
+            }
+
+            // Preprocess, if needed, and store garbage collection logging in data store.
+            if (verbose && preprocess) {
+                System.out.println("preprocessing...");
+            }
+            gcManager.parse(logLines, preprocess, reorder);
+        }
 
         // Create report
         // Determine report options
         int throughputThreshold = cmd.hasOption(OPTION_THRESHOLD_LONG)
                 ? Integer.parseInt(cmd.getOptionValue(OPTION_THRESHOLD_SHORT))
                 : DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
+        if (profiler != null) {
+            profiler.start(Stage.JVM_RUN);
+        }
         JvmRun jvmRun = gcManager.getJvmRun(jvmOptions, throughputThreshold);
+        if (profiler != null) {
+            profiler.stop(Stage.JVM_RUN);
+        }
+        chunk.commit(logLineCount, chunk.isEnabled() ? jvmRun.getEventTypes().toString() : null);
         boolean reportConsole = cmd.hasOption(OPTION_REPORT_CONSOLE_LONG);
-        createReport(jvmRun, reportConsole, reportFile, logFileName);
+        if (profiler != null) {
+            profiler.start(Stage.REPORT);
+        }
+        createReport(jvmRun, reportConsole, reportFile, stdin ? "stdin" : logFileName);
+        if (profiler != null) {
+            profiler.stop(Stage.REPORT);
+            System.out.print(profiler.getReport());
+        }
         if (verbose) {
             System.out.println("done");
         }
@@ -181,6 +276,7 @@ public class Main {
             printWriter.write(LINE_SEPARATOR);
 
             // JVM information
+            PipelineEvent section = PipelineEvent.reportSection("JVM").begin();
             if (jvmRun.getJvmOptions().getJvmContext().getVersionMajor() > 0
                     || jvmRun.getJvmOptions().getJvmContext().getOptions() != null || jvmRun.getMemory() != null) {
                 printWriter.write(LINEBREAK_DOUBLE);
@@ -198,7 +294,10 @@ public class Main {
                 }
             }
 
+            section.commit(0, null);
+
             // Summary
+            section = PipelineEvent.reportSection("SUMMARY").begin();
             printWriter.write(LINEBREAK_DOUBLE);
             printWriter.write("SUMMARY:" + LINE_SEPARATOR);
             printWriter.write(LINEBREAK_SINGLE);
@@ -231,6 +330,11 @@ public class Main {
                 }
             }
 
+            // Log lines with malformed bytes
+            if (jvmRun.getDamagedLogLineCount() > 0) {
+                printWriter.write("# Damaged Log Lines: " + jvmRun.getDamagedLogLineCount() + LINE_SEPARATOR);
+            }
+
             // GC stats
             printWriter.write("# GC Events: " + jvmRun.getBlockingEventCount() + LINE_SEPARATOR);
             if (jvmRun.getBlockingEventCount() > 0) {
@@ -537,7 +641,11 @@ public class Main {
                 }
             }
 
+            section.commit(jvmRun.getBlockingEventCount(),
+                    section.isEnabled() ? jvmRun.getEventTypes().toString() : null);
+
             // Analysis
+            section = PipelineEvent.reportSection("ANALYSIS").begin();
             List<String[]> analysis = jvmRun.getAnalysis();
             if (!analysis.isEmpty()) {
                 printWriter.write(LINEBREAK_DOUBLE);
@@ -603,7 +711,10 @@ public class Main {
                 }
             }
 
+            section.commit(analysis.size(), null);
+
             // GC Bottlenecks
+            section = PipelineEvent.reportSection("GC_BOTTLENECKS").begin();
             List<String> gcBottlenecks = jvmRun.getGcBottlenecks();
             if (!gcBottlenecks.isEmpty()) {
                 printWriter.write(LINEBREAK_DOUBLE);
@@ -620,7 +731,10 @@ public class Main {
                 }
             }
 
+            section.commit(gcBottlenecks.size(), null);
+
             // Safepoint Bottlenecks
+            section = PipelineEvent.reportSection("SAFEPOINT_BOTTLENECKS").begin();
             List<String> safepointBottlenecks = jvmRun.getSafepointBottlenecks();
             if (!safepointBottlenecks.isEmpty()) {
                 printWriter.write(LINEBREAK_DOUBLE);
@@ -638,7 +752,10 @@ public class Main {
                 }
             }
 
+            section.commit(safepointBottlenecks.size(), null);
+
             // Unidentified log lines
+            section = PipelineEvent.reportSection("UNIDENTIFIED").begin();
             List<String> unidentifiedLogLines = jvmRun.getUnidentifiedLogLines();
             if (!unidentifiedLogLines.isEmpty()) {
                 printWriter.write(LINEBREAK_DOUBLE);
@@ -650,6 +767,7 @@ public class Main {
                     printWriter.write(LINE_SEPARATOR);
                 }
             }
+            section.commit(unidentifiedLogLines.size(), null);
             printWriter.write(LINEBREAK_DOUBLE);
         } catch (FileNotFoundException e) {
             e.printStackTrace();
@@ -674,6 +792,93 @@ public class Main {
         }
     }
 
+    /**
+     * Follow a growing gc log, preprocessing and storing logging as it is appended and rewriting the report on an
+     * interval, until the JVM is stopped (e.g. Ctrl-C). A final report is written on shutdown.
+     * 
+     * The report is regenerated from aggregates the data store updates as events are stored (counts, pause totals and
+     * maximums, heap and class space maximums, allocation, and safepoint summaries), so regenerating it does not go
+     * back over all the events. The GC and safepoint bottleneck sections still need the individual events, but only
+     * the events stored since the last report are checked (all events if blocking events were reordered).
+     * 
+     * @param cmd
+     *            The command line options.
+     * @param gcManager
+     *            The <code>GcManager</code>.
+     * @param logFile
+     *            The gc log file.
+     * @param logFileName
+     *            The gc log file name as given on the command line.
+     * @param reportFile
+     *            Report file.
+     * @param preprocess
+     *            Whether or not to preprocess the logging.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     * @throws IOException
+     *             if the gc log cannot be read.
+     */
+    private static void follow(CommandLine cmd, GcManager gcManager, File logFile, String logFileName, File reportFile,
+            boolean preprocess, boolean reorder) throws IOException {
+        long interval = Long.parseLong(cmd.getOptionValue(OPTION_FOLLOW_LONG)) * 1000;
+        Date jvmStartDate = cmd.hasOption(OPTION_STARTDATETIME_LONG)
+                ? parseStartDateTime(cmd.getOptionValue(OPTION_STARTDATETIME_SHORT))
+                : null;
+        String jvmOptions = cmd.hasOption(OPTION_JVMOPTIONS_LONG) ? cmd.getOptionValue(OPTION_JVMOPTIONS_SHORT) : null;
+        int throughputThreshold = cmd.hasOption(OPTION_THRESHOLD_LONG)
+                ? Integer.parseInt(cmd.getOptionValue(OPTION_THRESHOLD_SHORT))
+                : DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD;
+        boolean reportConsole = cmd.hasOption(OPTION_REPORT_CONSOLE_LONG);
+        boolean verbose = cmd.hasOption(OPTION_VERBOSE_LONG);
+
+        // Stop polling on shutdown and wait for the final report. The follow thread is signaled, not interrupted, so a
+        // poll in progress completes.
+        CountDownLatch stopped = new CountDownLatch(1);
+        Thread followThread = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            stopped.countDown();
+            try {
+                followThread.join(FOLLOW_SHUTDOWN_MILLIS);
+            } catch (InterruptedException e) {
+                // Exit without the final report.
+            }
+        }));
+
+        if (verbose) {
+            System.out.println("following gc logging...");
+        }
+        GcFollower follower = new GcFollower(logFile, gcManager, jvmStartDate, preprocess, reorder);
+        long reportTime = 0;
+        while (stopped.getCount() > 0) {
+            if (follower.poll() < 0) {
+                if (verbose) {
+                    System.out.println("gc logging truncated or rotated, restarting...");
+                }
+                gcManager = new GcManager(jvmStartDate);
+                follower = new GcFollower(logFile, gcManager, jvmStartDate, preprocess, reorder);
+                continue;
+            }
+            long now = System.currentTimeMillis();
+            if (now >= reportTime) {
+                createReport(gcManager.getJvmRun(jvmOptions, throughputThreshold), reportConsole, reportFile,
+                        logFileName);
+                reportTime = now + interval;
+            }
+            try {
+                if (stopped.await(Math.min(interval, FOLLOW_POLL_MILLIS), TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        follower.finish();
+        createReport(gcManager.getJvmRun(jvmOptions, throughputThreshold), reportConsole, reportFile, logFileName);
+        if (verbose) {
+            System.out.println("done");
+        }
+    }
+
     /**
      * @param args
      *            The argument list includes one or more scope options followed by the name of the gc log file to
@@ -686,6 +891,8 @@ public class Main {
             CommandLine cmd = parseOptions(args);
             if (cmd == null || cmd.hasOption(OPTION_HELP_LONG) || cmd.hasOption(OPTION_HELP_LONG)) {
                 usage();
+            } else if (cmd.hasOption(OPTION_BATCH_LONG)) {
+                Batch.run(cmd);
             } else {
                 createReport(cmd);
             }
@@ -12,6 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat;
 
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_BATCH_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_FOLLOW_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_HELP_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_JVMOPTIONS_LONG;
@@ -20,17 +22,22 @@ import static org.eclipselabs.garbagecat.util.Constants.OPTION_OUTPUT_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_OUTPUT_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_PREPROCESS_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_PREPROCESS_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_PROFILE_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REORDER_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REPORT_CONSOLE_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_REPORT_CONSOLE_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_ROTATION_LONG;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_SNAPSHOT_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_STARTDATETIME_SHORT;
+import static org.eclipselabs.garbagecat.util.Constants.OPTION_THREADS_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OUTPUT_FILE_NAME;
+import static org.eclipselabs.garbagecat.util.Constants.STDIN_FILE_NAME;
 import static org.eclipselabs.garbagecat.util.GcUtil.isValidStartDateTime;
 
 import java.io.File;
@@ -43,6 +50,7 @@ import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
+import org.eclipselabs.garbagecat.util.GcLogInput;
 
 /**
  * @author <a href="https://github.com/pfichtner">Peter Fichtner</a>
@@ -67,6 +75,14 @@ public class OptionsParser {
         options.addOption(OPTION_REPORT_CONSOLE_SHORT, OPTION_REPORT_CONSOLE_LONG, false,
                 "print report to stdout instead of file");
         options.addOption(OPTION_VERBOSE_SHORT, OPTION_VERBOSE_LONG, false, "verbose output");
+        options.addOption(null, OPTION_PROFILE_LONG, false, "print parsing time by stage and event type");
+        options.addOption(null, OPTION_SNAPSHOT_LONG, false, "reuse/save parsed logging in a snapshot next to the log");
+        options.addOption(null, OPTION_FOLLOW_LONG, true, "follow growing log, rewriting report every <arg> seconds");
+        options.addOption(null, OPTION_BATCH_LONG, true,
+                "analyze many logs/directories/globs, writing reports and a fleet summary to <arg> directory");
+        options.addOption(null, OPTION_ROTATION_LONG, false,
+                "read all rotated files of the log (e.g. gc.log.0..N, gc.log.N.current) as one log");
+        options.addOption(null, OPTION_THREADS_LONG, true, "batch worker threads (default available processors)");
     }
 
     /**
@@ -110,17 +126,26 @@ public class OptionsParser {
         // Ensure command line input.
         if (cmd.getArgList().size() == 0) {
             throw new ParseException("Missing input");
-        } else {
+        } else if (!cmd.hasOption(OPTION_BATCH_LONG)) {
             // Ensure file input.
             String logFileName = (String) cmd.getArgList().get(cmd.getArgList().size() - 1);
             if (logFileName == null) {
                 throw new ParseException("Missing file");
             } else {
-                // Ensure file exists.
+                // Ensure file exists (or is stdin).
                 File logFile = new File(logFileName);
-                if (!logFile.exists()) {
+                if (!logFileName.equals(STDIN_FILE_NAME) && !logFile.exists()) {
                     throw new ParseException("Invalid file: '" + logFileName + "'");
                 }
+                if ((logFileName.equals(STDIN_FILE_NAME) || (logFile.exists() && !logFile.isFile()))
+                        && (cmd.hasOption(OPTION_FOLLOW_LONG) || cmd.hasOption(OPTION_ROTATION_LONG)
+                                || cmd.hasOption(OPTION_SNAPSHOT_LONG))) {
+                    throw new ParseException("Options follow, rotation, and snapshot require a regular file");
+                }
+                if (GcLogInput.isCompressed(logFile)
+                        && (cmd.hasOption(OPTION_FOLLOW_LONG) || cmd.hasOption(OPTION_SNAPSHOT_LONG))) {
+                    throw new ParseException("Options follow and snapshot do not support compressed files");
+                }
             }
         }
         // threshold
@@ -133,6 +158,29 @@ public class OptionsParser {
                 throw new ParseException("Invalid threshold: '" + thresholdOptionValue + "'");
             }
         }
+        // follow
+        if (cmd.hasOption(OPTION_FOLLOW_LONG)) {
+            String followOptionValue = cmd.getOptionValue(OPTION_FOLLOW_LONG);
+            if (!followOptionValue.matches("^[1-9]\\d{0,5}$")) {
+                throw new ParseException("Invalid follow interval: '" + followOptionValue + "'");
+            }
+        }
+        // batch
+        if (cmd.hasOption(OPTION_BATCH_LONG) && cmd.hasOption(OPTION_FOLLOW_LONG)) {
+            throw new ParseException("Options batch and follow cannot be combined");
+        }
+        // rotation
+        if (cmd.hasOption(OPTION_ROTATION_LONG)
+                && (cmd.hasOption(OPTION_FOLLOW_LONG) || cmd.hasOption(OPTION_SNAPSHOT_LONG))) {
+            throw new ParseException("Option rotation cannot be combined with follow or snapshot");
+        }
+        // threads
+        if (cmd.hasOption(OPTION_THREADS_LONG)) {
+            String threadsOptionValue = cmd.getOptionValue(OPTION_THREADS_LONG);
+            if (!threadsOptionValue.matches("^[1-9]\\d{0,3}$")) {
+                throw new ParseException("Invalid threads: '" + threadsOptionValue + "'");
+            }
+        }
         // startdatetime
         if (cmd.hasOption(OPTION_STARTDATETIME_LONG)) {
             String startdatetimeOptionValue = cmd.getOptionValue(OPTION_STARTDATETIME_SHORT);
@@ -14,25 +14,16 @@ package org.eclipselabs.garbagecat.dao;
 
 import static java.util.Collections.binarySearch;
 import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.summingLong;
 import static java.util.stream.Collectors.toList;
 import static org.eclipselabs.garbagecat.util.Memory.ZERO;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.LongStream;
-import java.util.stream.Stream;
+import java.util.Map;
 
 import org.eclipselabs.garbagecat.domain.BlockingEvent;
 import org.eclipselabs.garbagecat.domain.ClassData;
@@ -43,6 +34,7 @@ import org.eclipselabs.garbagecat.domain.SafepointEvent;
 import org.eclipselabs.garbagecat.domain.YoungData;
 import org.eclipselabs.garbagecat.domain.jdk.ApplicationStoppedTimeEvent;
 import org.eclipselabs.garbagecat.domain.jdk.CmsIncrementalModeCollector;
+import org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.SafepointEventSummary;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction.PreprocessEvent;
@@ -50,7 +42,6 @@ import org.eclipselabs.garbagecat.util.Memory;
 import org.eclipselabs.garbagecat.util.jdk.Analysis;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
-import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
 import org.github.joa.domain.JvmContext;
 
@@ -66,32 +57,12 @@ public class JvmDao {
 
     private static final Comparator<BlockingEvent> COMPARE_BY_TIMESTAMP = comparing(BlockingEvent::getTimestamp);
 
-    /**
-     * The database connection.
-     */
-    private static Connection connection;
-
-    private static boolean created;
-
-    /**
-     * SQL statement(s) to create table.
-     */
-    private static final String[] TABLES_CREATE_SQL = {
-            "create table safepoint_event (id integer identity, time_stamp bigint, trigger_type varchar(64), "
-                    + "duration bigint, log_entry varchar(500))" };
-
-    private static final String[] TABLES_DELETE_SQL = { "delete from safepoint_event " };
-
     private static Memory add(Memory m1, Memory m2) {
         return m1 == null ? nullSafe(m2) : m1.plus(nullSafe(m2));
     }
 
-    private static <T> Stream<Integer> ints(List<T> list, Function<T, Integer> function) {
-        return list.stream().map(function).filter(Objects::nonNull);
-    }
-
-    private static <T> Stream<Long> longs(List<T> list, Function<T, Long> function) {
-        return list.stream().map(function).filter(Objects::nonNull);
+    private static long max(long kilobytes, Memory memory) {
+        return memory == null ? kilobytes : Math.max(kilobytes, memory.getValue(KILOBYTES));
     }
 
     private static Memory nullSafe(Memory memory) {
@@ -106,6 +77,12 @@ public class JvmDao {
         return e;
     }
 
+    /**
+     * Kilobytes allocated between the first and last <code>G1YoungPauseEvent</code> (the eden occupancy at each pause
+     * minus the eden occupancy after the prior pause).
+     */
+    private long allocatedKilobytes;
+
     /**
      * Analysis property keys.
      */
@@ -116,6 +93,26 @@ public class JvmDao {
      */
     private List<BlockingEvent> blockingEvents = new ArrayList<>();
 
+    /**
+     * The number of <code>BlockingEvent</code>s inserted before the last event (reordered by timestamp).
+     */
+    private int blockingEventsReorderCount;
+
+    /**
+     * The first <code>CmsIncrementalModeCollector</code> event.
+     */
+    private BlockingEvent cmsIncrementalModeCollectorEvent;
+
+    /**
+     * Maximum <code>BlockingEvent</code> pause time (microseconds).
+     */
+    private long durationMax;
+
+    /**
+     * Total <code>BlockingEvent</code> pause time (microseconds).
+     */
+    private long durationTotal;
+
     /**
      * List of all event types associate with the JVM run.
      */
@@ -131,6 +128,11 @@ public class JvmDao {
      */
     private long extRootScanningTimeTotal;
 
+    /**
+     * The first <code>G1YoungPauseEvent</code>.
+     */
+    private G1YoungPauseEvent firstG1YoungPauseEvent;
+
     /**
      * The first log event.
      */
@@ -156,6 +158,11 @@ public class JvmDao {
      */
     private JvmContext jvmContext = new JvmContext(null);
 
+    /**
+     * The last <code>G1YoungPauseEvent</code>.
+     */
+    private G1YoungPauseEvent lastG1YoungPauseEvent;
+
     /**
      * Whether or not the logging ends with <code>UnknownEvent</code>s (e.g. it's truncated).
      */
@@ -166,26 +173,66 @@ public class JvmDao {
      */
     private Date logFileDate;
 
+    /**
+     * Maximum perm space or metaspace in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxClassSpace;
+
+    /**
+     * Maximum perm space or metaspace occupancy after GC in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxClassSpaceAfterGc;
+
     /**
      * Used for tracking max perm space or metaspace outside of <code>BlockingEvent</code>s.
      */
     private int maxClassSpaceNonBlocking;
 
+    /**
+     * Maximum perm space or metaspace occupancy in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxClassSpaceOccupancy;
+
     /**
      * Used for tracking max perm space or metaspace occupancy outside of <code>BlockingEvent</code>s.
      */
     private int maxClassSpaceOccupancyNonBlocking;
 
+    /**
+     * Maximum heap occupancy after GC in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxHeapAfterGc;
+
+    /**
+     * Maximum heap occupancy in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxHeapOccupancy;
+
     /**
      * Used for tracking max heap occupancy outside of <code>BlockingEvent</code>s.
      */
     private int maxHeapOccupancyNonBlocking;
 
+    /**
+     * Maximum heap space in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxHeapSpace;
+
     /**
      * Used for tracking max heap space outside of <code>BlockingEvent</code>s.
      */
     private int maxHeapSpaceNonBlocking;
 
+    /**
+     * Maximum old space in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxOldSpace;
+
+    /**
+     * Maximum young space in <code>BlockingEvent</code>s (kilobytes).
+     */
+    private long maxYoungSpace;
+
     /**
      * JVM memory information.
      */
@@ -221,6 +268,19 @@ public class JvmDao {
      */
     List<PreprocessEvent> preprocessEvents = new ArrayList<>();
 
+    /**
+     * Whether or not the aggregates that depend on the order of the <code>BlockingEvent</code>s (the first
+     * <code>CmsIncrementalModeCollector</code> event and the G1 allocation) need to be recalculated because events were
+     * reordered.
+     */
+    private boolean reordered;
+
+    /**
+     * <code>UnifiedSafepointEvent</code> count, total pause time (microseconds), and max pause time (microseconds) by
+     * trigger, in the order the triggers were first logged.
+     */
+    private Map<Trigger, long[]> safepointEventTotals = new LinkedHashMap<>();
+
     /**
      * Number of <code>SerialCollection</code> events.
      */
@@ -231,6 +291,16 @@ public class JvmDao {
      */
     private List<ApplicationStoppedTimeEvent> stoppedTimeEvents = new ArrayList<>();
 
+    /**
+     * Maximum stopped time event pause time (microseconds).
+     */
+    private long stoppedTimeMax;
+
+    /**
+     * Total stopped time event pause time (microseconds).
+     */
+    private long stoppedTimeTotal;
+
     /**
      * Swap size (bytes).
      * 
@@ -258,6 +328,16 @@ public class JvmDao {
      */
     private List<UnifiedSafepointEvent> unifiedSafepointEvents = new ArrayList<>();
 
+    /**
+     * Maximum unified safepoint event pause time (nanoseconds).
+     */
+    private long unifiedSafepointTimeMax;
+
+    /**
+     * Total unified safepoint event pause time (nanoseconds).
+     */
+    private long unifiedSafepointTimeTotal;
+
     /**
      * Convenience field for vm_info.
      */
@@ -278,68 +358,94 @@ public class JvmDao {
      */
     private LogEvent worstSysGtUserEvent;
 
-    public JvmDao() {
-        if (created) {
-            cleanup();
-        } else {
-            created = true;
-        }
-        try {
-            // Load database driver.
-            Class.forName("org.hsqldb.jdbcDriver");
-        } catch (ClassNotFoundException e) {
-            System.err.println(e.getMessage());
-            throw new RuntimeException("Failed to load HSQLDB JDBC driver.");
+    public void addAnalysis(Analysis analysis) {
+        if (!this.analysis.contains(analysis)) {
+            this.analysis.add(analysis);
         }
+    }
 
-        try {
-            // Connect to database.
-            connection = DriverManager.getConnection("jdbc:hsqldb:mem:vmdb", "sa", "");
-        } catch (SQLException e) {
-            System.err.println(e.getMessage());
-            throw new RuntimeException("Error accessing database.");
+    /**
+     * Add a <code>BlockingEvent</code> in timestamp order, and update the aggregates (so they are not recalculated from
+     * all events each time they are retrieved).
+     * 
+     * @param event
+     *            The <code>BlockingEvent</code>.
+     */
+    public void addBlockingEvent(BlockingEvent event) {
+        int position = insertPosition(event);
+        if (position < blockingEvents.size()) {
+            blockingEventsReorderCount++;
+            reordered = true;
         }
-
-        // Create tables
-        Statement statement = null;
-        try {
-            statement = connection.createStatement();
-            for (int i = 0; i < TABLES_CREATE_SQL.length; i++) {
-                statement.executeUpdate(TABLES_CREATE_SQL[i]);
-            }
-        } catch (SQLException e) {
-            if (e.getMessage().startsWith("Table already exists")) {
-                cleanup();
-            } else {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error creating tables.");
-            }
-        } finally {
-            try {
-                statement.close();
-            } catch (SQLException e) {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error closing Statement.");
+        blockingEvents.add(position, event);
+        if (!reordered) {
+            addOrdered(event);
+        }
+        durationMax = Math.max(durationMax, event.getDurationMicros());
+        durationTotal += event.getDurationMicros();
+        if (event instanceof ClassData) {
+            ClassData classData = (ClassData) event;
+            maxClassSpace = max(maxClassSpace, classData.getClassSpace());
+            maxClassSpaceAfterGc = max(maxClassSpaceAfterGc, classData.getClassOccupancyEnd());
+            maxClassSpaceOccupancy = max(maxClassSpaceOccupancy, classData.getClassOccupancyInit());
+        }
+        if (event instanceof OldData) {
+            OldData old = (OldData) event;
+            maxHeapAfterGc = max(maxHeapAfterGc, add(old.getYoungOccupancyEnd(), old.getOldOccupancyEnd()));
+            maxHeapOccupancy = max(maxHeapOccupancy, add(old.getYoungOccupancyInit(), old.getOldOccupancyInit()));
+            maxHeapSpace = max(maxHeapSpace, add(old.getYoungSpace(), old.getOldSpace()));
+            maxOldSpace = max(maxOldSpace, old.getOldSpace());
+        }
+        if (event instanceof CombinedData) {
+            CombinedData combined = (CombinedData) event;
+            maxHeapAfterGc = max(maxHeapAfterGc, combined.getCombinedOccupancyEnd());
+            if (!(event instanceof OldData)) {
+                maxHeapOccupancy = max(maxHeapOccupancy, combined.getCombinedOccupancyInit());
+                maxHeapSpace = max(maxHeapSpace, combined.getCombinedSpace());
             }
         }
-    }
-
-    public void addAnalysis(Analysis analysis) {
-        if (!this.analysis.contains(analysis)) {
-            this.analysis.add(analysis);
+        if (event instanceof YoungData) {
+            maxYoungSpace = max(maxYoungSpace, ((YoungData) event).getYoungSpace());
         }
     }
 
-    public void addBlockingEvent(BlockingEvent event) {
-        blockingEvents.add(insertPosition(event), event);
+    /**
+     * Update the aggregates that depend on the order of the <code>BlockingEvent</code>s with the last event.
+     * 
+     * @param event
+     *            The last <code>BlockingEvent</code>.
+     */
+    private void addOrdered(BlockingEvent event) {
+        if (event instanceof CmsIncrementalModeCollector && cmsIncrementalModeCollectorEvent == null) {
+            cmsIncrementalModeCollectorEvent = event;
+        }
+        if (event.getName().equals(LogEventType.G1_YOUNG_PAUSE.toString())) {
+            G1YoungPauseEvent young = (G1YoungPauseEvent) event;
+            if (firstG1YoungPauseEvent == null) {
+                firstG1YoungPauseEvent = young;
+            } else if (young.getEdenOccupancyInit() != null && lastG1YoungPauseEvent.getEdenOccupancyEnd() != null) {
+                // will not have eden information if gc details not being logged
+                allocatedKilobytes += young.getEdenOccupancyInit().minus(lastG1YoungPauseEvent.getEdenOccupancyEnd())
+                        .getValue(KILOBYTES);
+            }
+            lastG1YoungPauseEvent = young;
+        }
     }
 
     public void addSafepointEvent(UnifiedSafepointEvent event) {
         unifiedSafepointEvents.add(event);
+        unifiedSafepointTimeMax = Math.max(unifiedSafepointTimeMax, event.getDurationNanos());
+        unifiedSafepointTimeTotal += event.getDurationNanos();
+        long[] totals = safepointEventTotals.computeIfAbsent(event.getTrigger(), trigger -> new long[3]);
+        totals[0]++;
+        totals[1] += event.getDurationMicros();
+        totals[2] = Math.max(totals[2], event.getDurationMicros());
     }
 
     public void addStoppedTimeEvent(ApplicationStoppedTimeEvent event) {
         stoppedTimeEvents.add(event);
+        stoppedTimeMax = Math.max(stoppedTimeMax, event.getDurationMicros());
+        stoppedTimeTotal += event.getDurationMicros();
     }
 
     /**
@@ -347,25 +453,37 @@ public class JvmDao {
      */
     public synchronized void cleanup() {
         this.blockingEvents.clear();
-        JvmDao.created = false;
-        // TODO: Remove below when hsqldb dependency removed
-        Statement statement = null;
-        try {
-            statement = connection.createStatement();
-            for (int i = 0; i < TABLES_DELETE_SQL.length; i++) {
-                statement.executeUpdate(TABLES_DELETE_SQL[i]);
-            }
-        } catch (SQLException e) {
-            System.err.println(e.getMessage());
-            throw new RuntimeException("Error deleting rows from tables.");
-        } finally {
-            try {
-                statement.close();
-            } catch (SQLException e) {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error closing Statement.");
-            }
-        }
+        this.stoppedTimeEvents.clear();
+        this.unifiedSafepointEvents.clear();
+        allocatedKilobytes = 0;
+        blockingEventsReorderCount = 0;
+        cmsIncrementalModeCollectorEvent = null;
+        durationMax = 0;
+        durationTotal = 0;
+        firstG1YoungPauseEvent = null;
+        lastG1YoungPauseEvent = null;
+        maxClassSpace = 0;
+        maxClassSpaceAfterGc = 0;
+        maxClassSpaceOccupancy = 0;
+        maxHeapAfterGc = 0;
+        maxHeapOccupancy = 0;
+        maxHeapSpace = 0;
+        maxOldSpace = 0;
+        maxYoungSpace = 0;
+        reordered = false;
+        safepointEventTotals.clear();
+        stoppedTimeMax = 0;
+        stoppedTimeTotal = 0;
+        unifiedSafepointTimeMax = 0;
+        unifiedSafepointTimeTotal = 0;
+    }
+
+    /**
+     * @return Kilobytes allocated between the first and last <code>G1YoungPauseEvent</code>.
+     */
+    public synchronized long getAllocatedKilobytes() {
+        updateOrdered();
+        return allocatedKilobytes;
     }
 
     public List<Analysis> getAnalysis() {
@@ -390,6 +508,18 @@ public class JvmDao {
         return this.blockingEvents.stream().map(JvmDao::toBlockingEvent).collect(toList());
     }
 
+    /**
+     * Retrieve the <code>BlockingEvent</code>s after the specified index (e.g. the events added since they were last
+     * retrieved, if they have not been reordered).
+     * 
+     * @param fromIndex
+     *            The index of the first event to retrieve.
+     * @return <code>List</code> of events.
+     */
+    public synchronized List<BlockingEvent> getBlockingEvents(int fromIndex) {
+        return new ArrayList<BlockingEvent>(this.blockingEvents.subList(fromIndex, this.blockingEvents.size()));
+    }
+
     /**
      * Retrieve all <code>BlockingEvent</code>s of the specified type.
      * 
@@ -402,6 +532,22 @@ public class JvmDao {
                 .map(JvmDao::toBlockingEvent).collect(toList());
     }
 
+    /**
+     * @return The number of <code>BlockingEvent</code>s inserted before the last event (reordered by timestamp). When
+     *         it is unchanged, <code>BlockingEvent</code>s have only been added after the last event.
+     */
+    public synchronized int getBlockingEventsReorderCount() {
+        return blockingEventsReorderCount;
+    }
+
+    /**
+     * @return The first <code>CmsIncrementalModeCollector</code> event, or null if there is none.
+     */
+    public synchronized BlockingEvent getCmsIncrementalModeCollectorEvent() {
+        updateOrdered();
+        return cmsIncrementalModeCollectorEvent;
+    }
+
     /**
      * Retrieve all <code>CmsIncrementalModeCollector</code> events.
      * 
@@ -418,7 +564,7 @@ public class JvmDao {
      * @return maximum pause duration (microseconds).
      */
     public synchronized long getDurationMax() {
-        return longs(this.blockingEvents, BlockingEvent::getDurationMicros).mapToLong(Long::valueOf).max().orElse(0);
+        return durationMax;
     }
 
     /**
@@ -427,7 +573,7 @@ public class JvmDao {
      * @return total pause duration (microseconds).
      */
     public synchronized long getDurationTotal() {
-        return longs(this.blockingEvents, BlockingEvent::getDurationMicros).collect(summingLong(Long::valueOf));
+        return durationTotal;
     }
 
     public List<LogEventType> getEventTypes() {
@@ -453,6 +599,14 @@ public class JvmDao {
         return this.blockingEvents.isEmpty() ? null : this.blockingEvents.get(0);
     }
 
+    /**
+     * @return The first <code>G1YoungPauseEvent</code>, or null if there is none.
+     */
+    public synchronized G1YoungPauseEvent getFirstG1YoungPauseEvent() {
+        updateOrdered();
+        return firstG1YoungPauseEvent;
+    }
+
     public LogEvent getFirstLogEvent() {
         return firstLogEvent;
     }
@@ -512,6 +666,14 @@ public class JvmDao {
         return jvmContext;
     }
 
+    /**
+     * @return The last <code>G1YoungPauseEvent</code>, or null if there is none.
+     */
+    public synchronized G1YoungPauseEvent getLastG1YoungPauseEvent() {
+        updateOrdered();
+        return lastG1YoungPauseEvent;
+    }
+
     /**
      * Retrieve the last blocking event.
      * 
@@ -566,7 +728,7 @@ public class JvmDao {
      * @return maximum perm/metaspace footprint (kilobytes).
      */
     public synchronized int getMaxClassSpace() {
-        return (int) kilobytes(ClassData.class, ClassData::getClassSpace).max().orElse(0);
+        return (int) maxClassSpace;
     }
 
     /**
@@ -575,7 +737,7 @@ public class JvmDao {
      * @return maximum perm/metaspac after GC (kilobytes).
      */
     public synchronized int getMaxClassSpaceAfterGc() {
-        return (int) kilobytes(ClassData.class, ClassData::getClassOccupancyEnd).max().orElse(0);
+        return (int) maxClassSpaceAfterGc;
     }
 
     /**
@@ -591,7 +753,7 @@ public class JvmDao {
      * @return maximum perm/metaspace occupancy (kilobytes).
      */
     public synchronized int getMaxClassSpaceOccupancy() {
-        return (int) kilobytes(ClassData.class, ClassData::getClassOccupancyInit).max().orElse(0);
+        return (int) maxClassSpaceOccupancy;
     }
 
     /**
@@ -607,11 +769,7 @@ public class JvmDao {
      * @return maximum heap after GC (kilobytes).
      */
     public synchronized int getMaxHeapAfterGc() {
-        int oldMaxHeapAfterGc = (int) kilobytes(OldData.class,
-                t -> add(t.getYoungOccupancyEnd(), t.getOldOccupancyEnd())).max().orElse(0);
-        int combinedMaxHeapAfterGc = (int) kilobytes(CombinedData.class, CombinedData::getCombinedOccupancyEnd).max()
-                .orElse(0);
-        return Math.max(oldMaxHeapAfterGc, combinedMaxHeapAfterGc);
+        return (int) maxHeapAfterGc;
     }
 
     /**
@@ -620,19 +778,7 @@ public class JvmDao {
      * @return maximum heap occupancy (kilobytes).
      */
     public synchronized int getMaxHeapOccupancy() {
-        return (int) this.blockingEvents.stream() //
-                .map(e -> {
-                    if (e instanceof OldData) {
-                        OldData old = (OldData) e;
-                        return add(old.getYoungOccupancyInit(), old.getOldOccupancyInit());
-                    } else if (e instanceof CombinedData) {
-                        return ((CombinedData) e).getCombinedOccupancyInit();
-                    } else {
-                        return ZERO;
-                    }
-                }) //
-                .filter(Objects::nonNull) //
-                .mapToLong(m -> m.getValue(KILOBYTES)).max().orElse(0);
+        return (int) maxHeapOccupancy;
     }
 
     /**
@@ -648,19 +794,7 @@ public class JvmDao {
      * @return maximum heap size (kilobytes).
      */
     public synchronized int getMaxHeapSpace() {
-        return (int) this.blockingEvents.stream() //
-                .map(e -> {
-                    if (e instanceof OldData) {
-                        OldData old = (OldData) e;
-                        return add(old.getYoungSpace(), old.getOldSpace());
-                    } else if (e instanceof CombinedData) {
-                        return ((CombinedData) e).getCombinedSpace();
-                    } else {
-                        return ZERO;
-                    }
-                }) //
-                .filter(Objects::nonNull) //
-                .mapToLong(m -> m.getValue(KILOBYTES)).max().orElse(0);
+        return (int) maxHeapSpace;
     }
 
     /**
@@ -676,7 +810,7 @@ public class JvmDao {
      * @return maximum old space size (kilobytes).
      */
     public synchronized int getMaxOldSpace() {
-        return (int) kilobytes(OldData.class, OldData::getOldSpace).max().orElse(0);
+        return (int) maxOldSpace;
     }
 
     /**
@@ -685,7 +819,7 @@ public class JvmDao {
      * @return maximum young space size (kilobytes).
      */
     public synchronized int getMaxYoungSpace() {
-        return (int) kilobytes(YoungData.class, YoungData::getYoungSpace).max().orElse(0);
+        return (int) maxYoungSpace;
     }
 
     /**
@@ -741,6 +875,23 @@ public class JvmDao {
         }
     }
 
+    /**
+     * Retrieve the <code>SafepointEvent</code>s after the specified index (e.g. the events added since they were last
+     * retrieved).
+     * 
+     * @param fromIndex
+     *            The index of the first event to retrieve.
+     * @return <code>List</code> of events.
+     */
+    public synchronized List<SafepointEvent> getSafepointEvents(int fromIndex) {
+        if (!this.stoppedTimeEvents.isEmpty()) {
+            return new ArrayList<SafepointEvent>(this.stoppedTimeEvents.subList(fromIndex, stoppedTimeEvents.size()));
+        } else {
+            return new ArrayList<SafepointEvent>(
+                    this.unifiedSafepointEvents.subList(fromIndex, unifiedSafepointEvents.size()));
+        }
+    }
+
     /**
      * Generate <code>SafepointEventSummary</code>s.
      * 
@@ -748,72 +899,11 @@ public class JvmDao {
      */
     public synchronized List<SafepointEventSummary> getSafepointEventSummaries() {
         List<SafepointEventSummary> safepointEventSummaries = new ArrayList<SafepointEventSummary>();
-
-        PreparedStatement pst = null;
-        try {
-            String sqlInsertSafepointEvent = "insert into safepoint_event (time_stamp, trigger_type, duration, "
-                    + "log_entry) values (?, ?, ?, ?)";
-
-            final int TIME_STAMP_INDEX = 1;
-            final int TRIGGER_TYPE_INDEX = 2;
-            final int DURATION_INDEX = 3;
-            final int LOG_ENTRY_INDEX = 4;
-
-            pst = connection.prepareStatement(sqlInsertSafepointEvent);
-
-            for (int i = 0; i < unifiedSafepointEvents.size(); i++) {
-                UnifiedSafepointEvent event = unifiedSafepointEvents.get(i);
-                pst.setLong(TIME_STAMP_INDEX, event.getTimestamp());
-                // Use trigger for event name
-                pst.setString(TRIGGER_TYPE_INDEX, event.getTrigger().toString());
-                pst.setLong(DURATION_INDEX, event.getDurationMicros());
-                pst.setString(LOG_ENTRY_INDEX, event.getLogEntry());
-                pst.addBatch();
-            }
-            pst.executeBatch();
-        } catch (SQLException e) {
-            System.err.println(e.getMessage());
-            throw new RuntimeException("Error inserting safepoint event.");
-        } finally {
-            try {
-                pst.close();
-            } catch (SQLException e) {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error closingPreparedStatement.");
-            }
-        }
-
-        Statement statement = null;
-        ResultSet rs = null;
-        try {
-            statement = connection.createStatement();
-            StringBuffer sql = new StringBuffer();
-            sql.append("select trigger_type, count(id), sum(duration), max(duration) from safepoint_event group by "
-                    + "trigger_type order by sum(duration) desc");
-            rs = statement.executeQuery(sql.toString());
-            while (rs.next()) {
-                Trigger trigger = UnifiedSafepoint.identifyTrigger(rs.getString(1));
-                SafepointEventSummary summary = new SafepointEventSummary(trigger, rs.getLong(2), rs.getLong(3),
-                        rs.getLong(4));
-                safepointEventSummaries.add(summary);
-            }
-        } catch (SQLException e) {
-            System.err.println(e.getMessage());
-            throw new RuntimeException("Error retrieving safepoint event summaries.");
-        } finally {
-            try {
-                rs.close();
-            } catch (SQLException e) {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error closing ResultSet.");
-            }
-            try {
-                statement.close();
-            } catch (SQLException e) {
-                System.err.println(e.getMessage());
-                throw new RuntimeException("Error closing Statement.");
-            }
+        for (Map.Entry<Trigger, long[]> entry : safepointEventTotals.entrySet()) {
+            long[] totals = entry.getValue();
+            safepointEventSummaries.add(new SafepointEventSummary(entry.getKey(), totals[0], totals[1], totals[2]));
         }
+        safepointEventSummaries.sort(comparing(SafepointEventSummary::getPauseTotal).reversed());
         return safepointEventSummaries;
     }
 
@@ -839,8 +929,7 @@ public class JvmDao {
      * @return maximum pause duration (microseconds).
      */
     public synchronized long getStoppedTimeMax() {
-        return longs(this.stoppedTimeEvents, ApplicationStoppedTimeEvent::getDurationMicros).mapToLong(Long::valueOf)
-                .max().orElse(0);
+        return stoppedTimeMax;
     }
 
     /**
@@ -849,8 +938,7 @@ public class JvmDao {
      * @return total pause duration (microseconds).
      */
     public synchronized long getStoppedTimeTotal() {
-        return longs(this.stoppedTimeEvents, ApplicationStoppedTimeEvent::getDurationMicros)
-                .collect(summingLong(Long::valueOf));
+        return stoppedTimeTotal;
     }
 
     /**
@@ -893,8 +981,7 @@ public class JvmDao {
      * @return maximum pause duration (nanoseconds).
      */
     public synchronized long getUnifiedSafepointTimeMax() {
-        return longs(this.unifiedSafepointEvents, UnifiedSafepointEvent::getDurationNanos).mapToLong(Long::valueOf)
-                .max().orElse(0);
+        return unifiedSafepointTimeMax;
     }
 
     /**
@@ -903,8 +990,7 @@ public class JvmDao {
      * @return total pause duration (nanoseconds).
      */
     public synchronized long getUnifiedSafepointTimeTotal() {
-        return longs(this.unifiedSafepointEvents, UnifiedSafepointEvent::getDurationNanos)
-                .collect(summingLong(Long::valueOf));
+        return unifiedSafepointTimeTotal;
     }
 
     public String getVmInfo() {
@@ -946,14 +1032,6 @@ public class JvmDao {
         return logEndingUnidentified;
     }
 
-    private <T> LongStream kilobytes(Class<T> clazz, Function<T, Memory> func) {
-        return this.blockingEvents.stream() //
-                .filter(clazz::isInstance) //
-                .map(clazz::cast).map(func) //
-                .filter(Objects::nonNull) //
-                .mapToLong(m -> m.getValue(KILOBYTES));
-    }
-
     public void setExtRootScanningTimeMax(long extRootScanningTimeMax) {
         this.extRootScanningTimeMax = extRootScanningTimeMax;
     }
@@ -1121,4 +1199,20 @@ public class JvmDao {
     public void setWorstSysGtUserEvent(LogEvent worstSysGtUserEvent) {
         this.worstSysGtUserEvent = worstSysGtUserEvent;
     }
+
+    /**
+     * Recalculate the aggregates that depend on the order of the <code>BlockingEvent</code>s if events were reordered.
+     */
+    private void updateOrdered() {
+        if (reordered) {
+            reordered = false;
+            allocatedKilobytes = 0;
+            cmsIncrementalModeCollectorEvent = null;
+            firstG1YoungPauseEvent = null;
+            lastG1YoungPauseEvent = null;
+            for (BlockingEvent event : blockingEvents) {
+                addOrdered(event);
+            }
+        }
+    }
 }
@@ -0,0 +1,34 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.domain;
+
+/**
+ * <p>
+ * Multi-line logging events (e.g. statistics, histograms, thread dumps) where the lines following a line in the block
+ * can be recognized by the structure of the block (e.g. indentation, decorator, terminator) instead of being matched
+ * against every logging pattern.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public interface BlockEvent extends LogEvent {
+
+    /**
+     * @param logLine
+     *            The log line following this event.
+     * @return true if the log line is the next line in the block, false if it ends the block or cannot be determined
+     *         by the structure of the block.
+     */
+    boolean isBlockLine(String logLine);
+}
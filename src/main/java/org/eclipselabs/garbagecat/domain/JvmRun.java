@@ -34,6 +34,7 @@ import static org.eclipselabs.garbagecat.util.jdk.Analysis.WARN_GC_SAFEPOINT_RAT
 import static org.eclipselabs.garbagecat.util.jdk.Analysis.WARN_GC_SAFEPOINT_RATIO_JDK17;
 import static org.eclipselabs.garbagecat.util.jdk.Analysis.WARN_GC_STOPPED_RATIO;
 import static org.eclipselabs.garbagecat.util.jdk.Analysis.WARN_GC_STOPPED_RATIO_JDK17;
+import static org.eclipselabs.garbagecat.util.jdk.Analysis.WARN_LOG_LINES_DAMAGED;
 import static org.eclipselabs.garbagecat.util.jdk.Analysis.WARN_PARALLELISM_INVERTED;
 import static org.eclipselabs.garbagecat.util.jdk.Analysis.WARN_PERM_MIN_NOT_EQUAL_MAX;
 import static org.eclipselabs.garbagecat.util.jdk.Analysis.WARN_PERM_SIZE_NOT_SET;
@@ -101,6 +102,11 @@ public class JvmRun {
      */
     private int blockingEventCount;
 
+    /**
+     * The number of log lines with malformed bytes, which were replaced when the logging was read.
+     */
+    private int damagedLogLineCount;
+
     /**
      * Maximum GC pause duration (microseconds).
      */
@@ -438,6 +444,10 @@ public class JvmRun {
                 analysis.add(0, WARN_UNIDENTIFIED_LOG_LINE_REPORT);
             }
         }
+        // Log lines with malformed bytes
+        if (damagedLogLineCount > 0) {
+            analysis.add(WARN_LOG_LINES_DAMAGED);
+        }
         // Try to infer event types when gc details are missing
         if (getEventTypes().contains(LogEventType.VERBOSE_GC_OLD)) {
             if (jvmOptions.getJvmContext().getGarbageCollectors().contains(GarbageCollector.G1)) {
@@ -773,6 +783,10 @@ public class JvmRun {
                         org.github.joa.util.JdkUtil.getByteOptionValue(jvmOptions.getCompressedClassSpaceSize()));
     }
 
+    public int getDamagedLogLineCount() {
+        return damagedLogLineCount;
+    }
+
     public long getDurationMax() {
         return durationMax;
     }
@@ -1314,6 +1328,10 @@ public class JvmRun {
         this.blockingEventCount = blockingEventCount;
     }
 
+    public void setDamagedLogLineCount(int damagedLogLineCount) {
+        this.damagedLogLineCount = damagedLogLineCount;
+    }
+
     public void setEventTypes(List<LogEventType> eventTypes) {
         this.eventTypes = eventTypes;
     }
@@ -19,6 +19,7 @@ import org.eclipselabs.garbagecat.domain.SafepointEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.LineScanner;
 
 /**
  * <p>
@@ -115,7 +116,54 @@ public class ApplicationStoppedTimeEvent implements SafepointEvent {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static boolean match(String logLine) {
-        return PATTERN.matcher(logLine).matches();
+        return scan(logLine, null) || PATTERN.matcher(logLine).matches();
+    }
+
+    /**
+     * Scan the common logging without the regular expression, the same as the regular expression would parse it.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param event
+     *            The event to set the fields of, or null to only test the log line.
+     * @return true if the log line was scanned, false if it must be matched with the regular expression.
+     */
+    static boolean scan(String logLine, ApplicationStoppedTimeEvent event) {
+        LineScanner scanner = new LineScanner(logLine);
+        boolean decorator = false;
+        if (!scanner.literal("Total time for which application threads were stopped: ")) {
+            if (!(scanner.decorator() && scanner.literal(' ')
+                    && scanner.literal("Total time for which application threads were stopped: "))) {
+                return false;
+            }
+            decorator = true;
+        }
+        if (!scanner.decimal(1, 4, 7, 7, 6)) {
+            return false;
+        }
+        long timeThreadsStopped = (int) scanner.getNumber();
+        if (!scanner.literal(" seconds")) {
+            return false;
+        }
+        long timeToStopThreads = 0;
+        if (scanner.literal(", Stopping threads took: ")) {
+            if (!(scanner.decimal(1, 4, 7, 7, 6) && scanner.literal(" seconds"))) {
+                return false;
+            }
+            timeToStopThreads = (int) scanner.getNumber();
+        }
+        if (!scanner.end()) {
+            return false;
+        }
+        if (event != null) {
+            event.timeThreadsStopped = timeThreadsStopped;
+            event.timeToStopThreads = timeToStopThreads;
+            long endTimestamp = decorator ? scanner.getTime() : 0;
+            if (endTimestamp > 0) {
+                event.timestamp = endTimestamp - JdkMath.convertMicrosToMillis(event.getDurationMicros()).longValue();
+            }
+        }
+        return true;
     }
 
     /**
@@ -144,7 +192,23 @@ public class ApplicationStoppedTimeEvent implements SafepointEvent {
      *            The log entry for the event.
      */
     public ApplicationStoppedTimeEvent(String logEntry) {
+        this(logEntry, true);
+    }
+
+    /**
+     * Create event from log entry, trying the scanner before the regular expression.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param scan
+     *            Whether to try the scanner (false to parse with the regular expression only, the reference for the
+     *            scanner).
+     */
+    ApplicationStoppedTimeEvent(String logEntry, boolean scan) {
         this.logEntry = logEntry;
+        if (scan && scan(logEntry, this)) {
+            return;
+        }
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             long endTimestamp = 0;
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import org.eclipselabs.garbagecat.domain.BlockEvent;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
@@ -69,7 +70,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class ClassHistogramEvent implements ThrowAwayEvent {
+public class ClassHistogramEvent implements BlockEvent, ThrowAwayEvent {
 
     /**
      * Regular expression for cruft left after class histogram preprocessing.
@@ -163,4 +164,18 @@ public class ClassHistogramEvent implements ThrowAwayEvent {
     public long getTimestamp() {
         return timestamp;
     }
+
+    @Override
+    public boolean isBlockLine(String logLine) {
+        // Histogram rows (e.g. "   1:       9249662      876131272  [C")
+        int i = 0;
+        while (i < 3 && i < logLine.length() && logLine.charAt(i) == ' ') {
+            i++;
+        }
+        int rank = i;
+        while (i < logLine.length() && Character.isDigit(logLine.charAt(i))) {
+            i++;
+        }
+        return i > rank && logLine.startsWith(": ", i);
+    }
 }
@@ -12,7 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -226,17 +227,17 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd = Memory.ZERO;
+    private long classOccupancyEnd;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit = Memory.ZERO;
+    private long classOccupancyInit;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace = Memory.ZERO;
+    private long classSpace;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -251,17 +252,17 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
     /**
      * Old generation occupancy at end of GC event.
      */
-    private Memory oldOccupancyEnd = Memory.ZERO;
+    private long oldOccupancyEnd;
 
     /**
      * Old generation occupancy at beginning of GC event.
      */
-    private Memory oldOccupancyInit = Memory.ZERO;
+    private long oldOccupancyInit;
 
     /**
      * Space allocated to old generation.
      */
-    private Memory oldSpace = Memory.ZERO;
+    private long oldSpace;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -291,17 +292,17 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
     /**
      * Young generation occupancy at end of GC event.
      */
-    private Memory youngOccupancyEnd = Memory.ZERO;
+    private long youngOccupancyEnd;
 
     /**
      * Young generation occupancy at beginning of GC event.
      */
-    private Memory youngOccupancyInit = Memory.ZERO;
+    private long youngOccupancyInit;
 
     /**
      * Available space in young generation. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngSpace = Memory.ZERO;
+    private long youngSpace;
 
     /**
      * Create event from log entry.
@@ -334,15 +335,15 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
                 } else if (matcher.group(15) != null) {
                     this.trigger = GcTrigger.getTrigger(matcher.group(15));
                 }
-                this.oldOccupancyInit = kilobytes(matcher.group(122));
-                this.oldOccupancyEnd = kilobytes(matcher.group(123));
-                this.oldSpace = kilobytes(matcher.group(124));
-                this.youngOccupancyInit = kilobytes(matcher.group(148)).minus(this.oldOccupancyInit);
-                this.youngOccupancyEnd = kilobytes(matcher.group(149)).minus(this.oldOccupancyEnd);
-                this.youngSpace = kilobytes(matcher.group(150)).minus(this.oldSpace);
-                this.classOccupancyInit = kilobytes(matcher.group(152));
-                this.classOccupancyEnd = kilobytes(matcher.group(153));
-                this.classSpace = kilobytes(matcher.group(154));
+                this.oldOccupancyInit = Long.parseLong(matcher.group(122));
+                this.oldOccupancyEnd = Long.parseLong(matcher.group(123));
+                this.oldSpace = Long.parseLong(matcher.group(124));
+                this.youngOccupancyInit = Long.parseLong(matcher.group(148)) - this.oldOccupancyInit;
+                this.youngOccupancyEnd = Long.parseLong(matcher.group(149)) - this.oldOccupancyEnd;
+                this.youngSpace = Long.parseLong(matcher.group(150)) - this.oldSpace;
+                this.classOccupancyInit = Long.parseLong(matcher.group(152));
+                this.classOccupancyEnd = Long.parseLong(matcher.group(153));
+                this.classSpace = Long.parseLong(matcher.group(154));
                 if (matcher.group(155) != null) {
                     super.setIncrementalMode(true);
                 }
@@ -376,10 +377,10 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
                     // assume promotion failure
                     this.trigger = GcTrigger.PROMOTION_FAILED;
                 }
-                this.youngOccupancyInit = kilobytes(matcher.group(33));
+                this.youngOccupancyInit = Long.parseLong(matcher.group(33));
                 // No data to determine young end size.
-                this.youngOccupancyEnd = Memory.ZERO;
-                this.youngSpace = kilobytes(matcher.group(35));
+                this.youngOccupancyEnd = 0;
+                this.youngSpace = Long.parseLong(matcher.group(35));
 
                 // use young block duration for truncated events
                 if (matcher.group(116) == null) {
@@ -388,25 +389,25 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
 
                 // old block after young
                 if (matcher.group(79) != null) {
-                    this.oldOccupancyInit = kilobytes(matcher.group(80));
-                    this.oldOccupancyEnd = kilobytes(matcher.group(81));
-                    this.oldSpace = kilobytes(matcher.group(82));
+                    this.oldOccupancyInit = Long.parseLong(matcher.group(80));
+                    this.oldOccupancyEnd = Long.parseLong(matcher.group(81));
+                    this.oldSpace = Long.parseLong(matcher.group(82));
                     if (matcher.group(106) != null) {
-                        this.youngOccupancyEnd = kilobytes(matcher.group(108)).minus(this.oldOccupancyEnd);
+                        this.youngOccupancyEnd = Long.parseLong(matcher.group(108)) - this.oldOccupancyEnd;
                     }
                 } else {
                     if (matcher.group(106) != null) {
-                        this.oldOccupancyInit = kilobytes(matcher.group(107)).minus(this.youngOccupancyInit);
+                        this.oldOccupancyInit = Long.parseLong(matcher.group(107)) - this.youngOccupancyInit;
                         // No data to determine old end size.
-                        this.oldOccupancyEnd = Memory.ZERO;
-                        this.oldSpace = kilobytes(matcher.group(109)).minus(this.youngSpace);
+                        this.oldOccupancyEnd = 0;
+                        this.oldSpace = Long.parseLong(matcher.group(109)) - this.youngSpace;
                     }
                 }
                 // perm/metaspace data
                 if (matcher.group(110) != null) {
-                    this.classOccupancyInit = kilobytes(matcher.group(112));
-                    this.classOccupancyEnd = kilobytes(matcher.group(113));
-                    this.classSpace = kilobytes(matcher.group(114));
+                    this.classOccupancyInit = Long.parseLong(matcher.group(112));
+                    this.classOccupancyEnd = Long.parseLong(matcher.group(113));
+                    this.classSpace = Long.parseLong(matcher.group(114));
                 }
                 if (matcher.group(115) != null) {
                     super.setIncrementalMode(true);
@@ -440,15 +441,15 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public long getDurationMicros() {
@@ -469,15 +470,15 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldOccupancyEnd;
+        return kilobytesOrNull(oldOccupancyEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return oldOccupancyInit;
+        return kilobytesOrNull(oldOccupancyInit);
     }
 
     public Memory getOldSpace() {
-        return oldSpace;
+        return kilobytesOrNull(oldSpace);
     }
 
     public int getParallelism() {
@@ -505,27 +506,27 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngOccupancyEnd;
+        return kilobytesOrNull(youngOccupancyEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return youngOccupancyInit;
+        return kilobytesOrNull(youngOccupancyInit);
     }
 
     public Memory getYoungSpace() {
-        return youngSpace;
+        return kilobytesOrNull(youngSpace);
     }
 
     protected void setClassSpace(Memory classSpace) {
-        this.classOccupancyInit = classSpace;
+        this.classOccupancyInit = kilobytesValue(classSpace);
     }
 
     protected void setClassSpaceAllocation(Memory classSpaceAllocation) {
-        this.classSpace = classSpaceAllocation;
+        this.classSpace = kilobytesValue(classSpaceAllocation);
     }
 
     protected void setClassSpaceEnd(Memory classSpaceEnd) {
-        this.classOccupancyEnd = classSpaceEnd;
+        this.classOccupancyEnd = kilobytesValue(classSpaceEnd);
     }
 
     protected void setDuration(int duration) {
@@ -537,15 +538,15 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
     }
 
     protected void setOldOccupancyEnd(Memory oldEnd) {
-        this.oldOccupancyEnd = oldEnd;
+        this.oldOccupancyEnd = kilobytesValue(oldEnd);
     }
 
     protected void setOldOccupancyInit(Memory old) {
-        this.oldOccupancyInit = old;
+        this.oldOccupancyInit = kilobytesValue(old);
     }
 
     protected void setOldSpace(Memory oldAllocation) {
-        this.oldSpace = oldAllocation;
+        this.oldSpace = kilobytesValue(oldAllocation);
     }
 
     protected void setTimestamp(long timestamp) {
@@ -557,14 +558,14 @@ public class CmsSerialOldEvent extends CmsIncrementalModeCollector implements Bl
     }
 
     protected void setYoungOccupancyEnd(Memory youngEnd) {
-        this.youngOccupancyEnd = youngEnd;
+        this.youngOccupancyEnd = kilobytesValue(youngEnd);
     }
 
     protected void setYoungOccupancyInit(Memory young) {
-        this.youngOccupancyInit = young;
+        this.youngOccupancyInit = kilobytesValue(young);
     }
 
     protected void setYoungSpace(Memory youngAvailable) {
-        this.youngSpace = youngAvailable;
+        this.youngSpace = kilobytesValue(youngAvailable);
     }
 }
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import org.eclipselabs.garbagecat.domain.BlockEvent;
 import org.eclipselabs.garbagecat.domain.HeaderEvent;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -177,7 +178,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class FooterStatsEvent implements HeaderEvent, ThrowAwayEvent {
+public class FooterStatsEvent implements BlockEvent, HeaderEvent, ThrowAwayEvent {
 
     /**
      * Regular expression for the header.
@@ -353,6 +354,12 @@ public class FooterStatsEvent implements HeaderEvent, ThrowAwayEvent {
         return timestamp;
     }
 
+    @Override
+    public boolean isBlockLine(String logLine) {
+        // Phase times (e.g. "Total Pauses (G)  =  0.40 s (a =  1234 us) ...")
+        return logLine.contains(" (a = ");
+    }
+
     @Override
     public boolean isHeader() {
         boolean isHeader = false;
@@ -12,8 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -94,17 +94,17 @@ public class G1CleanupEvent extends G1Collector implements BlockingEvent, Parall
     /**
      * Young generation occupancy at end of GC event.
      */
-    private Memory combinedOccupancyEnd = Memory.ZERO;
+    private long combinedOccupancyEnd;
 
     /**
      * Young generation occupancy at beginning of GC event.
      */
-    private Memory combinedOccupancyInit = Memory.ZERO;
+    private long combinedOccupancyInit;
 
     /**
      * Available space in young generation. Equals young generation allocation minus one survivor space.
      */
-    private Memory combinedSpace = Memory.ZERO;
+    private long combinedSpace;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -155,9 +155,9 @@ public class G1CleanupEvent extends G1Collector implements BlockingEvent, Parall
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
             }
             if (matcher.group(20) != null) {
-                combinedOccupancyInit = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(26), matcher.group(28).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(20), matcher.group(22).charAt(0));
+                combinedOccupancyEnd = kilobytesValue(matcher.group(23), matcher.group(25).charAt(0));
+                combinedSpace = kilobytesValue(matcher.group(26), matcher.group(28).charAt(0));
             }
             duration = JdkMath.convertSecsToMicros(matcher.group(29)).intValue();
             if (matcher.group(32) != null) {
@@ -185,15 +185,15 @@ public class G1CleanupEvent extends G1Collector implements BlockingEvent, Parall
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
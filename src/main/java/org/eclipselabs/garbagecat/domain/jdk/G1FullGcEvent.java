@@ -12,8 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -128,32 +128,32 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd = Memory.ZERO;
+    private long classOccupancyEnd;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit = Memory.ZERO;
+    private long classOccupancyInit;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace = Memory.ZERO;
+    private long classSpace;
 
     /**
      * Combined size at end of GC event.
      */
-    private Memory combinedOccupancyEnd = Memory.ZERO;
+    private long combinedOccupancyEnd;
 
     /**
      * Combined size at beginning of GC event.
      */
-    private Memory combinedOccupancyInit = Memory.ZERO;
+    private long combinedOccupancyInit;
 
     /**
      * Combined available space.
      */
-    private Memory combinedSpace = Memory.ZERO;
+    private long combinedSpace;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -211,9 +211,9 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
                 trigger = GcTrigger.getTrigger(matcher.group(15));
-                combinedOccupancyInit = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(17), matcher.group(19).charAt(0));
+                combinedOccupancyEnd = kilobytesValue(matcher.group(20), matcher.group(22).charAt(0));
+                combinedSpace = kilobytesValue(matcher.group(23), matcher.group(25).charAt(0));
                 duration = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
                 if (matcher.group(29) != null) {
                     timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
@@ -241,14 +241,14 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
                     trigger = GcTrigger.NONE;
                 }
             }
-            combinedOccupancyInit = JdkMath.convertSizeToKilobytes(matcher.group(67), matcher.group(69).charAt(0));
-            combinedOccupancyEnd = JdkMath.convertSizeToKilobytes(matcher.group(73), matcher.group(75).charAt(0));
-            combinedSpace = JdkMath.convertSizeToKilobytes(matcher.group(76), matcher.group(78).charAt(0));
+            combinedOccupancyInit = JdkMath.convertSizeToKilobytesValue(matcher.group(67), matcher.group(69).charAt(0));
+            combinedOccupancyEnd = JdkMath.convertSizeToKilobytesValue(matcher.group(73), matcher.group(75).charAt(0));
+            combinedSpace = JdkMath.convertSizeToKilobytesValue(matcher.group(76), matcher.group(78).charAt(0));
             duration = JdkMath.convertSecsToMicros(matcher.group(46)).intValue();
             if (matcher.group(79) != null) {
-                classOccupancyInit = memory(matcher.group(81), matcher.group(83).charAt(0)).convertTo(KILOBYTES);
-                classOccupancyEnd = memory(matcher.group(84), matcher.group(86).charAt(0)).convertTo(KILOBYTES);
-                classSpace = memory(matcher.group(87), matcher.group(89).charAt(0)).convertTo(KILOBYTES);
+                classOccupancyInit = kilobytesValue(matcher.group(81), matcher.group(83).charAt(0));
+                classOccupancyEnd = kilobytesValue(matcher.group(84), matcher.group(86).charAt(0));
+                classSpace = kilobytesValue(matcher.group(87), matcher.group(89).charAt(0));
             }
             if (matcher.group(110) != null) {
                 timeUser = JdkMath.convertSecsToCentis(matcher.group(111)).intValue();
@@ -275,27 +275,27 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
@@ -335,15 +335,15 @@ public class G1FullGcEvent extends G1Collector implements BlockingEvent, YoungCo
     }
 
     protected void setClassSpace(Memory classSpace) {
-        this.classOccupancyInit = classSpace;
+        this.classOccupancyInit = kilobytesValue(classSpace);
     }
 
     protected void setClassSpaceAllocation(Memory classSpaceAllocation) {
-        this.classSpace = classSpaceAllocation;
+        this.classSpace = kilobytesValue(classSpaceAllocation);
     }
 
     protected void setClassSpaceEnd(Memory classSpaceEnd) {
-        this.classOccupancyEnd = classSpaceEnd;
+        this.classOccupancyEnd = kilobytesValue(classSpaceEnd);
     }
 
     protected void setDuration(int duration) {
@@ -12,8 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -122,17 +123,17 @@ public class G1MixedPauseEvent extends G1Collector implements BlockingEvent, Par
     /**
      * Combined generation occupancy at end of GC event.
      */
-    private Memory combinedOccupancyEnd;
+    private long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Combined generation occupancy at beginning of GC event.
      */
-    private Memory combinedOccupancyInit;
+    private long combinedOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Available space in multiple generation.
      */
-    private Memory combinedSpace;
+    private long combinedSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -201,9 +202,9 @@ public class G1MixedPauseEvent extends G1Collector implements BlockingEvent, Par
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
                 trigger = GcTrigger.getTrigger(matcher.group(15));
-                combinedOccupancyInit = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(17), matcher.group(19).charAt(0));
+                combinedOccupancyEnd = kilobytesValue(matcher.group(20), matcher.group(22).charAt(0));
+                combinedSpace = kilobytesValue(matcher.group(23), matcher.group(25).charAt(0));
                 eventTime = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
                 if (matcher.group(29) != null) {
                     timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
@@ -242,9 +243,11 @@ public class G1MixedPauseEvent extends G1Collector implements BlockingEvent, Par
                 } else {
                     otherTime = OtherTime.NO_DATA;
                 }
-                combinedOccupancyInit = JdkMath.convertSizeToKilobytes(matcher.group(43), matcher.group(45).charAt(0));
-                combinedOccupancyEnd = JdkMath.convertSizeToKilobytes(matcher.group(49), matcher.group(51).charAt(0));
-                combinedSpace = JdkMath.convertSizeToKilobytes(matcher.group(52), matcher.group(54).charAt(0));
+                combinedOccupancyInit = JdkMath.convertSizeToKilobytesValue(matcher.group(43),
+                        matcher.group(45).charAt(0));
+                combinedOccupancyEnd = JdkMath.convertSizeToKilobytesValue(matcher.group(49),
+                        matcher.group(51).charAt(0));
+                combinedSpace = JdkMath.convertSizeToKilobytesValue(matcher.group(52), matcher.group(54).charAt(0));
                 if (matcher.group(55) != null) {
                     timeUser = JdkMath.convertSecsToCentis(matcher.group(56)).intValue();
                     timeSys = JdkMath.convertSecsToCentis(matcher.group(57)).intValue();
@@ -271,15 +274,15 @@ public class G1MixedPauseEvent extends G1Collector implements BlockingEvent, Par
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
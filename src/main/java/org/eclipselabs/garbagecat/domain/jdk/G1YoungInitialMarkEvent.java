@@ -12,8 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -123,17 +123,17 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
     /**
      * Combined generation occupancy at end of GC event.
      */
-    private Memory combinedOccupancyEnd = Memory.ZERO;
+    private long combinedOccupancyEnd;
 
     /**
      * Combined generation occupancy at beginning of GC event.
      */
-    private Memory combinedOccupancyInit = Memory.ZERO;
+    private long combinedOccupancyInit;
 
     /**
      * Available space in multiple generation.
      */
-    private Memory combinedSpace = Memory.ZERO;
+    private long combinedSpace;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -203,9 +203,9 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
                 trigger = GcTrigger.getTrigger(matcher.group(15));
-                combinedOccupancyInit = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(17), matcher.group(19).charAt(0));
+                combinedOccupancyEnd = kilobytesValue(matcher.group(20), matcher.group(22).charAt(0));
+                combinedSpace = kilobytesValue(matcher.group(23), matcher.group(25).charAt(0));
                 eventTime = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
                 if (matcher.group(29) != null) {
                     timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
@@ -251,11 +251,11 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
                     }
                 }
                 if (matcher.group(28) != null) {
-                    combinedOccupancyInit = JdkMath.convertSizeToKilobytes(matcher.group(47),
+                    combinedOccupancyInit = JdkMath.convertSizeToKilobytesValue(matcher.group(47),
                             matcher.group(49).charAt(0));
-                    combinedOccupancyEnd = JdkMath.convertSizeToKilobytes(matcher.group(53),
+                    combinedOccupancyEnd = JdkMath.convertSizeToKilobytesValue(matcher.group(53),
                             matcher.group(55).charAt(0));
-                    combinedSpace = JdkMath.convertSizeToKilobytes(matcher.group(56), matcher.group(58).charAt(0));
+                    combinedSpace = JdkMath.convertSizeToKilobytesValue(matcher.group(56), matcher.group(58).charAt(0));
                 }
                 if (matcher.group(59) != null) {
                     timeUser = JdkMath.convertSecsToCentis(matcher.group(60)).intValue();
@@ -283,15 +283,15 @@ public class G1YoungInitialMarkEvent extends G1Collector implements BlockingEven
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
@@ -0,0 +1,392 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.domain.jdk;
+
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.domain.OtherTime;
+import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
+import org.eclipselabs.garbagecat.util.jdk.LineScanner;
+
+/**
+ * <p>
+ * Assembles a {@link org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseEvent} from the parts of a
+ * <code>-XX:+PrintGCDetails</code> young pause retained by
+ * {@link org.eclipselabs.garbagecat.preprocess.jdk.G1PreprocessAction}, decoding each part as it is matched. The event
+ * does not have to be identified and parsed from the preprocessed log entry, and the log entry is only created if it
+ * is used.
+ * </p>
+ * 
+ * <p>
+ * Each part is decoded as {@link org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseEvent} decodes that part of the
+ * preprocessed log entry. A part out of order or in a form that is not decoded abandons the event, and the preprocessed
+ * log entry is parsed as usual. The event is only used if the parts are the whole preprocessed log entry (see
+ * {@link #isLogEntry(CharSequence)}).
+ * </p>
+ * 
+ * <h2>Example Parts</h2>
+ * 
+ * <pre>
+ * 0.065: [GC pause (G1 Evacuation Pause) (young), 0.0039925 secs]
+ * [Ext Root Scanning (ms): 0.2]
+ * [Other: 2.0 ms]
+ * [Eden: 1024.0K(1024.0K)-&gt;0.0B(1024.0K) Survivors: 0.0B-&gt;1024.0K Heap: 1024.0K(2048.0K)-&gt;565.8K(2048.0K)]
+ *  [Times: user=0.02 sys=0.00, real=0.00 secs]
+ * </pre>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class G1YoungPauseAccumulator {
+
+    /**
+     * The assembly stages, named for the last part decoded.
+     */
+    private enum Stage {
+        //
+        NONE, BEGINNING, DURATION, EXT_ROOT_SCANNING, OTHER_TIME, EDEN, TIMES
+    }
+
+    /**
+     * Combined generation occupancy at end of GC event.
+     */
+    private long combinedOccupancyEnd;
+
+    /**
+     * Combined generation occupancy at beginning of GC event.
+     */
+    private long combinedOccupancyInit;
+
+    /**
+     * Available space in multiple generation.
+     */
+    private long combinedSpace;
+
+    /**
+     * Eden occupancy at beginning of GC event.
+     */
+    private long eden;
+
+    /**
+     * Eden occupancy at end of GC event.
+     */
+    private long edenEnd;
+
+    /**
+     * The elapsed clock time for the GC event in microseconds (rounded).
+     */
+    private long eventTime;
+
+    /**
+     * The elapsed clock time for external root scanning in microseconds (rounded).
+     */
+    private long extRootScanningTime;
+
+    /**
+     * The combined length of the parts.
+     */
+    private int length;
+
+    /**
+     * Time spent outside of garbage collection in microseconds (rounded).
+     */
+    private long otherTime;
+
+    /**
+     * The parts decoded so far.
+     */
+    private List<String> parts = new ArrayList<String>();
+
+    /**
+     * The assembly stage.
+     */
+    private Stage stage = Stage.NONE;
+
+    /**
+     * The wall (clock) time in centiseconds.
+     */
+    private int timeReal;
+
+    /**
+     * The time when the GC event started in milliseconds after JVM startup.
+     */
+    private long timestamp;
+
+    /**
+     * The time of all system (kernel) threads added together in centiseconds.
+     */
+    private int timeSys;
+
+    /**
+     * The time of all user (non-kernel) threads added together in centiseconds.
+     */
+    private int timeUser;
+
+    /**
+     * The trigger for the GC event.
+     */
+    private GcTrigger trigger;
+
+    /**
+     * Whether a trigger after "(young)" (e.g. "(to-space exhausted)") has been decoded.
+     */
+    private boolean triggerToSpace;
+
+    /**
+     * Abandon the event being assembled, if any.
+     */
+    public void abandon() {
+        parts.clear();
+        length = 0;
+        stage = Stage.NONE;
+    }
+
+    /**
+     * @param part
+     *            The part decoded.
+     * @param stage
+     *            The assembly stage after the part.
+     */
+    private void add(String part, Stage stage) {
+        parts.add(part);
+        length += part.length();
+        this.stage = stage;
+    }
+
+    /**
+     * Decode the beginning of a young pause, starting a new event. The duration is either included (e.g. "0.065: [GC
+     * pause (G1 Evacuation Pause) (young), 0.0039925 secs]") or decoded separately.
+     * 
+     * @param part
+     *            The beginning of the preprocessed log entry.
+     */
+    public void beginning(String part) {
+        abandon();
+        LineScanner scanner = new LineScanner(part);
+        if (!(scanner.decorator() && scanner.literal(" [GC pause "))) {
+            return;
+        }
+        trigger = GcTrigger.NONE;
+        if (!scanner.literal("(young)")) {
+            if (!(scanner.literal('(') && (trigger = scanner.trigger(G1YoungPauseEvent.TRIGGERS)) != null
+                    && scanner.literal(") (young)"))) {
+                return;
+            }
+        }
+        timestamp = scanner.getTime();
+        triggerToSpace = false;
+        extRootScanningTime = G1ExtRootScanningData.NO_DATA;
+        otherTime = OtherTime.NO_DATA;
+        if (!scanTriggerToSpace(scanner)) {
+            return;
+        }
+        if (isEnd(scanner, part)) {
+            add(part, Stage.BEGINNING);
+        } else if (scanDuration(scanner) && isEnd(scanner, part)) {
+            add(part, Stage.DURATION);
+        }
+    }
+
+    /**
+     * Decode the duration of the young pause (e.g. ", 0.0039925 secs]" or " (to-space exhausted), 0.3314995 secs]").
+     * 
+     * @param part
+     *            The duration part of the preprocessed log entry.
+     */
+    public void duration(String part) {
+        LineScanner scanner = new LineScanner(part);
+        if (stage == Stage.BEGINNING && scanTriggerToSpace(scanner) && scanDuration(scanner)
+                && isEnd(scanner, part)) {
+            add(part, Stage.DURATION);
+        } else {
+            abandon();
+        }
+    }
+
+    /**
+     * Decode the eden, survivor and heap occupancy (e.g. "[Eden: 1024.0K(1024.0K)-&gt;0.0B(1024.0K) Survivors:
+     * 0.0B-&gt;1024.0K Heap: 1024.0K(2048.0K)-&gt;565.8K(2048.0K)]").
+     * 
+     * @param part
+     *            The eden part of the preprocessed log entry.
+     */
+    public void eden(String part) {
+        LineScanner scanner = new LineScanner(part);
+        if ((stage == Stage.DURATION || stage == Stage.EXT_ROOT_SCANNING || stage == Stage.OTHER_TIME)
+                && scanner.literal("[Eden: ") && (eden = scanner.kilobytes()) != UNKNOWN_KILOBYTES
+                && scanner.literal('(') && scanner.kilobytes() != UNKNOWN_KILOBYTES && scanner.literal(")->")
+                && (edenEnd = scanner.kilobytes()) != UNKNOWN_KILOBYTES && scanner.literal('(')
+                && scanner.kilobytes() != UNKNOWN_KILOBYTES && scanner.literal(") Survivors: ")
+                && scanner.kilobytes() != UNKNOWN_KILOBYTES && scanner.literal("->")
+                && scanner.kilobytes() != UNKNOWN_KILOBYTES && scanner.literal(" Heap: ")
+                && (combinedOccupancyInit = scanner.kilobytes()) != UNKNOWN_KILOBYTES && scanner.literal('(')
+                && scanner.kilobytes() != UNKNOWN_KILOBYTES && scanner.literal(")->")
+                && (combinedOccupancyEnd = scanner.kilobytes()) != UNKNOWN_KILOBYTES && scanner.literal('(')
+                && (combinedSpace = scanner.kilobytes()) != UNKNOWN_KILOBYTES && scanner.literal(")]")
+                && isEnd(scanner, part)) {
+            add(part, Stage.EDEN);
+        } else {
+            abandon();
+        }
+    }
+
+    /**
+     * Decode the maximum external root scanning time (e.g. "[Ext Root Scanning (ms): 0.2]").
+     * 
+     * @param part
+     *            The external root scanning part of the preprocessed log entry.
+     */
+    public void extRootScanning(String part) {
+        LineScanner scanner = new LineScanner(part);
+        if (stage == Stage.DURATION && scanner.literal("[Ext Root Scanning (ms): ")
+                && scanner.decimal(1, 15, 1, 1, 3) && scanner.literal(']') && isEnd(scanner, part)) {
+            extRootScanningTime = (int) scanner.getNumber();
+            add(part, Stage.EXT_ROOT_SCANNING);
+        } else {
+            abandon();
+        }
+    }
+
+    /**
+     * @return true if all the parts of a young pause have been decoded, false otherwise.
+     */
+    public boolean isComplete() {
+        return stage == Stage.TIMES;
+    }
+
+    /**
+     * @param scanner
+     *            The scanner.
+     * @param part
+     *            The part being scanned.
+     * @return true if the whole part has been scanned, false otherwise. Trailing spaces are not allowed, since they
+     *         would be in the middle of the preprocessed log entry.
+     */
+    private static boolean isEnd(LineScanner scanner, String part) {
+        return scanner.getPosition() == part.length();
+    }
+
+    /**
+     * @param logEntry
+     *            The preprocessed log entry.
+     * @return true if the preprocessed log entry is exactly the parts decoded, false otherwise.
+     */
+    public boolean isLogEntry(CharSequence logEntry) {
+        if (stage == Stage.NONE || logEntry.length() != length) {
+            return false;
+        }
+        int position = 0;
+        for (String part : parts) {
+            for (int i = 0; i < part.length(); i++) {
+                if (logEntry.charAt(position++) != part.charAt(i)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create the event from the parts decoded, and start over.
+     * 
+     * @return The young pause event.
+     */
+    public G1YoungPauseEvent newEvent() {
+        G1YoungPauseEvent event = new G1YoungPauseEvent(parts.toArray(new String[parts.size()]), timestamp, trigger,
+                eventTime, extRootScanningTime, otherTime, eden, edenEnd, combinedOccupancyInit, combinedOccupancyEnd,
+                combinedSpace, timeUser, timeSys, timeReal);
+        abandon();
+        return event;
+    }
+
+    /**
+     * Decode the "Other" time (e.g. "[Other: 2.0 ms]").
+     * 
+     * @param part
+     *            The "Other" time part of the preprocessed log entry.
+     */
+    public void otherTime(String part) {
+        LineScanner scanner = new LineScanner(part);
+        if ((stage == Stage.DURATION || stage == Stage.EXT_ROOT_SCANNING) && scanner.otherTime()
+                && isEnd(scanner, part)) {
+            otherTime = (int) scanner.getNumber();
+            add(part, Stage.OTHER_TIME);
+        } else {
+            abandon();
+        }
+    }
+
+    /**
+     * @param scanner
+     *            The scanner, positioned at the duration.
+     * @return true if the duration was scanned, false otherwise.
+     */
+    private boolean scanDuration(LineScanner scanner) {
+        if (scanner.literal(", ") && scanner.duration() && scanner.literal(']')) {
+            eventTime = (int) scanner.getNumber();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Scan the optional trigger after "(young)" (e.g. " (to-space exhausted)"). It can only be logged once.
+     * 
+     * @param scanner
+     *            The scanner, positioned after "(young)".
+     * @return true if there is no trigger or it was scanned, false otherwise.
+     */
+    private boolean scanTriggerToSpace(LineScanner scanner) {
+        if (!scanner.literal(" (")) {
+            return true;
+        }
+        GcTrigger toSpace;
+        if (triggerToSpace || (toSpace = scanner.trigger(G1YoungPauseEvent.TRIGGERS_TO_SPACE)) == null
+                || !scanner.literal(')')) {
+            return false;
+        }
+        trigger = toSpace;
+        triggerToSpace = true;
+        return true;
+    }
+
+    /**
+     * Decode the times data, the last part (e.g. " [Times: user=0.02 sys=0.00, real=0.00 secs]").
+     * 
+     * @param part
+     *            The times data part of the preprocessed log entry.
+     */
+    public void times(String part) {
+        LineScanner scanner = new LineScanner(part);
+        if (stage != Stage.EDEN || !(scanner.literal(" [Times: user=") && scanner.decimal(1, 5, 2, 2, 2))) {
+            abandon();
+            return;
+        }
+        timeUser = (int) scanner.getNumber();
+        if (!(scanner.literal(" sys=") && scanner.decimal(1, 5, 2, 2, 2))) {
+            abandon();
+            return;
+        }
+        timeSys = (int) scanner.getNumber();
+        if (!(scanner.literal(", real=") && scanner.decimal(1, 5, 2, 2, 2) && scanner.literal(" secs]")
+                && isEnd(scanner, part))) {
+            abandon();
+            return;
+        }
+        timeReal = (int) scanner.getNumber();
+        add(part, Stage.TIMES);
+    }
+}
@@ -12,8 +12,10 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
 import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -31,6 +33,7 @@ import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.LineScanner;
 
 /**
  * <p>
@@ -157,6 +160,18 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
 
     private static final Pattern REGEX_PREPROCESSED_PATTERN = Pattern.compile(_REGEX_PREPROCESSED);
 
+    /**
+     * Triggers recognized by the scanner before "(young)".
+     */
+    static final GcTrigger[] TRIGGERS = { GcTrigger.G1_EVACUATION_PAUSE, GcTrigger.G1_HUMONGOUS_ALLOCATION,
+            GcTrigger.GCLOCKER_INITIATED_GC };
+
+    /**
+     * Triggers recognized by the scanner after "(young)" in the preprocessed logging with details.
+     */
+    static final GcTrigger[] TRIGGERS_TO_SPACE = { GcTrigger.TO_SPACE_EXHAUSTED,
+            GcTrigger.TO_SPACE_OVERFLOW };
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      *
@@ -165,36 +180,153 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return REGEX_PATTERN.matcher(logLine).matches() || REGEX_PREPROCESSED_DETAILS_PATTERN.matcher(logLine).matches()
+        return scan(logLine, null) || REGEX_PATTERN.matcher(logLine).matches()
+                || REGEX_PREPROCESSED_DETAILS_PATTERN.matcher(logLine).matches()
                 || REGEX_PREPROCESSED_PATTERN.matcher(logLine).matches()
                 || REGEX_PREPROCESSED_NO_DURATION_PATTERN.matcher(logLine).matches();
     }
 
+    /**
+     * Scan the common logging (the logging without details, and the preprocessed logging with details) without the
+     * regular expressions, the same as the regular expressions would parse it.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param event
+     *            The event to set the fields of, or null to only test the log line.
+     * @return true if the log line was scanned, false if it must be matched with the regular expressions.
+     */
+    static final boolean scan(String logLine, G1YoungPauseEvent event) {
+        LineScanner scanner = new LineScanner(logLine);
+        if (!(scanner.decorator() && scanner.literal(" [GC pause "))) {
+            return false;
+        }
+        GcTrigger trigger = GcTrigger.NONE;
+        if (!scanner.literal("(young)")) {
+            if (!(scanner.literal('(') && (trigger = scanner.trigger(TRIGGERS)) != null
+                    && scanner.literal(") (young)"))) {
+                return false;
+            }
+        }
+        boolean details = false;
+        if (scanner.literal(" (")) {
+            if ((trigger = scanner.trigger(TRIGGERS_TO_SPACE)) == null || !scanner.literal(')')) {
+                return false;
+            }
+            details = true;
+        }
+        long eventTime;
+        long extRootScanningTime = 0;
+        long otherTime = 0;
+        long eden = UNKNOWN_KILOBYTES;
+        long edenEnd = UNKNOWN_KILOBYTES;
+        long combinedOccupancyInit;
+        long combinedOccupancyEnd;
+        long combinedSpace;
+        if (details || scanner.literal(", ")) {
+            // Preprocessed logging with details
+            if ((details && !scanner.literal(", ")) || !(scanner.duration() && scanner.literal(']'))) {
+                return false;
+            }
+            eventTime = (int) scanner.getNumber();
+            extRootScanningTime = G1ExtRootScanningData.NO_DATA;
+            if (scanner.literal("[Ext Root Scanning (ms): ")) {
+                if (!(scanner.decimal(1, 15, 1, 1, 3) && scanner.literal(']'))) {
+                    return false;
+                }
+                extRootScanningTime = (int) scanner.getNumber();
+            }
+            otherTime = OtherTime.NO_DATA;
+            if (scanner.otherTime()) {
+                otherTime = (int) scanner.getNumber();
+            }
+            if (!(scanner.literal("[Eden: ") && (eden = scanner.kilobytes()) != UNKNOWN_KILOBYTES
+                    && scanner.literal('(') && scanner.kilobytes() != UNKNOWN_KILOBYTES && scanner.literal(")->")
+                    && (edenEnd = scanner.kilobytes()) != UNKNOWN_KILOBYTES && scanner.literal('(')
+                    && scanner.kilobytes() != UNKNOWN_KILOBYTES && scanner.literal(") Survivors: ")
+                    && scanner.kilobytes() != UNKNOWN_KILOBYTES && scanner.literal("->")
+                    && scanner.kilobytes() != UNKNOWN_KILOBYTES && scanner.literal(" Heap: ")
+                    && (combinedOccupancyInit = scanner.kilobytes()) != UNKNOWN_KILOBYTES && scanner.literal('(')
+                    && scanner.kilobytes() != UNKNOWN_KILOBYTES && scanner.literal(")->")
+                    && (combinedOccupancyEnd = scanner.kilobytes()) != UNKNOWN_KILOBYTES && scanner.literal('(')
+                    && (combinedSpace = scanner.kilobytes()) != UNKNOWN_KILOBYTES && scanner.literal(")]"))) {
+                return false;
+            }
+        } else {
+            // Logging without details
+            scanner.literal("--");
+            scanner.literal(' ');
+            if (!((combinedOccupancyInit = scanner.memory()) != UNKNOWN_KILOBYTES && scanner.literal("->")
+                    && (combinedOccupancyEnd = scanner.memory()) != UNKNOWN_KILOBYTES && scanner.literal('(')
+                    && (combinedSpace = scanner.memory()) != UNKNOWN_KILOBYTES && scanner.literal("), ")
+                    && scanner.duration() && scanner.literal(']'))) {
+                return false;
+            }
+            eventTime = (int) scanner.getNumber();
+        }
+        int timeUser = TimesData.NO_DATA;
+        int timeSys = TimesData.NO_DATA;
+        int timeReal = TimesData.NO_DATA;
+        if (scanner.literal(" [Times: user=")) {
+            if (!(scanner.decimal(1, 5, 2, 2, 2) && scanner.literal(" sys="))) {
+                return false;
+            }
+            timeUser = (int) scanner.getNumber();
+            if (!(scanner.decimal(1, 5, 2, 2, 2) && scanner.literal(", real="))) {
+                return false;
+            }
+            timeSys = (int) scanner.getNumber();
+            if (!(scanner.decimal(1, 5, 2, 2, 2) && scanner.literal(" secs]"))) {
+                return false;
+            }
+            timeReal = (int) scanner.getNumber();
+        }
+        if (!scanner.end()) {
+            return false;
+        }
+        if (event != null) {
+            event.timestamp = scanner.getTime();
+            event.trigger = trigger;
+            event.eventTime = eventTime;
+            event.extRootScanningTime = extRootScanningTime;
+            event.otherTime = otherTime;
+            event.eden = eden;
+            event.edenEnd = edenEnd;
+            event.combinedOccupancyInit = combinedOccupancyInit;
+            event.combinedOccupancyEnd = combinedOccupancyEnd;
+            event.combinedSpace = combinedSpace;
+            event.timeUser = timeUser;
+            event.timeSys = timeSys;
+            event.timeReal = timeReal;
+        }
+        return true;
+    }
+
     /**
      * Combined generation occupancy at end of GC event.
      */
-    private Memory combinedOccupancyEnd;
+    private long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Combined generation occupancy at beginning of GC event.
      */
-    private Memory combinedOccupancyInit;
+    private long combinedOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Available space in multiple generation.
      */
-    private Memory combinedSpace;
+    private long combinedSpace = UNKNOWN_KILOBYTES;
 
     /**
      * Combined generation occupancy at beginning of GC event.
      */
-    private Memory eden;
+    private long eden = UNKNOWN_KILOBYTES;
 
     /**
      * Combined generation occupancy at end of GC event.
      * 
      */
-    private Memory edenEnd;
+    private long edenEnd = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -211,6 +343,12 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
      */
     private String logEntry;
 
+    /**
+     * The parts of the log entry for an event assembled by <code>G1YoungPauseAccumulator</code>, joined into the log
+     * entry when it is first used, or null.
+     */
+    private String[] logEntryParts;
+
     /**
      * Time spent outside of garbage collection in microseconds (rounded).
      */
@@ -248,7 +386,23 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
      *            The log entry for the event.
      */
     public G1YoungPauseEvent(String logEntry) {
+        this(logEntry, true);
+    }
+
+    /**
+     * Create event from log entry, trying the scanner before the regular expressions.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param scan
+     *            Whether to try the scanner (false to parse with the regular expressions only, the reference for the
+     *            scanner).
+     */
+    G1YoungPauseEvent(String logEntry, boolean scan) {
         this.logEntry = logEntry;
+        if (scan && scan(logEntry, this)) {
+            return;
+        }
         Matcher matcher;
         if ((matcher = REGEX_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
@@ -262,9 +416,9 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
                 trigger = GcTrigger.getTrigger(matcher.group(15));
-                combinedOccupancyInit = memory(matcher.group(17), matcher.group(19).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(20), matcher.group(22).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(23), matcher.group(25).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(17), matcher.group(19).charAt(0));
+                combinedOccupancyEnd = kilobytesValue(matcher.group(20), matcher.group(22).charAt(0));
+                combinedSpace = kilobytesValue(matcher.group(23), matcher.group(25).charAt(0));
                 eventTime = JdkMath.convertSecsToMicros(matcher.group(26)).intValue();
                 if (matcher.group(29) != null) {
                     timeUser = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
@@ -301,11 +455,13 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
                 } else {
                     otherTime = OtherTime.NO_DATA;
                 }
-                eden = JdkMath.convertSizeToKilobytes(matcher.group(25), matcher.group(27).charAt(0));
-                edenEnd = JdkMath.convertSizeToKilobytes(matcher.group(31), matcher.group(33).charAt(0));
-                combinedOccupancyInit = JdkMath.convertSizeToKilobytes(matcher.group(43), matcher.group(45).charAt(0));
-                combinedOccupancyEnd = JdkMath.convertSizeToKilobytes(matcher.group(49), matcher.group(51).charAt(0));
-                combinedSpace = JdkMath.convertSizeToKilobytes(matcher.group(52), matcher.group(54).charAt(0));
+                eden = JdkMath.convertSizeToKilobytesValue(matcher.group(25), matcher.group(27).charAt(0));
+                edenEnd = JdkMath.convertSizeToKilobytesValue(matcher.group(31), matcher.group(33).charAt(0));
+                combinedOccupancyInit = JdkMath.convertSizeToKilobytesValue(matcher.group(43),
+                        matcher.group(45).charAt(0));
+                combinedOccupancyEnd = JdkMath.convertSizeToKilobytesValue(matcher.group(49),
+                        matcher.group(51).charAt(0));
+                combinedSpace = JdkMath.convertSizeToKilobytesValue(matcher.group(52), matcher.group(54).charAt(0));
                 if (matcher.group(55) != null) {
                     timeUser = JdkMath.convertSecsToCentis(matcher.group(56)).intValue();
                     timeSys = JdkMath.convertSecsToCentis(matcher.group(57)).intValue();
@@ -324,9 +480,9 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
                     timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                 }
                 eventTime = JdkMath.convertSecsToMicros(matcher.group(14)).intValue();
-                combinedOccupancyInit = memory(matcher.group(19), matcher.group(21).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(22), matcher.group(24).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(25), matcher.group(27).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(19), matcher.group(21).charAt(0));
+                combinedOccupancyEnd = kilobytesValue(matcher.group(22), matcher.group(24).charAt(0));
+                combinedSpace = kilobytesValue(matcher.group(25), matcher.group(27).charAt(0));
                 if (matcher.group(28) != null) {
                     timeUser = JdkMath.convertSecsToCentis(matcher.group(29)).intValue();
                     timeSys = JdkMath.convertSecsToCentis(matcher.group(30)).intValue();
@@ -348,11 +504,13 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
                 trigger = GcTrigger.getTrigger(matcher.group(15));
                 // Get duration from times block
                 eventTime = JdkMath.convertSecsToMicros(matcher.group(49)).intValue();
-                combinedOccupancyInit = JdkMath.convertSizeToKilobytes(matcher.group(34), matcher.group(36).charAt(0));
-                combinedOccupancyEnd = JdkMath.convertSizeToKilobytes(matcher.group(40), matcher.group(42).charAt(0));
-                eden = JdkMath.convertSizeToKilobytes(matcher.group(16), matcher.group(18).charAt(0));
-                edenEnd = JdkMath.convertSizeToKilobytes(matcher.group(22), matcher.group(24).charAt(0));
-                combinedSpace = JdkMath.convertSizeToKilobytes(matcher.group(43), matcher.group(45).charAt(0));
+                combinedOccupancyInit = JdkMath.convertSizeToKilobytesValue(matcher.group(34),
+                        matcher.group(36).charAt(0));
+                combinedOccupancyEnd = JdkMath.convertSizeToKilobytesValue(matcher.group(40),
+                        matcher.group(42).charAt(0));
+                eden = JdkMath.convertSizeToKilobytesValue(matcher.group(16), matcher.group(18).charAt(0));
+                edenEnd = JdkMath.convertSizeToKilobytesValue(matcher.group(22), matcher.group(24).charAt(0));
+                combinedSpace = JdkMath.convertSizeToKilobytesValue(matcher.group(43), matcher.group(45).charAt(0));
                 timeUser = JdkMath.convertSecsToCentis(matcher.group(47)).intValue();
                 timeSys = JdkMath.convertSecsToCentis(matcher.group(48)).intValue();
                 timeReal = JdkMath.convertSecsToCentis(matcher.group(49)).intValue();
@@ -376,16 +534,68 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
         this.eventTime = duration;
     }
 
+    /**
+     * Create event from the parts of the log entry and the data decoded from them by
+     * <code>G1YoungPauseAccumulator</code>. The log entry is only created if it is used.
+     * 
+     * @param logEntryParts
+     *            The parts of the log entry for the event.
+     * @param timestamp
+     *            The time when the GC event started in milliseconds after JVM startup.
+     * @param trigger
+     *            The trigger for the GC event.
+     * @param eventTime
+     *            The elapsed clock time for the GC event in microseconds (rounded).
+     * @param extRootScanningTime
+     *            The elapsed clock time for external root scanning in microseconds (rounded).
+     * @param otherTime
+     *            Time spent outside of garbage collection in microseconds (rounded).
+     * @param eden
+     *            Eden occupancy (kilobytes) at beginning of GC event.
+     * @param edenEnd
+     *            Eden occupancy (kilobytes) at end of GC event.
+     * @param combinedOccupancyInit
+     *            Combined generation occupancy (kilobytes) at beginning of GC event.
+     * @param combinedOccupancyEnd
+     *            Combined generation occupancy (kilobytes) at end of GC event.
+     * @param combinedSpace
+     *            Available space (kilobytes) in multiple generation.
+     * @param timeUser
+     *            The time of all user (non-kernel) threads added together in centiseconds.
+     * @param timeSys
+     *            The time of all system (kernel) threads added together in centiseconds.
+     * @param timeReal
+     *            The wall (clock) time in centiseconds.
+     */
+    G1YoungPauseEvent(String[] logEntryParts, long timestamp, GcTrigger trigger, long eventTime,
+            long extRootScanningTime, long otherTime, long eden, long edenEnd, long combinedOccupancyInit,
+            long combinedOccupancyEnd, long combinedSpace, int timeUser, int timeSys, int timeReal) {
+        this.logEntryParts = logEntryParts;
+        this.timestamp = timestamp;
+        this.trigger = trigger;
+        this.eventTime = eventTime;
+        this.extRootScanningTime = extRootScanningTime;
+        this.otherTime = otherTime;
+        this.eden = eden;
+        this.edenEnd = edenEnd;
+        this.combinedOccupancyInit = combinedOccupancyInit;
+        this.combinedOccupancyEnd = combinedOccupancyEnd;
+        this.combinedSpace = combinedSpace;
+        this.timeUser = timeUser;
+        this.timeSys = timeSys;
+        this.timeReal = timeReal;
+    }
+
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
@@ -393,11 +603,11 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
     }
 
     public Memory getEdenOccupancyEnd() {
-        return edenEnd;
+        return kilobytesOrNull(edenEnd);
     }
 
     public Memory getEdenOccupancyInit() {
-        return eden;
+        return kilobytesOrNull(eden);
     }
 
     public long getExtRootScanningTime() {
@@ -405,6 +615,10 @@ public class G1YoungPauseEvent extends G1Collector implements BlockingEvent, You
     }
 
     public String getLogEntry() {
+        if (logEntryParts != null) {
+            logEntry = String.join("", logEntryParts);
+            logEntryParts = null;
+        }
         return logEntry;
     }
 
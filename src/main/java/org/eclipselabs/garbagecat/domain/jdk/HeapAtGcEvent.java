@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import org.eclipselabs.garbagecat.domain.BlockEvent;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 
@@ -241,7 +242,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class HeapAtGcEvent implements ThrowAwayEvent {
+public class HeapAtGcEvent implements BlockEvent, ThrowAwayEvent {
 
     /**
      * Regular expressions defining the logging.
@@ -317,4 +318,10 @@ public class HeapAtGcEvent implements ThrowAwayEvent {
     public long getTimestamp() {
         return timestamp;
     }
+
+    @Override
+    public boolean isBlockLine(String logLine) {
+        // The heap is logged on indented lines, and "}" ends the block
+        return !"}".equals(logEntry) && logLine.startsWith(" ");
+    }
 }
@@ -12,7 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -29,6 +30,7 @@ import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.LineScanner;
 import org.github.joa.domain.GarbageCollector;
 
 /**
@@ -136,6 +138,11 @@ public class ParNewEvent extends CmsIncrementalModeCollector
 
     private static final Pattern PATTERN = Pattern.compile(_REGEX);
 
+    /**
+     * Triggers recognized by the scanner, the literals in {@link #__TRIGGER}.
+     */
+    private static final GcTrigger[] TRIGGERS = { GcTrigger.ALLOCATION_FAILURE, GcTrigger.GCLOCKER_INITIATED_GC };
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -144,7 +151,119 @@ public class ParNewEvent extends CmsIncrementalModeCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return PATTERN.matcher(logLine).matches();
+        return scan(logLine, null) || PATTERN.matcher(logLine).matches();
+    }
+
+    /**
+     * Scan the common logging without the regular expression, the same as the regular expression would parse it.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param event
+     *            The event to set the fields of, or null to only test the log line.
+     * @return true if the log line was scanned, false if it must be matched with the regular expression.
+     */
+    static final boolean scan(String logLine, ParNewEvent event) {
+        LineScanner scanner = new LineScanner(logLine);
+        if (!(scanner.decorator() && scanner.literal(" [GC"))) {
+            return false;
+        }
+        long time = event == null ? 0 : scanner.getTime();
+        scanner.literal(' ');
+        GcTrigger trigger = GcTrigger.NONE;
+        if (scanner.literal('(')) {
+            if ((trigger = scanner.trigger(TRIGGERS)) == null || !scanner.literal(')')) {
+                return false;
+            }
+            scanner.literal(' ');
+        }
+        int parNew = scanner.getPosition();
+        if (!(scanner.decorator() && scanner.literal(' '))) {
+            scanner.setPosition(parNew);
+        }
+        if (!scanner.literal("[ParNew")) {
+            return false;
+        }
+        if (scanner.literal(" (")) {
+            if (!(scanner.literal(GcTrigger.PROMOTION_FAILED.getRegex()) && scanner.literal(')'))) {
+                return false;
+            }
+            trigger = GcTrigger.PROMOTION_FAILED;
+        }
+        long youngOccupancyInit;
+        long youngOccupancyEnd;
+        long youngSpace;
+        if (!(scanner.literal(": ") && (youngOccupancyInit = scanner.kilobytesK()) != UNKNOWN_KILOBYTES
+                && scanner.literal("->") && (youngOccupancyEnd = scanner.kilobytesK()) != UNKNOWN_KILOBYTES
+                && scanner.literal('(') && (youngSpace = scanner.kilobytesK()) != UNKNOWN_KILOBYTES
+                && scanner.literal("), ") && scanner.duration() && scanner.literal("] "))) {
+            return false;
+        }
+        long combinedOccupancyInit = scanner.kilobytesK();
+        long combinedOccupancyEnd;
+        if (combinedOccupancyInit == UNKNOWN_KILOBYTES) {
+            return false;
+        } else if (scanner.literal("->")) {
+            if ((combinedOccupancyEnd = scanner.kilobytesK()) == UNKNOWN_KILOBYTES) {
+                return false;
+            }
+        } else {
+            combinedOccupancyEnd = combinedOccupancyInit;
+            combinedOccupancyInit = UNKNOWN_KILOBYTES;
+        }
+        long combinedSpace;
+        if (!(scanner.literal('(') && (combinedSpace = scanner.kilobytesK()) != UNKNOWN_KILOBYTES
+                && scanner.literal(')'))) {
+            return false;
+        }
+        boolean incrementalMode = false;
+        if (scanner.literal(" icms_dc=")) {
+            if (!(scanner.digits(1, 3) && scanner.literal(' '))) {
+                return false;
+            }
+            incrementalMode = true;
+        }
+        if (!(scanner.literal(", ") && scanner.duration() && scanner.literal(']'))) {
+            return false;
+        }
+        long duration = (int) scanner.getNumber();
+        int timeUser = TimesData.NO_DATA;
+        int timeSys = TimesData.NO_DATA;
+        int timeReal = TimesData.NO_DATA;
+        if (scanner.literal(" [Times: user=")) {
+            if (!(scanner.decimal(1, 5, 2, 2, 2) && scanner.literal(" sys="))) {
+                return false;
+            }
+            timeUser = (int) scanner.getNumber();
+            if (!(scanner.decimal(1, 5, 2, 2, 2) && scanner.literal(", real="))) {
+                return false;
+            }
+            timeSys = (int) scanner.getNumber();
+            if (!(scanner.decimal(1, 5, 2, 2, 2) && scanner.literal(" secs]"))) {
+                return false;
+            }
+            timeReal = (int) scanner.getNumber();
+        }
+        if (!scanner.end()) {
+            return false;
+        }
+        if (event != null) {
+            event.timestamp = time;
+            event.trigger = trigger;
+            event.youngOccupancyInit = youngOccupancyInit;
+            event.youngOccupancyEnd = youngOccupancyEnd;
+            event.youngSpace = youngSpace;
+            event.oldOccupancyEnd = combinedOccupancyEnd - youngOccupancyEnd;
+            event.oldOccupancyInit = combinedOccupancyInit == UNKNOWN_KILOBYTES ? event.oldOccupancyEnd
+                    : combinedOccupancyInit - youngOccupancyInit;
+            event.oldSpace = combinedSpace - youngSpace;
+            event.duration = duration;
+            event.setIncrementalMode(incrementalMode);
+            event.timeUser = timeUser;
+            event.timeSys = timeSys;
+            event.timeReal = timeReal;
+        }
+        return true;
     }
 
     /**
@@ -160,17 +279,17 @@ public class ParNewEvent extends CmsIncrementalModeCollector
     /**
      * Old generation occupancy at end of GC event.
      */
-    private Memory oldOccupancyEnd;
+    private long oldOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Old generation occupancy at beginning of GC event.
      */
-    private Memory oldOccupancyInit;
+    private long oldOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to old generation.
      */
-    private Memory oldSpace;
+    private long oldSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -200,17 +319,17 @@ public class ParNewEvent extends CmsIncrementalModeCollector
     /**
      * Young generation occupancy at end of GC event.
      */
-    private Memory youngOccupancyEnd;
+    private long youngOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Young generation occupancy at beginning of GC event.
      */
-    private Memory youngOccupancyInit;
+    private long youngOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Available space in young generation. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngSpace;
+    private long youngSpace = UNKNOWN_KILOBYTES;
 
     /**
      * Create event from log entry.
@@ -219,7 +338,23 @@ public class ParNewEvent extends CmsIncrementalModeCollector
      *            The log entry for the event.
      */
     public ParNewEvent(String logEntry) {
+        this(logEntry, true);
+    }
+
+    /**
+     * Create event from log entry, trying the scanner before the regular expression.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param scan
+     *            Whether to try the scanner (false to parse with the regular expression only, the reference for the
+     *            scanner).
+     */
+    ParNewEvent(String logEntry, boolean scan) {
         this.logEntry = logEntry;
+        if (scan && scan(logEntry, this)) {
+            return;
+        }
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(14) != null && matcher.group(14).matches(JdkRegEx.TIMESTAMP)) {
@@ -247,13 +382,13 @@ public class ParNewEvent extends CmsIncrementalModeCollector
         } else {
             trigger = GcTrigger.getTrigger(matcher.group(35));
         }
-        youngOccupancyInit = kilobytes(matcher.group(55));
-        youngOccupancyEnd = kilobytes(matcher.group(56));
-        youngSpace = kilobytes(matcher.group(57));
-        oldOccupancyEnd = kilobytes(matcher.group(63)).minus(youngOccupancyEnd);
+        youngOccupancyInit = Long.parseLong(matcher.group(55));
+        youngOccupancyEnd = Long.parseLong(matcher.group(56));
+        youngSpace = Long.parseLong(matcher.group(57));
+        oldOccupancyEnd = Long.parseLong(matcher.group(63)) - youngOccupancyEnd;
         oldOccupancyInit = matcher.group(61) == null ? oldOccupancyEnd
-                : kilobytes(matcher.group(62)).minus(youngOccupancyInit);
-        oldSpace = kilobytes(matcher.group(64)).minus(youngSpace);
+                : Long.parseLong(matcher.group(62)) - youngOccupancyInit;
+        oldSpace = Long.parseLong(matcher.group(64)) - youngSpace;
         duration = JdkMath.convertSecsToMicros(matcher.group(66)).intValue();
         if (matcher.group(65) != null) {
             super.setIncrementalMode(true);
@@ -301,15 +436,15 @@ public class ParNewEvent extends CmsIncrementalModeCollector
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldOccupancyEnd;
+        return kilobytesOrNull(oldOccupancyEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return oldOccupancyInit;
+        return kilobytesOrNull(oldOccupancyInit);
     }
 
     public Memory getOldSpace() {
-        return oldSpace;
+        return kilobytesOrNull(oldSpace);
     }
 
     public int getParallelism() {
@@ -337,14 +472,14 @@ public class ParNewEvent extends CmsIncrementalModeCollector
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngOccupancyEnd;
+        return kilobytesOrNull(youngOccupancyEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return youngOccupancyInit;
+        return kilobytesOrNull(youngOccupancyInit);
     }
 
     public Memory getYoungSpace() {
-        return youngSpace;
+        return kilobytesOrNull(youngSpace);
     }
 }
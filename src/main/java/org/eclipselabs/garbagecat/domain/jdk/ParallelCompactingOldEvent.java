@@ -12,7 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -123,17 +124,17 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd;
+    private long classOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit;
+    private long classOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace;
+    private long classSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -148,17 +149,17 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
     /**
      * Old generation occupancy at end of GC event.
      */
-    private Memory oldOccupancyEnd;
+    private long oldOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Old generation occupancy at beginning of GC event.
      */
-    private Memory oldOccupancyInit;
+    private long oldOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to old generation.
      */
-    private Memory oldSpace;
+    private long oldSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -188,17 +189,17 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
     /**
      * Young generation occupancy at end of GC event.
      */
-    private Memory youngOccupancyEnd;
+    private long youngOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Young generation occupancy at beginning of GC event.
      */
-    private Memory youngOccupancyInit;
+    private long youngOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Available space in young generation. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngSpace;
+    private long youngSpace = UNKNOWN_KILOBYTES;
 
     /**
      * Create event from log entry.
@@ -221,16 +222,16 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
                 }
             }
             trigger = GcTrigger.getTrigger(matcher.group(15));
-            youngOccupancyInit = kilobytes(matcher.group(17));
-            youngOccupancyEnd = kilobytes(matcher.group(18));
-            youngSpace = kilobytes(matcher.group(19));
-            oldOccupancyInit = kilobytes(matcher.group(20));
-            oldOccupancyEnd = kilobytes(matcher.group(21));
-            oldSpace = kilobytes(matcher.group(22));
+            youngOccupancyInit = Long.parseLong(matcher.group(17));
+            youngOccupancyEnd = Long.parseLong(matcher.group(18));
+            youngSpace = Long.parseLong(matcher.group(19));
+            oldOccupancyInit = Long.parseLong(matcher.group(20));
+            oldOccupancyEnd = Long.parseLong(matcher.group(21));
+            oldSpace = Long.parseLong(matcher.group(22));
             // Do not need total begin/end/allocation, as these can be calculated.
-            classOccupancyInit = kilobytes(matcher.group(28));
-            classOccupancyEnd = kilobytes(matcher.group(29));
-            classSpace = kilobytes(matcher.group(30));
+            classOccupancyInit = Long.parseLong(matcher.group(28));
+            classOccupancyEnd = Long.parseLong(matcher.group(29));
+            classSpace = Long.parseLong(matcher.group(30));
             duration = JdkMath.convertSecsToMicros(matcher.group(31)).intValue();
             if (matcher.group(34) != null) {
                 timeUser = JdkMath.convertSecsToCentis(matcher.group(35)).intValue();
@@ -257,15 +258,15 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public long getDurationMicros() {
@@ -286,15 +287,15 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldOccupancyEnd;
+        return kilobytesOrNull(oldOccupancyEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return oldOccupancyInit;
+        return kilobytesOrNull(oldOccupancyInit);
     }
 
     public Memory getOldSpace() {
-        return oldSpace;
+        return kilobytesOrNull(oldSpace);
     }
 
     public int getParallelism() {
@@ -322,14 +323,14 @@ public class ParallelCompactingOldEvent extends ParallelCollector implements Blo
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngOccupancyEnd;
+        return kilobytesOrNull(youngOccupancyEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return youngOccupancyInit;
+        return kilobytesOrNull(youngOccupancyInit);
     }
 
     public Memory getYoungSpace() {
-        return youngSpace;
+        return kilobytesOrNull(youngSpace);
     }
 }
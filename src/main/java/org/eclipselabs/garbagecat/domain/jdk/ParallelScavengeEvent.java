@@ -12,7 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -126,17 +127,17 @@ public class ParallelScavengeEvent extends ParallelCollector
     /**
      * Old generation occupancy at end of GC event.
      */
-    private Memory oldOccupancyEnd;
+    private long oldOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Old generation occupancy at beginning of GC event.
      */
-    private Memory oldOccupancyInit;
+    private long oldOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to old generation.
      */
-    private Memory oldSpace;
+    private long oldSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -165,17 +166,17 @@ public class ParallelScavengeEvent extends ParallelCollector
     /**
      * Young generation occupancy at end of GC event.
      */
-    private Memory youngOccupancyEnd;
+    private long youngOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Young generation occupancy at beginning of GC event.
      */
-    private Memory youngOccupancyInit;
+    private long youngOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Available space in young generation. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngSpace;
+    private long youngSpace = UNKNOWN_KILOBYTES;
 
     /**
      * Create event from log entry.
@@ -198,12 +199,12 @@ public class ParallelScavengeEvent extends ParallelCollector
                 }
             }
             trigger = GcTrigger.getTrigger(matcher.group(16));
-            youngOccupancyInit = kilobytes((matcher.group(19)));
-            youngOccupancyEnd = kilobytes((matcher.group(20)));
-            youngSpace = kilobytes((matcher.group(21)));
-            oldOccupancyInit = kilobytes(matcher.group(22)).minus(youngOccupancyInit);
-            oldOccupancyEnd = kilobytes(matcher.group(23)).minus(youngOccupancyEnd);
-            oldSpace = kilobytes(matcher.group(24)).minus(youngSpace);
+            youngOccupancyInit = Long.parseLong((matcher.group(19)));
+            youngOccupancyEnd = Long.parseLong((matcher.group(20)));
+            youngSpace = Long.parseLong((matcher.group(21)));
+            oldOccupancyInit = Long.parseLong(matcher.group(22)) - youngOccupancyInit;
+            oldOccupancyEnd = Long.parseLong(matcher.group(23)) - youngOccupancyEnd;
+            oldSpace = Long.parseLong(matcher.group(24)) - youngSpace;
             duration = JdkMath.convertSecsToMicros(matcher.group(25)).intValue();
             if (matcher.group(28) != null) {
                 timeUser = JdkMath.convertSecsToCentis(matcher.group(29)).intValue();
@@ -247,15 +248,15 @@ public class ParallelScavengeEvent extends ParallelCollector
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldOccupancyEnd;
+        return kilobytesOrNull(oldOccupancyEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return oldOccupancyInit;
+        return kilobytesOrNull(oldOccupancyInit);
     }
 
     public Memory getOldSpace() {
-        return oldSpace;
+        return kilobytesOrNull(oldSpace);
     }
 
     public int getParallelism() {
@@ -283,14 +284,14 @@ public class ParallelScavengeEvent extends ParallelCollector
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngOccupancyEnd;
+        return kilobytesOrNull(youngOccupancyEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return youngOccupancyInit;
+        return kilobytesOrNull(youngOccupancyInit);
     }
 
     public Memory getYoungSpace() {
-        return youngSpace;
+        return kilobytesOrNull(youngSpace);
     }
 }
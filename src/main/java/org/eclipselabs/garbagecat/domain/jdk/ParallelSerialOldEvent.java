@@ -12,7 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -115,17 +117,17 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd;
+    private long classOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit;
+    private long classOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace;
+    private long classSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -140,17 +142,17 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     /**
      * Old generation occupancy at end of GC event.
      */
-    private Memory oldOccupancyEnd;
+    private long oldOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Old generation occupancy at beginning of GC event.
      */
-    private Memory oldOccupancyInit;
+    private long oldOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to old generation.
      */
-    private Memory oldSpace;
+    private long oldSpace = UNKNOWN_KILOBYTES;
 
     /**
      * /** The wall (clock) time in centiseconds.
@@ -180,17 +182,17 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     /**
      * Young generation occupancy at end of GC event.
      */
-    private Memory youngOccupancyEnd;
+    private long youngOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Young generation occupancy at beginning of GC event.
      */
-    private Memory youngOccupancyInit;
+    private long youngOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Available space in young generation. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngSpace;
+    private long youngSpace = UNKNOWN_KILOBYTES;
 
     /**
      * Create event from log entry.
@@ -215,15 +217,15 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
             if (matcher.group(15) != null) {
                 this.trigger = GcTrigger.getTrigger(matcher.group(15));
             }
-            this.youngOccupancyInit = kilobytes(matcher.group(17));
-            this.youngOccupancyEnd = kilobytes(matcher.group(18));
-            this.youngSpace = kilobytes(matcher.group(19));
-            this.oldOccupancyInit = kilobytes(matcher.group(20));
-            this.oldOccupancyEnd = kilobytes(matcher.group(21));
-            this.oldSpace = kilobytes(matcher.group(22));
-            this.classOccupancyInit = kilobytes(matcher.group(27));
-            this.classOccupancyEnd = kilobytes(matcher.group(28));
-            this.classSpace = kilobytes(matcher.group(29));
+            this.youngOccupancyInit = Long.parseLong(matcher.group(17));
+            this.youngOccupancyEnd = Long.parseLong(matcher.group(18));
+            this.youngSpace = Long.parseLong(matcher.group(19));
+            this.oldOccupancyInit = Long.parseLong(matcher.group(20));
+            this.oldOccupancyEnd = Long.parseLong(matcher.group(21));
+            this.oldSpace = Long.parseLong(matcher.group(22));
+            this.classOccupancyInit = Long.parseLong(matcher.group(27));
+            this.classOccupancyEnd = Long.parseLong(matcher.group(28));
+            this.classSpace = Long.parseLong(matcher.group(29));
             this.duration = JdkMath.convertSecsToMicros(matcher.group(30)).intValue();
             if (matcher.group(33) != null) {
                 timeUser = JdkMath.convertSecsToCentis(matcher.group(34)).intValue();
@@ -250,15 +252,15 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public long getDurationMicros() {
@@ -279,15 +281,15 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldOccupancyEnd;
+        return kilobytesOrNull(oldOccupancyEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return oldOccupancyInit;
+        return kilobytesOrNull(oldOccupancyInit);
     }
 
     public Memory getOldSpace() {
-        return oldSpace;
+        return kilobytesOrNull(oldSpace);
     }
 
     public int getParallelism() {
@@ -315,27 +317,27 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngOccupancyEnd;
+        return kilobytesOrNull(youngOccupancyEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return youngOccupancyInit;
+        return kilobytesOrNull(youngOccupancyInit);
     }
 
     public Memory getYoungSpace() {
-        return youngSpace;
+        return kilobytesOrNull(youngSpace);
     }
 
     protected void setClassSpace(Memory classSpace) {
-        this.classOccupancyInit = classSpace;
+        this.classOccupancyInit = kilobytesValue(classSpace);
     }
 
     protected void setClassSpaceAllocation(Memory classSpaceAllocation) {
-        this.classSpace = classSpaceAllocation;
+        this.classSpace = kilobytesValue(classSpaceAllocation);
     }
 
     protected void setClassSpaceEnd(Memory classSpaceEnd) {
-        this.classOccupancyEnd = classSpaceEnd;
+        this.classOccupancyEnd = kilobytesValue(classSpaceEnd);
     }
 
     protected void setDuration(int duration) {
@@ -347,15 +349,15 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     }
 
     protected void setOldOccupancyEnd(Memory oldEnd) {
-        this.oldOccupancyEnd = oldEnd;
+        this.oldOccupancyEnd = kilobytesValue(oldEnd);
     }
 
     protected void setOldOccupancyInit(Memory old) {
-        this.oldOccupancyInit = old;
+        this.oldOccupancyInit = kilobytesValue(old);
     }
 
     protected void setOldSpace(Memory oldAllocation) {
-        this.oldSpace = oldAllocation;
+        this.oldSpace = kilobytesValue(oldAllocation);
     }
 
     protected void setTimestamp(long timestamp) {
@@ -367,14 +369,14 @@ public class ParallelSerialOldEvent extends ParallelCollector implements Blockin
     }
 
     protected void setYoungOccupancyEnd(Memory youngEnd) {
-        this.youngOccupancyEnd = youngEnd;
+        this.youngOccupancyEnd = kilobytesValue(youngEnd);
     }
 
     protected void setYoungOccupancyInit(Memory young) {
-        this.youngOccupancyInit = young;
+        this.youngOccupancyInit = kilobytesValue(young);
     }
 
     protected void setYoungSpace(Memory youngAvailable) {
-        this.youngSpace = youngAvailable;
+        this.youngSpace = kilobytesValue(youngAvailable);
     }
 }
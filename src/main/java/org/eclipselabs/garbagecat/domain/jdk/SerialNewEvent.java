@@ -12,7 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -121,17 +122,17 @@ public class SerialNewEvent extends SerialCollector
     /**
      * Old generation occupancy at end of GC event.
      */
-    private Memory oldOccupancyEnd;
+    private long oldOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Old generation occupancy at beginning of GC event.
      */
-    private Memory oldOccupancyInit;
+    private long oldOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to old generation.
      */
-    private Memory oldSpace;
+    private long oldSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -161,17 +162,17 @@ public class SerialNewEvent extends SerialCollector
     /**
      * Young generation occupancy at end of GC event.
      */
-    private Memory youngOccupancyEnd;
+    private long youngOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Young generation occupancy at beginning of GC event.
      */
-    private Memory youngOccupancyInit;
+    private long youngOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Available space in young generation. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngSpace;
+    private long youngSpace = UNKNOWN_KILOBYTES;
 
     /**
      * 
@@ -191,12 +192,12 @@ public class SerialNewEvent extends SerialCollector
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
             }
             trigger = GcTrigger.getTrigger(matcher.group(18));
-            youngOccupancyInit = kilobytes(matcher.group(31));
-            youngOccupancyEnd = kilobytes(matcher.group(32));
-            youngSpace = kilobytes(matcher.group(33));
-            oldOccupancyInit = kilobytes(matcher.group(37)).minus(youngOccupancyInit);
-            oldOccupancyEnd = kilobytes(matcher.group(38)).minus(youngOccupancyEnd);
-            oldSpace = kilobytes(matcher.group(39)).minus(youngSpace);
+            youngOccupancyInit = Long.parseLong(matcher.group(31));
+            youngOccupancyEnd = Long.parseLong(matcher.group(32));
+            youngSpace = Long.parseLong(matcher.group(33));
+            oldOccupancyInit = Long.parseLong(matcher.group(37)) - youngOccupancyInit;
+            oldOccupancyEnd = Long.parseLong(matcher.group(38)) - youngOccupancyEnd;
+            oldSpace = Long.parseLong(matcher.group(39)) - youngSpace;
             duration = JdkMath.convertSecsToMicros(matcher.group(40)).intValue();
             if (matcher.group(43) != null) {
                 timeUser = JdkMath.convertSecsToCentis(matcher.group(44)).intValue();
@@ -240,15 +241,15 @@ public class SerialNewEvent extends SerialCollector
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldOccupancyEnd;
+        return kilobytesOrNull(oldOccupancyEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return oldOccupancyInit;
+        return kilobytesOrNull(oldOccupancyInit);
     }
 
     public Memory getOldSpace() {
-        return oldSpace;
+        return kilobytesOrNull(oldSpace);
     }
 
     public int getParallelism() {
@@ -284,15 +285,15 @@ public class SerialNewEvent extends SerialCollector
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngOccupancyEnd;
+        return kilobytesOrNull(youngOccupancyEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return youngOccupancyInit;
+        return kilobytesOrNull(youngOccupancyInit);
     }
 
     public Memory getYoungSpace() {
-        return youngSpace;
+        return kilobytesOrNull(youngSpace);
     }
 
     protected void setTrigger(GcTrigger trigger) {
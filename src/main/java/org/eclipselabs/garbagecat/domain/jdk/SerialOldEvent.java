@@ -12,7 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -131,17 +133,17 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd;
+    private long classOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit;
+    private long classOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace;
+    private long classSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -156,17 +158,17 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     /**
      * Old generation occupancy at end of GC event.
      */
-    private Memory oldOccupancyEnd;
+    private long oldOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Old generation occupancy at beginning of GC event.
      */
-    private Memory oldOccupancyInit;
+    private long oldOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to old generation.
      */
-    private Memory oldSpace;
+    private long oldSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -194,17 +196,17 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     /**
      * Young generation occupancy at end of GC event.
      */
-    private Memory youngOccupancyEnd;
+    private long youngOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Young generation occupancy at beginning of GC event.
      */
-    private Memory youngOccupancyInit;
+    private long youngOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Available space in young generation. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngSpace;
+    private long youngSpace = UNKNOWN_KILOBYTES;
 
     /**
      * Default constructor
@@ -237,16 +239,16 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
             } else {
                 trigger = GcTrigger.NONE;
             }
-            oldOccupancyInit = kilobytes(matcher.group(54));
-            oldOccupancyEnd = kilobytes(matcher.group(55));
-            oldSpace = kilobytes(matcher.group(56));
-            youngOccupancyInit = kilobytes(matcher.group(60)).minus(getOldOccupancyInit());
-            youngOccupancyEnd = kilobytes(matcher.group(61)).minus(getOldOccupancyEnd());
-            youngSpace = kilobytes(matcher.group(62)).minus(getOldSpace());
+            oldOccupancyInit = Long.parseLong(matcher.group(54));
+            oldOccupancyEnd = Long.parseLong(matcher.group(55));
+            oldSpace = Long.parseLong(matcher.group(56));
+            youngOccupancyInit = Long.parseLong(matcher.group(60)) - oldOccupancyInit;
+            youngOccupancyEnd = Long.parseLong(matcher.group(61)) - oldOccupancyEnd;
+            youngSpace = Long.parseLong(matcher.group(62)) - oldSpace;
             // Do not need total begin/end/allocation, as these can be calculated.
-            classOccupancyInit = kilobytes(matcher.group(64));
-            classOccupancyEnd = kilobytes(matcher.group(65));
-            classSpace = kilobytes(matcher.group(66));
+            classOccupancyInit = Long.parseLong(matcher.group(64));
+            classOccupancyEnd = Long.parseLong(matcher.group(65));
+            classSpace = Long.parseLong(matcher.group(66));
             duration = JdkMath.convertSecsToMicros(matcher.group(67)).intValue();
             if (matcher.group(70) != null) {
                 timeUser = JdkMath.convertSecsToCentis(matcher.group(71)).intValue();
@@ -273,15 +275,15 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public long getDurationMicros() {
@@ -302,15 +304,15 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldOccupancyEnd;
+        return kilobytesOrNull(oldOccupancyEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return oldOccupancyInit;
+        return kilobytesOrNull(oldOccupancyInit);
     }
 
     public Memory getOldSpace() {
-        return oldSpace;
+        return kilobytesOrNull(oldSpace);
     }
 
     public int getParallelism() {
@@ -338,27 +340,27 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngOccupancyEnd;
+        return kilobytesOrNull(youngOccupancyEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return youngOccupancyInit;
+        return kilobytesOrNull(youngOccupancyInit);
     }
 
     public Memory getYoungSpace() {
-        return youngSpace;
+        return kilobytesOrNull(youngSpace);
     }
 
     protected void setClassSpace(Memory classSpace) {
-        this.classOccupancyInit = classSpace;
+        this.classOccupancyInit = kilobytesValue(classSpace);
     }
 
     protected void setClassSpaceAllocation(Memory classSpaceAllocation) {
-        this.classSpace = classSpaceAllocation;
+        this.classSpace = kilobytesValue(classSpaceAllocation);
     }
 
     protected void setClassSpaceEnd(Memory classSpaceEnd) {
-        this.classOccupancyEnd = classSpaceEnd;
+        this.classOccupancyEnd = kilobytesValue(classSpaceEnd);
     }
 
     protected void setDuration(int duration) {
@@ -370,15 +372,15 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     }
 
     protected void setOldOccupancyEnd(Memory oldEnd) {
-        this.oldOccupancyEnd = oldEnd;
+        this.oldOccupancyEnd = kilobytesValue(oldEnd);
     }
 
     protected void setOldOccupancyInit(Memory old) {
-        this.oldOccupancyInit = old;
+        this.oldOccupancyInit = kilobytesValue(old);
     }
 
     protected void setOldSpace(Memory oldAllocation) {
-        this.oldSpace = oldAllocation;
+        this.oldSpace = kilobytesValue(oldAllocation);
     }
 
     protected void setTimestamp(long timestamp) {
@@ -390,14 +392,14 @@ public class SerialOldEvent extends SerialCollector implements BlockingEvent, Yo
     }
 
     protected void setYoungOccupancyEnd(Memory youngEnd) {
-        this.youngOccupancyEnd = youngEnd;
+        this.youngOccupancyEnd = kilobytesValue(youngEnd);
     }
 
     protected void setYoungOccupancyInit(Memory young) {
-        this.youngOccupancyInit = young;
+        this.youngOccupancyInit = kilobytesValue(young);
     }
 
     protected void setYoungSpace(Memory youngAvailable) {
-        this.youngSpace = youngAvailable;
+        this.youngSpace = kilobytesValue(youngAvailable);
     }
 }
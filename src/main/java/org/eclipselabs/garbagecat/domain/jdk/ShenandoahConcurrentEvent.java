@@ -12,8 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -115,32 +116,32 @@ public class ShenandoahConcurrentEvent extends ShenandoahCollector
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd;
+    private long classOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit;
+    private long classOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace;
+    private long classSpace = UNKNOWN_KILOBYTES;
 
     /**
      * Combined size at end of GC event.
      */
-    private Memory combinedOccupancyEnd;
+    private long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Combined size at beginning of GC event.
      */
-    private Memory combinedOccupancyInit;
+    private long combinedOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Combined available space.
      */
-    private Memory combinedSpace;
+    private long combinedSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The log entry for the event. Can be used for debugging purposes.
@@ -171,46 +172,46 @@ public class ShenandoahConcurrentEvent extends ShenandoahCollector
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
             if (matcher.group(JdkUtil.DECORATOR_SIZE + 2) != null) {
-                combinedOccupancyInit = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 3),
-                        matcher.group(JdkUtil.DECORATOR_SIZE + 5).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 6),
-                        matcher.group(JdkUtil.DECORATOR_SIZE + 8).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 9),
-                        matcher.group(JdkUtil.DECORATOR_SIZE + 11).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 3),
+                        matcher.group(JdkUtil.DECORATOR_SIZE + 5).charAt(0));
+                combinedOccupancyEnd = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 6),
+                        matcher.group(JdkUtil.DECORATOR_SIZE + 8).charAt(0));
+                combinedSpace = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 9),
+                        matcher.group(JdkUtil.DECORATOR_SIZE + 11).charAt(0));
             }
             if (matcher.group(JdkUtil.DECORATOR_SIZE + 13) != null) {
-                classOccupancyInit = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 14),
-                        matcher.group(JdkUtil.DECORATOR_SIZE + 16).charAt(0)).convertTo(KILOBYTES);
-                classOccupancyEnd = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 17),
-                        matcher.group(JdkUtil.DECORATOR_SIZE + 19).charAt(0)).convertTo(KILOBYTES);
-                classSpace = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 20),
-                        matcher.group(JdkUtil.DECORATOR_SIZE + 22).charAt(0)).convertTo(KILOBYTES);
+                classOccupancyInit = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 14),
+                        matcher.group(JdkUtil.DECORATOR_SIZE + 16).charAt(0));
+                classOccupancyEnd = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 17),
+                        matcher.group(JdkUtil.DECORATOR_SIZE + 19).charAt(0));
+                classSpace = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 20),
+                        matcher.group(JdkUtil.DECORATOR_SIZE + 22).charAt(0));
             }
         }
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public String getLogEntry() {
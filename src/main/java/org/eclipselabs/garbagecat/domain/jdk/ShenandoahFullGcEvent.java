@@ -12,8 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -75,32 +76,32 @@ public class ShenandoahFullGcEvent extends ShenandoahCollector
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd;
+    private long classOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit;
+    private long classOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace;
+    private long classSpace = UNKNOWN_KILOBYTES;
 
     /**
      * Combined size at end of GC event.
      */
-    private Memory combinedOccupancyEnd;
+    private long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Combined size at beginning of GC event.
      */
-    private Memory combinedOccupancyInit;
+    private long combinedOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Combined available space.
      */
-    private Memory combinedSpace;
+    private long combinedSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -136,19 +137,19 @@ public class ShenandoahFullGcEvent extends ShenandoahCollector
                 // Datestamp only.
                 timestamp = JdkUtil.convertDatestampToMillis(matcher.group(1));
             }
-            combinedOccupancyInit = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 1),
-                    matcher.group(JdkUtil.DECORATOR_SIZE + 3).charAt(0)).convertTo(KILOBYTES);
-            combinedOccupancyEnd = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 4),
-                    matcher.group(JdkUtil.DECORATOR_SIZE + 6).charAt(0)).convertTo(KILOBYTES);
-            combinedSpace = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 7),
-                    matcher.group(JdkUtil.DECORATOR_SIZE + 9).charAt(0)).convertTo(KILOBYTES);
+            combinedOccupancyInit = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 1),
+                    matcher.group(JdkUtil.DECORATOR_SIZE + 3).charAt(0));
+            combinedOccupancyEnd = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 4),
+                    matcher.group(JdkUtil.DECORATOR_SIZE + 6).charAt(0));
+            combinedSpace = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 7),
+                    matcher.group(JdkUtil.DECORATOR_SIZE + 9).charAt(0));
             if (matcher.group(JdkUtil.DECORATOR_SIZE + 11) != null) {
-                classOccupancyInit = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 12),
-                        matcher.group(JdkUtil.DECORATOR_SIZE + 14).charAt(0)).convertTo(KILOBYTES);
-                classOccupancyEnd = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 15),
-                        matcher.group(JdkUtil.DECORATOR_SIZE + 17).charAt(0)).convertTo(KILOBYTES);
-                classSpace = memory(matcher.group(JdkUtil.DECORATOR_SIZE + 18),
-                        matcher.group(JdkUtil.DECORATOR_SIZE + 20).charAt(0)).convertTo(KILOBYTES);
+                classOccupancyInit = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 12),
+                        matcher.group(JdkUtil.DECORATOR_SIZE + 14).charAt(0));
+                classOccupancyEnd = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 15),
+                        matcher.group(JdkUtil.DECORATOR_SIZE + 17).charAt(0));
+                classSpace = kilobytesValue(matcher.group(JdkUtil.DECORATOR_SIZE + 18),
+                        matcher.group(JdkUtil.DECORATOR_SIZE + 20).charAt(0));
             }
         }
     }
@@ -170,27 +171,27 @@ public class ShenandoahFullGcEvent extends ShenandoahCollector
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
@@ -210,14 +211,14 @@ public class ShenandoahFullGcEvent extends ShenandoahCollector
     }
 
     protected void setClassSpace(Memory classSpace) {
-        this.classOccupancyInit = classSpace;
+        this.classOccupancyInit = kilobytesValue(classSpace);
     }
 
     protected void setClassSpaceAllocation(Memory classSpaceAllocation) {
-        this.classSpace = classSpaceAllocation;
+        this.classSpace = kilobytesValue(classSpaceAllocation);
     }
 
     protected void setClassSpaceEnd(Memory classSpaceEnd) {
-        this.classOccupancyEnd = classSpaceEnd;
+        this.classOccupancyEnd = kilobytesValue(classSpaceEnd);
     }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import org.eclipselabs.garbagecat.domain.BlockEvent;
 import org.eclipselabs.garbagecat.domain.HeaderEvent;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -59,7 +60,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class ShenandoahStatsEvent extends ShenandoahCollector implements HeaderEvent, ThrowAwayEvent {
+public class ShenandoahStatsEvent extends ShenandoahCollector implements BlockEvent, HeaderEvent, ThrowAwayEvent {
 
     /**
      * Regular expression for the header.
@@ -153,6 +154,12 @@ public class ShenandoahStatsEvent extends ShenandoahCollector implements HeaderE
         return 0;
     }
 
+    @Override
+    public boolean isBlockLine(String logLine) {
+        // Phase times (e.g. "  Scan Roots      953 us, parallelism: 1.40x")
+        return logLine.endsWith(" us") || logLine.contains(" us,");
+    }
+
     @Override
     public boolean isHeader() {
         boolean isHeader = false;
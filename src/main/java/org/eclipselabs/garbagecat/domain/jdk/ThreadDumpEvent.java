@@ -14,6 +14,7 @@ package org.eclipselabs.garbagecat.domain.jdk;
 
 import java.util.regex.Pattern;
 
+import org.eclipselabs.garbagecat.domain.BlockEvent;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -104,7 +105,7 @@ import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class ThreadDumpEvent implements ThrowAwayEvent {
+public class ThreadDumpEvent implements BlockEvent, ThrowAwayEvent {
 
     /**
      * Regular expressions defining the logging.
@@ -202,4 +203,10 @@ public class ThreadDumpEvent implements ThrowAwayEvent {
         return timestamp;
     }
 
+    @Override
+    public boolean isBlockLine(String logLine) {
+        // Stack frames and locks
+        return logLine.startsWith("\tat ") || logLine.startsWith("    at ") || logLine.startsWith("\t- ");
+    }
+
 }
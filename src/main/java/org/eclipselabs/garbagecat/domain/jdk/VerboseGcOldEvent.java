@@ -12,9 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -95,17 +95,17 @@ public class VerboseGcOldEvent extends UnknownCollector
     /**
      * Combined young + old generation size at end of GC event.
      */
-    private Memory combinedOccupancyEnd;
+    private long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Combined young + old generation size at beginning of GC event.
      */
-    private Memory combinedOccupancyInit;
+    private long combinedOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Combined young + old generation allocation.
      */
-    private Memory combinedSpace;
+    private long combinedSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -147,19 +147,19 @@ public class VerboseGcOldEvent extends UnknownCollector
             }
             trigger = GcTrigger.getTrigger(matcher.group(15));
             if (matcher.group(17).matches(JdkRegEx.SIZE_K)) {
-                combinedOccupancyInit = kilobytes(matcher.group(18));
+                combinedOccupancyInit = Long.parseLong(matcher.group(18));
             } else {
-                combinedOccupancyInit = memory(matcher.group(19), matcher.group(21).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(19), matcher.group(21).charAt(0));
             }
             if (matcher.group(22).matches(JdkRegEx.SIZE_K)) {
-                combinedOccupancyEnd = kilobytes(matcher.group(23));
+                combinedOccupancyEnd = Long.parseLong(matcher.group(23));
             } else {
-                combinedOccupancyEnd = memory(matcher.group(24), matcher.group(26).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyEnd = kilobytesValue(matcher.group(24), matcher.group(26).charAt(0));
             }
             if (matcher.group(27).matches(JdkRegEx.SIZE_K)) {
-                combinedSpace = kilobytes(matcher.group(28));
+                combinedSpace = Long.parseLong(matcher.group(28));
             } else {
-                combinedSpace = memory(matcher.group(29), matcher.group(31).charAt(0)).convertTo(KILOBYTES);
+                combinedSpace = kilobytesValue(matcher.group(29), matcher.group(31).charAt(0));
             }
             duration = JdkMath.convertSecsToMicros(matcher.group(32)).intValue();
         }
@@ -182,15 +182,15 @@ public class VerboseGcOldEvent extends UnknownCollector
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
@@ -12,7 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
-import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -102,17 +103,17 @@ public class VerboseGcYoungEvent extends UnknownCollector
     /**
      * Combined young + old generation size at end of GC event.
      */
-    private Memory combinedOccupancyEnd;
+    private long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Combined young + old generation size at beginning of GC event.
      */
-    private Memory combinedOccupancyInit;
+    private long combinedOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Combined young + old generation allocation.
      */
-    private Memory combinedSpace;
+    private long combinedSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -154,13 +155,13 @@ public class VerboseGcYoungEvent extends UnknownCollector
             }
             trigger = GcTrigger.getTrigger(matcher.group(15));
             if (matcher.group(18) != null) {
-                combinedOccupancyInit = kilobytes(matcher.group(19));
+                combinedOccupancyInit = Long.parseLong(matcher.group(19));
             } else {
                 // set it to the end
-                combinedOccupancyInit = kilobytes(matcher.group(20));
+                combinedOccupancyInit = Long.parseLong(matcher.group(20));
             }
-            combinedOccupancyEnd = kilobytes(matcher.group(20));
-            combinedSpace = kilobytes(matcher.group(21));
+            combinedOccupancyEnd = Long.parseLong(matcher.group(20));
+            combinedSpace = Long.parseLong(matcher.group(21));
             duration = JdkMath.convertSecsToMicros(matcher.group(22)).intValue();
         }
     }
@@ -182,15 +183,15 @@ public class VerboseGcYoungEvent extends UnknownCollector
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
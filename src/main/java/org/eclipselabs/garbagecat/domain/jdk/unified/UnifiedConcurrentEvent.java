@@ -12,8 +12,10 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
 import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -27,6 +29,7 @@ import org.eclipselabs.garbagecat.util.Memory;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.LineScanner;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
 
 /**
@@ -204,11 +207,10 @@ import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
 public class UnifiedConcurrentEvent extends UnknownCollector
         implements UnifiedLogging, ParallelEvent, CombinedData, ClassData {
     /**
-     * Regular expressions defining the logging.
+     * Concurrent phase name(s) regular expression.
      */
-    private static final String _REGEX = "^" + UnifiedRegEx.DECORATOR
-            + "( [OYy]:)? (ClassLoaderData|Concurrent (class unloading|Classes Purge|Classes Unlink|cleanup|"
-            + "Cleanup for Next Mark|Clear Claimed Marks|Create Live Data|Cycle|evacuation|Mark|Mark Abort|"
+    private static final String __NAME = "(ClassLoaderData|Concurrent (class unloading|Classes Purge|Classes Unlink|"
+            + "cleanup|Cleanup for Next Mark|Clear Claimed Marks|Create Live Data|Cycle|evacuation|Mark|Mark Abort|"
             + "Mark Continue|Mark Cycle|Mark Follow|Mark Free|Mark From Roots|Mark Roots|marking|"
             + "marking \\(process weakrefs\\)|marking \\(process weakrefs\\) \\(unload classes\\)|"
             + "marking roots|marking \\(unload classes\\)|marking \\(update refs\\)||"
@@ -217,11 +219,21 @@ public class UnifiedConcurrentEvent extends UnknownCollector
             + "Rebuild Remembered Sets and Scrub Regions|References Enqueue|References Process|Relocate|"
             + "Relocate Remset FP|Remap Roots|[Rr]eset|Reset Relocation Set|Scan Root Regions|"
             + "Select Relocation Set|String Deduplication.*|strong roots|Sweep|thread roots|uncommit|"
-            + "Undo Cycle|update references|update thread roots|weak references|weak roots)|" + "Trigger cleanups)( \\("
+            + "Undo Cycle|update references|update thread roots|weak references|weak roots)|" + "Trigger cleanups)";
+
+    /**
+     * Regular expressions defining the logging.
+     */
+    private static final String _REGEX = "^" + UnifiedRegEx.DECORATOR + "( [OYy]:)? " + __NAME + "( \\("
             + JdkRegEx.TIMESTAMP + "s(, " + JdkRegEx.TIMESTAMP + "s)?\\))?( " + JdkRegEx.SIZE + "->" + JdkRegEx.SIZE
             + "\\(" + JdkRegEx.SIZE + "\\))?( " + JdkRegEx.DURATION_MS + ")?" + TimesData.REGEX_JDK9 + "?( Metaspace: "
             + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\)->" + JdkRegEx.SIZE + "\\(" + JdkRegEx.SIZE + "\\))?[ ]*$";
 
+    /**
+     * RegEx pattern for the concurrent phase name(s).
+     */
+    private static final Pattern NAME_PATTERN = Pattern.compile(__NAME);
+
     private static final Pattern PATTERN = Pattern.compile(_REGEX);
 
     /**
@@ -232,38 +244,115 @@ public class UnifiedConcurrentEvent extends UnknownCollector
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return PATTERN.matcher(logLine).matches();
+        return scan(logLine, null) || PATTERN.matcher(logLine).matches();
+    }
+
+    /**
+     * Scan the common logging (a phase name with optional combined sizes and duration) without the regular
+     * expression, the same as the regular expression would parse it.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param event
+     *            The event to set the fields of, or null to only test the log line.
+     * @return true if the log line was scanned, false if it must be matched with the regular expression.
+     */
+    static final boolean scan(String logLine, UnifiedConcurrentEvent event) {
+        LineScanner scanner = new LineScanner(logLine);
+        if (!scanner.unifiedDecorator()) {
+            return false;
+        }
+        if (!(scanner.literal(" O: ") || scanner.literal(" Y: ") || scanner.literal(" y: ") || scanner.literal(' '))) {
+            return false;
+        }
+        int nameStart = scanner.getPosition();
+        int end = logLine.length();
+        while (end > nameStart && logLine.charAt(end - 1) == ' ') {
+            end--;
+        }
+        // The duration is the last word, or the last two words with a space before the units
+        int nameEnd = end;
+        long duration = 0;
+        if (end - nameStart > 2 && logLine.regionMatches(end - 2, "ms", 0, 2)) {
+            int durationStart = logLine.lastIndexOf(' ', end - 1);
+            if (durationStart == end - 3) {
+                durationStart = logLine.lastIndexOf(' ', durationStart - 1);
+            }
+            if (durationStart > nameStart) {
+                scanner.setPosition(durationStart + 1);
+                if (scanner.decimal(1, 15, 1, 3, 3)) {
+                    scanner.literal(' ');
+                    if (scanner.literal("ms") && scanner.end()) {
+                        nameEnd = durationStart;
+                        duration = (int) scanner.getNumber();
+                    }
+                }
+            }
+        }
+        // The combined sizes precede the duration
+        long combinedOccupancyInit = UNKNOWN_KILOBYTES;
+        long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
+        long combinedSpace = UNKNOWN_KILOBYTES;
+        int sizesStart = logLine.lastIndexOf(' ', nameEnd - 1);
+        if (sizesStart > nameStart && logLine.charAt(nameEnd - 1) == ')') {
+            scanner.setPosition(sizesStart + 1);
+            long occupancyInit;
+            long occupancyEnd;
+            long space;
+            if ((occupancyInit = scanner.memory()) != UNKNOWN_KILOBYTES && scanner.literal("->")
+                    && (occupancyEnd = scanner.memory()) != UNKNOWN_KILOBYTES && scanner.literal('(')
+                    && (space = scanner.memory()) != UNKNOWN_KILOBYTES && scanner.literal(')')
+                    && scanner.getPosition() == nameEnd) {
+                combinedOccupancyInit = occupancyInit;
+                combinedOccupancyEnd = occupancyEnd;
+                combinedSpace = space;
+                nameEnd = sizesStart;
+            }
+        }
+        // String deduplication phase names match any text, including a duration
+        if (logLine.startsWith("Concurrent String Deduplication", nameStart)
+                || !NAME_PATTERN.matcher(logLine).region(nameStart, nameEnd).matches()) {
+            return false;
+        }
+        if (event != null) {
+            event.duration = duration;
+            event.combinedOccupancyInit = combinedOccupancyInit;
+            event.combinedOccupancyEnd = combinedOccupancyEnd;
+            event.combinedSpace = combinedSpace;
+            event.timestamp = scanner.getTime() - JdkMath.convertMicrosToMillis(duration).longValue();
+        }
+        return true;
     }
 
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd;
+    private long classOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit;
+    private long classOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace;
+    private long classSpace = UNKNOWN_KILOBYTES;
 
     /**
      * Combined size at end of GC event.
      */
-    private Memory combinedOccupancyEnd;
+    private long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Combined size at beginning of GC event.
      */
-    private Memory combinedOccupancyInit;
+    private long combinedOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Combined available space.
      */
-    private Memory combinedSpace;
+    private long combinedSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -287,7 +376,23 @@ public class UnifiedConcurrentEvent extends UnknownCollector
      *            The log entry for the event.
      */
     public UnifiedConcurrentEvent(String logEntry) {
+        this(logEntry, true);
+    }
+
+    /**
+     * Create event from log entry, trying the scanner before the regular expression.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param scan
+     *            Whether to try the scanner (false to parse with the regular expression only, the reference for the
+     *            scanner).
+     */
+    UnifiedConcurrentEvent(String logEntry, boolean scan) {
         this.logEntry = logEntry;
+        if (scan && scan(logEntry, this)) {
+            return;
+        }
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 19) != null) {
@@ -312,46 +417,46 @@ public class UnifiedConcurrentEvent extends UnknownCollector
             }
             timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 8) != null) {
-                combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 15),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 17).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11).charAt(0));
+                combinedOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14).charAt(0));
+                combinedSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 15),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 17).charAt(0));
             }
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 24) != null) {
-                classOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 25),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27).charAt(0)).convertTo(KILOBYTES);
-                classOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 31),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 33).charAt(0)).convertTo(KILOBYTES);
-                classSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 34),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 36).charAt(0)).convertTo(KILOBYTES);
+                classOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 25),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27).charAt(0));
+                classOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 31),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 33).charAt(0));
+                classSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 34),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 36).charAt(0));
             }
         }
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public String getLogEntry() {
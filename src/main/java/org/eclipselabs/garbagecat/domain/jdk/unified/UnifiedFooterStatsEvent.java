@@ -16,10 +16,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import org.eclipselabs.garbagecat.domain.BlockEvent;
 import org.eclipselabs.garbagecat.domain.HeaderEvent;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
 /**
  * <p>
@@ -154,7 +156,7 @@ import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class UnifiedFooterStatsEvent implements UnifiedLogging, HeaderEvent, ThrowAwayEvent {
+public class UnifiedFooterStatsEvent implements UnifiedLogging, BlockEvent, HeaderEvent, ThrowAwayEvent {
     /**
      * Regular expression for the header.
      */
@@ -359,6 +361,13 @@ public class UnifiedFooterStatsEvent implements UnifiedLogging, HeaderEvent, Thr
         return timestamp;
     }
 
+    @Override
+    public boolean isBlockLine(String logLine) {
+        // Phase times logged at the same time (e.g. "[...]   Make Parsable  =  0.00 s (a =  19 us) ...")
+        int decoratorEnd = UnifiedUtil.getSameDecoratorEnd(logLine, logEntry);
+        return decoratorEnd > 0 && logLine.indexOf(" (a = ", decoratorEnd) > 0;
+    }
+
     @Override
     public boolean isEndstamp() {
         return false;
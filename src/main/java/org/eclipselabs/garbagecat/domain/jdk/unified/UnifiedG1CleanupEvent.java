@@ -12,8 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -90,17 +91,17 @@ public class UnifiedG1CleanupEvent extends G1Collector
     /**
      * Combined young + old generation size at end of GC event.
      */
-    private Memory combinedOccupancyEnd;
+    private long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Combined young + old generation size at beginning of GC event.
      */
-    private Memory combinedOccupancyInit;
+    private long combinedOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Combined young + old generation allocation.
      */
-    private Memory combinedSpace;
+    private long combinedSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -164,12 +165,12 @@ public class UnifiedG1CleanupEvent extends G1Collector
                         endTimestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                     }
                 }
-                combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3).charAt(0));
+                combinedOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6).charAt(0));
+                combinedSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9).charAt(0));
                 duration = JdkMath.roundMillis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10)).intValue();
                 timestamp = endTimestamp - JdkMath.convertMicrosToMillis(duration).longValue();
                 timeUser = TimesData.NO_DATA;
@@ -196,12 +197,12 @@ public class UnifiedG1CleanupEvent extends G1Collector
                         timestamp = JdkUtil.convertDatestampToMillis(matcher.group(2));
                     }
                 }
-                combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3).charAt(0)).convertTo(KILOBYTES);
-                combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6).charAt(0)).convertTo(KILOBYTES);
-                combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9).charAt(0)).convertTo(KILOBYTES);
+                combinedOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3).charAt(0));
+                combinedOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6).charAt(0));
+                combinedSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 9).charAt(0));
                 duration = JdkMath.roundMillis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10)).intValue();
                 if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11) != null) {
                     timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12)).intValue();
@@ -232,15 +233,15 @@ public class UnifiedG1CleanupEvent extends G1Collector
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
@@ -12,8 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -123,31 +124,31 @@ public class UnifiedG1FullGcEvent extends G1Collector implements UnifiedLogging,
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd = Memory.ZERO;
+    private long classOccupancyEnd;
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit = Memory.ZERO;
+    private long classOccupancyInit;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace = Memory.ZERO;
+    private long classSpace;
 
     /**
      * Combined young + old generation size at end of GC event.
      */
-    private Memory combinedOccupancyEnd;
+    private long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Combined young + old generation size at beginning of GC event.
      */
-    private Memory combinedOccupancyInit;
+    private long combinedOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Combined young + old generation allocation.
      */
-    private Memory combinedSpace;
+    private long combinedSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -203,19 +204,19 @@ public class UnifiedG1FullGcEvent extends G1Collector implements UnifiedLogging,
             }
             trigger = GcTrigger.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1));
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4) != null) {
-                classOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7).charAt(0)).convertTo(KILOBYTES);
-                classOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14).charAt(0)).convertTo(KILOBYTES);
-                classSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 15),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 17).charAt(0)).convertTo(KILOBYTES);
+                classOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7).charAt(0));
+                classOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14).charAt(0));
+                classSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 15),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 17).charAt(0));
             }
-            combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 18),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 20).charAt(0)).convertTo(KILOBYTES);
-            combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 21),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 23).charAt(0)).convertTo(KILOBYTES);
-            combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 24),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 26).charAt(0)).convertTo(KILOBYTES);
+            combinedOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 18),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 20).charAt(0));
+            combinedOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 21),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 23).charAt(0));
+            combinedSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 24),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 26).charAt(0));
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 28) != null) {
                 timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 29)).intValue();
                 timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30)).intValue();
@@ -244,27 +245,27 @@ public class UnifiedG1FullGcEvent extends G1Collector implements UnifiedLogging,
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
@@ -316,14 +317,14 @@ public class UnifiedG1FullGcEvent extends G1Collector implements UnifiedLogging,
     }
 
     protected void setClassSpace(Memory classSpace) {
-        this.classOccupancyInit = classSpace;
+        this.classOccupancyInit = kilobytesValue(classSpace);
     }
 
     protected void setClassSpaceAllocation(Memory classSpaceAllocation) {
-        this.classSpace = classSpaceAllocation;
+        this.classSpace = kilobytesValue(classSpaceAllocation);
     }
 
     protected void setClassSpaceOccupancyEnd(Memory classSpaceEnd) {
-        this.classOccupancyEnd = classSpaceEnd;
+        this.classOccupancyEnd = kilobytesValue(classSpaceEnd);
     }
 }
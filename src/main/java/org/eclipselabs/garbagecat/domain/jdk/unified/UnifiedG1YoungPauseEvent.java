@@ -12,8 +12,10 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
 import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -35,6 +37,7 @@ import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.LineScanner;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
@@ -111,6 +114,17 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
 
     private static final Pattern PATTERN = Pattern.compile(UnifiedG1YoungPauseEvent._REGEX);
 
+    /**
+     * RegEx pattern for the gc,start tags.
+     */
+    private static final Pattern TAG_GC_START_PATTERN = Pattern.compile(UnifiedRegEx.TAG_GC_START);
+
+    /**
+     * Triggers recognized by the scanner, the literals in {@link #__TRIGGER}.
+     */
+    private static final GcTrigger[] TRIGGERS = { GcTrigger.G1_EVACUATION_PAUSE, GcTrigger.G1_HUMONGOUS_ALLOCATION,
+            GcTrigger.G1_PREVENTIVE_COLLECTION, GcTrigger.GCLOCKER_INITIATED_GC, GcTrigger.METADATA_GC_THRESHOLD };
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -119,38 +133,160 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return PATTERN.matcher(logLine).matches();
+        return scan(logLine, null) || PATTERN.matcher(logLine).matches();
+    }
+
+    /**
+     * Scan the common logging without the regular expression, the same as the regular expression would parse it.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param event
+     *            The event to set the fields of, or null to only test the log line.
+     * @return true if the log line was scanned, false if it must be matched with the regular expression.
+     */
+    static final boolean scan(String logLine, UnifiedG1YoungPauseEvent event) {
+        LineScanner scanner = new LineScanner(logLine);
+        if (!(scanner.unifiedDecorator() && scanner.literal(" Pause Young"))) {
+            return false;
+        }
+        if (!scanner.literal(" (Normal)")) {
+            scanner.literal(" (Concurrent Start)");
+        }
+        if (!scanner.literal(" (")) {
+            return false;
+        }
+        GcTrigger trigger = scanner.trigger(TRIGGERS);
+        if (trigger == null || !scanner.literal(") ")) {
+            return false;
+        }
+        long extRootScanningTime = G1ExtRootScanningData.NO_DATA;
+        if (scanner.literal("Ext Root Scanning (ms): ")) {
+            if (!(scanner.decimal(1, 15, 1, 1, 3) && scanner.literal(' '))) {
+                return false;
+            }
+            extRootScanningTime = (int) scanner.getNumber();
+        }
+        scanner.literal("To-space exhausted ");
+        long otherTime = OtherTime.NO_DATA;
+        if (scanner.otherTime()) {
+            if (!scanner.literal(' ')) {
+                return false;
+            }
+            otherTime = (int) scanner.getNumber();
+        }
+        if (scanner.literal("Humongous regions: ")) {
+            if (!(scanner.digits(1, 18) && scanner.literal("->") && scanner.digits(1, 18) && scanner.literal(' '))) {
+                return false;
+            }
+        }
+        long classOccupancyInit = 0;
+        long classOccupancyEnd = 0;
+        long classSpace = 0;
+        if (scanner.literal("Metaspace: ")) {
+            if ((classOccupancyInit = scanner.memory()) == UNKNOWN_KILOBYTES) {
+                return false;
+            }
+            if (scanner.literal('(') && !(scanner.memory() != UNKNOWN_KILOBYTES && scanner.literal(')'))) {
+                return false;
+            }
+            if (!(scanner.literal("->") && (classOccupancyEnd = scanner.memory()) != UNKNOWN_KILOBYTES
+                    && scanner.literal('(') && (classSpace = scanner.memory()) != UNKNOWN_KILOBYTES
+                    && scanner.literal(") "))) {
+                return false;
+            }
+        }
+        long combinedOccupancyInit;
+        long combinedOccupancyEnd;
+        long combinedSpace;
+        if ((combinedOccupancyInit = scanner.memory()) == UNKNOWN_KILOBYTES || !scanner.literal("->")
+                || (combinedOccupancyEnd = scanner.memory()) == UNKNOWN_KILOBYTES || !scanner.literal('(')
+                || (combinedSpace = scanner.memory()) == UNKNOWN_KILOBYTES || !scanner.literal(") ")
+                || !scanner.decimal(1, 15, 1, 3, 3)) {
+            return false;
+        }
+        long eventTime = (int) scanner.getNumber();
+        scanner.literal(' ');
+        if (!scanner.literal("ms")) {
+            return false;
+        }
+        int timeUser = TimesData.NO_DATA;
+        int timeSys = TimesData.NO_DATA;
+        int timeReal = TimesData.NO_DATA;
+        if (scanner.literal(" User=")) {
+            if (!(scanner.decimal(1, 5, 2, 2, 2) && scanner.literal("s Sys="))) {
+                return false;
+            }
+            timeUser = (int) scanner.getNumber();
+            if (!(scanner.decimal(1, 5, 2, 2, 2) && scanner.literal("s Real="))) {
+                return false;
+            }
+            timeSys = (int) scanner.getNumber();
+            if (!(scanner.decimal(1, 5, 2, 2, 2) && scanner.literal('s'))) {
+                return false;
+            }
+            timeReal = (int) scanner.getNumber();
+        }
+        if (!scanner.end()) {
+            return false;
+        }
+        if (event != null) {
+            long time = scanner.getTime();
+            if (time < 0) {
+                // Let the regular expression report the time warp
+                return false;
+            }
+            event.eventTime = eventTime;
+            if (!event.isEndstamp()) {
+                event.timestamp = time;
+            } else {
+                event.timestamp = time - JdkMath.convertMicrosToMillis(eventTime).longValue();
+            }
+            event.trigger = trigger;
+            event.extRootScanningTime = extRootScanningTime;
+            event.otherTime = otherTime;
+            event.classOccupancyInit = classOccupancyInit;
+            event.classOccupancyEnd = classOccupancyEnd;
+            event.classSpace = classSpace;
+            event.combinedOccupancyInit = combinedOccupancyInit;
+            event.combinedOccupancyEnd = combinedOccupancyEnd;
+            event.combinedSpace = combinedSpace;
+            event.timeUser = timeUser;
+            event.timeSys = timeSys;
+            event.timeReal = timeReal;
+        }
+        return true;
     }
 
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd = Memory.ZERO;
+    private long classOccupancyEnd;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit = Memory.ZERO;
+    private long classOccupancyInit;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace = Memory.ZERO;
+    private long classSpace;
 
     /**
      * Combined young + old generation size at end of GC event.
      */
-    private Memory combinedOccupancyEnd;
+    private long combinedOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Combined young + old generation size at beginning of GC event.
      */
-    private Memory combinedOccupancyInit;
+    private long combinedOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Combined young + old generation allocation.
      */
-    private Memory combinedSpace;
+    private long combinedSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -202,7 +338,23 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
      *            The log entry for the event.
      */
     public UnifiedG1YoungPauseEvent(String logEntry) {
+        this(logEntry, true);
+    }
+
+    /**
+     * Create event from log entry, trying the scanner before the regular expression.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param scan
+     *            Whether to try the scanner (false to parse with the regular expression only, the reference for the
+     *            scanner).
+     */
+    UnifiedG1YoungPauseEvent(String logEntry, boolean scan) {
         this.logEntry = logEntry;
+        if (scan && scan(logEntry, this)) {
+            return;
+        }
         Matcher matcher = PATTERN.matcher(logEntry);
         if (matcher.find()) {
             eventTime = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 33)).intValue();
@@ -225,19 +377,19 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
                 otherTime = OtherTime.NO_DATA;
             }
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10) != null) {
-                classOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13).charAt(0)).convertTo(KILOBYTES);
-                classOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 18),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 20).charAt(0)).convertTo(KILOBYTES);
-                classSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 21),
-                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 23).charAt(0)).convertTo(KILOBYTES);
+                classOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13).charAt(0));
+                classOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 18),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 20).charAt(0));
+                classSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 21),
+                        matcher.group(UnifiedRegEx.DECORATOR_SIZE + 23).charAt(0));
             }
-            combinedOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 24),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 26).charAt(0)).convertTo(KILOBYTES);
-            combinedOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 29).charAt(0)).convertTo(KILOBYTES);
-            combinedSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 32).charAt(0)).convertTo(KILOBYTES);
+            combinedOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 24),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 26).charAt(0));
+            combinedOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 29).charAt(0));
+            combinedSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 32).charAt(0));
             if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 34) != null) {
                 timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 35)).intValue();
                 timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 36)).intValue();
@@ -266,27 +418,27 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public Memory getCombinedOccupancyEnd() {
-        return combinedOccupancyEnd;
+        return kilobytesOrNull(combinedOccupancyEnd);
     }
 
     public Memory getCombinedOccupancyInit() {
-        return combinedOccupancyInit;
+        return kilobytesOrNull(combinedOccupancyInit);
     }
 
     public Memory getCombinedSpace() {
-        return combinedSpace;
+        return kilobytesOrNull(combinedSpace);
     }
 
     public long getDurationMicros() {
@@ -342,7 +494,7 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
     public boolean isEndstamp() {
         // default assumes gc,start not logged (e.g. not preprocessed)
         boolean isEndStamp = true;
-        isEndStamp = !logEntry.matches(UnifiedRegEx.TAG_GC_START);
+        isEndStamp = !TAG_GC_START_PATTERN.matcher(logEntry).matches();
         return isEndStamp;
     }
 
@@ -356,14 +508,14 @@ public class UnifiedG1YoungPauseEvent extends G1Collector implements UnifiedLogg
     }
 
     protected void setClassSpace(Memory classSpace) {
-        this.classOccupancyInit = classSpace;
+        this.classOccupancyInit = kilobytesValue(classSpace);
     }
 
     protected void setClassSpaceAllocation(Memory classSpaceAllocation) {
-        this.classSpace = classSpaceAllocation;
+        this.classSpace = kilobytesValue(classSpaceAllocation);
     }
 
     protected void setClassSpaceEnd(Memory classSpaceEnd) {
-        this.classOccupancyEnd = classSpaceEnd;
+        this.classOccupancyEnd = kilobytesValue(classSpaceEnd);
     }
 }
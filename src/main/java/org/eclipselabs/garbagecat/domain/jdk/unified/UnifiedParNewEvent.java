@@ -12,8 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -92,17 +93,17 @@ public class UnifiedParNewEvent extends CmsCollector implements UnifiedLogging,
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd;
+    private long classOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit;
+    private long classOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace;
+    private long classSpace = UNKNOWN_KILOBYTES;
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
      */
@@ -116,17 +117,17 @@ public class UnifiedParNewEvent extends CmsCollector implements UnifiedLogging,
     /**
      * Old generation occupancy at end of GC event.
      */
-    private Memory oldOccupancyEnd;
+    private long oldOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Old generation occupancy at beginning of GC event.
      */
-    private Memory oldOccupancyInit;
+    private long oldOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to old generation.
      */
-    private Memory oldSpace;
+    private long oldSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The wall (clock) time in centiseconds.
@@ -156,17 +157,17 @@ public class UnifiedParNewEvent extends CmsCollector implements UnifiedLogging,
     /**
      * Young generation occupancy at end of GC event.
      */
-    private Memory youngOccupancyEnd;
+    private long youngOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Young generation occupancy at beginning of GC event.
      */
-    private Memory youngOccupancyInit;
+    private long youngOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Available space in young generation. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngSpace;
+    private long youngSpace = UNKNOWN_KILOBYTES;
 
     /**
      * 
@@ -195,24 +196,24 @@ public class UnifiedParNewEvent extends CmsCollector implements UnifiedLogging,
                 }
             }
             trigger = GcTrigger.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1));
-            youngOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4).charAt(0)).convertTo(KILOBYTES);
-            youngOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7).charAt(0)).convertTo(KILOBYTES);
-            youngSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 8),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10).charAt(0)).convertTo(KILOBYTES);
-            oldOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13).charAt(0)).convertTo(KILOBYTES);
-            oldOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 16).charAt(0)).convertTo(KILOBYTES);
-            oldSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 17),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 19).charAt(0)).convertTo(KILOBYTES);
-            classOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 20),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 22).charAt(0)).convertTo(KILOBYTES);
-            classOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 29).charAt(0)).convertTo(KILOBYTES);
-            classSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 32).charAt(0)).convertTo(KILOBYTES);
+            youngOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4).charAt(0));
+            youngOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 7).charAt(0));
+            youngSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 8),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10).charAt(0));
+            oldOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 11),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13).charAt(0));
+            oldOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 14),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 16).charAt(0));
+            oldSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 17),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 19).charAt(0));
+            classOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 20),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 22).charAt(0));
+            classOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 29).charAt(0));
+            classSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 32).charAt(0));
             duration = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 42)).intValue();
             timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 44)).intValue();
             timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 45)).intValue();
@@ -237,15 +238,15 @@ public class UnifiedParNewEvent extends CmsCollector implements UnifiedLogging,
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public long getDurationMicros() {
@@ -266,15 +267,15 @@ public class UnifiedParNewEvent extends CmsCollector implements UnifiedLogging,
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldOccupancyEnd;
+        return kilobytesOrNull(oldOccupancyEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return oldOccupancyInit;
+        return kilobytesOrNull(oldOccupancyInit);
     }
 
     public Memory getOldSpace() {
-        return oldSpace;
+        return kilobytesOrNull(oldSpace);
     }
 
     public int getParallelism() {
@@ -307,15 +308,15 @@ public class UnifiedParNewEvent extends CmsCollector implements UnifiedLogging,
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngOccupancyEnd;
+        return kilobytesOrNull(youngOccupancyEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return youngOccupancyInit;
+        return kilobytesOrNull(youngOccupancyInit);
     }
 
     public Memory getYoungSpace() {
-        return youngSpace;
+        return kilobytesOrNull(youngSpace);
     }
 
     public boolean isEndstamp() {
@@ -324,15 +325,15 @@ public class UnifiedParNewEvent extends CmsCollector implements UnifiedLogging,
     }
 
     protected void setClassSpace(Memory classSpace) {
-        this.classOccupancyInit = classSpace;
+        this.classOccupancyInit = kilobytesValue(classSpace);
     }
 
     protected void setClassSpaceAllocation(Memory classSpaceAllocation) {
-        this.classSpace = classSpaceAllocation;
+        this.classSpace = kilobytesValue(classSpaceAllocation);
     }
 
     protected void setClassSpaceEnd(Memory classSpaceEnd) {
-        this.classOccupancyEnd = classSpaceEnd;
+        this.classOccupancyEnd = kilobytesValue(classSpaceEnd);
     }
 
     protected void setTrigger(GcTrigger trigger) {
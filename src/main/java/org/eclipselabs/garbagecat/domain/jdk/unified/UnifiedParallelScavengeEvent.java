@@ -12,8 +12,9 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import static org.eclipselabs.garbagecat.util.Memory.memory;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesOrNull;
+import static org.eclipselabs.garbagecat.util.Memory.kilobytesValue;
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -114,17 +115,17 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
     /**
      * Permanent generation or metaspace occupancy at end of GC event.
      */
-    private Memory classOccupancyEnd;
+    private long classOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Permanent generation or metaspace occupancy at beginning of GC event.
      */
-    private Memory classOccupancyInit;
+    private long classOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to permanent generation or metaspace.
      */
-    private Memory classSpace;
+    private long classSpace = UNKNOWN_KILOBYTES;
 
     /**
      * The elapsed clock time for the GC event in microseconds (rounded).
@@ -139,17 +140,17 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
     /**
      * Old generation occupancy at end of GC event.
      */
-    private Memory oldOccupancyEnd;
+    private long oldOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Old generation occupancy at beginning of GC event.
      */
-    private Memory oldOccupancyInit;
+    private long oldOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Space allocated to old generation.
      */
-    private Memory oldSpace;
+    private long oldSpace = UNKNOWN_KILOBYTES;
     /**
      * The wall (clock) time in centiseconds.
      */
@@ -174,17 +175,17 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
     /**
      * Young generation occupancy at end of GC event.
      */
-    private Memory youngOccupancyEnd;
+    private long youngOccupancyEnd = UNKNOWN_KILOBYTES;
 
     /**
      * Young generation occupancy at beginning of GC event.
      */
-    private Memory youngOccupancyInit;
+    private long youngOccupancyInit = UNKNOWN_KILOBYTES;
 
     /**
      * Available space in young generation. Equals young generation allocation minus one survivor space.
      */
-    private Memory youngSpace;
+    private long youngSpace = UNKNOWN_KILOBYTES;
 
     /**
      * 
@@ -213,24 +214,24 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
                 }
             }
             trigger = GcTrigger.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1));
-            youngOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5).charAt(0)).convertTo(KILOBYTES);
-            youngOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12).charAt(0)).convertTo(KILOBYTES);
-            youngSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 15).charAt(0)).convertTo(KILOBYTES);
-            oldOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 17),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 19).charAt(0)).convertTo(KILOBYTES);
-            oldOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 24),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 26).charAt(0)).convertTo(KILOBYTES);
-            oldSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 29).charAt(0)).convertTo(KILOBYTES);
-            classOccupancyInit = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 32).charAt(0)).convertTo(KILOBYTES);
-            classOccupancyEnd = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 37),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 39).charAt(0)).convertTo(KILOBYTES);
-            classSpace = memory(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 40),
-                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 42).charAt(0)).convertTo(KILOBYTES);
+            youngOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5).charAt(0));
+            youngOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 12).charAt(0));
+            youngSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 13),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 15).charAt(0));
+            oldOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 17),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 19).charAt(0));
+            oldOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 24),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 26).charAt(0));
+            oldSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 27),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 29).charAt(0));
+            classOccupancyInit = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 30),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 32).charAt(0));
+            classOccupancyEnd = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 37),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 39).charAt(0));
+            classSpace = kilobytesValue(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 40),
+                    matcher.group(UnifiedRegEx.DECORATOR_SIZE + 42).charAt(0));
             duration = JdkMath.convertMillisToMicros(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 52)).intValue();
             timeUser = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 54)).intValue();
             timeSys = JdkMath.convertSecsToCentis(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 55)).intValue();
@@ -255,15 +256,15 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
     }
 
     public Memory getClassOccupancyEnd() {
-        return classOccupancyEnd;
+        return kilobytesOrNull(classOccupancyEnd);
     }
 
     public Memory getClassOccupancyInit() {
-        return classOccupancyInit;
+        return kilobytesOrNull(classOccupancyInit);
     }
 
     public Memory getClassSpace() {
-        return classSpace;
+        return kilobytesOrNull(classSpace);
     }
 
     public long getDurationMicros() {
@@ -284,15 +285,15 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
     }
 
     public Memory getOldOccupancyEnd() {
-        return oldOccupancyEnd;
+        return kilobytesOrNull(oldOccupancyEnd);
     }
 
     public Memory getOldOccupancyInit() {
-        return oldOccupancyInit;
+        return kilobytesOrNull(oldOccupancyInit);
     }
 
     public Memory getOldSpace() {
-        return oldSpace;
+        return kilobytesOrNull(oldSpace);
     }
 
     public int getParallelism() {
@@ -325,15 +326,15 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
     }
 
     public Memory getYoungOccupancyEnd() {
-        return youngOccupancyEnd;
+        return kilobytesOrNull(youngOccupancyEnd);
     }
 
     public Memory getYoungOccupancyInit() {
-        return youngOccupancyInit;
+        return kilobytesOrNull(youngOccupancyInit);
     }
 
     public Memory getYoungSpace() {
-        return youngSpace;
+        return kilobytesOrNull(youngSpace);
     }
 
     public boolean isEndstamp() {
@@ -342,15 +343,15 @@ public class UnifiedParallelScavengeEvent extends ParallelCollector implements U
     }
 
     protected void setClassSpace(Memory classSpace) {
-        this.classOccupancyInit = classSpace;
+        this.classOccupancyInit = kilobytesValue(classSpace);
     }
 
     protected void setClassSpaceAllocation(Memory classSpaceAllocation) {
-        this.classSpace = classSpaceAllocation;
+        this.classSpace = kilobytesValue(classSpaceAllocation);
     }
 
     protected void setClassSpaceEnd(Memory classSpaceEnd) {
-        this.classOccupancyEnd = classSpaceEnd;
+        this.classOccupancyEnd = kilobytesValue(classSpaceEnd);
     }
 
     protected void setTrigger(GcTrigger trigger) {
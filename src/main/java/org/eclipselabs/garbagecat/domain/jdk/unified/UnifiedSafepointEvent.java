@@ -12,6 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -19,6 +21,7 @@ import org.eclipselabs.garbagecat.domain.SafepointEvent;
 import org.eclipselabs.garbagecat.preprocess.jdk.unified.UnifiedPreprocessAction;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.LineScanner;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedSafepoint.Trigger;
@@ -160,6 +163,19 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
      */
     public static final Pattern PATTERN_JDK17 = Pattern.compile(_REGEX_JDK17);
 
+    /**
+     * The <code>Trigger</code> for each trigger literal matched by <code>UnifiedSafepoint.triggerRegEx</code>.
+     */
+    private static final Map<String, Trigger> TRIGGERS = new HashMap<>();
+
+    static {
+        for (Trigger trigger : Trigger.values()) {
+            if (trigger != Trigger.EXIT && trigger != Trigger.HALT && trigger != Trigger.UNKNOWN) {
+                TRIGGERS.put(UnifiedSafepoint.getTriggerLiteral(trigger), trigger);
+            }
+        }
+    }
+
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
      * 
@@ -168,9 +184,118 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        return PATTERN.matcher(logLine).matches() || PATTERN_JDK17.matcher(logLine).matches();
+        return scan(logLine, null) || PATTERN.matcher(logLine).matches()
+                || PATTERN_JDK17.matcher(logLine).matches();
     }
 
+    /**
+     * Scan the common logging without the regular expressions, the same as the regular expressions would parse it.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param event
+     *            The event to set the fields of, or null to only test the log line.
+     * @return true if the log line was scanned, false if it must be matched with the regular expressions.
+     */
+    static final boolean scan(String logLine, UnifiedSafepointEvent event) {
+        LineScanner scanner = new LineScanner(logLine);
+        if (!scanner.unifiedDecorator()) {
+            return false;
+        }
+        long time = event == null ? 0 : scanner.getTime();
+        boolean jdk17 = !scanner.literal(" Entering safepoint region: ");
+        boolean jdk17u8 = false;
+        if (jdk17) {
+            if (!scanner.literal(' ')) {
+                return false;
+            }
+            jdk17u8 = scanner.literal(UnifiedPreprocessAction.JDK17U8.name());
+            if ((jdk17u8 && !scanner.literal(' ')) || !scanner.literal("Safepoint \"")) {
+                return false;
+            }
+        }
+        int triggerEnd = logLine.indexOf(jdk17 ? '"' : '[', scanner.getPosition());
+        if (triggerEnd < 0) {
+            return false;
+        }
+        Trigger trigger = TRIGGERS.get(logLine.substring(scanner.getPosition(), triggerEnd));
+        if (trigger == null) {
+            return false;
+        }
+        scanner.setPosition(triggerEnd);
+        long timeCleanup = 0;
+        long timeThreadsStopped;
+        long timeToStopThreads;
+        if (jdk17) {
+            if (!(scanner.literal("\", Time since last: ") && scanner.digits(1, 18)
+                    && scanner.literal(" ns, Reaching safepoint: ") && scanner.digits(1, 18))) {
+                return false;
+            }
+            timeToStopThreads = scanner.getNumber();
+            if (!scanner.literal(" ns")) {
+                return false;
+            }
+            if (scanner.literal(", Cleanup: ")) {
+                if (!(scanner.digits(1, 18) && scanner.literal(" ns"))) {
+                    return false;
+                }
+                timeCleanup = scanner.getNumber();
+            }
+            if (!(scanner.literal(", At safepoint: ") && scanner.digits(1, 18))) {
+                return false;
+            }
+            timeThreadsStopped = scanner.getNumber();
+            if (!(scanner.literal(" ns, Total: ") && scanner.digits(1, 18) && scanner.literal(" ns")
+                    && scanner.end())) {
+                return false;
+            }
+            if (time < 0) {
+                // Let the regular expression report the time warp
+                return false;
+            }
+        } else {
+            if (!(scanner.unifiedDecorator() && scanner.literal(" Leaving safepoint region")
+                    && scanner.unifiedDecorator()
+                    && scanner.literal(" Total time for which application threads were stopped: ")
+                    && scanner.decimal(1, 9, 7, 7, 9))) {
+                return false;
+            }
+            timeThreadsStopped = scanner.getNumber();
+            if (!(scanner.literal(" seconds, Stopping threads took: ") && scanner.decimal(1, 9, 7, 7, 9))) {
+                return false;
+            }
+            timeToStopThreads = scanner.getNumber();
+            if (!(scanner.literal(" seconds") && scanner.end())) {
+                return false;
+            }
+        }
+        if (event != null) {
+            event.trigger = trigger;
+            event.timeCleanup = timeCleanup;
+            event.timeThreadsStopped = timeThreadsStopped;
+            event.timeToStopThreads = timeToStopThreads;
+            event.endstamp = jdk17;
+            event.jdk17u8 = jdk17u8;
+            if (jdk17) {
+                event.timestamp = time - JdkMath.convertNanosToMillis(event.getDurationNanos()).longValue();
+            } else {
+                event.timestamp = time;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the logging is JDK17+, output on a single line at the end of the safepoint.
+     */
+    private boolean endstamp;
+
+    /**
+     * Whether the logging is JDK17 update 8 or later, which does not include {@link #timeCleanup} in
+     * {@link #timeToStopThreads}.
+     */
+    private boolean jdk17u8;
+
     /**
      * The log entry for the event. Can be used for debugging purposes.
      */
@@ -211,7 +336,23 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
      *            The log entry for the event.
      */
     public UnifiedSafepointEvent(String logEntry) {
+        this(logEntry, true);
+    }
+
+    /**
+     * Create event from log entry, trying the scanner before the regular expressions.
+     * 
+     * @param logEntry
+     *            The log entry for the event.
+     * @param scan
+     *            Whether to try the scanner (false to parse with the regular expressions only, the reference for the
+     *            scanner).
+     */
+    UnifiedSafepointEvent(String logEntry, boolean scan) {
         this.logEntry = logEntry;
+        if (scan && scan(logEntry, this)) {
+            return;
+        }
         Matcher matcher;
         if ((matcher = PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
@@ -243,6 +384,8 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
             matcher.reset();
             if (matcher.find()) {
                 trigger = UnifiedSafepoint.getTrigger(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3));
+                endstamp = true;
+                jdk17u8 = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2) != null;
                 timeToStopThreads = Long.parseLong(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 4));
                 if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5) != null) {
                     timeCleanup = Long.parseLong(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6));
@@ -266,13 +409,8 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
      */
     public long getDurationNanos() {
         long durationNanos;
-        Matcher matcher = PATTERN_JDK17.matcher(logEntry);
-        if (matcher.matches()) {
-            if (matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2) != null) {
-                durationNanos = timeThreadsStopped + timeToStopThreads + timeCleanup;
-            } else {
-                durationNanos = timeThreadsStopped + timeToStopThreads;
-            }
+        if (jdk17u8) {
+            durationNanos = timeThreadsStopped + timeToStopThreads + timeCleanup;
         } else {
             durationNanos = timeThreadsStopped + timeToStopThreads;
         }
@@ -313,7 +451,7 @@ public class UnifiedSafepointEvent implements SafepointEvent, UnifiedLogging {
     }
 
     public boolean isEndstamp() {
-        return PATTERN_JDK17.matcher(logEntry).matches();
+        return endstamp;
     }
 
 }
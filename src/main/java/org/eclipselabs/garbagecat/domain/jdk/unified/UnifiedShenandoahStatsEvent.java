@@ -16,11 +16,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import org.eclipselabs.garbagecat.domain.BlockEvent;
 import org.eclipselabs.garbagecat.domain.HeaderEvent;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.domain.jdk.ShenandoahCollector;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
 /**
  * <p>
@@ -102,7 +104,7 @@ import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
  * 
  */
 public class UnifiedShenandoahStatsEvent extends ShenandoahCollector
-        implements UnifiedLogging, HeaderEvent, ThrowAwayEvent {
+        implements UnifiedLogging, BlockEvent, HeaderEvent, ThrowAwayEvent {
     /**
      * Regular expression for the header.
      */
@@ -212,6 +214,13 @@ public class UnifiedShenandoahStatsEvent extends ShenandoahCollector
         return 0;
     }
 
+    @Override
+    public boolean isBlockLine(String logLine) {
+        // Phase times logged at the same time (e.g. "[...]   Scan Roots   953 us, parallelism: 1.40x")
+        return UnifiedUtil.getSameDecoratorEnd(logLine, logEntry) > 0
+                && (logLine.endsWith(" us") || logLine.contains(" us,"));
+    }
+
     @Override
     public boolean isEndstamp() {
         return false;
@@ -12,15 +12,14 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk.unified;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
-
+import org.eclipselabs.garbagecat.domain.BlockEvent;
 import org.eclipselabs.garbagecat.domain.HeaderEvent;
 import org.eclipselabs.garbagecat.domain.ThrowAwayEvent;
 import org.eclipselabs.garbagecat.domain.jdk.UnknownCollector;
+import org.eclipselabs.garbagecat.util.jdk.CombinedRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
 /**
  * <p>
@@ -182,7 +181,7 @@ import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
  * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
  * 
  */
-public class ZStatsEvent extends UnknownCollector implements UnifiedLogging, HeaderEvent, ThrowAwayEvent {
+public class ZStatsEvent extends UnknownCollector implements UnifiedLogging, BlockEvent, HeaderEvent, ThrowAwayEvent {
     /**
      * Regular expression for the header.
      */
@@ -207,13 +206,7 @@ public class ZStatsEvent extends UnknownCollector implements UnifiedLogging, Hea
             "^(" + UnifiedRegEx.DECORATOR + ") ={153}$"
             //
     };
-    private static final List<Pattern> REGEX_PATTERN_LIST = new ArrayList<>(REGEX.length);
-
-    static {
-        for (String regex : REGEX) {
-            REGEX_PATTERN_LIST.add(Pattern.compile(regex));
-        }
-    }
+    private static final CombinedRegEx REGEX_COMBINED = CombinedRegEx.ofUnified(REGEX);
 
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
@@ -223,15 +216,7 @@ public class ZStatsEvent extends UnknownCollector implements UnifiedLogging, Hea
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine) {
-        boolean match = false;
-        for (int i = 0; i < REGEX_PATTERN_LIST.size(); i++) {
-            Pattern pattern = REGEX_PATTERN_LIST.get(i);
-            if (pattern.matcher(logLine).matches()) {
-                match = true;
-                break;
-            }
-        }
-        return match;
+        return REGEX_COMBINED.matches(logLine);
     }
 
     /**
@@ -266,11 +251,30 @@ public class ZStatsEvent extends UnknownCollector implements UnifiedLogging, Hea
         return 0;
     }
 
+    @Override
+    public boolean isBlockLine(String logLine) {
+        // Logged at the same time, and the footer ends the block
+        return !isFooter() && UnifiedUtil.getSameDecoratorEnd(logLine, logEntry) > 0;
+    }
+
     @Override
     public boolean isEndstamp() {
         return false;
     }
 
+    /**
+     * @return true if the log entry is the "=====" line that ends the statistics block, false otherwise.
+     */
+    public boolean isFooter() {
+        boolean isFooter = false;
+        if (this.logEntry != null) {
+            int decoratorEnd = UnifiedUtil.getDecoratorEnd(logEntry);
+            isFooter = decoratorEnd >= 0 && logEntry.startsWith(" ===", decoratorEnd) && logEntry.endsWith("====")
+                    && logEntry.indexOf("Statistics", decoratorEnd) < 0;
+        }
+        return isFooter;
+    }
+
     @Override
     public boolean isHeader() {
         boolean isHeader = false;
@@ -12,6 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.preprocess;
 
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext.Token;
+
 /**
  * Base preprocessing action: (1) Separate entangled logging. (2) Condense multiple lines to a single line.
  * 
@@ -32,7 +34,7 @@ public interface PreprocessAction {
      * event that spans multiple lines). If the previous log entry did not end with a newline, one will need to be
      * appended before outputting the current entry.
      */
-    public static final String NEWLINE = "NEWLINE";
+    public static final Token NEWLINE = Token.NEWLINE;
 
     /**
      * @return The log entry for the action.
@@ -0,0 +1,122 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.preprocess;
+
+/**
+ * <p>
+ * The information preprocessing decisions are based on (e.g. the collector family of the multi-line event being
+ * assembled, or whether the next log entry starts on a new line).
+ * </p>
+ * 
+ * <p>
+ * The context is a fixed set of {@link Token}s, checked several times for every log line. Each token is a bit in a
+ * <code>long</code>, so checking and changing the context does not hash or allocate.
+ * </p>
+ * 
+ * <p>
+ * The bits are the token ordinals, so the context can be saved and restored as a number (e.g. in a snapshot). Add new
+ * tokens at the end.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class PreprocessContext {
+
+    /**
+     * Preprocessing context tokens.
+     */
+    public enum Token {
+        NEWLINE, APPLICATION_STOPPED_TIME, CMS, G1, PARALLEL, SERIAL, SHENANDOAH, BEGINNING_OF_SHENANDOAH,
+        //
+        BEGINNING_OF_SHENANDOAH_CONCURRENT, UNIFIED, JDK17U8, BEGINNING_OF_UNIFIED_G1_FULL_GC,
+        //
+        BEGINNING_OF_UNIFIED_G1_PAUSE_YOUNG, BEGINNING_OF_UNIFIED_OLD, BEGINNING_OF_UNIFIED_SAFEPOINT,
+        //
+        BEGINNING_OF_UNIFIED_SHENANDOAH, GC_START
+    }
+
+    /**
+     * The tokens in the context, one bit per token.
+     */
+    private long bits;
+
+    /**
+     * @param token
+     *            The token to add.
+     * @return true if the token was not already in the context, false otherwise.
+     */
+    public boolean add(Token token) {
+        long bit = 1L << token.ordinal();
+        boolean added = (bits & bit) == 0;
+        bits |= bit;
+        return added;
+    }
+
+    /**
+     * Remove all tokens.
+     */
+    public void clear() {
+        bits = 0;
+    }
+
+    /**
+     * @param token
+     *            The token to check.
+     * @return true if the token is in the context, false otherwise.
+     */
+    public boolean contains(Token token) {
+        return (bits & (1L << token.ordinal())) != 0;
+    }
+
+    /**
+     * @return The tokens in the context, one bit per token.
+     */
+    public long getBits() {
+        return bits;
+    }
+
+    /**
+     * @return true if there are no tokens in the context, false otherwise.
+     */
+    public boolean isEmpty() {
+        return bits == 0;
+    }
+
+    /**
+     * @param token
+     *            The token to remove.
+     * @return true if the token was in the context, false otherwise.
+     */
+    public boolean remove(Token token) {
+        long bit = 1L << token.ordinal();
+        boolean removed = (bits & bit) != 0;
+        bits &= ~bit;
+        return removed;
+    }
+
+    /**
+     * @param bits
+     *            The tokens in the context, one bit per token.
+     */
+    public void setBits(long bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * @return The number of tokens in the context.
+     */
+    public int size() {
+        return Long.bitCount(bits);
+    }
+}
@@ -13,12 +13,13 @@
 package org.eclipselabs.garbagecat.preprocess.jdk;
 
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.jdk.ApplicationStoppedTimeEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext.Token;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 
@@ -245,7 +246,7 @@ public class ApplicationStoppedTimePreprocessAction implements PreprocessAction
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. CMS, G1). This
      * context is necessary to detangle multi-line events where logging patterns are shared among preprocessors.
      */
-    public static final String TOKEN = "APPLICATION_STOPPED_TIME_PREPROCESS_ACTION_TOKEN";
+    public static final Token TOKEN = Token.APPLICATION_STOPPED_TIME;
 
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
@@ -266,13 +267,8 @@ public class ApplicationStoppedTimePreprocessAction implements PreprocessAction
     }
 
     /**
-     * The log entry for the event. Can be used for debugging purposes.
-     */
-    private String logEntry;
-
-    /**
-     * Create event from log entry.
-     *
+     * Preprocess an application stopped time log line, updating the context for the next log line.
+     * 
      * @param priorLogEntry
      *            The prior log line.
      * @param logEntry
@@ -283,61 +279,87 @@ public class ApplicationStoppedTimePreprocessAction implements PreprocessAction
      *            Log lines to be output out of order.
      * @param context
      *            Information to make preprocessing decisions.
+     * @return The preprocessed log entry, or null if the log line is thrown away.
      */
-    public ApplicationStoppedTimePreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
-            List<String> entangledLogLines, Set<String> context) {
-
+    public static String process(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        String preprocessedLogEntry = null;
         Matcher matcher;
         if ((matcher = REGEX_NO_PREPROCESSING_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(ApplicationStoppedTimePreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_DECORATOR_MISSING_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
                 // Remove colon
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(ApplicationStoppedTimePreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_DATESTAMP_DATESTAMP_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1) + ": " + matcher.group(19);
+                preprocessedLogEntry = matcher.group(1) + ": " + matcher.group(19);
             }
             context.add(ApplicationStoppedTimePreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_DATESTAMP_DATESTAMP_TIMESTAMP_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(11) + ": " + matcher.group(21) + ": " + matcher.group(23);
+                preprocessedLogEntry = matcher.group(11) + ": " + matcher.group(21) + ": " + matcher.group(23);
             }
             context.add(ApplicationStoppedTimePreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_DATESTAMP_TIMESTAMP_DATESTAMP_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1) + ": " + matcher.group(10) + ": " + matcher.group(20);
+                preprocessedLogEntry = matcher.group(1) + ": " + matcher.group(10) + ": " + matcher.group(20);
             }
             context.add(ApplicationStoppedTimePreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_DATESTAMP_DATESTAMP_TIMESTAMP_TIMESTAMP_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1) + ": " + matcher.group(21) + ": " + matcher.group(23);
+                preprocessedLogEntry = matcher.group(1) + ": " + matcher.group(21) + ": " + matcher.group(23);
             }
             context.add(ApplicationStoppedTimePreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_DATESTAMP_TIMESTAMP_DATESTAMP_TIMESTAMP_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1) + ": " + matcher.group(10) + ": " + matcher.group(21);
+                preprocessedLogEntry = matcher.group(1) + ": " + matcher.group(10) + ": " + matcher.group(21);
             }
             context.add(ApplicationStoppedTimePreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_TIMESTAMP_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1) + ": " + matcher.group(2);
+                preprocessedLogEntry = matcher.group(1) + ": " + matcher.group(2);
             }
             context.add(ApplicationStoppedTimePreprocessAction.NEWLINE);
         }
+        return preprocessedLogEntry;
+    }
+
+    /**
+     * The log entry for the event. Can be used for debugging purposes.
+     */
+    private String logEntry;
+
+    /**
+     * Create event from log entry.
+     *
+     * @param priorLogEntry
+     *            The prior log line.
+     * @param logEntry
+     *            The log line.
+     * @param nextLogEntry
+     *            The next log line.
+     * @param entangledLogLines
+     *            Log lines to be output out of order.
+     * @param context
+     *            Information to make preprocessing decisions.
+     */
+    public ApplicationStoppedTimePreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        this.logEntry = process(priorLogEntry, logEntry, nextLogEntry, entangledLogLines, context);
     }
 
     public String getLogEntry() {
@@ -14,12 +14,13 @@ package org.eclipselabs.garbagecat.preprocess.jdk;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext.Token;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
@@ -784,7 +785,7 @@ public class CmsPreprocessAction implements PreprocessAction {
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. CMS, G1). This
      * context is necessary to detangle multi-line events where logging patterns are shared among preprocessors.
      */
-    public static final String TOKEN = "CMS_PREPROCESS_ACTION_TOKEN";
+    public static final Token TOKEN = Token.CMS;
 
     static {
         for (String regex : REGEX_THROWAWAY) {
@@ -854,13 +855,8 @@ public class CmsPreprocessAction implements PreprocessAction {
     }
 
     /**
-     * The log entry for the event. Can be used for debugging purposes.
-     */
-    private String logEntry;
-
-    /**
-     * Create event from log entry.
-     *
+     * Preprocess a CMS collector log line, updating the context for the next log line.
+     * 
      * @param priorLogEntry
      *            The prior log line.
      * @param logEntry
@@ -871,10 +867,11 @@ public class CmsPreprocessAction implements PreprocessAction {
      *            Log lines to be output out of order.
      * @param context
      *            Information to make preprocessing decisions.
+     * @return The preprocessed log entry, or null if the log line is thrown away.
      */
-    public CmsPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
-            List<String> entangledLogLines, Set<String> context) {
-
+    public static String process(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        String preprocessedLogEntry = null;
         Matcher matcher;
         // Beginning logging
         if ((matcher = REGEX_RETAIN_BEGINNING_PARNEW_CONCURRENT_PATTERN.matcher(logEntry)).matches()) {
@@ -884,7 +881,7 @@ public class CmsPreprocessAction implements PreprocessAction {
                 entangledLogLines.add(matcher.group(52));
             }
             // Output beginning of PAR_NEW line
-            this.logEntry = matcher.group(1);
+            preprocessedLogEntry = matcher.group(1);
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_BEGINNING_PARNEW_FLS_STATISTICS_PATTERN.matcher(logEntry)).matches()) {
@@ -892,7 +889,7 @@ public class CmsPreprocessAction implements PreprocessAction {
             matcher.reset();
             if (matcher.matches()) {
                 // Output beginning of PAR_NEW line
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -903,21 +900,21 @@ public class CmsPreprocessAction implements PreprocessAction {
                 entangledLogLines.add(matcher.group(32));
             }
             // Output beginning of CMS_SERIAL_OLD line
-            this.logEntry = matcher.group(1);
+            preprocessedLogEntry = matcher.group(1);
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
 
         } else if ((matcher = REGEX_RETAIN_BEGINNING_SERIAL_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_BEGINNING_PARNEW_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -925,14 +922,14 @@ public class CmsPreprocessAction implements PreprocessAction {
             // Remove PrintHeapAtGC output
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_BEGINNING_SERIAL_BAILING_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -940,14 +937,14 @@ public class CmsPreprocessAction implements PreprocessAction {
                 .matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_BEGINNING_PARNEW_BAILING_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -955,7 +952,7 @@ public class CmsPreprocessAction implements PreprocessAction {
                 .matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1) + matcher.group(29);
+                preprocessedLogEntry = matcher.group(1) + matcher.group(29);
                 if (matcher.group(15) != null) {
                     entangledLogLines.add(matcher.group(15) + matcher.group(32));
                 } else {
@@ -968,7 +965,7 @@ public class CmsPreprocessAction implements PreprocessAction {
                 .matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1) + matcher.group(15);
+                preprocessedLogEntry = matcher.group(1) + matcher.group(15);
                 entangledLogLines.add(matcher.group(17));
             }
             context.add(PreprocessAction.NEWLINE);
@@ -978,7 +975,7 @@ public class CmsPreprocessAction implements PreprocessAction {
             if (matcher.matches()) {
                 if (!context.contains(TOKEN)) {
                     // Output now
-                    this.logEntry = matcher.group(1);
+                    preprocessedLogEntry = matcher.group(1);
                 } else {
                     // Output later
                     entangledLogLines.add(matcher.group(1));
@@ -989,7 +986,7 @@ public class CmsPreprocessAction implements PreprocessAction {
             // Output serial part, save concurrent to output later
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
                 entangledLogLines.add(matcher.group(22));
             }
             context.remove(PreprocessAction.NEWLINE);
@@ -997,7 +994,7 @@ public class CmsPreprocessAction implements PreprocessAction {
             // Output ParNew part, save concurrent to output later
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
                 entangledLogLines.add(matcher.group(37));
             }
             context.remove(PreprocessAction.NEWLINE);
@@ -1005,49 +1002,49 @@ public class CmsPreprocessAction implements PreprocessAction {
             // Output ParNew part minus FL stats
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_SERIAL_FLS_STATISTICS_PATTERN.matcher(logEntry)).matches()) {
             // Output serial part minus FL stats
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_PRINT_HEAP_AT_GC_PATTERN.matcher(logEntry)).matches()) {
             // Remove PrintHeapAtGC output
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_PRINT_CLASS_HISTOGRAM_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_CONCURRENT_MODE_FAILURE_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_CMS_REMARK_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_DURATION_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             // Sometimes this is the end of a logging event
             if (!entangledLogLines.isEmpty() && newLoggingEvent(nextLogEntry)) {
-                clearEntangledLines(entangledLogLines);
+                preprocessedLogEntry = clearEntangledLines(preprocessedLogEntry, entangledLogLines);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_END_PATTERN.matcher(logEntry)).matches() && !(priorLogEntry != null
@@ -1055,18 +1052,18 @@ public class CmsPreprocessAction implements PreprocessAction {
             // End of logging event
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
-            clearEntangledLines(entangledLogLines);
+            preprocessedLogEntry = clearEntangledLines(preprocessedLogEntry, entangledLogLines);
             context.remove(PreprocessAction.NEWLINE);
             context.remove(TOKEN);
         } else if ((matcher = REGEX_RETAIN_END_PAR_NEW_PATTERN.matcher(logEntry)).matches()) {
             // End of logging event
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
-            clearEntangledLines(entangledLogLines);
+            preprocessedLogEntry = clearEntangledLines(preprocessedLogEntry, entangledLogLines);
             if (context.contains(TOKEN) && !(priorLogEntry != null
                     && REGEX_RETAIN_BEGINNING_PARNEW_CONCURRENT_PATTERN.matcher(priorLogEntry).matches())) {
                 // End of multi-line event or PAR_NEW truncated
@@ -1078,11 +1075,36 @@ public class CmsPreprocessAction implements PreprocessAction {
         } else if ((matcher = REGEX_RETAIN_PAR_NEW_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(4);
+                preprocessedLogEntry = matcher.group(4);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         }
+        return preprocessedLogEntry;
+    }
+
+    /**
+     * The log entry for the event. Can be used for debugging purposes.
+     */
+    private String logEntry;
+
+    /**
+     * Create event from log entry.
+     *
+     * @param priorLogEntry
+     *            The prior log line.
+     * @param logEntry
+     *            The log line.
+     * @param nextLogEntry
+     *            The next log line.
+     * @param entangledLogLines
+     *            Log lines to be output out of order.
+     * @param context
+     *            Information to make preprocessing decisions.
+     */
+    public CmsPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        this.logEntry = process(priorLogEntry, logEntry, nextLogEntry, entangledLogLines, context);
     }
 
     /**
@@ -1090,18 +1112,22 @@ public class CmsPreprocessAction implements PreprocessAction {
      * 
      * Convenience method to write out any saved log lines.
      * 
+     * @param logEntry
+     *            The log entry.
      * @param entangledLogLines
      *            Log lines to be output out of order.
+     * @return The log entry followed by the saved log lines.
      */
-    private final void clearEntangledLines(List<String> entangledLogLines) {
+    private static final String clearEntangledLines(String logEntry, List<String> entangledLogLines) {
         if (entangledLogLines != null && !entangledLogLines.isEmpty()) {
             // Output any entangled log lines
             for (String logLine : entangledLogLines) {
-                this.logEntry = this.logEntry + Constants.LINE_SEPARATOR + logLine;
+                logEntry = logEntry + Constants.LINE_SEPARATOR + logLine;
             }
             // Reset entangled log lines
             entangledLogLines.clear();
         }
+        return logEntry;
     }
 
     public String getLogEntry() {
@@ -1120,7 +1146,7 @@ public class CmsPreprocessAction implements PreprocessAction {
      *            The log line to test.
      * @return True if the line is the start of a new logging event or a complete logging event.
      */
-    private boolean newLoggingEvent(String logLine) {
+    private static boolean newLoggingEvent(String logLine) {
         boolean match = false;
         if (logLine == null || logLine.matches(REGEX_RETAIN_BEGINNING_PARNEW_CONCURRENT)
                 || logLine.matches(REGEX_RETAIN_BEGINNING_PARNEW_FLS_STATISTICS)
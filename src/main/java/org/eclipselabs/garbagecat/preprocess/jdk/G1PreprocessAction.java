@@ -12,16 +12,18 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.preprocess.jdk;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.OtherTime;
 import org.eclipselabs.garbagecat.domain.TimesData;
+import org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseAccumulator;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext.Token;
 import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.jdk.CombinedRegEx;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -809,7 +811,7 @@ public class G1PreprocessAction implements PreprocessAction {
             //
     };
 
-    private static final List<Pattern> THROWAWAY_PATTERN_LIST = new ArrayList<>(REGEX_THROWAWAY.length);
+    private static final CombinedRegEx THROWAWAY = CombinedRegEx.of(REGEX_THROWAWAY);
 
     /**
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. CMS, G1). This
@@ -818,12 +820,23 @@ public class G1PreprocessAction implements PreprocessAction {
      * For example, it is used with the <code>G1PreprocessAction</code> to identify concurrent events intermingled with
      * non-concurrent events to store them in the intermingled log lines list for output after the non-concurrent event.
      */
-    public static final String TOKEN = "G1_PREPROCESS_ACTION_TOKEN";
+    public static final Token TOKEN = Token.G1;
 
-    static {
-        for (String regex : REGEX_THROWAWAY) {
-            THROWAWAY_PATTERN_LIST.add(Pattern.compile(regex));
+    /**
+     * Determine if the log line is a detail line of a multi-line event (e.g. [Parallel Time: ...], [Eden: ...],
+     * [Times: ...]). Detail lines are indented and bracketed, and they are only part of an event, never an event
+     * themselves.
+     * 
+     * @param logLine
+     *            The log line to test.
+     * @return true if the log line is a detail line, false otherwise.
+     */
+    public static final boolean isDetail(String logLine) {
+        int i = 0;
+        while (i < logLine.length() && logLine.charAt(i) == ' ') {
+            i++;
         }
+        return i > 0 && i < logLine.length() && logLine.charAt(i) == '[';
     }
 
     /**
@@ -838,6 +851,10 @@ public class G1PreprocessAction implements PreprocessAction {
      * @return true if the log line matches the event pattern, false otherwise.
      */
     public static final boolean match(String logLine, String priorLogLine, String nextLogLine) {
+        // TODO: Get rid of this and make them throwaway events?
+        if (THROWAWAY.matches(logLine)) {
+            return true;
+        }
         if (REGEX_RETAIN_BEGINNING_YOUNG_PAUSE_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_BEGINNING_YOUNG_INITIAL_MARK_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_BEGINNING_FULL_GC_PATTERN.matcher(logLine).matches()
@@ -861,22 +878,11 @@ public class G1PreprocessAction implements PreprocessAction {
                 || REGEX_RETAIN_END_CONCURRENT_YOUNG_PATTERN.matcher(logLine).matches()) {
             return true;
         }
-        // TODO: Get rid of this and make them throwaway events?
-        for (Pattern pattern : THROWAWAY_PATTERN_LIST) {
-            if (pattern.matcher(logLine).matches()) {
-                return true;
-            }
-        }
         return false;
     }
 
     /**
-     * The log entry for the event. Can be used for debugging purposes.
-     */
-    private String logEntry;
-
-    /**
-     * Create event from log entry.
+     * Preprocess a G1 collector log line, updating the context for the next log line.
      * 
      * @param priorLogEntry
      *            The prior log line.
@@ -890,31 +896,35 @@ public class G1PreprocessAction implements PreprocessAction {
      *            Information to make preprocessing decisions.
      * @param preprocessEvents
      *            Preprocessing events used in later analysis.
+     * @param accumulator
+     *            Assembles young pause events from the retained parts.
+     * @return The preprocessed log entry, or null if the log line is thrown away.
      */
-    public G1PreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
-            List<String> entangledLogLines, Set<String> context, List<PreprocessEvent> preprocessEvents) {
-
+    public static String process(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context, List<PreprocessEvent> preprocessEvents,
+            G1YoungPauseAccumulator accumulator) {
+        String preprocessedLogEntry = null;
         Matcher matcher;
 
         // Beginning logging
         if ((matcher = REGEX_RETAIN_BEGINNING_FULL_GC_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_BEGINNING_FULL_GC_CLASS_HISTOGRAM_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_BEGINNING_CLEANUP_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -925,7 +935,7 @@ public class G1PreprocessAction implements PreprocessAction {
                 entangledLogLines.add(matcher.group(17));
             }
             // Output beginning of young line
-            this.logEntry = matcher.group(1);
+            preprocessedLogEntry = matcher.group(1);
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_BEGINNING_FULL_CONCURRENT_PATTERN.matcher(logEntry)).matches()) {
@@ -948,14 +958,14 @@ public class G1PreprocessAction implements PreprocessAction {
             // Output beginning of G1_FULL line
             if (matcher.group(indexG1FullDecorator) != null) {
                 if (matcher.group(indexG1DetailsBlock) != null) {
-                    this.logEntry = matcher.group(indexG1FullDecorator) + matcher.group(indexFullBlock)
+                    preprocessedLogEntry = matcher.group(indexG1FullDecorator) + matcher.group(indexFullBlock)
                             + matcher.group(indexG1DetailsBlock);
                 } else {
-                    this.logEntry = matcher.group(indexG1FullDecorator) + matcher.group(indexFullBlock);
+                    preprocessedLogEntry = matcher.group(indexG1FullDecorator) + matcher.group(indexFullBlock);
                 }
             } else {
                 // G1_FULL timestamp missing. Use G1_CONCURRENT timestamp.
-                this.logEntry = matcher.group(indexConcurrentDecorator) + " " + matcher.group(indexFullBlock);
+                preprocessedLogEntry = matcher.group(indexConcurrentDecorator) + " " + matcher.group(indexFullBlock);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -981,7 +991,7 @@ public class G1PreprocessAction implements PreprocessAction {
                 }
                 if (!context.contains(TOKEN)) {
                     // Output now
-                    this.logEntry = decorator + " " + matcher.group(135);
+                    preprocessedLogEntry = decorator + " " + matcher.group(135);
                 } else {
                     // Output later
                     entangledLogLines.add(decorator + " " + matcher.group(135));
@@ -993,14 +1003,15 @@ public class G1PreprocessAction implements PreprocessAction {
             // Strip out G1Ergonomics
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
+                accumulator.beginning(preprocessedLogEntry);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_BEGINNING_REMARK_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1) + matcher.group(146);
+                preprocessedLogEntry = matcher.group(1) + matcher.group(146);
                 if (matcher.group(45) != null
                         && !preprocessEvents.contains(PreprocessAction.PreprocessEvent.REFERENCE_GC)) {
                     preprocessEvents.add(PreprocessAction.PreprocessEvent.REFERENCE_GC);
@@ -1012,7 +1023,7 @@ public class G1PreprocessAction implements PreprocessAction {
             // Strip out G1Ergonomics
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -1020,40 +1031,41 @@ public class G1PreprocessAction implements PreprocessAction {
             // Strip out G1Ergonomics
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_YOUNG_PAUSE_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.remove(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_YOUNG_INITIAL_MARK_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.remove(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_EDEN_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
+                accumulator.eden(preprocessedLogEntry);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_CLASS_HISTOGRAM_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
         } else if ((matcher = REGEX_RETAIN_MIDDLE_DURATION_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
@@ -1062,32 +1074,36 @@ public class G1PreprocessAction implements PreprocessAction {
                         && !preprocessEvents.contains(PreprocessAction.PreprocessEvent.REFERENCE_GC)) {
                     preprocessEvents.add(PreprocessAction.PreprocessEvent.REFERENCE_GC);
                 }
-                this.logEntry = matcher.group(82);
+                preprocessedLogEntry = matcher.group(82);
+                accumulator.duration(preprocessedLogEntry);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_EXT_ROOT_SCANNING_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
                 if (matcher.group(2) != null) {
-                    this.logEntry = "[Ext Root Scanning (ms): " + matcher.group(2) + "]";
+                    preprocessedLogEntry = "[Ext Root Scanning (ms): " + matcher.group(2) + "]";
                 } else {
-                    this.logEntry = "[Ext Root Scanning (ms): " + matcher.group(3) + "]";
+                    preprocessedLogEntry = "[Ext Root Scanning (ms): " + matcher.group(3) + "]";
                 }
+                accumulator.extRootScanning(preprocessedLogEntry);
                 context.remove(PreprocessAction.NEWLINE);
             }
         } else if ((matcher = REGEX_RETAIN_MIDDLE_OTHER_TIME_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
+                accumulator.otherTime(preprocessedLogEntry);
                 context.remove(PreprocessAction.NEWLINE);
             }
         } else if ((matcher = REGEX_RETAIN_END_PATTERN.matcher(logEntry)).matches()) {
             // End of logging event
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
+                accumulator.times(preprocessedLogEntry);
             }
-            clearEntangledLines(entangledLogLines);
+            preprocessedLogEntry = clearEntangledLines(preprocessedLogEntry, entangledLogLines);
             context.remove(PreprocessAction.NEWLINE);
             context.remove(TOKEN);
         } else if ((matcher = REGEX_RETAIN_END_CONCURRENT_YOUNG_PATTERN.matcher(logEntry)).matches()) {
@@ -1095,30 +1111,61 @@ public class G1PreprocessAction implements PreprocessAction {
             matcher.reset();
             if (matcher.matches()) {
                 entangledLogLines.add(matcher.group(1));
-                this.logEntry = matcher.group(18);
+                preprocessedLogEntry = matcher.group(18);
             }
-            clearEntangledLines(entangledLogLines);
+            preprocessedLogEntry = clearEntangledLines(preprocessedLogEntry, entangledLogLines);
             context.remove(PreprocessAction.NEWLINE);
             context.remove(TOKEN);
         }
+        return preprocessedLogEntry;
+    }
+
+    /**
+     * The log entry for the event. Can be used for debugging purposes.
+     */
+    private String logEntry;
+
+    /**
+     * Create event from log entry.
+     * 
+     * @param priorLogEntry
+     *            The prior log line.
+     * @param logEntry
+     *            The current log line.
+     * @param nextLogEntry
+     *            The next log line.
+     * @param entangledLogLines
+     *            Log lines to be output out of order.
+     * @param context
+     *            Information to make preprocessing decisions.
+     * @param preprocessEvents
+     *            Preprocessing events used in later analysis.
+     */
+    public G1PreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context, List<PreprocessEvent> preprocessEvents) {
+        this.logEntry = process(priorLogEntry, logEntry, nextLogEntry, entangledLogLines, context, preprocessEvents,
+                new G1YoungPauseAccumulator());
     }
 
     /**
      * Convenience method to write out any saved log lines.
      * 
+     * @param logEntry
+     *            The log entry.
      * @param entangledLogLines
      *            Log lines to be output out of order.
-     * @return
+     * @return The log entry followed by the saved log lines.
      */
-    private final void clearEntangledLines(List<String> entangledLogLines) {
+    private static final String clearEntangledLines(String logEntry, List<String> entangledLogLines) {
         if (entangledLogLines != null && !entangledLogLines.isEmpty()) {
             // Output any entangled log lines
             for (String logLine : entangledLogLines) {
-                this.logEntry = this.logEntry + Constants.LINE_SEPARATOR + logLine;
+                logEntry = logEntry + Constants.LINE_SEPARATOR + logLine;
             }
             // Reset entangled log lines
             entangledLogLines.clear();
         }
+        return logEntry;
     }
 
     public String getLogEntry() {
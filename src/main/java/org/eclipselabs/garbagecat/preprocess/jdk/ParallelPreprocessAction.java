@@ -14,12 +14,13 @@ package org.eclipselabs.garbagecat.preprocess.jdk;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext.Token;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
@@ -182,7 +183,7 @@ public class ParallelPreprocessAction implements PreprocessAction {
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. CMS, G1). This
      * context is necessary to detangle multi-line events where logging patterns are shared among preprocessors.
      */
-    public static final String TOKEN = "PARALLEL_PREPROCESS_ACTION_TOKEN";
+    public static final Token TOKEN = Token.PARALLEL;
 
     static {
         for (String regex : REGEX_THROWAWAY) {
@@ -220,13 +221,8 @@ public class ParallelPreprocessAction implements PreprocessAction {
     }
 
     /**
-     * The log entry for the event. Can be used for debugging purposes.
-     */
-    private String logEntry;
-
-    /**
-     * Create event from log entry.
-     *
+     * Preprocess a parallel collector log line, updating the context for the next log line.
+     * 
      * @param priorLogEntry
      *            The prior log line.
      * @param logEntry
@@ -237,17 +233,18 @@ public class ParallelPreprocessAction implements PreprocessAction {
      *            Log lines to be output out of order.
      * @param context
      *            Information to make preprocessing decisions.
+     * @return The preprocessed log entry, or null if the log line is thrown away.
      */
-    public ParallelPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
-            List<String> entangledLogLines, Set<String> context) {
-
+    public static String process(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        String preprocessedLogEntry = null;
         Matcher matcher;
         // Beginning logging
         // (matcher = _PATTERN.matcher(logEntry)).matches()
         if ((matcher = REGEX_BEGINNING_UNLOADING_CLASS_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -255,7 +252,7 @@ public class ParallelPreprocessAction implements PreprocessAction {
             // Remove GCTimeLimit output
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
                 entangledLogLines.add(matcher.group(29));
             }
             context.add(PreprocessAction.NEWLINE);
@@ -264,7 +261,7 @@ public class ParallelPreprocessAction implements PreprocessAction {
             // Remove beginning PARALLEL_SCAVENGE output
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -273,7 +270,7 @@ public class ParallelPreprocessAction implements PreprocessAction {
             // Remove ending AdaptiveResizePolicy output
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -281,7 +278,7 @@ public class ParallelPreprocessAction implements PreprocessAction {
             // Remove ending AdaptiveResizePolicy output
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -290,15 +287,40 @@ public class ParallelPreprocessAction implements PreprocessAction {
             matcher.reset();
             if (matcher.matches()) {
                 if (matcher.group(1) != null) {
-                    this.logEntry = " " + matcher.group(2);
+                    preprocessedLogEntry = " " + matcher.group(2);
                 } else {
-                    this.logEntry = matcher.group(2);
+                    preprocessedLogEntry = matcher.group(2);
                 }
             }
-            clearEntangledLines(entangledLogLines);
+            preprocessedLogEntry = clearEntangledLines(preprocessedLogEntry, entangledLogLines);
             context.remove(PreprocessAction.NEWLINE);
             context.remove(TOKEN);
         }
+        return preprocessedLogEntry;
+    }
+
+    /**
+     * The log entry for the event. Can be used for debugging purposes.
+     */
+    private String logEntry;
+
+    /**
+     * Create event from log entry.
+     *
+     * @param priorLogEntry
+     *            The prior log line.
+     * @param logEntry
+     *            The log line.
+     * @param nextLogEntry
+     *            The next log line.
+     * @param entangledLogLines
+     *            Log lines to be output out of order.
+     * @param context
+     *            Information to make preprocessing decisions.
+     */
+    public ParallelPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        this.logEntry = process(priorLogEntry, logEntry, nextLogEntry, entangledLogLines, context);
     }
 
     /**
@@ -306,19 +328,22 @@ public class ParallelPreprocessAction implements PreprocessAction {
      * 
      * Convenience method to write out any saved log lines.
      * 
+     * @param logEntry
+     *            The log entry.
      * @param entangledLogLines
      *            Log lines to be output out of order.
-     * @return
+     * @return The log entry followed by the saved log lines.
      */
-    private final void clearEntangledLines(List<String> entangledLogLines) {
+    private static final String clearEntangledLines(String logEntry, List<String> entangledLogLines) {
         if (entangledLogLines != null && !entangledLogLines.isEmpty()) {
             // Output any entangled log lines
             for (String logLine : entangledLogLines) {
-                this.logEntry = this.logEntry + Constants.LINE_SEPARATOR + logLine;
+                logEntry = logEntry + Constants.LINE_SEPARATOR + logLine;
             }
             // Reset entangled log lines
             entangledLogLines.clear();
         }
+        return logEntry;
     }
 
     public String getLogEntry() {
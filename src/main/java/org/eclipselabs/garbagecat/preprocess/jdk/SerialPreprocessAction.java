@@ -13,11 +13,12 @@
 package org.eclipselabs.garbagecat.preprocess.jdk;
 
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext.Token;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -81,7 +82,7 @@ public class SerialPreprocessAction implements PreprocessAction {
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. CMS, G1). This
      * context is necessary to detangle multi-line events where logging patterns are shared among preprocessors.
      */
-    public static final String TOKEN = "SERIAL_PREPROCESS_ACTION_TOKEN";
+    public static final Token TOKEN = Token.SERIAL;
 
     /**
      * Determine if the logLine matches the logging pattern(s) for this event.
@@ -95,13 +96,8 @@ public class SerialPreprocessAction implements PreprocessAction {
     }
 
     /**
-     * The log entry for the event. Can be used for debugging purposes.
-     */
-    private String logEntry;
-
-    /**
-     * Create event from log entry.
-     *
+     * Preprocess a serial collector log line, updating the context for the next log line.
+     * 
      * @param priorLogEntry
      *            The prior log line.
      * @param logEntry
@@ -112,16 +108,17 @@ public class SerialPreprocessAction implements PreprocessAction {
      *            Log lines to be output out of order.
      * @param context
      *            Information to make preprocessing decisions.
+     * @return The preprocessed log entry, or null if the log line is thrown away.
      */
-    public SerialPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
-            List<String> entangledLogLines, Set<String> context) {
-
+    public static String process(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        String preprocessedLogEntry = null;
         // Beginning logging
         if (logEntry.matches(REGEX_RETAIN_BEGINNING)) {
             Pattern pattern = Pattern.compile(REGEX_RETAIN_BEGINNING);
             Matcher matcher = pattern.matcher(logEntry);
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -130,12 +127,37 @@ public class SerialPreprocessAction implements PreprocessAction {
             Pattern pattern = Pattern.compile(REGEX_RETAIN_END);
             Matcher matcher = pattern.matcher(logEntry);
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
-            clearEntangledLines(entangledLogLines);
+            preprocessedLogEntry = clearEntangledLines(preprocessedLogEntry, entangledLogLines);
             context.remove(PreprocessAction.NEWLINE);
             context.remove(TOKEN);
         }
+        return preprocessedLogEntry;
+    }
+
+    /**
+     * The log entry for the event. Can be used for debugging purposes.
+     */
+    private String logEntry;
+
+    /**
+     * Create event from log entry.
+     *
+     * @param priorLogEntry
+     *            The prior log line.
+     * @param logEntry
+     *            The log line.
+     * @param nextLogEntry
+     *            The next log line.
+     * @param entangledLogLines
+     *            Log lines to be output out of order.
+     * @param context
+     *            Information to make preprocessing decisions.
+     */
+    public SerialPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        this.logEntry = process(priorLogEntry, logEntry, nextLogEntry, entangledLogLines, context);
     }
 
     /**
@@ -143,19 +165,22 @@ public class SerialPreprocessAction implements PreprocessAction {
      * 
      * Convenience method to write out any saved log lines.
      * 
+     * @param logEntry
+     *            The log entry.
      * @param entangledLogLines
      *            Log lines to be output out of order.
-     * @return
+     * @return The log entry followed by the saved log lines.
      */
-    private final void clearEntangledLines(List<String> entangledLogLines) {
+    private static final String clearEntangledLines(String logEntry, List<String> entangledLogLines) {
         if (entangledLogLines != null && !entangledLogLines.isEmpty()) {
             // Output any entangled log lines
             for (String logLine : entangledLogLines) {
-                this.logEntry = this.logEntry + Constants.LINE_SEPARATOR + logLine;
+                logEntry = logEntry + Constants.LINE_SEPARATOR + logLine;
             }
             // Reset entangled log lines
             entangledLogLines.clear();
         }
+        return logEntry;
     }
 
     public String getLogEntry() {
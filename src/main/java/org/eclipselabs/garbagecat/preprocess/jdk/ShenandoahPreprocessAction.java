@@ -14,7 +14,6 @@ package org.eclipselabs.garbagecat.preprocess.jdk;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,6 +25,8 @@ import org.eclipselabs.garbagecat.domain.jdk.ShenandoahFinalUpdateEvent;
 import org.eclipselabs.garbagecat.domain.jdk.ShenandoahInitMarkEvent;
 import org.eclipselabs.garbagecat.domain.jdk.ShenandoahInitUpdateEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext.Token;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -281,7 +282,7 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
      * intermingled with non-concurrent events to store them in the intermingled log lines list for output after the
      * non-concurrent event.
      */
-    public static final String TOKEN = "SHENANDOAH_PREPROCESS_ACTION_TOKEN";
+    public static final Token TOKEN = Token.SHENANDOAH;
 
     /**
      * Indicates the current log entry is either the beginning of a @link
@@ -289,14 +290,14 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
      * org.eclipselabs.garbagecat.domain.jdk.ShenandoahFullGcEvent} that spans multiple logging lines, or it is a single
      * line logging event.
      */
-    private static final String TOKEN_BEGINNING_SHENANDOAH = "TOKEN_BEGINNING_OF_SHENANDOAH";
+    public static final Token TOKEN_BEGINNING_SHENANDOAH = Token.BEGINNING_OF_SHENANDOAH;
 
     /**
      * Indicates the current log entry is either the beginning of a @link
      * org.eclipselabs.garbagecat.domain.jdk.ShenandoahConcurrentEvent} that spans multiple logging lines, or it is a
      * single line logging event.
      */
-    private static final String TOKEN_BEGINNING_SHENANDOAH_CONCURRENT = "TOKEN_BEGINNING_OF_SHENANDOAH_CONCURRENT";
+    public static final Token TOKEN_BEGINNING_SHENANDOAH_CONCURRENT = Token.BEGINNING_OF_SHENANDOAH_CONCURRENT;
 
     static {
         for (String regex : REGEX_THROWAWAY) {
@@ -346,13 +347,8 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
     }
 
     /**
-     * The log entry for the event. Can be used for debugging purposes.
-     */
-    private String logEntry;
-
-    /**
-     * Create event from log entry.
-     *
+     * Preprocess a Shenandoah collector log line, updating the context for the next log line.
+     * 
      * @param priorLogEntry
      *            The prior log line.
      * @param logEntry
@@ -363,17 +359,18 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
      *            Log lines to be output out of order.
      * @param context
      *            Information to make preprocessing decisions.
+     * @return The preprocessed log entry, or null if the log line is thrown away.
      */
-    public ShenandoahPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
-            List<String> entangledLogLines, Set<String> context) {
-
+    public static String process(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        String preprocessedLogEntry = null;
         Matcher matcher;
 
         // Beginning logging
         if ((matcher = REGEX_RETAIN_BEGINNING_CONCURRENT_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
                 context.add(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT);
             }
             context.add(PreprocessAction.NEWLINE);
@@ -381,7 +378,7 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
         } else if ((matcher = REGEX_RETAIN_BEGINNING_EVENT_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
                 context.add(TOKEN_BEGINNING_SHENANDOAH);
             }
             context.add(PreprocessAction.NEWLINE);
@@ -392,7 +389,7 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
                 // throw away unrelated metaspace lines
                 if (context.contains(TOKEN_BEGINNING_SHENANDOAH)
                         || context.contains(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT)) {
-                    this.logEntry = logEntry;
+                    preprocessedLogEntry = logEntry;
                     context.remove(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT);
                 }
             }
@@ -400,11 +397,11 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
         } else if ((matcher = REGEX_RETAIN_DURATION_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             // Sometimes this is the end of a logging event
             if (entangledLogLines != null && !entangledLogLines.isEmpty() && newLoggingEvent(nextLogEntry)) {
-                clearEntangledLines(entangledLogLines);
+                preprocessedLogEntry = clearEntangledLines(preprocessedLogEntry, entangledLogLines);
                 context.remove(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT);
             }
             context.remove(PreprocessAction.NEWLINE);
@@ -414,7 +411,7 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
                 || JdkUtil.parseLogLine(logEntry, null, CollectorFamily.UNKNOWN) instanceof ShenandoahFinalUpdateEvent
                 || JdkUtil.parseLogLine(logEntry, null, CollectorFamily.UNKNOWN) instanceof ShenandoahInitMarkEvent
                 || JdkUtil.parseLogLine(logEntry, null, CollectorFamily.UNKNOWN) instanceof ShenandoahInitUpdateEvent) {
-            this.logEntry = logEntry;
+            preprocessedLogEntry = logEntry;
             context.add(PreprocessAction.NEWLINE);
             context.remove(TOKEN_BEGINNING_SHENANDOAH);
             context.remove(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT);
@@ -423,7 +420,7 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
             // Stand alone event
             if (!(context.contains(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT)
                     || context.contains(TOKEN_BEGINNING_SHENANDOAH))) {
-                this.logEntry = logEntry;
+                preprocessedLogEntry = logEntry;
                 context.add(PreprocessAction.NEWLINE);
                 // TODO: ?
                 // context.add(TOKEN_BEGINNING_SHENANDOAH_CONCURRENT);
@@ -433,6 +430,31 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
                 context.remove(PreprocessAction.NEWLINE);
             }
         }
+        return preprocessedLogEntry;
+    }
+
+    /**
+     * The log entry for the event. Can be used for debugging purposes.
+     */
+    private String logEntry;
+
+    /**
+     * Create event from log entry.
+     *
+     * @param priorLogEntry
+     *            The prior log line.
+     * @param logEntry
+     *            The log line.
+     * @param nextLogEntry
+     *            The next log line.
+     * @param entangledLogLines
+     *            Log lines to be output out of order.
+     * @param context
+     *            Information to make preprocessing decisions.
+     */
+    public ShenandoahPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        this.logEntry = process(priorLogEntry, logEntry, nextLogEntry, entangledLogLines, context);
     }
 
     /**
@@ -440,24 +462,28 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
      * 
      * Convenience method to write out any saved log lines.
      * 
+     * @param logEntry
+     *            The log entry.
      * @param entangledLogLines
      *            Log lines to be output out of order.
+     * @return The log entry followed by the saved log lines.
      */
-    private final void clearEntangledLines(List<String> entangledLogLines) {
+    private static final String clearEntangledLines(String logEntry, List<String> entangledLogLines) {
         if (entangledLogLines != null && !entangledLogLines.isEmpty()) {
             // Output any entangled log lines
             for (String logLine : entangledLogLines) {
                 // Add to prior line if current line is not an ending pattern
-                if ((this.logEntry != null && this.logEntry.matches(TimesData.REGEX_JDK9))
+                if ((logEntry != null && logEntry.matches(TimesData.REGEX_JDK9))
                         || (logLine != null && !logLine.endsWith(Constants.LINE_SEPARATOR))) {
-                    this.logEntry = this.logEntry + Constants.LINE_SEPARATOR + logLine;
+                    logEntry = logEntry + Constants.LINE_SEPARATOR + logLine;
                 } else {
-                    this.logEntry = this.logEntry + logLine;
+                    logEntry = logEntry + logLine;
                 }
             }
             // Reset entangled log lines
             entangledLogLines.clear();
         }
+        return logEntry;
     }
 
     public String getLogEntry() {
@@ -476,7 +502,7 @@ public class ShenandoahPreprocessAction implements PreprocessAction {
      *            The log line to test.
      * @return True if the line is the start of a new logging event or a complete logging event.
      */
-    private boolean newLoggingEvent(String logLine) {
+    private static boolean newLoggingEvent(String logLine) {
         return true;
     }
 }
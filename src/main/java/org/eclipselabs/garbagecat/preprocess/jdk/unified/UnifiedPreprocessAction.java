@@ -12,9 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.preprocess.jdk.unified;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,12 +20,14 @@ import org.eclipselabs.garbagecat.domain.OtherTime;
 import org.eclipselabs.garbagecat.domain.TimesData;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedBlankLineEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedConcurrentEvent;
-import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedLogging;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedShenandoahFinalRootsEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZMarkStartYoungAndOldEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext.Token;
 import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.jdk.CombinedRegEx;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -245,7 +245,7 @@ public class UnifiedPreprocessAction implements PreprocessAction {
     /**
      * Indicates the logging is from JDK17 update 8+ or JDK21.
      */
-    public static final String JDK17U8 = "JDK17U8";
+    public static final Token JDK17U8 = Token.JDK17U8;
 
     /**
      * Regular expression for external root scanning block. Enabled with "gc+phases=debug" unified logging.
@@ -1176,7 +1176,7 @@ public class UnifiedPreprocessAction implements PreprocessAction {
 
     private static final Pattern REGEX_TO_SPACE_EXHAUSTED_PATTERN = Pattern.compile(REGEX_TO_SPACE_EXHAUSTED);
 
-    private static final List<Pattern> THROWAWAY_PATTERN_LIST = new ArrayList<>(REGEX_THROWAWAY.length);
+    private static final CombinedRegEx THROWAWAY = CombinedRegEx.ofUnified(REGEX_THROWAWAY);
 
     /**
      * Log entry in the entangle log list used to indicate the current high level preprocessor (e.g. CMS, G1). This
@@ -1186,21 +1186,21 @@ public class UnifiedPreprocessAction implements PreprocessAction {
      * with non-concurrent events to store them in the intermingled log lines list for output after the non-concurrent
      * event.
      */
-    public static final String TOKEN = "UNIFIED_PREPROCESS_ACTION_TOKEN";
+    public static final Token TOKEN = Token.UNIFIED;
 
     /**
      * Indicates the current log entry is either the beginning of a @link
      * org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedG1FullGcEvent} that spans multiple logging lines, or it is a
      * single line logging event.
      */
-    public static final String TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC = "TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC";
+    public static final Token TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC = Token.BEGINNING_OF_UNIFIED_G1_FULL_GC;
 
     /**
      * Indicates the current log entry is either the beginning of a @link
      * org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedRemarkEvent} that spans multiple logging lines, or it is a
      * single line logging event.
      */
-    public static final String TOKEN_BEGINNING_OF_UNIFIED_G1_PAUSE_YOUNG = "TOKEN_BEGINNING_OF_UNIFIED_G1_PAUSE_YOUNG";
+    public static final Token TOKEN_BEGINNING_OF_UNIFIED_G1_PAUSE_YOUNG = Token.BEGINNING_OF_UNIFIED_G1_PAUSE_YOUNG;
 
     /**
      * Indicates the current log entry is either the beginning of a @link
@@ -1208,26 +1208,20 @@ public class UnifiedPreprocessAction implements PreprocessAction {
      * org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedParallelCompactingOldEvent} that spans multiple logging
      * lines, or it is a single line logging event.
      */
-    public static final String TOKEN_BEGINNING_OF_UNIFIED_OLD = "TOKEN_BEGINNING_OF_UNIFIED_OLD";
+    public static final Token TOKEN_BEGINNING_OF_UNIFIED_OLD = Token.BEGINNING_OF_UNIFIED_OLD;
 
     /**
      * Indicates the current log entry is either the beginning of a @link
      * org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent} that spans multiple logging lines, or it is
      * a single line logging event.
      */
-    private static final String TOKEN_BEGINNING_OF_UNIFIED_SAFEPOINT = "TOKEN_BEGINNING_OF_UNIFIED_SAFEPOINT";
+    public static final Token TOKEN_BEGINNING_OF_UNIFIED_SAFEPOINT = Token.BEGINNING_OF_UNIFIED_SAFEPOINT;
 
     /**
      * Indicates the current log entry is either the beginning of a unified Shenandoah event that spans multiple logging
      * lines, or it is a single line logging event.
      */
-    private static final String TOKEN_BEGINNING_OF_UNIFIED_SHENANDOAH = "TOKEN_BEGINNING_OF_UNIFIED_SHENANDOAH";
-
-    static {
-        for (String regex : REGEX_THROWAWAY) {
-            THROWAWAY_PATTERN_LIST.add(Pattern.compile(regex));
-        }
-    }
+    public static final Token TOKEN_BEGINNING_OF_UNIFIED_SHENANDOAH = Token.BEGINNING_OF_UNIFIED_SHENANDOAH;
 
     /**
      * Determine if the log line is can be thrown away
@@ -1235,15 +1229,7 @@ public class UnifiedPreprocessAction implements PreprocessAction {
      * @return true if the log line matches a throwaway pattern, false otherwise.
      */
     private static final boolean isThrowaway(String logLine) {
-        boolean throwaway = false;
-        for (int i = 0; i < THROWAWAY_PATTERN_LIST.size(); i++) {
-            Pattern pattern = THROWAWAY_PATTERN_LIST.get(i);
-            if (pattern.matcher(logLine).matches()) {
-                throwaway = true;
-                break;
-            }
-        }
-        return throwaway;
+        return THROWAWAY.matches(logLine);
     }
 
     /**
@@ -1253,7 +1239,10 @@ public class UnifiedPreprocessAction implements PreprocessAction {
      */
     public static final boolean match(String logLine) {
         boolean match = false;
-        if (UnifiedSafepointEvent.PATTERN_JDK17.matcher(logLine).matches()
+        if (isThrowaway(logLine)) {
+            // Test first so throwaway lines are not identified
+            match = true;
+        } else if (UnifiedSafepointEvent.PATTERN_JDK17.matcher(logLine).matches()
                 || REGEX_RETAIN_BEGINNING_CMS_INITIAL_MARK_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_BEGINNING_G1_CLEANUP_PATTERN.matcher(logLine).matches()
                 || REGEX_RETAIN_BEGINNING_G1_FULL_GC_PATTERN.matcher(logLine).matches()
@@ -1281,20 +1270,13 @@ public class UnifiedPreprocessAction implements PreprocessAction {
                 || JdkUtil.parseLogLine(logLine, null, CollectorFamily.UNKNOWN) instanceof UnifiedConcurrentEvent
                 || JdkUtil.parseLogLine(logLine, null, CollectorFamily.UNKNOWN) instanceof ZMarkStartYoungAndOldEvent) {
             match = true;
-        } else if (isThrowaway(logLine)) {
-            match = true;
         }
         return match;
     }
 
     /**
-     * The log entry for the event. Can be used for debugging purposes.
-     */
-    private String logEntry;
-
-    /**
-     * Create event from log entry.
-     *
+     * Preprocess a unified logging log line, updating the context for the next log line.
+     * 
      * @param priorLogEntry
      *            The prior log line.
      * @param logEntry
@@ -1305,10 +1287,11 @@ public class UnifiedPreprocessAction implements PreprocessAction {
      *            Log lines to be output out of order.
      * @param context
      *            Information to make preprocessing decisions.
+     * @return The preprocessed log entry, or null if the log line is thrown away.
      */
-    public UnifiedPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
-            List<String> entangledLogLines, Set<String> context) {
-
+    public static String process(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        String preprocessedLogEntry = null;
         Matcher matcher;
 
         if ((matcher = UnifiedSafepointEvent.PATTERN_JDK17.matcher(logEntry)).matches()) {
@@ -1326,8 +1309,8 @@ public class UnifiedPreprocessAction implements PreprocessAction {
                 } else {
                     entry = matcher.group(0);
                 }
-                if (!context.contains(UnifiedLogging.Tag.GC_START.toString())) {
-                    this.logEntry = entry;
+                if (!context.contains(Token.GC_START)) {
+                    preprocessedLogEntry = entry;
                 } else {
                     // output after gc event
                     entangledLogLines.add(entry);
@@ -1338,14 +1321,14 @@ public class UnifiedPreprocessAction implements PreprocessAction {
         } else if ((matcher = REGEX_RETAIN_BEGINNING_CMS_INITIAL_MARK_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_BEGINNING_G1_CLEANUP_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -1353,43 +1336,44 @@ public class UnifiedPreprocessAction implements PreprocessAction {
             matcher.reset();
             if (matcher.matches()) {
                 if (logEntry.matches(UnifiedRegEx.TAG_GC_START)) {
-                    this.logEntry = matcher.group(0);
+                    preprocessedLogEntry = matcher.group(0);
                 } else {
                     if (matcher.group(23) == null) {
                         // Add gc,start context to indicate the time is a timestamp, not an endstamp.
-                        this.logEntry = matcher.group(2) + "[gc,start]" + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1)
+                        preprocessedLogEntry = matcher.group(2) + "[gc,start]"
+                                + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1)
                                 + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2);
                     }
                 }
             }
             context.add(TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC);
-            context.add(UnifiedLogging.Tag.GC_START.toString());
+            context.add(Token.GC_START);
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_BEGINNING_OLD_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
-            if (context.contains(UnifiedLogging.Tag.GC_START.toString())) {
+            if (context.contains(Token.GC_START)) {
                 // A young collection triggered a full gc
                 if (matcher.matches()) {
-                    this.logEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3);
+                    preprocessedLogEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3);
                 }
-                context.add(UnifiedLogging.Tag.GC_START.toString());
+                context.add(Token.GC_START);
                 // Don't output on new line
                 context.remove(PreprocessAction.NEWLINE);
             } else {
                 if (matcher.matches()) {
                     if (logEntry.matches(UnifiedRegEx.TAG_GC_START)) {
-                        this.logEntry = matcher.group(1);
+                        preprocessedLogEntry = matcher.group(1);
                     } else {
                         if (matcher.group(23) == null) {
                             // Add gc,start context to indicate the time is a timestamp, not an endstamp.
-                            this.logEntry = matcher.group(3) + "[gc,start]"
+                            preprocessedLogEntry = matcher.group(3) + "[gc,start]"
                                     + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2)
                                     + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 3);
                         }
                     }
                 }
-                context.add(UnifiedLogging.Tag.GC_START.toString());
+                context.add(Token.GC_START);
                 context.add(PreprocessAction.NEWLINE);
             }
             context.add(TOKEN_BEGINNING_OF_UNIFIED_OLD);
@@ -1397,7 +1381,7 @@ public class UnifiedPreprocessAction implements PreprocessAction {
         } else if ((matcher = REGEX_RETAIN_BEGINNING_REMARK_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(1);
+                preprocessedLogEntry = matcher.group(1);
             }
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -1405,16 +1389,17 @@ public class UnifiedPreprocessAction implements PreprocessAction {
             matcher.reset();
             if (matcher.matches()) {
                 if (logEntry.matches(UnifiedRegEx.TAG_GC_START)) {
-                    this.logEntry = matcher.group(0);
+                    preprocessedLogEntry = matcher.group(0);
                 } else {
                     if (matcher.group(23) == null) {
                         // Add gc,start context to indicate the time is a timestamp, not an endstamp.
-                        this.logEntry = matcher.group(2) + "[gc,start]" + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1)
+                        preprocessedLogEntry = matcher.group(2) + "[gc,start]"
+                                + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1)
                                 + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2);
                     }
                 }
             }
-            context.add(UnifiedLogging.Tag.GC_START.toString());
+            context.add(Token.GC_START);
             context.add(TOKEN_BEGINNING_OF_UNIFIED_G1_PAUSE_YOUNG);
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -1429,16 +1414,17 @@ public class UnifiedPreprocessAction implements PreprocessAction {
             matcher.reset();
             if (matcher.matches()) {
                 if (logEntry.matches(UnifiedRegEx.TAG_GC_START)) {
-                    this.logEntry = matcher.group(0);
+                    preprocessedLogEntry = matcher.group(0);
                 } else {
                     if (matcher.group(23) == null) {
                         // Add gc,start context to indicate the time is a timestamp, not an endstamp.
-                        this.logEntry = matcher.group(2) + "[gc,start]" + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1)
+                        preprocessedLogEntry = matcher.group(2) + "[gc,start]"
+                                + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1)
                                 + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2);
                     }
                 }
             }
-            context.add(UnifiedLogging.Tag.GC_START.toString());
+            context.add(Token.GC_START);
             context.add(TOKEN_BEGINNING_OF_UNIFIED_SHENANDOAH);
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
@@ -1446,41 +1432,42 @@ public class UnifiedPreprocessAction implements PreprocessAction {
             matcher.reset();
             if (matcher.matches()) {
                 if (logEntry.matches(UnifiedRegEx.TAG_GC_START)) {
-                    this.logEntry = matcher.group(0);
+                    preprocessedLogEntry = matcher.group(0);
                 } else {
                     if (matcher.group(23) == null) {
                         // Add gc,start context to indicate the time is a timestamp, not an endstamp.
-                        this.logEntry = matcher.group(2) + "[gc,start]" + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1)
+                        preprocessedLogEntry = matcher.group(2) + "[gc,start]"
+                                + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1)
                                 + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2);
                     }
                 }
             }
-            context.add(UnifiedLogging.Tag.GC_START.toString());
+            context.add(Token.GC_START);
             context.add(PreprocessAction.NEWLINE);
             context.add(TOKEN);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_SPACE_DATA_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1);
+                preprocessedLogEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_METASPACE_DATA_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1);
+                preprocessedLogEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1);
                 context.remove(PreprocessAction.NEWLINE);
             }
         } else if ((matcher = REGEX_RETAIN_MIDDLE_PAUSE_FULL_DATA_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                if (!context.contains(UnifiedLogging.Tag.GC_START.toString())) {
+                if (!context.contains(Token.GC_START)) {
                     // A new collection that triggers a full gc will be wrapped in a single safepoint
                     if (context.contains(TOKEN_BEGINNING_OF_UNIFIED_SAFEPOINT) && nextLogEntry != null
                             && REGEX_RETAIN_MIDDLE_PAUSE_YOUNG_DATA_PATTERN.matcher(nextLogEntry).matches()) {
                         entangledLogLines.add(logEntry);
                     } else {
                         // Single log event or beginning of multi-line event
-                        this.logEntry = logEntry;
+                        preprocessedLogEntry = logEntry;
                         context.add(PreprocessAction.NEWLINE);
                     }
                 } else {
@@ -1489,7 +1476,7 @@ public class UnifiedPreprocessAction implements PreprocessAction {
                             || !(context.contains(TOKEN_BEGINNING_OF_UNIFIED_OLD)
                                     || context.contains(TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC)))) {
                         if (matcher.matches()) {
-                            this.logEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5);
+                            preprocessedLogEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 5);
                         }
                     }
                     context.remove(PreprocessAction.NEWLINE);
@@ -1498,34 +1485,34 @@ public class UnifiedPreprocessAction implements PreprocessAction {
         } else if ((matcher = REGEX_RETAIN_MIDDLE_G1_HUMONGOUS_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(26);
+                preprocessedLogEntry = matcher.group(26);
                 context.remove(PreprocessAction.NEWLINE);
             }
         } else if ((matcher = REGEX_RETAIN_MIDDLE_PAUSE_YOUNG_DATA_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                if (context.contains(UnifiedLogging.Tag.GC_START.toString())) {
+                if (context.contains(Token.GC_START)) {
                     // Middle logging
-                    this.logEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6);
-                    // context.remove(UnifiedLogging.Tag.GC_START.toString());
+                    preprocessedLogEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6);
+                    // context.remove(Token.GC_START);
                     context.remove(PreprocessAction.NEWLINE);
                 } else {
                     // Single log event or beginning of multi-line event
                     if (priorLogEntry == null) {
                         // first line in log file
-                        this.logEntry = logEntry;
+                        preprocessedLogEntry = logEntry;
                     } else {
                         if (entangledLogLines.isEmpty()) {
-                            // this.logEntry = Constants.LINE_SEPARATOR + logEntry;
-                            this.logEntry = matcher.group(0);
+                            // preprocessedLogEntry = Constants.LINE_SEPARATOR + logEntry;
+                            preprocessedLogEntry = matcher.group(0);
                         } else {
                             if (entangledLogLines.size() == 1
                                     && entangledLogLines.get(0).matches(" " + Constants.G1_TO_SPACE_EXHAUSTED)) {
-                                this.logEntry = matcher.group(1) + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2)
+                                preprocessedLogEntry = matcher.group(1) + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 2)
                                         + entangledLogLines.get(0) + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 6);
                                 entangledLogLines.clear();
                             } else {
-                                this.logEntry = matcher.group(0);
+                                preprocessedLogEntry = matcher.group(0);
                             }
                         }
                     }
@@ -1535,19 +1522,19 @@ public class UnifiedPreprocessAction implements PreprocessAction {
         } else if ((matcher = REGEX_RETAIN_MIDDLE_EXT_ROOT_SCANNING_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = " Ext Root Scanning (ms): " + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1);
+                preprocessedLogEntry = " Ext Root Scanning (ms): " + matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1);
                 context.remove(PreprocessAction.NEWLINE);
             }
         } else if ((matcher = REGEX_RETAIN_MIDDLE_OTHER_TIME_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = " " + matcher.group(26);
+                preprocessedLogEntry = " " + matcher.group(26);
                 context.remove(PreprocessAction.NEWLINE);
             }
         } else if ((matcher = REGEX_RETAIN_MIDDLE_PROMOTION_FAILED_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(27);
+                preprocessedLogEntry = matcher.group(27);
             }
             context.remove(PreprocessAction.NEWLINE);
         } else if ((matcher = REGEX_RETAIN_MIDDLE_SAFEPOINT_PATTERN.matcher(logEntry)).matches()) {
@@ -1558,16 +1545,16 @@ public class UnifiedPreprocessAction implements PreprocessAction {
         } else if ((matcher = REGEX_RETAIN_MIDDLE_SHENANDOAH_DATA_PATTERN.matcher(logEntry)).matches()) {
             matcher.reset();
             if (matcher.matches()) {
-                if (!context.contains(UnifiedLogging.Tag.GC_START.toString())) {
+                if (!context.contains(Token.GC_START)) {
                     // Single log event or beginning of multi-line event
-                    this.logEntry = logEntry;
+                    preprocessedLogEntry = logEntry;
                     // Output on new line
                     context.add(PreprocessAction.NEWLINE);
                     context.add(TOKEN_BEGINNING_OF_UNIFIED_SHENANDOAH);
 
                 } else {
                     // Middle logging
-                    this.logEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10);
+                    preprocessedLogEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 10);
                     context.remove(PreprocessAction.NEWLINE);
                 }
             }
@@ -1584,12 +1571,12 @@ public class UnifiedPreprocessAction implements PreprocessAction {
                     }
                 }
                 if (beginningSafepointLogging != null && middleSafepointLogging != null) {
-                    this.logEntry = beginningSafepointLogging + middleSafepointLogging + matcher.group(1);
+                    preprocessedLogEntry = beginningSafepointLogging + middleSafepointLogging + matcher.group(1);
                     entangledLogLines.remove(beginningSafepointLogging);
                     entangledLogLines.remove(middleSafepointLogging);
                     context.add(PreprocessAction.NEWLINE);
                 } else {
-                    this.logEntry = logEntry;
+                    preprocessedLogEntry = logEntry;
                 }
                 context.remove(TOKEN_BEGINNING_OF_UNIFIED_SAFEPOINT);
             }
@@ -1597,45 +1584,45 @@ public class UnifiedPreprocessAction implements PreprocessAction {
             // End logging
             matcher.reset();
             if (matcher.matches()) {
-                this.logEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1);
+                preprocessedLogEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1);
             }
             if (!context.contains(TOKEN_BEGINNING_OF_UNIFIED_SAFEPOINT)) {
-                clearEntangledLines(entangledLogLines);
+                preprocessedLogEntry = clearEntangledLines(preprocessedLogEntry, entangledLogLines);
             }
             context.remove(PreprocessAction.NEWLINE);
             context.remove(TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC);
             context.remove(TOKEN_BEGINNING_OF_UNIFIED_G1_PAUSE_YOUNG);
-            context.remove(UnifiedLogging.Tag.GC_START.toString());
+            context.remove(Token.GC_START);
         } else if ((matcher = REGEX_TO_SPACE_EXHAUSTED_PATTERN.matcher(logEntry)).matches()) {
             if (matcher.matches()) {
-                if (context.contains(UnifiedLogging.Tag.GC_START.toString())) {
+                if (context.contains(Token.GC_START)) {
                     // Add to current line
-                    this.logEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1);
-                    // context.remove(UnifiedLogging.Tag.GC_START.toString());
+                    preprocessedLogEntry = matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1);
+                    // context.remove(Token.GC_START);
                 } else {
                     // Add to next line
                     entangledLogLines.add(matcher.group(UnifiedRegEx.DECORATOR_SIZE + 1));
                 }
             }
             context.remove(PreprocessAction.NEWLINE);
+        } else if (isThrowaway(logEntry)) {
+            // Remove throwaway lines without identifying them
         } else if (JdkUtil.parseLogLine(logEntry, null,
                 CollectorFamily.UNKNOWN) instanceof UnifiedShenandoahFinalRootsEvent) {
             // Stand alone event
-            if (!context.contains(UnifiedLogging.Tag.GC_START.toString())) {
-                this.logEntry = logEntry;
+            if (!context.contains(Token.GC_START)) {
+                preprocessedLogEntry = logEntry;
                 context.add(PreprocessAction.NEWLINE);
             } else {
                 // output intermingled lines at end
                 entangledLogLines.add(logEntry);
                 context.remove(PreprocessAction.NEWLINE);
             }
-        } else if (JdkUtil.parseLogLine(logEntry, null, CollectorFamily.UNKNOWN) instanceof UnifiedConcurrentEvent
-                && !isThrowaway(logEntry)) {
+        } else if (JdkUtil.parseLogLine(logEntry, null, CollectorFamily.UNKNOWN) instanceof UnifiedConcurrentEvent) {
             // Stand alone event
-            if (!context.contains(UnifiedLogging.Tag.GC_START.toString())
-                    || context.contains(TOKEN_BEGINNING_OF_UNIFIED_SHENANDOAH)) {
+            if (!context.contains(Token.GC_START) || context.contains(TOKEN_BEGINNING_OF_UNIFIED_SHENANDOAH)) {
 
-                this.logEntry = logEntry;
+                preprocessedLogEntry = logEntry;
                 context.add(PreprocessAction.NEWLINE);
             } else {
                 // output intermingled lines at end
@@ -1645,32 +1632,60 @@ public class UnifiedPreprocessAction implements PreprocessAction {
         } else if (JdkUtil.parseLogLine(logEntry, null,
                 CollectorFamily.UNKNOWN) instanceof ZMarkStartYoungAndOldEvent) {
             // Stand alone event
-            this.logEntry = logEntry;
+            preprocessedLogEntry = logEntry;
             context.add(PreprocessAction.NEWLINE);
         }
+        return preprocessedLogEntry;
+    }
+
+    /**
+     * The log entry for the event. Can be used for debugging purposes.
+     */
+    private String logEntry;
+
+    /**
+     * Create event from log entry.
+     *
+     * @param priorLogEntry
+     *            The prior log line.
+     * @param logEntry
+     *            The log line.
+     * @param nextLogEntry
+     *            The next log line.
+     * @param entangledLogLines
+     *            Log lines to be output out of order.
+     * @param context
+     *            Information to make preprocessing decisions.
+     */
+    public UnifiedPreprocessAction(String priorLogEntry, String logEntry, String nextLogEntry,
+            List<String> entangledLogLines, PreprocessContext context) {
+        this.logEntry = process(priorLogEntry, logEntry, nextLogEntry, entangledLogLines, context);
     }
 
     /**
      * Convenience method to write out any saved log lines.
      * 
+     * @param logEntry
+     *            The log entry.
      * @param entangledLogLines
      *            Log lines to be output out of order.
-     * @return
+     * @return The log entry followed by the saved log lines.
      */
-    private final void clearEntangledLines(List<String> entangledLogLines) {
+    private static final String clearEntangledLines(String logEntry, List<String> entangledLogLines) {
         if (entangledLogLines != null && !entangledLogLines.isEmpty()) {
             // Output any entangled log lines
             for (String logLine : entangledLogLines) {
                 // Add to prior line if current line is not an ending pattern
-                if (this.logEntry.matches(TimesData.REGEX_JDK9) || !logLine.endsWith(Constants.LINE_SEPARATOR)) {
-                    this.logEntry = this.logEntry + Constants.LINE_SEPARATOR + logLine;
+                if (logEntry.matches(TimesData.REGEX_JDK9) || !logLine.endsWith(Constants.LINE_SEPARATOR)) {
+                    logEntry = logEntry + Constants.LINE_SEPARATOR + logLine;
                 } else {
-                    this.logEntry = this.logEntry + logLine;
+                    logEntry = logEntry + logLine;
                 }
             }
             // Reset entangled log lines
             entangledLogLines.clear();
         }
+        return logEntry;
     }
 
     public String getLogEntry() {
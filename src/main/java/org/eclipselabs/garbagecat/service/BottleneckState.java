@@ -0,0 +1,132 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.domain.SafepointEvent;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+
+/**
+ * <p>
+ * The bottlenecks (events where throughput since the prior event does not meet the throughput goal) found so far, so
+ * only the events added since the bottlenecks were last determined need to be checked (e.g. when the report is
+ * regenerated while following a log).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class BottleneckState {
+
+    /**
+     * The bottleneck log entries.
+     */
+    private List<String> bottlenecks = new ArrayList<String>();
+
+    /**
+     * The number of events checked.
+     */
+    private int eventCount;
+
+    /**
+     * Identifies the events checked. It changes when the events are no longer only added after the events checked
+     * (e.g. they are reordered).
+     */
+    private long generation;
+
+    /**
+     * The date and time the JVM was started, to convert timestamps to datestamps, or null not to convert them.
+     */
+    private Date jvmStartDate;
+
+    /**
+     * The last event checked, or null if no events have been checked.
+     */
+    private SafepointEvent priorEvent;
+
+    /**
+     * The bottleneck reporting throughput threshold.
+     */
+    private int throughputThreshold;
+
+    /**
+     * @param throughputThreshold
+     *            The bottleneck reporting throughput threshold.
+     * @param generation
+     *            Identifies the events checked.
+     * @param jvmStartDate
+     *            The date and time the JVM was started, or null not to convert timestamps to datestamps.
+     */
+    BottleneckState(int throughputThreshold, long generation, Date jvmStartDate) {
+        this.throughputThreshold = throughputThreshold;
+        this.generation = generation;
+        this.jvmStartDate = jvmStartDate;
+    }
+
+    /**
+     * Check the events added since the bottlenecks were last determined.
+     * 
+     * @param events
+     *            The events after the first <code>getEventCount()</code> events.
+     * @return The bottleneck log entries.
+     */
+    List<String> check(List<? extends SafepointEvent> events) {
+        for (SafepointEvent event : events) {
+            if (priorEvent != null && JdkUtil.isBottleneck(event, priorEvent, throughputThreshold)) {
+                if (bottlenecks.isEmpty()) {
+                    // Add current and prior event
+                    bottlenecks.add(logEntry(priorEvent));
+                    bottlenecks.add(logEntry(event));
+                } else if (!logEntry(priorEvent).equals(bottlenecks.get(bottlenecks.size() - 1))) {
+                    bottlenecks.add("...");
+                    bottlenecks.add(logEntry(priorEvent));
+                    bottlenecks.add(logEntry(event));
+                } else {
+                    bottlenecks.add(logEntry(event));
+                }
+            }
+            // Only move past the event after it is checked, so a TimeWarpException is thrown again.
+            priorEvent = event;
+            eventCount++;
+        }
+        return new ArrayList<String>(bottlenecks);
+    }
+
+    int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * @param throughputThreshold
+     *            The bottleneck reporting throughput threshold.
+     * @param generation
+     *            Identifies the events.
+     * @return True if the bottlenecks found so far apply to the threshold and events, false otherwise.
+     */
+    boolean isCurrent(int throughputThreshold, long generation) {
+        return throughputThreshold == this.throughputThreshold && generation == this.generation;
+    }
+
+    /**
+     * @param event
+     *            The event.
+     * @return The event log entry, with timestamps converted to datestamps if the JVM start date is known.
+     */
+    private String logEntry(SafepointEvent event) {
+        return jvmStartDate == null ? event.getLogEntry()
+                : JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate);
+    }
+}
@@ -0,0 +1,212 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.util.GcLogReader;
+
+/**
+ * <p>
+ * Follows a growing garbage collection log, preprocessing and storing logging as it is appended (like
+ * <code>tail -f</code>).
+ * </p>
+ * 
+ * <p>
+ * Each poll reads only the logging appended since the last complete line, in chunks of
+ * <code>GcManager.STREAM_CHUNK_SIZE</code> log lines, so the logging is never held in memory all at once. A partial last
+ * line is read again by the next poll once it is complete, and preprocessing and storing continue from the state left
+ * by the prior poll, so the data store is updated in place and no logging is parsed twice. The last preprocessed log
+ * entry (which can still be appended to by later log lines) and any partial line are stored by <code>finish()</code>.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class GcFollower {
+
+    /**
+     * The file key of the log file when first read.
+     */
+    private String fileKey;
+
+    /**
+     * The <code>GcManager</code> the logging is stored in.
+     */
+    private GcManager gcManager;
+
+    /**
+     * The date and time the JVM was started.
+     */
+    private Date jvmStartDate;
+
+    /**
+     * The garbage collection log file.
+     */
+    private File logFile;
+
+    /**
+     * The number of bytes read, up to the end of the last complete log line.
+     */
+    private long position;
+
+    /**
+     * Whether or not the logging is preprocessed.
+     */
+    private boolean preprocess;
+
+    /**
+     * The preprocessing state, or null if preprocessing has not started.
+     */
+    private PreprocessState preprocessState;
+
+    /**
+     * Whether or not the logging is reordered by timestamp.
+     */
+    private boolean reorder;
+
+    /**
+     * The store state.
+     */
+    private StoreState storeState = new StoreState();
+
+    /**
+     * @param logFile
+     *            The garbage collection log file.
+     * @param gcManager
+     *            The <code>GcManager</code> to store the logging in.
+     * @param jvmStartDate
+     *            The date and time the JVM was started.
+     * @param preprocess
+     *            Whether or not to preprocess the logging.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    public GcFollower(File logFile, GcManager gcManager, Date jvmStartDate, boolean preprocess, boolean reorder) {
+        this.logFile = logFile;
+        this.gcManager = gcManager;
+        this.jvmStartDate = jvmStartDate;
+        this.preprocess = preprocess;
+        this.reorder = reorder;
+    }
+
+    /**
+     * Preprocess and store the remaining logging, including a partial last line.
+     * 
+     * @throws IOException
+     *             if the log file cannot be read.
+     */
+    public void finish() throws IOException {
+        read(true);
+        if (preprocessState != null) {
+            gcManager.finishPreprocessing(preprocessState);
+            List<String> storeLogLines = new ArrayList<String>();
+            List<LogEvent> storeLogEvents = new ArrayList<LogEvent>();
+            preprocessState.finishLogEntries(storeLogLines, storeLogEvents);
+            gcManager.store(storeState, storeLogLines, null, storeLogEvents, reorder);
+            preprocessState = null;
+        }
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Read, preprocess, and store the complete log lines appended since the last poll.
+     * 
+     * @return The number of log lines read, or -1 if the log file was truncated or replaced (e.g. rotated).
+     * @throws IOException
+     *             if the log file cannot be read.
+     */
+    public int poll() throws IOException {
+        long length = logFile.length();
+        String key = GcSnapshot.fileKey(logFile);
+        if (fileKey == null) {
+            fileKey = key;
+        }
+        if (length < position || !fileKey.equals(key)) {
+            return -1;
+        }
+        if (length == position) {
+            return 0;
+        }
+        return read(false);
+    }
+
+    /**
+     * Read, preprocess, and store the logging after the last complete log line, a chunk at a time.
+     * 
+     * @param partial
+     *            Whether or not to read a partial last line.
+     * @return The number of log lines read.
+     * @throws IOException
+     *             if the log file cannot be read.
+     */
+    private int read(boolean partial) throws IOException {
+        int logLineCount = 0;
+        long offset = position;
+        int damagedLineCount = 0;
+        try (GcLogReader reader = GcSnapshot.openReader(logFile, offset)) {
+            List<String> chunk = new ArrayList<String>(GcManager.STREAM_CHUNK_SIZE);
+            String logLine;
+            while ((logLine = reader.readLine()) != null && (partial || reader.isTerminated())) {
+                chunk.add(logLine);
+                position = offset + reader.getPosition();
+                damagedLineCount = reader.getDamagedLineCount();
+                if (chunk.size() == GcManager.STREAM_CHUNK_SIZE) {
+                    logLineCount += store(chunk);
+                    chunk = new ArrayList<String>(GcManager.STREAM_CHUNK_SIZE);
+                }
+            }
+            logLineCount += store(chunk);
+        } finally {
+            // A partial last line is counted when it is complete.
+            gcManager.addDamagedLogLines(damagedLineCount);
+        }
+        return logLineCount;
+    }
+
+    /**
+     * Preprocess and store log lines, holding back the last preprocessed log entry, which can still be appended to.
+     * 
+     * @param logLines
+     *            The log lines.
+     * @return The number of log lines.
+     */
+    private int store(List<String> logLines) {
+        if (logLines.isEmpty()) {
+            return 0;
+        }
+        List<String> storeLogLines = logLines;
+        List<LogEvent> storeLogEvents = null;
+        if (preprocess) {
+            if (preprocessState == null) {
+                preprocessState = gcManager.startPreprocessing(logLines, jvmStartDate);
+            }
+            for (String logLine : logLines) {
+                gcManager.preprocess(preprocessState, logLine);
+            }
+            storeLogLines = new ArrayList<String>();
+            storeLogEvents = new ArrayList<LogEvent>();
+            preprocessState.takeLogEntries(storeLogLines, storeLogEvents);
+        }
+        gcManager.store(storeState, storeLogLines, null, storeLogEvents, reorder);
+        return logLines.size();
+    }
+}
@@ -0,0 +1,346 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.domain.BlankLineEvent;
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.domain.NullEvent;
+import org.eclipselabs.garbagecat.domain.UnknownEvent;
+import org.eclipselabs.garbagecat.domain.jdk.CmsCollector;
+import org.eclipselabs.garbagecat.domain.jdk.G1Collector;
+import org.eclipselabs.garbagecat.domain.jdk.HeaderCommandLineFlagsEvent;
+import org.eclipselabs.garbagecat.domain.jdk.HeaderMemoryEvent;
+import org.eclipselabs.garbagecat.domain.jdk.HeaderVmInfoEvent;
+import org.eclipselabs.garbagecat.domain.jdk.ParallelCollector;
+import org.eclipselabs.garbagecat.domain.jdk.SerialCollector;
+import org.eclipselabs.garbagecat.domain.jdk.ShenandoahCollector;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedBlankLineEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedHeaderEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedLogging;
+import org.eclipselabs.garbagecat.domain.jdk.unified.ZCollector;
+import org.eclipselabs.garbagecat.util.GcLogInput;
+import org.eclipselabs.garbagecat.util.GcLogReader;
+import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.PreprocessActionType;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+
+/**
+ * <p>
+ * The format of garbage collection logging, sniffed from the first <code>SNIFF_SIZE</code> characters: the decorator
+ * style (legacy or unified), the JDK version, and the collector family.
+ * </p>
+ * 
+ * <p>
+ * The format is used to narrow parsing and preprocessing for the whole run (e.g. the unified preprocessing is not
+ * tried on legacy logging, and the unified collector family candidates are used from the first log line), and to
+ * reject a file that is clearly not garbage collection logging before it is read.
+ * </p>
+ * 
+ * <p>
+ * The collector family is taken from the unified header, if there is one. Otherwise it is inferred from the garbage
+ * collection events, and left <code>CollectorFamily.UNKNOWN</code> if they point to more than one collector family
+ * (e.g. <code>UNIFIED_SERIAL_OLD</code> is logged by both the serial and parallel collectors).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class GcLogFormat {
+
+    /**
+     * Logging decorator styles.
+     */
+    public enum Decorator {
+        LEGACY, UNIFIED, UNKNOWN
+    }
+
+    /**
+     * The number of characters at the start of the logging used to determine the format.
+     */
+    public static final int SNIFF_SIZE = 16 * 1024;
+
+    /**
+     * The format when nothing is known about the logging. Nothing is narrowed.
+     */
+    public static final GcLogFormat UNKNOWN = new GcLogFormat();
+
+    /**
+     * A log line starting with a legacy decorator (e.g. <code>2020-03-10T08:03:29.311-0400: 0.373:</code>).
+     */
+    private static final Pattern LEGACY_DECORATOR_PATTERN = Pattern.compile("^" + JdkRegEx.DECORATOR);
+
+    /**
+     * A log line starting with a unified decorator (e.g. <code>[0.009s][info][gc]</code>).
+     */
+    private static final Pattern UNIFIED_DECORATOR_PATTERN = Pattern.compile("^" + UnifiedRegEx.DECORATOR);
+
+    /**
+     * @param event
+     *            The log event.
+     * @return The <code>CollectorFamily</code> that logs the event, or <code>CollectorFamily.UNKNOWN</code> if the
+     *         event is not specific to one collector family.
+     */
+    private static CollectorFamily getCollectorFamily(LogEvent event) {
+        CollectorFamily collectorFamily = CollectorFamily.UNKNOWN;
+        if (event instanceof CmsCollector) {
+            collectorFamily = CollectorFamily.CMS;
+        } else if (event instanceof G1Collector) {
+            collectorFamily = CollectorFamily.G1;
+        } else if (event instanceof ParallelCollector) {
+            collectorFamily = CollectorFamily.PARALLEL;
+        } else if (event instanceof SerialCollector) {
+            collectorFamily = CollectorFamily.SERIAL;
+        } else if (event instanceof ShenandoahCollector) {
+            collectorFamily = CollectorFamily.SHENANDOAH;
+        } else if (event instanceof ZCollector) {
+            collectorFamily = CollectorFamily.Z;
+        }
+        return collectorFamily;
+    }
+
+    /**
+     * @param logLines
+     *            Garbage collection logging.
+     * @return The log lines in the first <code>SNIFF_SIZE</code> characters.
+     */
+    public static List<String> head(List<String> logLines) {
+        int size = 0;
+        int count = 0;
+        while (count < logLines.size() && size < SNIFF_SIZE) {
+            size += logLines.get(count).length() + 1;
+            count++;
+        }
+        return logLines.subList(0, count);
+    }
+
+    /**
+     * Reject a file that is clearly not garbage collection logging, so it is not read and parsed in full.
+     * 
+     * @param logFile
+     *            The garbage collection log file (plain or compressed).
+     * @throws IOException
+     *             if the log file cannot be read.
+     * @throws IllegalArgumentException
+     *             if the log file is not garbage collection logging.
+     */
+    public static void verify(File logFile) throws IOException {
+        if (!sniff(logFile).isGcLog()) {
+            throw new IllegalArgumentException(logFile.getPath() + " is not a gc log.");
+        }
+    }
+
+    /**
+     * Sniff the format of a garbage collection log file from the first <code>SNIFF_SIZE</code> characters.
+     * 
+     * @param logFile
+     *            The garbage collection log file (plain or compressed).
+     * @return The <code>GcLogFormat</code>.
+     * @throws IOException
+     *             if the log file cannot be read.
+     */
+    public static GcLogFormat sniff(File logFile) throws IOException {
+        List<String> logLines = new ArrayList<String>();
+        try (GcLogReader reader = GcLogInput.reader(logFile)) {
+            int size = 0;
+            String logLine;
+            while (size < SNIFF_SIZE && (logLine = reader.readLine()) != null) {
+                logLines.add(logLine);
+                size += logLine.length() + 1;
+            }
+        }
+        return sniff(logLines);
+    }
+
+    /**
+     * Sniff the format of garbage collection logging from the first <code>SNIFF_SIZE</code> characters.
+     * 
+     * @param logLines
+     *            The garbage collection logging.
+     * @return The <code>GcLogFormat</code>.
+     */
+    public static GcLogFormat sniff(List<String> logLines) {
+        GcLogFormat format = new GcLogFormat();
+        CollectorFamily headerCollectorFamily = CollectorFamily.UNKNOWN;
+        CollectorFamily eventCollectorFamily = null;
+        int identified = 0;
+        int legacy = 0;
+        int nonBlank = 0;
+        int unified = 0;
+        LogEvent priorLogEvent = new NullEvent();
+        for (String logLine : head(logLines)) {
+            if (logLine.indexOf('\u0000') >= 0) {
+                format.binary = true;
+            }
+            LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, headerCollectorFamily);
+            if (event instanceof BlankLineEvent || event instanceof UnifiedBlankLineEvent) {
+                continue;
+            }
+            nonBlank++;
+            priorLogEvent = event;
+            // Raw logging is not identified until it is preprocessed, so the decorator is checked separately.
+            if (UNIFIED_DECORATOR_PATTERN.matcher(logLine).lookingAt() || event instanceof UnifiedLogging) {
+                unified++;
+            } else if (LEGACY_DECORATOR_PATTERN.matcher(logLine).lookingAt()
+                    || event instanceof HeaderCommandLineFlagsEvent || event instanceof HeaderMemoryEvent
+                    || event instanceof HeaderVmInfoEvent) {
+                legacy++;
+            }
+            if (event instanceof UnknownEvent) {
+                continue;
+            }
+            identified++;
+            if (event instanceof HeaderVmInfoEvent) {
+                format.jdkVersionMajor = ((HeaderVmInfoEvent) event).getJdkVersionMajor();
+                format.jdkVersionMinor = ((HeaderVmInfoEvent) event).getJdkVersionMinor();
+            } else if (event instanceof UnifiedHeaderEvent) {
+                if (((UnifiedHeaderEvent) event).isVersion()) {
+                    format.jdkVersionMajor = ((UnifiedHeaderEvent) event).getJdkVersionMajor();
+                    format.jdkVersionMinor = ((UnifiedHeaderEvent) event).getJdkVersionMinor();
+                } else if (((UnifiedHeaderEvent) event).isGarbageCollector()) {
+                    headerCollectorFamily = ((UnifiedHeaderEvent) event).getCollectorFamily();
+                }
+            } else {
+                CollectorFamily collectorFamily = getCollectorFamily(event);
+                if (collectorFamily != CollectorFamily.UNKNOWN) {
+                    if (eventCollectorFamily == null) {
+                        eventCollectorFamily = collectorFamily;
+                    } else if (eventCollectorFamily != collectorFamily) {
+                        eventCollectorFamily = CollectorFamily.UNKNOWN;
+                    }
+                }
+            }
+        }
+        if (unified > 0 && legacy == 0) {
+            format.decorator = Decorator.UNIFIED;
+        } else if (legacy > 0 && unified == 0) {
+            format.decorator = Decorator.LEGACY;
+        }
+        if (headerCollectorFamily != CollectorFamily.UNKNOWN) {
+            format.collectorFamily = headerCollectorFamily;
+        } else if (eventCollectorFamily != null) {
+            format.collectorFamily = eventCollectorFamily;
+        }
+        format.unidentified = nonBlank > 0 && identified == 0 && legacy == 0 && unified == 0;
+        return format;
+    }
+
+    /**
+     * Whether or not the logging has binary content (e.g. a heap dump or core file).
+     */
+    private boolean binary;
+
+    /**
+     * The collector family, or <code>CollectorFamily.UNKNOWN</code> if it cannot be determined.
+     */
+    private CollectorFamily collectorFamily = CollectorFamily.UNKNOWN;
+
+    /**
+     * The decorator style, or <code>Decorator.UNKNOWN</code> if it cannot be determined.
+     */
+    private Decorator decorator = Decorator.UNKNOWN;
+
+    /**
+     * The JDK major version, or <code>Integer.MIN_VALUE</code> if it is not logged.
+     */
+    private int jdkVersionMajor = Integer.MIN_VALUE;
+
+    /**
+     * The JDK minor version, or <code>Integer.MIN_VALUE</code> if it is not logged.
+     */
+    private int jdkVersionMinor = Integer.MIN_VALUE;
+
+    /**
+     * Whether or not there are log lines and none of them is identified or has a decorator.
+     */
+    private boolean unidentified;
+
+    private GcLogFormat() {
+    }
+
+    public CollectorFamily getCollectorFamily() {
+        return collectorFamily;
+    }
+
+    public Decorator getDecorator() {
+        return decorator;
+    }
+
+    public int getJdkVersionMajor() {
+        return jdkVersionMajor;
+    }
+
+    public int getJdkVersionMinor() {
+        return jdkVersionMinor;
+    }
+
+    /**
+     * @return True if the logging is garbage collection logging or could be (e.g. it is empty), false if it clearly is
+     *         not (it has binary content, or none of the log lines sniffed is identified or has a decorator).
+     */
+    public boolean isGcLog() {
+        return !binary && !unidentified;
+    }
+
+    /**
+     * @param preprocessActionType
+     *            The preprocess action type.
+     * @return True if the preprocess action can apply to the logging, false if it cannot (e.g. the
+     *         <code>UnifiedPreprocessAction</code> for legacy logging, or the <code>CmsPreprocessAction</code> for G1
+     *         logging).
+     */
+    public boolean isPreprocessCandidate(PreprocessActionType preprocessActionType) {
+        boolean candidate;
+        switch (preprocessActionType) {
+        case UNIFIED:
+            candidate = decorator != Decorator.LEGACY;
+            break;
+        case CMS:
+            candidate = isLegacyCandidate(CollectorFamily.CMS);
+            break;
+        case G1:
+            candidate = isLegacyCandidate(CollectorFamily.G1);
+            break;
+        case PARALLEL:
+            candidate = isLegacyCandidate(CollectorFamily.PARALLEL);
+            break;
+        case SERIAL:
+            candidate = isLegacyCandidate(CollectorFamily.SERIAL);
+            break;
+        case SHENANDOAH:
+            candidate = isLegacyCandidate(CollectorFamily.SHENANDOAH);
+            break;
+        default:
+            candidate = true;
+            break;
+        }
+        return candidate;
+    }
+
+    /**
+     * @param preprocessCollectorFamily
+     *            The collector family of a legacy preprocess action.
+     * @return True if the legacy preprocess action can apply to the logging, false otherwise.
+     */
+    private boolean isLegacyCandidate(CollectorFamily preprocessCollectorFamily) {
+        return decorator != Decorator.UNIFIED
+                && (collectorFamily == CollectorFamily.UNKNOWN || collectorFamily == preprocessCollectorFamily);
+    }
+}
@@ -0,0 +1,450 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.domain.jdk.LogFileEvent;
+import org.eclipselabs.garbagecat.util.GcLogInput;
+import org.eclipselabs.garbagecat.util.GcLogReader;
+import org.eclipselabs.garbagecat.util.jdk.JdkMath;
+import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+
+/**
+ * <p>
+ * A set of rotated garbage collection log files written by one JVM run, read as one continuous log.
+ * </p>
+ * 
+ * <p>
+ * JDK8 and prior (<code>-XX:+UseGCLogFileRotation</code>) writes <code>gc.log.0</code>...<code>gc.log.N</code>, with
+ * the file currently being written named <code>gc.log.N.current</code>. Unified logging
+ * (<code>-Xlog:gc*:file=gc.log::filecount=N</code>) writes <code>gc.log</code> and archives it to
+ * <code>gc.log.0</code>...<code>gc.log.N</code>. In both cases the file numbers are reused cyclically, so the files
+ * are ordered by the first timestamp in each file, not by name.
+ * </p>
+ * 
+ * <p>
+ * The files are read line by line and merged by timestamp (a k-way merge), so the logging is never held in memory all
+ * at once. A log line without a timestamp (e.g. a header or the continuation of a multi-line event) stays with the file
+ * it was read from. <code>LogFileEvent</code> lines marking rotation are dropped after the first, so they do not show up
+ * in the middle of the merged logging.
+ * </p>
+ * 
+ * <p>
+ * Rotated files can be gzip or zip compressed (e.g. <code>gc.log.3.gz</code>). A compressed file is decompressed on a
+ * separate thread starting when the file before it is opened, so decompression overlaps with parsing.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class GcLogSet {
+
+    /**
+     * A log file being read, positioned at its next log line. The log file is opened when it is first needed.
+     */
+    private static class Cursor implements Closeable {
+
+        private File logFile;
+
+        /**
+         * The next log line, or null at the end of the file.
+         */
+        private String logLine;
+
+        /**
+         * The order of the file in the log set.
+         */
+        private int rank;
+
+        /**
+         * The log file reader, or null if not opened.
+         */
+        private GcLogReader reader;
+
+        /**
+         * The log file bytes, or null if not opened or prefetched.
+         */
+        private InputStream stream;
+
+        /**
+         * The timestamp of the logging the cursor is positioned in.
+         */
+        private long timestamp;
+
+        Cursor(File logFile, int rank, long timestamp) {
+            this.logFile = logFile;
+            this.rank = rank;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * Move to the next log line.
+         * 
+         * @return The next log line timestamp, or -1 if it has none.
+         */
+        long advance() {
+            try {
+                logLine = reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return logLine == null ? -1 : getTimestamp(logLine);
+        }
+
+        public void close() throws IOException {
+            if (reader != null) {
+                reader.close();
+            } else if (stream != null) {
+                stream.close();
+            }
+        }
+
+        /**
+         * Open the log file and move to the first log line.
+         * 
+         * @return True if the log file has a log line, false otherwise.
+         */
+        boolean open() {
+            try {
+                prefetch();
+                reader = new GcLogReader(stream);
+                logLine = reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return logLine != null;
+        }
+
+        /**
+         * Start reading the log file, decompressing it on a separate thread if it is compressed.
+         * 
+         * @throws IOException
+         *             if the log file cannot be opened.
+         */
+        void prefetch() throws IOException {
+            if (stream == null) {
+                stream = GcLogInput.prefetch(logFile);
+            }
+        }
+    }
+
+    /**
+     * An iterator over the log lines of all files in the log set, merged by timestamp.
+     */
+    private static class MergedLogLines implements Iterator<String>, Closeable {
+
+        private Cursor current;
+
+        /**
+         * The cursors, in log set order.
+         */
+        private List<Cursor> cursors = new ArrayList<Cursor>();
+
+        /**
+         * The number of log lines with malformed bytes.
+         */
+        private int damagedLineCount;
+
+        /**
+         * Whether or not a <code>LogFileEvent</code> line has been returned.
+         */
+        private boolean logFileEventReturned;
+
+        private String next;
+
+        private PriorityQueue<Cursor> queue = new PriorityQueue<Cursor>(
+                Comparator.comparingLong((Cursor c) -> c.timestamp).thenComparingInt(c -> c.rank));
+
+        MergedLogLines(List<File> logFiles, List<Long> firstTimestamps) {
+            for (int i = 0; i < logFiles.size(); i++) {
+                cursors.add(new Cursor(logFiles.get(i), i, firstTimestamps.get(i)));
+            }
+            queue.addAll(cursors);
+            next = read();
+        }
+
+        public void close() throws IOException {
+            for (Cursor cursor : cursors) {
+                cursor.close();
+            }
+        }
+
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        public String next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            String logLine = next;
+            next = read();
+            return logLine;
+        }
+
+        /**
+         * @return The next merged log line, or null if there are no more log lines.
+         */
+        private String read() {
+            while (true) {
+                if (current == null) {
+                    current = queue.poll();
+                    if (current == null) {
+                        return null;
+                    }
+                    if (current.reader == null) {
+                        boolean empty = !current.open();
+                        // Decompress the next file while this one is parsed.
+                        if (current.rank + 1 < cursors.size()) {
+                            try {
+                                cursors.get(current.rank + 1).prefetch();
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }
+                        if (empty) {
+                            closeCurrent();
+                            continue;
+                        }
+                    }
+                }
+                String logLine = current.logLine;
+                long timestamp = current.advance();
+                if (current.logLine == null) {
+                    closeCurrent();
+                } else if (timestamp >= 0) {
+                    current.timestamp = timestamp;
+                    // Switch files when another file has earlier logging.
+                    if (!queue.isEmpty() && timestamp > queue.peek().timestamp) {
+                        queue.add(current);
+                        current = null;
+                    }
+                }
+                if (isLogFileEvent(logLine)) {
+                    if (logFileEventReturned) {
+                        continue;
+                    }
+                    logFileEventReturned = true;
+                }
+                return logLine;
+            }
+        }
+
+        private void closeCurrent() {
+            if (current.reader != null) {
+                damagedLineCount += current.reader.getDamagedLineCount();
+            }
+            try {
+                current.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            current = null;
+        }
+    }
+
+    /**
+     * The maximum number of log lines read to find the first timestamp in a log file.
+     */
+    static final int FIRST_TIMESTAMP_LINES = 1000;
+
+    /**
+     * Rotated log file name suffix: the file number, optionally followed by ".current" (JDK8 and prior), and the
+     * compressed file extension, if any.
+     */
+    private static final Pattern ROTATED_SUFFIX = Pattern.compile("^(.+?)(\\.\\d+(\\.current)?)?(\\.gz|\\.zip)?$");
+
+    /**
+     * Log line timestamp: unified logging or JDK8 and prior decorator.
+     */
+    private static final Pattern TIMESTAMP = Pattern.compile("^\\[(?:(?<ud>" + JdkRegEx.DATESTAMP + ")|(?<us>"
+            + JdkRegEx.TIMESTAMP + ")s|(?<um>\\d+)ms)\\](?:\\[(?:(?<us2>" + JdkRegEx.TIMESTAMP
+            + ")s|(?<um2>\\d+)ms)\\])?|^(?:(?<ld>" + JdkRegEx.DATESTAMP + "): )?(?:(?<ls>" + JdkRegEx.TIMESTAMP
+            + "): )?");
+
+    /**
+     * Find the rotated log files in the same set as a log file.
+     * 
+     * @param logFile
+     *            A log file in the set (e.g. <code>gc.log</code>, <code>gc.log.3</code>, or
+     *            <code>gc.log.3.current</code>).
+     * @return The log files in the set, ordered by name, or only the log file if it is not rotated.
+     */
+    public static List<File> find(File logFile) {
+        Matcher matcher = ROTATED_SUFFIX.matcher(logFile.getName());
+        String baseName = matcher.matches() ? matcher.group(1) : logFile.getName();
+        File dir = logFile.getAbsoluteFile().getParentFile();
+        File[] siblings = dir == null ? null : dir.listFiles(file -> {
+            if (!file.isFile()) {
+                return false;
+            }
+            Matcher m = ROTATED_SUFFIX.matcher(file.getName());
+            return m.matches() && m.group(1).equals(baseName);
+        });
+        if (siblings == null || siblings.length == 0) {
+            return Arrays.asList(logFile);
+        }
+        Arrays.sort(siblings);
+        List<File> logFiles = new ArrayList<File>();
+        for (File sibling : siblings) {
+            logFiles.add(logFile.getParentFile() == null ? new File(sibling.getName())
+                    : new File(logFile.getParentFile(), sibling.getName()));
+        }
+        return logFiles;
+    }
+
+    /**
+     * @param logFile
+     *            The log file.
+     * @return The first log line timestamp in the log file, or -1 if none is found.
+     * @throws IOException
+     *             if the log file cannot be read.
+     */
+    static long getFirstTimestamp(File logFile) throws IOException {
+        try (GcLogReader reader = GcLogInput.reader(logFile)) {
+            String logLine;
+            for (int i = 0; i < FIRST_TIMESTAMP_LINES && (logLine = reader.readLine()) != null; i++) {
+                long timestamp = getTimestamp(logLine);
+                if (timestamp >= 0) {
+                    return timestamp;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @return The log line timestamp (milliseconds after JVM startup, or after a fixed date for datestamps), or -1 if
+     *         the log line has no decorator.
+     */
+    static long getTimestamp(String logLine) {
+        if (logLine.isEmpty() || !(logLine.charAt(0) == '[' || Character.isDigit(logLine.charAt(0)))) {
+            return -1;
+        }
+        Matcher matcher = TIMESTAMP.matcher(logLine);
+        if (!matcher.lookingAt()) {
+            return -1;
+        }
+        // Prefer uptime to datestamp.
+        for (String group : new String[] { "us", "us2", "ls" }) {
+            if (matcher.group(group) != null) {
+                return JdkMath.convertSecsToMillis(matcher.group(group)).longValue();
+            }
+        }
+        for (String group : new String[] { "um", "um2" }) {
+            if (matcher.group(group) != null) {
+                return Long.parseLong(matcher.group(group));
+            }
+        }
+        for (String group : new String[] { "ud", "ld" }) {
+            if (matcher.group(group) != null) {
+                return JdkUtil.convertDatestampToMillis(matcher.group(group));
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @return True if the log line is a <code>LogFileEvent</code>.
+     */
+    private static boolean isLogFileEvent(String logLine) {
+        return logLine.indexOf(" GC log ") > 0 && LogFileEvent.match(logLine);
+    }
+
+    /**
+     * The first log line timestamp in each log file.
+     */
+    private List<Long> firstTimestamps = new ArrayList<Long>();
+
+    /**
+     * The log files, in logging order.
+     */
+    private List<File> logFiles = new ArrayList<File>();
+
+    /**
+     * @param logFiles
+     *            The log files in the set, in any order.
+     * @throws IOException
+     *             if a log file cannot be read.
+     */
+    public GcLogSet(List<File> logFiles) throws IOException {
+        List<File> files = new ArrayList<File>(logFiles);
+        List<Long> timestamps = new ArrayList<Long>();
+        for (File logFile : files) {
+            timestamps.add(getFirstTimestamp(logFile));
+        }
+        // Order by first timestamp; files without one keep their name order, after files with one.
+        List<Integer> order = new ArrayList<Integer>();
+        for (int i = 0; i < files.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingLong((Integer i) -> timestamps.get(i) < 0 ? Long.MAX_VALUE : timestamps.get(i))
+                .thenComparingInt(i -> i));
+        for (int i : order) {
+            this.logFiles.add(files.get(i));
+            this.firstTimestamps.add(timestamps.get(i) < 0 ? Long.MAX_VALUE : timestamps.get(i));
+        }
+    }
+
+    /**
+     * @return The log files, in logging order.
+     */
+    public List<File> getLogFiles() {
+        return logFiles;
+    }
+
+    /**
+     * Read, preprocess, and store the merged logging.
+     * 
+     * @param gcManager
+     *            The <code>GcManager</code> to store the logging in.
+     * @param jvmStartDate
+     *            The date and time the JVM was started.
+     * @param preprocess
+     *            Whether or not to preprocess the logging.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     * @return The number of log lines read.
+     * @throws IOException
+     *             if a log file cannot be read.
+     */
+    public int parse(GcManager gcManager, Date jvmStartDate, boolean preprocess, boolean reorder) throws IOException {
+        try (MergedLogLines logLines = new MergedLogLines(logFiles, firstTimestamps)) {
+            int logLineCount = gcManager.stream(logLines, jvmStartDate, preprocess, reorder);
+            gcManager.addDamagedLogLines(logLines.damagedLineCount);
+            return logLineCount;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
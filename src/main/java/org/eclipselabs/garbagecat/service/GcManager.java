@@ -16,13 +16,13 @@ import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.BYTES;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Matcher;
 
 import org.eclipselabs.garbagecat.Main;
@@ -51,6 +51,7 @@ import org.eclipselabs.garbagecat.domain.jdk.G1Collector;
 import org.eclipselabs.garbagecat.domain.jdk.G1ExtRootScanningData;
 import org.eclipselabs.garbagecat.domain.jdk.G1FullGcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.G1YoungInitialMarkEvent;
+import org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseAccumulator;
 import org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseEvent;
 import org.eclipselabs.garbagecat.domain.jdk.GcEvent;
 import org.eclipselabs.garbagecat.domain.jdk.GcLockerScavengeFailedEvent;
@@ -69,6 +70,7 @@ import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.VmWarningEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZStatsEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
 import org.eclipselabs.garbagecat.preprocess.jdk.ApplicationStoppedTimePreprocessAction;
 import org.eclipselabs.garbagecat.preprocess.jdk.CmsPreprocessAction;
 import org.eclipselabs.garbagecat.preprocess.jdk.G1PreprocessAction;
@@ -79,6 +81,8 @@ import org.eclipselabs.garbagecat.preprocess.jdk.unified.UnifiedPreprocessAction
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.GcUtil;
 import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.Profiler;
+import org.eclipselabs.garbagecat.util.Profiler.Stage;
 import org.eclipselabs.garbagecat.util.jdk.Analysis;
 import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
@@ -86,7 +90,11 @@ import org.eclipselabs.garbagecat.util.jdk.JdkRegEx;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.PreprocessActionType;
+import org.eclipselabs.garbagecat.util.jdk.LogEventRanking;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jfr.EventBatch;
+import org.eclipselabs.garbagecat.util.jfr.PipelineEvent;
 import org.github.joa.JvmOptions;
 import org.github.joa.domain.Bit;
 import org.github.joa.domain.GarbageCollector;
@@ -102,10 +110,25 @@ import org.github.joa.domain.GarbageCollector;
  */
 public class GcManager {
 
+    /**
+     * The number of log lines preprocessed and stored at a time when streaming logging.
+     */
+    public static final int STREAM_CHUNK_SIZE = 10000;
+
     private static boolean greater(Memory memory, int value) {
         return memory != null && memory.getValue(KILOBYTES) > value;
     }
 
+    /**
+     * The number of log lines with malformed bytes, which were replaced when the logging was read.
+     */
+    private int damagedLogLineCount;
+
+    /**
+     * The <code>BlockingEvent</code> bottlenecks found so far, or null if they have not been determined.
+     */
+    private BottleneckState gcBottleneckState;
+
     /**
      * The JVM data access object.
      */
@@ -126,6 +149,37 @@ public class GcManager {
      */
     private boolean preprocessed;
 
+    /**
+     * Profiles parsing, or null if not profiling.
+     */
+    private Profiler profiler;
+
+    /**
+     * Tries the most frequent log event candidates first when identifying log lines.
+     */
+    private final LogEventRanking ranking = new LogEventRanking();
+
+    /**
+     * The <code>LogEventType</code> of each stored log line, or null if not recording for a snapshot.
+     */
+    private List<LogEventType> recordedEventTypes;
+
+    /**
+     * The stored log lines, or null if not recording for a snapshot.
+     */
+    private List<String> recordedLogLines;
+
+    /**
+     * The <code>SafepointEvent</code> bottlenecks found so far, or null if they have not been determined.
+     */
+    private BottleneckState safepointBottleneckState;
+
+    /**
+     * Whether slow log lines are recorded (see <code>PipelineEvent.slowLine</code>). Checked once when preprocessing or
+     * storing starts, so no event is created for each log line when they are not recorded.
+     */
+    private boolean slowLineEnabled;
+
     /**
      * Default constructor.
      */
@@ -144,41 +198,51 @@ public class GcManager {
         this.jvmStartDate = jvmStartDate;
     }
 
+    /**
+     * Count log lines with malformed bytes, which were replaced when the logging was read.
+     * 
+     * @param count
+     *            The number of damaged log lines.
+     */
+    public void addDamagedLogLines(int count) {
+        damagedLogLineCount += count;
+    }
+
+    /**
+     * Add preprocessed log lines as new log entries, skipping empty lines.
+     * 
+     * @param state
+     *            The preprocessing state.
+     * @param preprocessedLogLines
+     *            The preprocessed log lines.
+     * @param fromIndex
+     *            The index of the first log line to add.
+     */
+    private static void addLogEntries(PreprocessState state, List<String> preprocessedLogLines, int fromIndex) {
+        for (int i = fromIndex; i < preprocessedLogLines.size(); i++) {
+            if (!preprocessedLogLines.get(i).isEmpty()) {
+                state.addLogEntry(preprocessedLogLines.get(i));
+            }
+        }
+    }
+
     /**
      * Allocation rate in KB per second.
      */
     private BigDecimal getAllocationRate() {
-        List<BlockingEvent> blockingEvents = jvmDao.getBlockingEvents(LogEventType.G1_YOUNG_PAUSE);
+        G1YoungPauseEvent first = jvmDao.getFirstG1YoungPauseEvent();
 
-        if (blockingEvents.isEmpty())
+        if (first == null)
             return BigDecimal.ZERO;
 
-        long allocatedKb = 0;
-        G1YoungPauseEvent prior = null;
-        long firstEventTs = 0;
-        for (BlockingEvent event : blockingEvents) {
-            G1YoungPauseEvent young = (G1YoungPauseEvent) event;
-            if (prior == null) {
-                // skip the first event since we don't know if this is a complete JVM run
-                // and therefore can't accurately calculate allocation rate prior to the first
-                // log
-                // youngGc pause event
-                prior = young;
-                firstEventTs = prior.getTimestamp();
-                continue;
-            }
-            // will not have eden information if gc details not being logged
-            if (young.getEdenOccupancyInit() != null && prior.getEdenOccupancyEnd() != null) {
-                allocatedKb += young.getEdenOccupancyInit().minus(prior.getEdenOccupancyEnd()).getValue(KILOBYTES);
-            }
-            prior = young;
-        }
-
-        BigDecimal durationMs = BigDecimal.valueOf(prior.getTimestamp() - firstEventTs);
+        // skip the first event since we don't know if this is a complete JVM run and therefore can't accurately
+        // calculate allocation rate prior to the first log youngGc pause event
+        BigDecimal durationMs = BigDecimal
+                .valueOf(jvmDao.getLastG1YoungPauseEvent().getTimestamp() - first.getTimestamp());
         if (durationMs.longValue() <= 0)
             return BigDecimal.ZERO;
 
-        Memory allocated = Memory.kilobytes(allocatedKb);
+        Memory allocated = Memory.kilobytes(jvmDao.getAllocatedKilobytes());
 
         BigDecimal kilobytesPerSec = BigDecimal.valueOf(allocated.getValue(KILOBYTES) / durationMs.longValue());
 
@@ -186,7 +250,8 @@ public class GcManager {
     }
 
     /**
-     * Determine <code>BlockingEvent</code>s where throughput since last event does not meet the throughput goal.
+     * Determine <code>BlockingEvent</code>s where throughput since last event does not meet the throughput goal. Only
+     * the events added since the bottlenecks were last determined are checked, unless events were reordered.
      * 
      * @param throughputThreshold
      *            The bottleneck reporting throughput threshold.
@@ -194,52 +259,11 @@ public class GcManager {
      *         throughput threshold goal.
      */
     private List<String> getGcBottlenecks(int throughputThreshold) {
-        List<String> bottlenecks = new ArrayList<String>();
-        List<BlockingEvent> blockingEvents = jvmDao.getBlockingEvents();
-        BlockingEvent priorEvent = null;
-        for (BlockingEvent event : blockingEvents) {
-            if (priorEvent != null && JdkUtil.isBottleneck(event, priorEvent, throughputThreshold)) {
-                if (bottlenecks.isEmpty()) {
-                    // Add current and prior event
-                    if (jvmStartDate != null) {
-                        // Convert uptime to datetime
-                        bottlenecks.add(
-                                JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate));
-                        bottlenecks
-                                .add(JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                    } else {
-                        bottlenecks.add(priorEvent.getLogEntry());
-                        bottlenecks.add(event.getLogEntry());
-                    }
-                } else {
-                    if (jvmStartDate != null) {
-                        // Compare datetime, since bottleneck has datetime
-                        if (!JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate)
-                                .equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(),
-                                    jvmStartDate));
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        } else {
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        }
-                    } else {
-                        // Compare timestamps, since bottleneck has timestamp
-                        if (!priorEvent.getLogEntry().equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(priorEvent.getLogEntry());
-                            bottlenecks.add(event.getLogEntry());
-                        } else {
-                            bottlenecks.add(event.getLogEntry());
-                        }
-                    }
-                }
-            }
-            priorEvent = event;
+        int generation = jvmDao.getBlockingEventsReorderCount();
+        if (gcBottleneckState == null || !gcBottleneckState.isCurrent(throughputThreshold, generation)) {
+            gcBottleneckState = new BottleneckState(throughputThreshold, generation, jvmStartDate);
         }
-        return bottlenecks;
+        return gcBottleneckState.check(jvmDao.getBlockingEvents(gcBottleneckState.getEventCount()));
     }
 
     /**
@@ -265,9 +289,12 @@ public class GcManager {
         jvmRun.setJvmOptions(new JvmOptions(jvmDao.getJvmContext()));
 
         jvmRun.setAllocationRate(getAllocationRate());
-        jvmRun.setAnalysis(jvmDao.getAnalysis());
+        // Copy lists changed by analysis, so the run can be regenerated (e.g. when following a log).
+        List<Analysis> analysis = new ArrayList<Analysis>(jvmDao.getAnalysis());
+        jvmRun.setAnalysis(analysis);
         jvmRun.setBlockingEventCount(jvmDao.getBlockingEventCount());
-        jvmRun.setEventTypes(jvmDao.getEventTypes());
+        jvmRun.setDamagedLogLineCount(damagedLogLineCount);
+        jvmRun.setEventTypes(new ArrayList<LogEventType>(jvmDao.getEventTypes()));
         jvmRun.setExtRootScanningTimeMax(jvmDao.getExtRootScanningTimeMax());
         jvmRun.setExtRootScanningTimeTotal(jvmDao.getExtRootScanningTimeTotal());
         jvmRun.setFirstGcEvent(jvmDao.getFirstGcEvent());
@@ -312,7 +339,7 @@ public class GcManager {
         jvmRun.setSwap(new Memory(jvmDao.getSwap(), BYTES));
         jvmRun.setSwapFree(new Memory(jvmDao.getSwapFree(), BYTES));
         jvmRun.setSysGtUserCount(jvmDao.getSysGtUserCount());
-        jvmRun.setUnidentifiedLogLines(jvmDao.getUnidentifiedLogLines());
+        jvmRun.setUnidentifiedLogLines(new ArrayList<String>(jvmDao.getUnidentifiedLogLines()));
         jvmRun.setUnifiedSafepointEventCount(jvmDao.getUnifiedSafepointEventCount());
         jvmRun.setUnifiedSafepointTimeMax(jvmDao.getUnifiedSafepointTimeMax());
         jvmRun.setUnifiedSafepointTimeTotal(jvmDao.getUnifiedSafepointTimeTotal());
@@ -329,20 +356,14 @@ public class GcManager {
             // Approximate JVM start date: log file create date - first event timestamp
             jvmRun.setStartDate(
                     GcUtil.getDateMinusTimestamp(jvmRun.getLogFileDate(), jvmRun.getFirstEvent().getTimestamp()));
-            jvmDao.getAnalysis().add(0, Analysis.WARN_DATESTAMP_APPROXIMATE);
-            jvmRun.setAnalysis(jvmDao.getAnalysis());
+            analysis.add(0, Analysis.WARN_DATESTAMP_APPROXIMATE);
         }
         // Check for CMS running in incremental mode
         if (jvmDao.getJvmContext().getGarbageCollectors().contains(GarbageCollector.CMS)) {
-            List<BlockingEvent> cmsIncrementalModeEvents = jvmDao.getCmsIncrementalModeCollectorEvents();
-            if (!cmsIncrementalModeEvents.isEmpty()) {
-                Iterator<BlockingEvent> iterator = cmsIncrementalModeEvents.iterator();
-                if (iterator.hasNext()) {
-                    CmsIncrementalModeCollector cmsIncrementalModeEvent = (CmsIncrementalModeCollector) iterator.next();
-                    if (cmsIncrementalModeEvent.isIncrementalMode()) {
-                        jvmRun.getJvmOptions().addAnalysis((org.github.joa.util.Analysis.INFO_CMS_INCREMENTAL_MODE));
-                    }
-                }
+            CmsIncrementalModeCollector cmsIncrementalModeEvent = (CmsIncrementalModeCollector) jvmDao
+                    .getCmsIncrementalModeCollectorEvent();
+            if (cmsIncrementalModeEvent != null && cmsIncrementalModeEvent.isIncrementalMode()) {
+                jvmRun.getJvmOptions().addAnalysis((org.github.joa.util.Analysis.INFO_CMS_INCREMENTAL_MODE));
             }
         }
 
@@ -351,10 +372,30 @@ public class GcManager {
         return jvmRun;
     }
 
+    int getDamagedLogLineCount() {
+        return damagedLogLineCount;
+    }
+
     public String getLastLogLineUnprocessed() {
         return lastLogLineUnprocessed;
     }
 
+    JvmDao getJvmDao() {
+        return jvmDao;
+    }
+
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
+    List<LogEventType> getRecordedEventTypes() {
+        return recordedEventTypes;
+    }
+
+    List<String> getRecordedLogLines() {
+        return recordedLogLines;
+    }
+
     /**
      * Determine the preprocessed log entry.
      * 
@@ -381,12 +422,45 @@ public class GcManager {
      *         newline.
      */
     public String getPreprocessedLogEntry(String currentLogLine, LogEvent priorLogEvent, String nextLogLine,
-            Date jvmStartDate, List<String> entangledLogLines, Set<String> context) {
+            Date jvmStartDate, List<String> entangledLogLines, PreprocessContext context) {
+        LogEvent currentEvent = currentLogLine == null ? null
+                : parseLogLine(currentLogLine, priorLogEvent, CollectorFamily.UNKNOWN);
+        return getPreprocessedLogEntry(currentLogLine, currentEvent, priorLogEvent, nextLogLine, jvmStartDate,
+                entangledLogLines, context, GcLogFormat.UNKNOWN, new G1YoungPauseAccumulator());
+    }
+
+    /**
+     * Determine the preprocessed log entry, only trying the preprocess actions that can apply to the logging format.
+     * 
+     * @param currentLogLine
+     *            The current log line.
+     * @param currentEvent
+     *            The current log line event.
+     * @param priorLogEvent
+     *            The previous log line event.
+     * @param nextLogLine
+     *            The next log line.
+     * @param jvmStartDate
+     *            The date and time the JVM was started.
+     * @param entangledLogLines
+     *            Log lines mixed in with other logging events.
+     * @param context
+     *            Information to make preprocessing decisions.
+     * @param format
+     *            The logging format.
+     * @param accumulator
+     *            Assembles G1 young pause events while preprocessing.
+     * @return The preprocessed log line(s), or null if it will be thrown away. Multiple lines are delimited by a
+     *         newline.
+     */
+    String getPreprocessedLogEntry(String currentLogLine, LogEvent currentEvent, LogEvent priorLogEvent,
+            String nextLogLine, Date jvmStartDate, List<String> entangledLogLines, PreprocessContext context,
+            GcLogFormat format, G1YoungPauseAccumulator accumulator) {
 
         String preprocessedLogLine = null;
 
         if (currentLogLine != null) {
-            LogEvent event = JdkUtil.parseLogLine(currentLogLine, priorLogEvent, CollectorFamily.UNKNOWN);
+            LogEvent event = currentEvent;
             if (event instanceof ThrowAwayEvent) {
                 JdkUtil.LogEventType throwAwayEventType = JdkUtil.determineEventType(event.getName());
                 if (!jvmDao.getEventTypes().contains(throwAwayEventType)) {
@@ -398,71 +472,56 @@ public class GcManager {
                     }
                 }
                 preprocessedLogLine = null;
-            } else if (!context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
+            } else if (format.isPreprocessCandidate(PreprocessActionType.UNIFIED)
+                    && !context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(G1PreprocessAction.TOKEN) && !context.contains(ParallelPreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && UnifiedPreprocessAction.match(currentLogLine)) {
-                UnifiedPreprocessAction action = new UnifiedPreprocessAction(priorLogEvent.getLogEntry(),
-                        currentLogLine, nextLogLine, entangledLogLines, context);
-                if (action.getLogEntry() != null) {
-                    preprocessedLogLine = action.getLogEntry();
-                }
-            } else if (!context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
+                preprocessedLogLine = UnifiedPreprocessAction.process(priorLogEvent.getLogEntry(), currentLogLine,
+                        nextLogLine, entangledLogLines, context);
+            } else if (format.isPreprocessCandidate(PreprocessActionType.SHENANDOAH)
+                    && !context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(G1PreprocessAction.TOKEN) && !context.contains(ParallelPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
                     && ShenandoahPreprocessAction.match(currentLogLine)) {
-                ShenandoahPreprocessAction action = new ShenandoahPreprocessAction(priorLogEvent.getLogEntry(),
-                        currentLogLine, nextLogLine, entangledLogLines, context);
-                if (action.getLogEntry() != null) {
-                    preprocessedLogLine = action.getLogEntry();
-                }
-            } else if (!context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
+                preprocessedLogLine = ShenandoahPreprocessAction.process(priorLogEvent.getLogEntry(), currentLogLine,
+                        nextLogLine, entangledLogLines, context);
+            } else if (format.isPreprocessCandidate(PreprocessActionType.PARALLEL)
+                    && !context.contains(SerialPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(G1PreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
                     && ParallelPreprocessAction.match(currentLogLine)) {
-                ParallelPreprocessAction action = new ParallelPreprocessAction(priorLogEvent.getLogEntry(),
-                        currentLogLine, nextLogLine, entangledLogLines, context);
-                if (action.getLogEntry() != null) {
-                    preprocessedLogLine = action.getLogEntry();
-                }
-            } else if (!context.contains(SerialPreprocessAction.TOKEN)
+                preprocessedLogLine = ParallelPreprocessAction.process(priorLogEvent.getLogEntry(), currentLogLine,
+                        nextLogLine, entangledLogLines, context);
+            } else if (format.isPreprocessCandidate(PreprocessActionType.CMS)
+                    && !context.contains(SerialPreprocessAction.TOKEN)
                     && !context.contains(ParallelPreprocessAction.TOKEN) && !context.contains(G1PreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
                     && CmsPreprocessAction.match(currentLogLine, priorLogEvent.getLogEntry(), nextLogLine)) {
-                CmsPreprocessAction action = new CmsPreprocessAction(priorLogEvent.getLogEntry(), currentLogLine,
+                preprocessedLogLine = CmsPreprocessAction.process(priorLogEvent.getLogEntry(), currentLogLine,
                         nextLogLine, entangledLogLines, context);
-                if (action.getLogEntry() != null) {
-                    preprocessedLogLine = action.getLogEntry();
-                }
-            } else if (!context.contains(SerialPreprocessAction.TOKEN)
+            } else if (format.isPreprocessCandidate(PreprocessActionType.G1)
+                    && !context.contains(SerialPreprocessAction.TOKEN)
                     && !context.contains(ParallelPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
                     && G1PreprocessAction.match(currentLogLine, priorLogEvent.getLogEntry(), nextLogLine)) {
-                G1PreprocessAction action = new G1PreprocessAction(priorLogEvent.getLogEntry(), currentLogLine,
-                        nextLogLine, entangledLogLines, context, jvmDao.getPreprocessEvents());
-                if (action.getLogEntry() != null) {
-                    preprocessedLogLine = action.getLogEntry();
-                }
-            } else if (!context.contains(ParallelPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
+                preprocessedLogLine = G1PreprocessAction.process(priorLogEvent.getLogEntry(), currentLogLine,
+                        nextLogLine, entangledLogLines, context, jvmDao.getPreprocessEvents(), accumulator);
+            } else if (format.isPreprocessCandidate(PreprocessActionType.SERIAL)
+                    && !context.contains(ParallelPreprocessAction.TOKEN) && !context.contains(CmsPreprocessAction.TOKEN)
                     && !context.contains(G1PreprocessAction.TOKEN)
                     && !context.contains(ShenandoahPreprocessAction.TOKEN)
                     && !context.contains(UnifiedPreprocessAction.TOKEN)
                     && SerialPreprocessAction.match(currentLogLine)) {
-                SerialPreprocessAction action = new SerialPreprocessAction(priorLogEvent.getLogEntry(), currentLogLine,
+                preprocessedLogLine = SerialPreprocessAction.process(priorLogEvent.getLogEntry(), currentLogLine,
                         nextLogLine, entangledLogLines, context);
-                if (action.getLogEntry() != null) {
-                    preprocessedLogLine = action.getLogEntry();
-                }
             } else if (ApplicationStoppedTimePreprocessAction.match(currentLogLine)) {
                 // single line preprocessing
-                ApplicationStoppedTimePreprocessAction action = new ApplicationStoppedTimePreprocessAction(
-                        priorLogEvent.getLogEntry(), currentLogLine, nextLogLine, entangledLogLines, context);
-                if (action.getLogEntry() != null) {
-                    preprocessedLogLine = action.getLogEntry();
-                }
+                preprocessedLogLine = ApplicationStoppedTimePreprocessAction.process(priorLogEvent.getLogEntry(),
+                        currentLogLine, nextLogLine, entangledLogLines, context);
             } else {
                 // Output any entangled log lines
                 if (entangledLogLines != null && !entangledLogLines.isEmpty()) {
@@ -488,7 +547,8 @@ public class GcManager {
     }
 
     /**
-     * Determine <code>SafepointEvent</code>s where throughput since last event does not meet the throughput goal.
+     * Determine <code>SafepointEvent</code>s where throughput since last event does not meet the throughput goal. Only
+     * the events added since the bottlenecks were last determined are checked.
      * 
      * @param jvmStartDate
      *            The JVM start date.
@@ -498,58 +558,174 @@ public class GcManager {
      *         throughput threshold goal.
      */
     private List<String> getSafepointBottlenecks(Date jvmStartDate, int throughputThreshold) {
-        List<String> bottlenecks = new ArrayList<String>();
-        List<SafepointEvent> safepointEvents = jvmDao.getSafepointEvents();
-        SafepointEvent priorEvent = null;
-        for (SafepointEvent event : safepointEvents) {
-            if (priorEvent != null && JdkUtil.isBottleneck(event, priorEvent, throughputThreshold)) {
-                if (bottlenecks.isEmpty()) {
-                    // Add current and prior event
-                    if (jvmStartDate != null) {
-                        // Convert timestamps to date/time
-                        bottlenecks.add(
-                                JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate));
-                        bottlenecks
-                                .add(JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                    } else {
-                        bottlenecks.add(priorEvent.getLogEntry());
-                        bottlenecks.add(event.getLogEntry());
-                    }
-                } else {
-                    if (jvmStartDate != null) {
-                        // Compare datetime, since bottleneck has datetime
-                        if (!JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(), jvmStartDate)
-                                .equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(JdkUtil.convertLogEntryTimestampsToDateStamp(priorEvent.getLogEntry(),
-                                    jvmStartDate));
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        } else {
-                            bottlenecks.add(
-                                    JdkUtil.convertLogEntryTimestampsToDateStamp(event.getLogEntry(), jvmStartDate));
-                        }
-                    } else {
-                        // Compare timestamps, since bottleneck has timestamp
-                        if (!priorEvent.getLogEntry().equals(bottlenecks.get(bottlenecks.size() - 1))) {
-                            bottlenecks.add("...");
-                            bottlenecks.add(priorEvent.getLogEntry());
-                            bottlenecks.add(event.getLogEntry());
-                        } else {
-                            bottlenecks.add(event.getLogEntry());
-                        }
-                    }
-                }
-            }
-            priorEvent = event;
+        // Stopped time events are used if there are any, otherwise unified safepoint events.
+        int generation = jvmDao.getStoppedTimeEventCount() > 0 ? 1 : 0;
+        if (safepointBottleneckState == null || !safepointBottleneckState.isCurrent(throughputThreshold, generation)) {
+            safepointBottleneckState = new BottleneckState(throughputThreshold, generation, jvmStartDate);
         }
-        return bottlenecks;
+        return safepointBottleneckState.check(jvmDao.getSafepointEvents(safepointBottleneckState.getEventCount()));
+    }
+
+    /**
+     * @param logLines
+     *            The garbage collection logging, null for the log lines with an assembled event.
+     * @param logEvents
+     *            The event assembled for each log line, null for the log lines to parse.
+     * @return The log lines in the first <code>GcLogFormat.SNIFF_SIZE</code> characters, with the log entries of the
+     *         assembled events.
+     */
+    private static List<String> head(List<String> logLines, List<LogEvent> logEvents) {
+        List<String> head = new ArrayList<String>();
+        int size = 0;
+        for (int i = 0; i < logLines.size() && size < GcLogFormat.SNIFF_SIZE; i++) {
+            String logLine = logLines.get(i) == null ? logEvents.get(i).getLogEntry() : logLines.get(i);
+            head.add(logLine);
+            size += logLine.length() + 1;
+        }
+        return head;
     }
 
     public boolean isPreprocessed() {
         return preprocessed;
     }
 
+    /**
+     * Whether or not garbage collection logging needs preprocessing. The first <code>GcLogFormat.SNIFF_SIZE</code>
+     * characters are preprocessed, and the logging needs preprocessing if that changes anything besides removing
+     * <code>ThrowAwayEvent</code>s, which storing handles the same way (e.g. multi-line events are joined or log lines
+     * are rewritten).
+     * 
+     * @param logLines
+     *            Raw garbage collection logging.
+     * @return True if the logging needs preprocessing, false otherwise.
+     */
+    boolean isPreprocessNeeded(List<String> logLines) {
+        List<String> sniffLogLines = GcLogFormat.head(logLines);
+        Iterator<String> preprocessedIterator = new GcManager(jvmStartDate).preprocess(sniffLogLines, jvmStartDate)
+                .iterator();
+        String preprocessedLogLine = preprocessedIterator.hasNext() ? preprocessedIterator.next() : null;
+        LogEvent priorLogEvent = new NullEvent();
+        for (String logLine : sniffLogLines) {
+            LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
+            if (logLine.equals(preprocessedLogLine)) {
+                preprocessedLogLine = preprocessedIterator.hasNext() ? preprocessedIterator.next() : null;
+            } else if (!(event instanceof ThrowAwayEvent) || event instanceof ZStatsEvent) {
+                // ZStatsEvent analysis is only done when preprocessing
+                return true;
+            }
+            priorLogEvent = event;
+        }
+        return preprocessedLogLine != null;
+    }
+
+    /**
+     * Preprocess garbage collection logging, if it needs preprocessing, and store it.
+     * 
+     * <p>
+     * Preprocessing is a full extra pass over the logging, and many logs (e.g. unified logging with simple
+     * decorators) have nothing to preprocess. If the start of the logging does not need preprocessing, the logging is
+     * stored as is. If logging that needs preprocessing shows up later (there are unidentified log lines besides the
+     * last one, which is commonly truncated), the data store is cleared and the logging is preprocessed and stored
+     * again.
+     * </p>
+     * 
+     * @param logLines
+     *            Raw garbage collection logging.
+     * @param preprocess
+     *            Whether or not to preprocess the logging, if it needs preprocessing.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    public void parse(List<String> logLines, boolean preprocess, boolean reorder) {
+        if (profiler != null) {
+            profiler.start(Stage.PREPROCESS);
+        }
+        boolean skipPreprocessing = preprocess && !isPreprocessNeeded(logLines);
+        if (profiler != null) {
+            profiler.stop(Stage.PREPROCESS);
+        }
+        if (skipPreprocessing) {
+            storeProfiled(logLines, null, reorder);
+            int unidentified = jvmDao.getUnidentifiedLogLines().size();
+            if (unidentified <= (jvmDao.isLogEndingUnidentified() ? 1 : 0)) {
+                preprocessed = true;
+                return;
+            }
+            jvmDao = new JvmDao();
+            if (recordedLogLines != null) {
+                recordedLogLines.clear();
+                recordedEventTypes.clear();
+            }
+        }
+        List<String> storeLogLines = logLines;
+        List<LogEvent> storeLogEvents = null;
+        if (preprocess) {
+            if (profiler != null) {
+                profiler.start(Stage.PREPROCESS);
+            }
+            storeLogLines = new ArrayList<String>();
+            storeLogEvents = new ArrayList<LogEvent>();
+            PreprocessState state = preprocessAll(logLines, jvmStartDate);
+            if (state != null) {
+                state.finishLogEntries(storeLogLines, storeLogEvents);
+            }
+            if (profiler != null) {
+                profiler.stop(Stage.PREPROCESS);
+            }
+        }
+        storeProfiled(storeLogLines, storeLogEvents, reorder);
+    }
+
+    /**
+     * Parse a log line, profiling it if profiling is enabled and recording it if it is slow.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param collectorFamily
+     *            The <code>CollectorFamily</code>.
+     * @return The <code>LogEvent</code> for the log line.
+     */
+    private LogEvent parseLogLine(String logLine, LogEvent priorLogEvent, CollectorFamily collectorFamily) {
+        PipelineEvent slowLine = slowLineEnabled ? PipelineEvent.slowLine().begin() : null;
+        LogEvent event;
+        if (profiler == null) {
+            event = JdkUtil.parseLogLine(logLine, priorLogEvent, collectorFamily, ranking);
+        } else {
+            event = profiler.parseLogLine(logLine, priorLogEvent, collectorFamily, ranking);
+        }
+        if (slowLine != null) {
+            slowLine.commitLine(logLine, event.getName());
+        }
+        return event;
+    }
+
+    /**
+     * Parse a log line for preprocessing.
+     * 
+     * <p>
+     * The detail lines of a multi-line G1 event (e.g. [Ext Root Scanning (ms): ...]) are assembled into the event by
+     * <code>G1PreprocessAction</code>, and they are not events themselves. With <code>-XX:+PrintGCDetails</code> they
+     * are most of the logging, and trying every event pattern on each one only to end up with an
+     * <code>UnknownEvent</code> is most of the preprocessing time, so they are recognized by their structure instead.
+     * </p>
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The previous log line event.
+     * @param context
+     *            Information to make preprocessing decisions.
+     * @return The log line event.
+     */
+    private LogEvent parsePreprocessLogLine(String logLine, LogEvent priorLogEvent, PreprocessContext context) {
+        if (context.contains(G1PreprocessAction.TOKEN) && G1PreprocessAction.isDetail(logLine)) {
+            return new UnknownEvent(logLine);
+        }
+        return parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
+    }
+
     /**
      * Preprocess. Remove extraneous information (<code>ThrowAwayEvent</code>s and lines that match
      * <code>PreprocessAction</code> throwaway patterns) and format for parsing (untangle mixed logging, aggregate
@@ -563,163 +739,189 @@ public class GcManager {
      * @return Preprocessed garbage collection logging.
      */
     public List<String> preprocess(List<String> logLines, Date jvmStartDate) {
-        if (logLines == null)
-            throw new IllegalArgumentException("logLines == null!!");
+        PreprocessState state = preprocessAll(logLines, jvmStartDate);
+        return state == null ? new ArrayList<String>() : state.finishLogEntries();
+    }
 
-        List<String> preprocessedLogList = new ArrayList<String>();
-
-        if (!logLines.isEmpty()) {
-            // Check if JDK version information is included in logging.
-            int jdkVersionMajor = Integer.MIN_VALUE;
-            int jdkVersionMinor = Integer.MIN_VALUE;
-            Iterator<String> iterator = logLines.iterator();
-            LogEvent priorLogEvent = new NullEvent();
-            while (iterator.hasNext()) {
-                String logLine = iterator.next();
-                LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, CollectorFamily.UNKNOWN);
-                if (event instanceof HeaderVmInfoEvent) {
-                    jdkVersionMajor = ((HeaderVmInfoEvent) event).getJdkVersionMajor();
-                    jdkVersionMinor = ((HeaderVmInfoEvent) event).getJdkVersionMinor();
-                    break;
-                } else if (event instanceof UnifiedHeaderEvent && ((UnifiedHeaderEvent) event).isVersion()) {
-                    jdkVersionMajor = ((UnifiedHeaderEvent) event).getJdkVersionMajor();
-                    jdkVersionMinor = ((UnifiedHeaderEvent) event).getJdkVersionMinor();
-                    break;
-                }
-                priorLogEvent = event;
+    /**
+     * Preprocess the prior log line, now that the next log line is known.
+     * 
+     * @param state
+     *            The preprocessing state.
+     * @param nextLogLine
+     *            The next raw garbage collection log line.
+     */
+    void preprocess(PreprocessState state, String nextLogLine) {
+        String currentLogLine = state.getCurrentLogLine();
+        state.setCurrentLogLine(nextLogLine);
+        if (currentLogLine == null) {
+            return;
+        }
+        String priorLogEntry = state.getPriorLogEntry();
+        LogEvent priorLogEvent = state.getPriorLogEvent();
+        LogEvent currentEvent = parsePreprocessLogLine(currentLogLine, priorLogEvent, state.getContext());
+        state.getBatch().add(currentEvent);
+        String preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, currentEvent, priorLogEvent,
+                nextLogLine, state.getJvmStartDate(), state.getEntangledLogLines(), state.getContext(),
+                state.getFormat(), state.getAccumulator());
+        if (preprocessedLogLine != null) {
+            List<String> preprocessedLogLines = splitLogEntry(preprocessedLogLine);
+            if (state.getContext().contains(PreprocessAction.NEWLINE)
+                    && !priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
+                addLogEntries(state, preprocessedLogLines, 0);
+            } else if (state.isLogEntriesEmpty()) {
+                state.addLogEntry(preprocessedLogLine);
+            } else if (!priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
+                state.appendLogEntry(preprocessedLogLines.get(0));
+                addLogEntries(state, preprocessedLogLines, 1);
+            } else if (preprocessedLogLines.size() > 1) {
+                addLogEntries(state, preprocessedLogLines, 0);
             }
+            state.setPriorLogEntry(preprocessedLogLine);
+        }
+        // throw away blank lines
+        if (!(currentLogLine.matches(JdkRegEx.BLANK_LINE) || currentLogLine.matches(UnifiedRegEx.BLANK_LINE))) {
+            state.setPriorLogEvent(currentLogLine, currentEvent);
+        }
+    }
 
-            iterator = logLines.iterator();
-            // Used for de-tangling intermingled logging events that span multiple lines
-            List<String> entangledLogLines = new ArrayList<String>();
-            // Used to provide context for preprocessing decisions
-            Set<String> context = new HashSet<String>();
-            context.add(PreprocessAction.NEWLINE);
-            if ((jdkVersionMajor == 17 && jdkVersionMinor >= 8) || jdkVersionMajor >= 21) {
-                context.add(UnifiedPreprocessAction.JDK17U8);
-            }
+    /**
+     * Preprocess all the logging.
+     * 
+     * @param logLines
+     *            Raw garbage collection logging.
+     * @param jvmStartDate
+     *            The date and time the JVM was started.
+     * @return The preprocessing state, with the preprocessed log entries to hand off, or null if there is no logging.
+     */
+    private PreprocessState preprocessAll(List<String> logLines, Date jvmStartDate) {
+        if (logLines == null)
+            throw new IllegalArgumentException("logLines == null!!");
 
-            String priorLogEntry = Constants.LINE_SEPARATOR;
-            String currentLogLine = iterator.next();
-            priorLogEvent = new NullEvent();
-            String preprocessedLogLine = "";
-            String nextLogLine = null;
+        if (logLines.isEmpty()) {
+            return null;
+        }
 
-            if (iterator.hasNext()) {
-                nextLogLine = iterator.next();
-            }
+        PreprocessState state = startPreprocessing(logLines, jvmStartDate);
+        Iterator<String> iterator = logLines.iterator();
+        while (iterator.hasNext()) {
+            preprocess(state, iterator.next());
+        }
+        finishPreprocessing(state);
+        return state;
+    }
 
-            while (nextLogLine != null) {
-                LogEvent currentEvent = JdkUtil.parseLogLine(currentLogLine, priorLogEvent, CollectorFamily.UNKNOWN);
-                preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, priorLogEvent, nextLogLine, jvmStartDate,
-                        entangledLogLines, context);
-                if (preprocessedLogLine != null) {
-                    String[] preprocessedLogLines = preprocessedLogLine.split(Constants.LINE_SEPARATOR);
-                    if (context.contains(PreprocessAction.NEWLINE)
-                            && !priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
-                        for (int i = 0; i < preprocessedLogLines.length; i++) {
-                            if (preprocessedLogLines[i] != "") {
-                                preprocessedLogList.add(preprocessedLogLines[i]);
-                            }
-                        }
-                    } else {
-                        if (preprocessedLogList.isEmpty()) {
-                            preprocessedLogList.add(preprocessedLogLine);
+    /**
+     * Start preprocessing.
+     * 
+     * @param logLines
+     *            Raw garbage collection logging, used to sniff the logging format (e.g. if JDK version information is
+     *            included in logging).
+     * @param jvmStartDate
+     *            The date and time the JVM was started.
+     * @return The preprocessing state.
+     */
+    PreprocessState startPreprocessing(List<String> logLines, Date jvmStartDate) {
+        GcLogFormat format = GcLogFormat.sniff(logLines);
+        int jdkVersionMajor = format.getJdkVersionMajor();
+        int jdkVersionMinor = format.getJdkVersionMinor();
+
+        PreprocessState state = new PreprocessState(jvmStartDate);
+        state.setFormat(format);
+        slowLineEnabled = PipelineEvent.slowLine().isEnabled();
+        if ((jdkVersionMajor == 17 && jdkVersionMinor >= 8) || jdkVersionMajor >= 21) {
+            state.getContext().add(UnifiedPreprocessAction.JDK17U8);
+        }
+        return state;
+    }
 
-                        } else {
-                            if (!priorLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
-                                String lastPreprocessedLogEntry = preprocessedLogList
-                                        .get(preprocessedLogList.size() - 1);
-                                preprocessedLogList.remove(preprocessedLogList.size() - 1);
-                                preprocessedLogList.add(lastPreprocessedLogEntry + preprocessedLogLines[0]);
-                                if (preprocessedLogLines.length > 1) {
-                                    for (int i = 1; i < preprocessedLogLines.length; i++) {
-                                        if (preprocessedLogLines[i] != "") {
-                                            preprocessedLogList.add(preprocessedLogLines[i]);
-                                        }
-                                    }
-                                }
-                            } else {
-                                if (preprocessedLogLines.length > 1) {
-                                    for (int i = 0; i < preprocessedLogLines.length; i++) {
-                                        if (preprocessedLogLines[i] != "") {
-                                            preprocessedLogList.add(preprocessedLogLines[i]);
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-                    priorLogEntry = preprocessedLogLine;
-                }
-                // throw away blank lines
-                if (!(currentLogLine.matches(JdkRegEx.BLANK_LINE) || currentLogLine.matches(UnifiedRegEx.BLANK_LINE))) {
-                    priorLogEvent = currentEvent;
-                }
-                currentLogLine = nextLogLine;
-                if (iterator.hasNext()) {
-                    nextLogLine = iterator.next();
-                } else {
-                    nextLogLine = null;
-                }
-            }
+    /**
+     * Finish preprocessing: preprocess the last log line and output any entangled log lines. The preprocessed log
+     * entries are handed off with <code>PreprocessState.finishLogEntries</code>.
+     * 
+     * @param state
+     *            The preprocessing state.
+     */
+    void finishPreprocessing(PreprocessState state) {
+        String currentLogLine = state.getCurrentLogLine();
+        if (currentLogLine == null) {
+            return;
+        }
 
-            // Process last line
-            lastLogLineUnprocessed = currentLogLine;
-            preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, priorLogEvent, nextLogLine, jvmStartDate,
-                    entangledLogLines, context);
-            if (preprocessedLogLine != null) {
-                String[] preprocessedLogLines = preprocessedLogLine.split(Constants.LINE_SEPARATOR);
-                if (context.contains(PreprocessAction.NEWLINE)) {
-                    // Output on new line
-                    for (int i = 0; i < preprocessedLogLines.length; i++) {
-                        if (preprocessedLogLines[i] != "") {
-                            preprocessedLogList.add(preprocessedLogLines[i]);
-                        }
-                    }
-                } else {
-                    if (preprocessedLogList.isEmpty()) {
-                        preprocessedLogList.add(preprocessedLogLine);
-                    } else {
-                        // Add to prior line if prior line does not end with LINE_SEPARATOR
-                        String lastPreprocessedLogEntry = preprocessedLogList.get(preprocessedLogList.size() - 1);
-                        if (!lastPreprocessedLogEntry.endsWith(Constants.LINE_SEPARATOR)) {
-                            preprocessedLogList.remove(preprocessedLogList.size() - 1);
-                            preprocessedLogList.add(lastPreprocessedLogEntry + preprocessedLogLines[0]);
-                            if (preprocessedLogLines.length > 1) {
-                                for (int i = 1; i < preprocessedLogLines.length; i++) {
-                                    if (preprocessedLogLines[i] != "") {
-                                        preprocessedLogList.add(preprocessedLogLines[i]);
-                                    }
-                                }
-                            }
-                        } else {
-                            if (preprocessedLogLines.length > 1) {
-                                for (int i = 0; i < preprocessedLogLines.length; i++) {
-                                    if (preprocessedLogLines[i] != "") {
-                                        preprocessedLogList.add(preprocessedLogLines[i]);
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+        // Process last line
+        lastLogLineUnprocessed = currentLogLine;
+        LogEvent currentEvent = parsePreprocessLogLine(currentLogLine, state.getPriorLogEvent(), state.getContext());
+        String preprocessedLogLine = getPreprocessedLogEntry(currentLogLine, currentEvent, state.getPriorLogEvent(),
+                null, state.getJvmStartDate(), state.getEntangledLogLines(), state.getContext(), state.getFormat(),
+                state.getAccumulator());
+        if (preprocessedLogLine != null) {
+            List<String> preprocessedLogLines = splitLogEntry(preprocessedLogLine);
+            if (state.getContext().contains(PreprocessAction.NEWLINE)) {
+                // Output on new line
+                addLogEntries(state, preprocessedLogLines, 0);
+            } else if (state.isLogEntriesEmpty()) {
+                state.addLogEntry(preprocessedLogLine);
+            } else if (!state.isLastLogEntryEndsWith(Constants.LINE_SEPARATOR)) {
+                // Add to prior line if prior line does not end with LINE_SEPARATOR
+                state.appendLogEntry(preprocessedLogLines.get(0));
+                addLogEntries(state, preprocessedLogLines, 1);
+            } else if (preprocessedLogLines.size() > 1) {
+                addLogEntries(state, preprocessedLogLines, 0);
             }
+        }
+        state.getBatch().flush();
 
-            // output entangled log lines
-            if (!entangledLogLines.isEmpty()) {
-                for (String logLine : entangledLogLines) {
-                    preprocessedLogList.add(logLine);
-                }
-                // Reset entangled log lines
-                entangledLogLines.clear();
+        // output entangled log lines
+        List<String> entangledLogLines = state.getEntangledLogLines();
+        if (!entangledLogLines.isEmpty()) {
+            for (String logLine : entangledLogLines) {
+                state.addLogEntry(logLine);
             }
-
-            preprocessed = true;
+            // Reset entangled log lines
+            entangledLogLines.clear();
         }
 
-        return preprocessedLogList;
+        preprocessed = true;
+    }
 
+    public void setProfiler(Profiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Split a preprocessed log entry into lines, like <code>String.split(Constants.LINE_SEPARATOR)</code> (trailing
+     * empty lines are dropped) but without a regular expression.
+     * 
+     * @param logEntry
+     *            The preprocessed log entry.
+     * @return The log lines.
+     */
+    private static List<String> splitLogEntry(String logEntry) {
+        List<String> logLines = new ArrayList<String>(2);
+        int start = 0;
+        int end;
+        while ((end = logEntry.indexOf(Constants.LINE_SEPARATOR, start)) >= 0) {
+            logLines.add(logEntry.substring(start, end));
+            start = end + Constants.LINE_SEPARATOR.length();
+        }
+        if (start == 0) {
+            logLines.add(logEntry);
+            return logLines;
+        }
+        logLines.add(logEntry.substring(start));
+        int size = logLines.size();
+        while (size > 0 && logLines.get(size - 1).isEmpty()) {
+            logLines.remove(--size);
+        }
+        return logLines;
+    }
+
+    /**
+     * Record the stored log lines and their <code>LogEventType</code>s so they can be saved in a snapshot.
+     */
+    void startRecording() {
+        recordedLogLines = new ArrayList<String>();
+        recordedEventTypes = new ArrayList<LogEventType>();
     }
 
     /**
@@ -731,20 +933,120 @@ public class GcManager {
      *            Whether or not to allow logging to be reordered by timestamp.
      */
     public void store(List<String> logLines, boolean reorder) {
+        store(logLines, null, reorder);
+    }
+
+    /**
+     * Parse the garbage collection logging for the JVM run and store the data in the data store.
+     * 
+     * @param logLines
+     *            The garbage collection loggine.
+     * @param eventTypes
+     *            The already identified <code>LogEventType</code>s of the first log lines (e.g. from a snapshot), or
+     *            null to identify all log lines.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    void store(List<String> logLines, List<LogEventType> eventTypes, boolean reorder) {
+        store(new StoreState(), logLines, eventTypes, reorder);
+    }
+
+    /**
+     * Store the garbage collection logging, timing it as the store stage if profiling.
+     * 
+     * @param logLines
+     *            The garbage collection logging.
+     * @param logEvents
+     *            The events assembled while preprocessing, null for the log lines to parse, or null to parse all log
+     *            lines.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    private void storeProfiled(List<String> logLines, List<LogEvent> logEvents, boolean reorder) {
+        if (profiler != null) {
+            profiler.start(Stage.STORE);
+        }
+        store(new StoreState(), logLines, null, logEvents, reorder);
+        if (profiler != null) {
+            profiler.stop(Stage.STORE);
+        }
+    }
+
+    /**
+     * Parse the garbage collection logging for the JVM run and store the data in the data store, continuing from a
+     * prior call.
+     * 
+     * @param state
+     *            The store state from the prior call.
+     * @param logLines
+     *            The garbage collection loggine.
+     * @param eventTypes
+     *            The already identified <code>LogEventType</code>s of the first log lines (e.g. from a snapshot), or
+     *            null to identify all log lines.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    void store(StoreState state, List<String> logLines, List<LogEventType> eventTypes, boolean reorder) {
+        store(state, logLines, eventTypes, null, reorder);
+    }
+
+    /**
+     * Parse the garbage collection logging for the JVM run and store the data in the data store, continuing from a
+     * prior call, using the events assembled while preprocessing.
+     * 
+     * @param state
+     *            The store state from the prior call.
+     * @param logLines
+     *            The garbage collection loggine, null for the log lines with an assembled event.
+     * @param eventTypes
+     *            The already identified <code>LogEventType</code>s of the first log lines (e.g. from a snapshot), or
+     *            null to identify all log lines.
+     * @param logEvents
+     *            The event assembled for each log line, null for the log lines to parse, or null to parse all log
+     *            lines.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     */
+    void store(StoreState state, List<String> logLines, List<LogEventType> eventTypes, List<LogEvent> logEvents,
+            boolean reorder) {
 
         if (logLines == null || logLines.isEmpty()) {
             return;
         }
 
+        slowLineEnabled = PipelineEvent.slowLine().isEnabled();
         String logLine = null;
-        BlockingEvent priorBlockingEvent = null;
-        LogEvent priorLogEvent = new NullEvent();
-        CollectorFamily collectorFamily = CollectorFamily.UNKNOWN;
+        BlockingEvent priorBlockingEvent = state.getPriorBlockingEvent();
+        LogEvent priorLogEvent = state.getPriorLogEvent();
+        CollectorFamily collectorFamily = state.getCollectorFamily();
+        if (state.getFormat() == null) {
+            state.setFormat(GcLogFormat.sniff(logEvents == null ? logLines : head(logLines, logEvents)));
+        }
+        // Narrow the unified log line candidates to the sniffed collector family until the header is stored.
+        CollectorFamily sniffedCollectorFamily = state.getFormat().getCollectorFamily();
         Iterator<String> iterator = logLines.iterator();
+        Iterator<LogEventType> eventTypeIterator = eventTypes == null ? null : eventTypes.iterator();
+        Iterator<LogEvent> logEventIterator = logEvents == null ? null : logEvents.iterator();
+        EventBatch batch = new EventBatch(PipelineEvent::storeBatch);
         while (iterator.hasNext()) {
             logLine = iterator.next();
+            LogEvent logEvent = logEventIterator == null ? null : logEventIterator.next();
             // If event has no timestamp, use most recent blocking timestamp.
-            LogEvent event = JdkUtil.parseLogLine(logLine, priorLogEvent, collectorFamily);
+            LogEvent event;
+            if (logEvent != null) {
+                // Assembled while preprocessing
+                event = logEvent;
+            } else if (eventTypeIterator != null && eventTypeIterator.hasNext()) {
+                event = JdkUtil.createLogEvent(eventTypeIterator.next(), logLine);
+            } else {
+                event = parseLogLine(logLine, priorLogEvent,
+                        collectorFamily == CollectorFamily.UNKNOWN ? sniffedCollectorFamily : collectorFamily);
+            }
+            batch.add(event);
+            if (recordedLogLines != null) {
+                recordedLogLines.add(logLine == null ? event.getLogEntry() : logLine);
+                recordedEventTypes.add(JdkUtil.determineEventType(event.getName()));
+            }
             if (event instanceof BlockingEvent) {
                 jvmDao.setLogEndingUnidentified(false);
 
@@ -1278,9 +1580,74 @@ public class GcManager {
                 jvmDao.setFirstLogEvent(event);
             }
             // throw away blank lines
-            if (!(logLine.matches(JdkRegEx.BLANK_LINE) || logLine.matches(UnifiedRegEx.BLANK_LINE))) {
+            if (logLine == null
+                    || !(logLine.matches(JdkRegEx.BLANK_LINE) || logLine.matches(UnifiedRegEx.BLANK_LINE))) {
                 priorLogEvent = event;
             }
         }
+        batch.flush();
+        state.setPriorBlockingEvent(priorBlockingEvent);
+        state.setPriorLogEvent(priorLogEvent);
+        state.setCollectorFamily(collectorFamily);
+    }
+
+    /**
+     * Preprocess and store garbage collection logging read one line at a time (e.g. from stdin, a named pipe, or a
+     * rotated log set). The logging is handled in chunks of <code>STREAM_CHUNK_SIZE</code> log lines, so it is never
+     * held in memory all at once.
+     * 
+     * @param logLines
+     *            The garbage collection logging. An <code>UncheckedIOException</code> thrown reading the logging is
+     *            rethrown as the <code>IOException</code> it wraps.
+     * @param jvmStartDate
+     *            The date and time the JVM was started.
+     * @param preprocess
+     *            Whether or not to preprocess the logging.
+     * @param reorder
+     *            Whether or not to allow logging to be reordered by timestamp.
+     * @return The number of log lines read.
+     * @throws IOException
+     *             if the logging cannot be read.
+     */
+    public int stream(Iterator<String> logLines, Date jvmStartDate, boolean preprocess, boolean reorder)
+            throws IOException {
+        int logLineCount = 0;
+        StoreState storeState = new StoreState();
+        PreprocessState preprocessState = null;
+        try {
+            List<String> chunk = new ArrayList<String>(STREAM_CHUNK_SIZE);
+            while (logLines.hasNext()) {
+                chunk.add(logLines.next());
+                if (chunk.size() == STREAM_CHUNK_SIZE || !logLines.hasNext()) {
+                    logLineCount += chunk.size();
+                    List<String> storeLogLines = chunk;
+                    List<LogEvent> storeLogEvents = null;
+                    if (preprocess) {
+                        if (preprocessState == null) {
+                            preprocessState = startPreprocessing(chunk, jvmStartDate);
+                        }
+                        for (String logLine : chunk) {
+                            preprocess(preprocessState, logLine);
+                        }
+                        // Hand off all but the last preprocessed log entry, which can still be appended to.
+                        storeLogLines = new ArrayList<String>();
+                        storeLogEvents = new ArrayList<LogEvent>();
+                        preprocessState.takeLogEntries(storeLogLines, storeLogEvents);
+                    }
+                    store(storeState, storeLogLines, null, storeLogEvents, reorder);
+                    chunk = new ArrayList<String>(STREAM_CHUNK_SIZE);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (preprocessState != null) {
+            finishPreprocessing(preprocessState);
+            List<String> storeLogLines = new ArrayList<String>();
+            List<LogEvent> storeLogEvents = new ArrayList<LogEvent>();
+            preprocessState.finishLogEntries(storeLogLines, storeLogEvents);
+            store(storeState, storeLogLines, null, storeLogEvents, reorder);
+        }
+        return logLineCount;
     }
 }
@@ -0,0 +1,499 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.eclipselabs.garbagecat.dao.JvmDao;
+import org.eclipselabs.garbagecat.preprocess.PreprocessAction.PreprocessEvent;
+import org.eclipselabs.garbagecat.util.GcLogReader;
+import org.eclipselabs.garbagecat.util.Profiler;
+import org.eclipselabs.garbagecat.util.Profiler.Stage;
+import org.eclipselabs.garbagecat.util.jdk.Analysis;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+
+/**
+ * <p>
+ * Binary snapshot of the parsed garbage collection logging, written next to the log file (e.g. gc.log.snapshot) as a
+ * checkpoint so a rerun only has to parse the logging appended since the last run.
+ * </p>
+ * 
+ * <p>
+ * The checkpoint holds the byte offset of the last complete log line, the preprocessing state at that line, the event
+ * types, analysis, and preprocess events collected during preprocessing, and the stored log lines with their
+ * identified <code>LogEventType</code>. On resume, the stored log lines are replayed into the data store by
+ * constructing each event directly from its type (no identification or preprocessing), and only the log lines after
+ * the offset are read, preprocessed, and identified.
+ * </p>
+ * 
+ * <p>
+ * The checkpoint is keyed by the preprocessing and reordering options and the log file identity: the file key (e.g.
+ * inode), and a CRC32 of the first and last bytes before the offset. A shorter file (truncated), a different file key
+ * (rotated), or a different checksum (rewritten) falls back to a full parse.
+ * </p>
+ * 
+ * <p>
+ * The <code>JvmDao</code> itself is not serialized, since the JVM context it holds is not serializable, and replaying
+ * identified lines is cheap compared to identification and preprocessing.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class GcSnapshot {
+
+    /**
+     * Snapshot file extension.
+     */
+    public static final String FILE_EXTENSION = ".snapshot";
+
+    /**
+     * Identifies a snapshot file ("GCSN").
+     */
+    private static final int MAGIC = 0x4743534E;
+
+    /**
+     * The number of bytes at the beginning and end of the parsed logging included in the checksum.
+     */
+    private static final int SAMPLE_SIZE = 64 * 1024;
+
+    /**
+     * Snapshot format version. Increment when the format, preprocessing, or event identification changes.
+     */
+    private static final int VERSION = 5;
+
+    /**
+     * @param file
+     *            The file.
+     * @param offset
+     *            The number of bytes parsed.
+     * @return The CRC32 of the first and last <code>SAMPLE_SIZE</code> bytes before the offset.
+     * @throws IOException
+     *             if the file cannot be read.
+     */
+    private static long checksum(File file, long offset) throws IOException {
+        CRC32 crc = new CRC32();
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            byte[] head = new byte[(int) Math.min(offset, SAMPLE_SIZE)];
+            in.readFully(head);
+            crc.update(head);
+            byte[] tail = new byte[(int) Math.min(offset - head.length, SAMPLE_SIZE)];
+            in.seek(offset - tail.length);
+            in.readFully(tail);
+            crc.update(tail);
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * @param file
+     *            The file.
+     * @return The file key (e.g. device and inode), or "null" if the file system does not support file keys.
+     * @throws IOException
+     *             if the file attributes cannot be read.
+     */
+    static String fileKey(File file) throws IOException {
+        return String.valueOf(Files.readAttributes(file.toPath(), BasicFileAttributes.class).fileKey());
+    }
+
+    /**
+     * @param file
+     *            The log file.
+     * @param offset
+     *            The number of bytes to skip.
+     * @return A reader of the log file from the offset. The log file is read with a <code>FileInputStream</code>, which
+     *         (unlike a <code>FileChannel</code>) is not closed when the reading thread is interrupted.
+     * @throws IOException
+     *             if the log file cannot be opened.
+     */
+    static GcLogReader openReader(File file, long offset) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            long skipped = 0;
+            while (skipped < offset) {
+                long n = in.skip(offset - skipped);
+                if (n <= 0) {
+                    throw new EOFException("Log file shorter than offset " + offset + ": " + file);
+                }
+                skipped += n;
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return new GcLogReader(in);
+    }
+
+    private static <E extends Enum<E>> List<E> readEnums(DataInputStream in, Class<E> clazz) throws IOException {
+        int size = in.readInt();
+        List<E> list = new ArrayList<E>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(Enum.valueOf(clazz, readString(in)));
+        }
+        return list;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<String> list = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readString(in));
+        }
+        return list;
+    }
+
+    private static void writeEnums(DataOutputStream out, List<? extends Enum<?>> list) throws IOException {
+        out.writeInt(list.size());
+        for (Enum<?> e : list) {
+            writeString(out, e.name());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> list) throws IOException {
+        out.writeInt(list.size());
+        for (String s : list) {
+            writeString(out, s);
+        }
+    }
+
+    /**
+     * The garbage collection log file.
+     */
+    private File logFile;
+
+    /**
+     * Whether or not the logging is preprocessed.
+     */
+    private boolean preprocess;
+
+    /**
+     * Whether or not the logging is reordered by timestamp.
+     */
+    private boolean reorder;
+
+    /**
+     * The byte offset parsing resumed from, or 0 if there was no usable checkpoint.
+     */
+    private long resumeOffset;
+
+    /**
+     * The snapshot file.
+     */
+    private File snapshotFile;
+
+    /**
+     * @param logFile
+     *            The garbage collection log file.
+     * @param preprocess
+     *            Whether or not the logging is preprocessed.
+     * @param reorder
+     *            Whether or not the logging is reordered by timestamp.
+     */
+    public GcSnapshot(File logFile, boolean preprocess, boolean reorder) {
+        this.logFile = logFile;
+        this.preprocess = preprocess;
+        this.reorder = reorder;
+        this.snapshotFile = new File(logFile.getPath() + FILE_EXTENSION);
+    }
+
+    public long getResumeOffset() {
+        return resumeOffset;
+    }
+
+    public File getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * Parse the garbage collection logging into the data store, resuming from the snapshot if it matches the log file
+     * and options, and save a new snapshot.
+     * 
+     * @param gcManager
+     *            The <code>GcManager</code> to parse the logging into.
+     * @param jvmStartDate
+     *            The date and time the JVM was started.
+     * @return The number of log lines read from the log file.
+     * @throws IOException
+     *             if the log file cannot be read.
+     */
+    public int parse(GcManager gcManager, Date jvmStartDate) throws IOException {
+        Profiler profiler = gcManager.getProfiler();
+        if (profiler != null) {
+            profiler.start(Stage.READ);
+        }
+        List<String> replayLogLines = new ArrayList<String>();
+        List<LogEventType> replayEventTypes = new ArrayList<LogEventType>();
+        PreprocessState state = load(gcManager, jvmStartDate, replayLogLines, replayEventTypes);
+
+        // Read from the checkpoint to the end of the file, tracking the end of the last complete line.
+        List<String> logLines = new ArrayList<String>();
+        List<String> partialLogLines = new ArrayList<String>();
+        long offset = resumeOffset;
+        int damagedLogLineCount = 0;
+        try (GcLogReader reader = openReader(logFile, resumeOffset)) {
+            String logLine;
+            while ((logLine = reader.readLine()) != null) {
+                if (reader.isTerminated()) {
+                    logLines.add(logLine);
+                    offset = resumeOffset + reader.getPosition();
+                    damagedLogLineCount = reader.getDamagedLineCount();
+                } else {
+                    partialLogLines.add(logLine);
+                }
+            }
+        }
+        // The partial last line is read again from the checkpoint, so it is not counted as damaged here.
+        gcManager.addDamagedLogLines(damagedLogLineCount);
+        if (profiler != null) {
+            profiler.stop(Stage.READ);
+        }
+
+        // Preprocess up to the last complete line, checkpoint, then preprocess the rest.
+        if (profiler != null) {
+            profiler.start(Stage.PREPROCESS);
+        }
+        List<String> storeLogLines;
+        int committed;
+        byte[] checkpoint;
+        if (preprocess) {
+            if (state == null && !(logLines.isEmpty() && partialLogLines.isEmpty())) {
+                List<String> allLogLines = new ArrayList<String>(logLines);
+                allLogLines.addAll(partialLogLines);
+                state = gcManager.startPreprocessing(allLogLines, jvmStartDate);
+            }
+            for (String logLine : logLines) {
+                gcManager.preprocess(state, logLine);
+            }
+            committed = state == null ? 0 : state.getLogEntryCount();
+            checkpoint = checkpoint(gcManager, state, committed);
+            for (String logLine : partialLogLines) {
+                gcManager.preprocess(state, logLine);
+            }
+            if (state == null) {
+                storeLogLines = new ArrayList<String>();
+            } else {
+                gcManager.finishPreprocessing(state);
+                storeLogLines = state.finishLogEntries();
+            }
+        } else {
+            committed = logLines.size();
+            checkpoint = checkpoint(gcManager, null, committed);
+            storeLogLines = logLines;
+            storeLogLines.addAll(partialLogLines);
+        }
+        committed += replayLogLines.size();
+        if (profiler != null) {
+            profiler.stop(Stage.PREPROCESS);
+        }
+
+        // Replay the checkpoint and store the new logging.
+        if (profiler != null) {
+            profiler.start(Stage.STORE);
+        }
+        replayLogLines.addAll(storeLogLines);
+        gcManager.startRecording();
+        gcManager.store(replayLogLines, replayEventTypes, reorder);
+        if (profiler != null) {
+            profiler.stop(Stage.STORE);
+        }
+
+        save(gcManager, offset, checkpoint, committed);
+        return logLines.size() + partialLogLines.size();
+    }
+
+    /**
+     * @param gcManager
+     *            The <code>GcManager</code>.
+     * @param state
+     *            The preprocessing state, or null if the logging is not preprocessed.
+     * @param committed
+     *            The number of preprocessed log lines that will not change.
+     * @return The data store and preprocessing state at the last complete log line.
+     * @throws IOException
+     *             if the state cannot be written.
+     */
+    private byte[] checkpoint(GcManager gcManager, PreprocessState state, int committed) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            JvmDao jvmDao = gcManager.getJvmDao();
+            writeEnums(out, jvmDao.getEventTypes());
+            writeEnums(out, jvmDao.getAnalysis());
+            writeEnums(out, jvmDao.getPreprocessEvents());
+            out.writeInt(gcManager.getDamagedLogLineCount());
+            out.writeBoolean(state != null);
+            if (state != null) {
+                out.writeLong(state.getContext().getBits());
+                writeStrings(out, state.getEntangledLogLines());
+                writeString(out, state.getPriorLogEntry());
+                writeString(out, state.getPriorLogLine());
+                writeString(out, state.getPriorLogEventType().name());
+                writeString(out, state.getCurrentLogLine());
+                writeStrings(out, state.getLogEntries(committed));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Load the snapshot, if it exists and matches the log file and options.
+     * 
+     * @param gcManager
+     *            The <code>GcManager</code> to load the snapshot into.
+     * @param jvmStartDate
+     *            The date and time the JVM was started.
+     * @param replayLogLines
+     *            The stored log lines to replay.
+     * @param replayEventTypes
+     *            The <code>LogEventType</code> of each stored log line to replay.
+     * @return The preprocessing state, or null if the logging is not preprocessed or there is no matching snapshot.
+     */
+    private PreprocessState load(GcManager gcManager, Date jvmStartDate, List<String> replayLogLines,
+            List<LogEventType> replayEventTypes) {
+        resumeOffset = 0;
+        if (!snapshotFile.isFile()) {
+            return null;
+        }
+        long offset;
+        List<LogEventType> eventTypes;
+        List<Analysis> analysis;
+        List<PreprocessEvent> preprocessEvents;
+        int damagedLogLineCount;
+        PreprocessState state = null;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotFile.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readBoolean() != preprocess
+                    || in.readBoolean() != reorder || !fileKey(logFile).equals(readString(in))) {
+                return null;
+            }
+            offset = in.readLong();
+            if (logFile.length() < offset || in.readLong() != checksum(logFile, offset)) {
+                return null;
+            }
+            eventTypes = readEnums(in, LogEventType.class);
+            analysis = readEnums(in, Analysis.class);
+            preprocessEvents = readEnums(in, PreprocessEvent.class);
+            damagedLogLineCount = in.readInt();
+            if (in.readBoolean()) {
+                state = new PreprocessState(jvmStartDate);
+                state.getContext().setBits(in.readLong());
+                state.getEntangledLogLines().addAll(readStrings(in));
+                state.setPriorLogEntry(readString(in));
+                String priorLogLine = readString(in);
+                state.setPriorLogEvent(priorLogLine, LogEventType.valueOf(readString(in)));
+                state.setCurrentLogLine(readString(in));
+                for (String logEntry : readStrings(in)) {
+                    state.addLogEntry(logEntry);
+                }
+            }
+            List<LogEventType> types = readEnums(in, LogEventType.class);
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                replayEventTypes.add(types.get(in.readUnsignedShort()));
+                replayLogLines.add(readString(in));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Unreadable, truncated, or written by an incompatible version: treat as stale.
+            replayLogLines.clear();
+            replayEventTypes.clear();
+            return null;
+        }
+        JvmDao jvmDao = gcManager.getJvmDao();
+        jvmDao.getEventTypes().addAll(eventTypes);
+        jvmDao.getAnalysis().addAll(analysis);
+        jvmDao.getPreprocessEvents().addAll(preprocessEvents);
+        gcManager.addDamagedLogLines(damagedLogLineCount);
+        resumeOffset = offset;
+        return state;
+    }
+
+    /**
+     * Save the snapshot. The snapshot is written to a temporary file and moved into place, so a partially written
+     * snapshot is never loaded. Failure to save is reported and otherwise ignored.
+     * 
+     * @param gcManager
+     *            The recorded <code>GcManager</code>.
+     * @param offset
+     *            The byte offset of the end of the last complete log line.
+     * @param checkpoint
+     *            The data store and preprocessing state at the last complete log line.
+     * @param committed
+     *            The number of stored log lines up to the checkpoint.
+     */
+    private void save(GcManager gcManager, long offset, byte[] checkpoint, int committed) {
+        List<String> logLines = gcManager.getRecordedLogLines();
+        List<LogEventType> logLineEventTypes = gcManager.getRecordedEventTypes();
+        File tempFile = new File(snapshotFile.getPath() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeBoolean(preprocess);
+                out.writeBoolean(reorder);
+                writeString(out, fileKey(logFile));
+                out.writeLong(offset);
+                out.writeLong(checksum(logFile, offset));
+                out.write(checkpoint);
+                writeEnums(out, Arrays.asList(LogEventType.values()));
+                out.writeInt(committed);
+                for (int i = 0; i < committed; i++) {
+                    out.writeShort(logLineEventTypes.get(i).ordinal());
+                    writeString(out, logLines.get(i));
+                }
+            }
+            Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Unable to save snapshot " + snapshotFile + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,364 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.domain.NullEvent;
+import org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseAccumulator;
+import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.eclipselabs.garbagecat.util.jfr.EventBatch;
+import org.eclipselabs.garbagecat.util.jfr.PipelineEvent;
+
+/**
+ * <p>
+ * The state carried from one log line to the next during preprocessing, so preprocessing can be done a line at a time
+ * and resumed later (e.g. from a <code>GcSnapshot</code> checkpoint).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class PreprocessState {
+
+    /**
+     * Assembles G1 young pause events while preprocessing. It is not part of a <code>GcSnapshot</code> checkpoint, so
+     * an event being assembled when preprocessing is resumed is parsed from the preprocessed log entry.
+     */
+    private G1YoungPauseAccumulator accumulator = new G1YoungPauseAccumulator();
+
+    /**
+     * Preprocessing event batch.
+     */
+    private EventBatch batch = new EventBatch(PipelineEvent::preprocessBatch);
+
+    /**
+     * Used to provide context for preprocessing decisions.
+     */
+    private PreprocessContext context = new PreprocessContext();
+
+    /**
+     * The log line waiting on the next log line to be preprocessed, or null if no log lines have been added.
+     */
+    private String currentLogLine;
+
+    /**
+     * Used for de-tangling intermingled logging events that span multiple lines.
+     */
+    private List<String> entangledLogLines = new ArrayList<String>();
+
+    /**
+     * The logging format, used to narrow the preprocess actions tried.
+     */
+    private GcLogFormat format = GcLogFormat.UNKNOWN;
+
+    /**
+     * The date and time the JVM was started.
+     */
+    private Date jvmStartDate;
+
+    /**
+     * The last preprocessed log entry, which can still be appended to, or null if there is none. It is built up in
+     * place so log entries that span many log lines are not copied each time a line is added.
+     */
+    private StringBuilder lastLogEntry;
+
+    /**
+     * The event assembled for the last preprocessed log entry, or null if it is parsed.
+     */
+    private LogEvent lastLogEvent;
+
+    /**
+     * The events assembled for the complete preprocessed log entries, null for the log entries to be parsed.
+     */
+    private List<LogEvent> preprocessedLogEvents = new ArrayList<LogEvent>();
+
+    /**
+     * The complete preprocessed log entries, null for the log entries with an assembled event. The log entry of an
+     * assembled event is only created if it is used.
+     */
+    private List<String> preprocessedLogList = new ArrayList<String>();
+
+    /**
+     * The last preprocessed log entry.
+     */
+    private String priorLogEntry = Constants.LINE_SEPARATOR;
+
+    /**
+     * The last non-blank log line event.
+     */
+    private LogEvent priorLogEvent = new NullEvent();
+
+    /**
+     * The last non-blank log line, or null if there is none.
+     */
+    private String priorLogLine;
+
+    PreprocessState(Date jvmStartDate) {
+        this.jvmStartDate = jvmStartDate;
+        context.add(PreprocessAction.NEWLINE);
+    }
+
+    /**
+     * Start a new preprocessed log entry, completing the last one.
+     * 
+     * @param logEntry
+     *            The start of the log entry.
+     */
+    void addLogEntry(String logEntry) {
+        completeLogEntry();
+        lastLogEntry = new StringBuilder(logEntry);
+    }
+
+    /**
+     * Append to the last preprocessed log entry. If that completes the G1 young pause being assembled, the event is
+     * used for the log entry.
+     * 
+     * @param logEntry
+     *            The continuation of the log entry.
+     */
+    void appendLogEntry(String logEntry) {
+        if (lastLogEntry == null) {
+            lastLogEntry = new StringBuilder(logEntry);
+        } else {
+            lastLogEntry.append(logEntry);
+        }
+        lastLogEvent = null;
+        if (accumulator.isComplete()) {
+            if (accumulator.isLogEntry(lastLogEntry)) {
+                lastLogEvent = accumulator.newEvent();
+            } else {
+                accumulator.abandon();
+            }
+        }
+    }
+
+    /**
+     * Complete the last preprocessed log entry, if any.
+     */
+    void completeLogEntry() {
+        if (lastLogEntry != null) {
+            preprocessedLogList.add(lastLogEvent == null ? lastLogEntry.toString() : null);
+            preprocessedLogEvents.add(lastLogEvent);
+            lastLogEntry = null;
+            lastLogEvent = null;
+        }
+    }
+
+    /**
+     * Complete the last preprocessed log entry and hand off all the preprocessed log entries.
+     * 
+     * @return The preprocessed log entries.
+     */
+    List<String> finishLogEntries() {
+        completeLogEntry();
+        return takeLogEntries();
+    }
+
+    /**
+     * Complete the last preprocessed log entry and hand off all the preprocessed log entries, with the events
+     * assembled while preprocessing.
+     * 
+     * @param logEntries
+     *            The preprocessed log entries, null for the log entries with an assembled event.
+     * @param logEvents
+     *            The event assembled for each log entry, null for the log entries to be parsed.
+     */
+    void finishLogEntries(List<String> logEntries, List<LogEvent> logEvents) {
+        completeLogEntry();
+        takeLogEntries(logEntries, logEvents);
+    }
+
+    G1YoungPauseAccumulator getAccumulator() {
+        return accumulator;
+    }
+
+    EventBatch getBatch() {
+        return batch;
+    }
+
+    PreprocessContext getContext() {
+        return context;
+    }
+
+    String getCurrentLogLine() {
+        return currentLogLine;
+    }
+
+    List<String> getEntangledLogLines() {
+        return entangledLogLines;
+    }
+
+    GcLogFormat getFormat() {
+        return format;
+    }
+
+    Date getJvmStartDate() {
+        return jvmStartDate;
+    }
+
+    /**
+     * @return The last preprocessed log entry, which can still be appended to, or null if there is none.
+     */
+    String getLastLogEntry() {
+        return lastLogEntry == null ? null : lastLogEntry.toString();
+    }
+
+    /**
+     * @return The event assembled for the last preprocessed log entry, or null if it is parsed.
+     */
+    LogEvent getLastLogEvent() {
+        return lastLogEvent;
+    }
+
+    /**
+     * @param fromIndex
+     *            The index of the first complete preprocessed log entry.
+     * @return The preprocessed log entries from the index, including the last one, which can still be appended to.
+     */
+    List<String> getLogEntries(int fromIndex) {
+        List<String> logEntries = new ArrayList<String>();
+        for (int i = fromIndex; i < preprocessedLogList.size(); i++) {
+            logEntries.add(getLogEntry(i));
+        }
+        if (lastLogEntry != null) {
+            logEntries.add(lastLogEntry.toString());
+        }
+        return logEntries;
+    }
+
+    /**
+     * @param index
+     *            The index of the complete preprocessed log entry.
+     * @return The preprocessed log entry, created from the assembled event if there is one.
+     */
+    private String getLogEntry(int index) {
+        String logEntry = preprocessedLogList.get(index);
+        return logEntry == null ? preprocessedLogEvents.get(index).getLogEntry() : logEntry;
+    }
+
+    /**
+     * @return The number of complete preprocessed log entries.
+     */
+    int getLogEntryCount() {
+        return preprocessedLogList.size();
+    }
+
+    String getPriorLogEntry() {
+        return priorLogEntry;
+    }
+
+    LogEvent getPriorLogEvent() {
+        return priorLogEvent;
+    }
+
+    String getPriorLogLine() {
+        return priorLogLine;
+    }
+
+    /**
+     * @return The <code>LogEventType</code> of the last non-blank log line.
+     */
+    LogEventType getPriorLogEventType() {
+        return JdkUtil.determineEventType(priorLogEvent.getName());
+    }
+
+    /**
+     * @param suffix
+     *            The suffix to check.
+     * @return True if the last preprocessed log entry ends with the suffix, false otherwise.
+     */
+    boolean isLastLogEntryEndsWith(String suffix) {
+        return lastLogEntry != null && lastLogEntry.length() >= suffix.length()
+                && lastLogEntry.indexOf(suffix, lastLogEntry.length() - suffix.length()) >= 0;
+    }
+
+    /**
+     * @return True if there are no preprocessed log entries, false otherwise.
+     */
+    boolean isLogEntriesEmpty() {
+        return lastLogEntry == null && preprocessedLogList.isEmpty();
+    }
+
+    void setCurrentLogLine(String currentLogLine) {
+        this.currentLogLine = currentLogLine;
+    }
+
+    void setFormat(GcLogFormat format) {
+        this.format = format;
+    }
+
+    void setPriorLogEntry(String priorLogEntry) {
+        this.priorLogEntry = priorLogEntry;
+    }
+
+    /**
+     * @param priorLogLine
+     *            The last non-blank log line, or null if there is none.
+     * @param priorLogEvent
+     *            The last non-blank log line event.
+     */
+    void setPriorLogEvent(String priorLogLine, LogEvent priorLogEvent) {
+        this.priorLogLine = priorLogLine;
+        this.priorLogEvent = priorLogEvent;
+    }
+
+    /**
+     * @param priorLogLine
+     *            The last non-blank log line, or null if there is none.
+     * @param priorLogEventType
+     *            The <code>LogEventType</code> of the last non-blank log line.
+     */
+    void setPriorLogEvent(String priorLogLine, LogEventType priorLogEventType) {
+        setPriorLogEvent(priorLogLine,
+                priorLogLine == null ? new NullEvent() : JdkUtil.createLogEvent(priorLogEventType, priorLogLine));
+    }
+
+    /**
+     * Hand off the complete preprocessed log entries, keeping the last one, which can still be appended to.
+     * 
+     * @return The complete preprocessed log entries.
+     */
+    List<String> takeLogEntries() {
+        List<String> logEntries = new ArrayList<String>(preprocessedLogList.size());
+        for (int i = 0; i < preprocessedLogList.size(); i++) {
+            logEntries.add(getLogEntry(i));
+        }
+        preprocessedLogList = new ArrayList<String>();
+        preprocessedLogEvents = new ArrayList<LogEvent>();
+        return logEntries;
+    }
+
+    /**
+     * Hand off the complete preprocessed log entries with the events assembled while preprocessing, keeping the last
+     * one, which can still be appended to.
+     * 
+     * @param logEntries
+     *            The complete preprocessed log entries, null for the log entries with an assembled event.
+     * @param logEvents
+     *            The event assembled for each log entry, null for the log entries to be parsed.
+     */
+    void takeLogEntries(List<String> logEntries, List<LogEvent> logEvents) {
+        logEntries.addAll(preprocessedLogList);
+        logEvents.addAll(preprocessedLogEvents);
+        preprocessedLogList = new ArrayList<String>();
+        preprocessedLogEvents = new ArrayList<LogEvent>();
+    }
+}
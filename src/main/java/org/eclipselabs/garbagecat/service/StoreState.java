@@ -0,0 +1,82 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import org.eclipselabs.garbagecat.domain.BlockingEvent;
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.domain.NullEvent;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
+
+/**
+ * <p>
+ * The state carried from one log line to the next when storing, so logging can be stored in chunks (e.g. when
+ * following a growing log).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class StoreState {
+
+    /**
+     * The collector family, from the unified header.
+     */
+    private CollectorFamily collectorFamily = CollectorFamily.UNKNOWN;
+
+    /**
+     * The logging format, sniffed from the first log lines stored, or null if nothing has been stored.
+     */
+    private GcLogFormat format;
+
+    /**
+     * The last blocking event, or null if there is none.
+     */
+    private BlockingEvent priorBlockingEvent;
+
+    /**
+     * The last non-blank log line event.
+     */
+    private LogEvent priorLogEvent = new NullEvent();
+
+    CollectorFamily getCollectorFamily() {
+        return collectorFamily;
+    }
+
+    GcLogFormat getFormat() {
+        return format;
+    }
+
+    BlockingEvent getPriorBlockingEvent() {
+        return priorBlockingEvent;
+    }
+
+    LogEvent getPriorLogEvent() {
+        return priorLogEvent;
+    }
+
+    void setCollectorFamily(CollectorFamily collectorFamily) {
+        this.collectorFamily = collectorFamily;
+    }
+
+    void setFormat(GcLogFormat format) {
+        this.format = format;
+    }
+
+    void setPriorBlockingEvent(BlockingEvent priorBlockingEvent) {
+        this.priorBlockingEvent = priorBlockingEvent;
+    }
+
+    void setPriorLogEvent(LogEvent priorLogEvent) {
+        this.priorLogEvent = priorLogEvent;
+    }
+}
@@ -53,6 +53,16 @@ public class Constants {
      */
     public static final String LINE_SEPARATOR = System.getProperty("line.separator");
 
+    /**
+     * Batch (directory for reports and fleet summary) command line long option.
+     */
+    public static final String OPTION_BATCH_LONG = "batch";
+
+    /**
+     * Follow command line long option.
+     */
+    public static final String OPTION_FOLLOW_LONG = "follow";
+
     /**
      * Help command line long option.
      */
@@ -93,6 +103,11 @@ public class Constants {
      */
     public static final String OPTION_PREPROCESS_SHORT = "p";
 
+    /**
+     * Profile command line long option.
+     */
+    public static final String OPTION_PROFILE_LONG = "profile";
+
     /**
      * Reorder command line long option.
      */
@@ -113,6 +128,16 @@ public class Constants {
      */
     public static final String OPTION_REPORT_CONSOLE_SHORT = "c";
 
+    /**
+     * Rotation (read the rotated log file set) command line long option.
+     */
+    public static final String OPTION_ROTATION_LONG = "rotation";
+
+    /**
+     * Snapshot command line long option.
+     */
+    public static final String OPTION_SNAPSHOT_LONG = "snapshot";
+
     /**
      * JVM start datetime command line long option.
      */
@@ -123,6 +148,11 @@ public class Constants {
      */
     public static final String OPTION_STARTDATETIME_SHORT = "s";
 
+    /**
+     * Batch worker threads command line long option.
+     */
+    public static final String OPTION_THREADS_LONG = "threads";
+
     /**
      * Threshold command line long option.
      */
@@ -148,6 +178,11 @@ public class Constants {
      */
     public static final String OUTPUT_FILE_NAME = "report.txt";
 
+    /**
+     * Log file name for reading logging from standard input.
+     */
+    public static final String STDIN_FILE_NAME = "-";
+
     /**
      * Test data directory.
      */
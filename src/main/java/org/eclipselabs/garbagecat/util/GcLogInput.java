@@ -0,0 +1,120 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * <p>
+ * Opens gc log files for reading, decompressing gzip (<code>.gz</code>) and zip (<code>.zip</code>) files as they are
+ * read.
+ * </p>
+ * 
+ * <p>
+ * A zip file is read as the first file it contains.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class GcLogInput {
+
+    /**
+     * Decompression buffer size (bytes).
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * gzip file extension.
+     */
+    public static final String GZIP_EXTENSION = ".gz";
+
+    /**
+     * zip file extension.
+     */
+    public static final String ZIP_EXTENSION = ".zip";
+
+    /**
+     * @param logFile
+     *            The log file.
+     * @return True if the log file is compressed, false otherwise.
+     */
+    public static boolean isCompressed(File logFile) {
+        String name = logFile.getName().toLowerCase();
+        return name.endsWith(GZIP_EXTENSION) || name.endsWith(ZIP_EXTENSION);
+    }
+
+    /**
+     * @param logFile
+     *            The log file.
+     * @return A stream of the log file bytes, decompressed if the log file is compressed.
+     * @throws IOException
+     *             if the log file cannot be opened or a zip file contains no files.
+     */
+    public static InputStream open(File logFile) throws IOException {
+        String name = logFile.getName().toLowerCase();
+        if (name.endsWith(GZIP_EXTENSION)) {
+            return new GZIPInputStream(new FileInputStream(logFile), BUFFER_SIZE);
+        } else if (name.endsWith(ZIP_EXTENSION)) {
+            ZipInputStream in = new ZipInputStream(new FileInputStream(logFile));
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                if (!entry.isDirectory()) {
+                    return in;
+                }
+            }
+            in.close();
+            throw new IOException("No file in zip: " + logFile);
+        }
+        return new FileInputStream(logFile);
+    }
+
+    /**
+     * Open a log file, reading ahead on a separate thread if it is compressed, so decompression overlaps with parsing.
+     * 
+     * @param logFile
+     *            The log file.
+     * @return A stream of the log file bytes, decompressed if the log file is compressed.
+     * @throws IOException
+     *             if the log file cannot be opened.
+     */
+    public static InputStream prefetch(File logFile) throws IOException {
+        if (!isCompressed(logFile)) {
+            return open(logFile);
+        }
+        return new PrefetchInputStream(() -> open(logFile), "garbagecat-prefetch-" + logFile.getName());
+    }
+
+    /**
+     * @param logFile
+     *            The log file.
+     * @return A reader of the log file lines, decompressed if the log file is compressed.
+     * @throws IOException
+     *             if the log file cannot be opened.
+     */
+    public static GcLogReader reader(File logFile) throws IOException {
+        return new GcLogReader(open(logFile));
+    }
+
+    /**
+     * Make default constructor private so the class cannot be instantiated.
+     */
+    private GcLogInput() {
+    }
+}
@@ -0,0 +1,263 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * Reads gc log lines from bytes, tolerating malformed UTF-8.
+ * </p>
+ * 
+ * <p>
+ * gc logging is almost entirely ASCII, so each line is scanned for its terminator and non-ASCII bytes in one pass, and
+ * an ASCII line is converted to a <code>String</code> directly, without a charset decoder. A line with non-ASCII bytes
+ * is decoded as UTF-8. Malformed bytes (e.g. from a truncated write or binary application output interleaved with gc
+ * logging to stdout) are replaced with U+FFFD instead of failing the whole analysis, and the line is counted as
+ * damaged.
+ * </p>
+ * 
+ * <p>
+ * Lines are terminated by "\n", "\r", or "\r\n", the same as <code>BufferedReader.readLine()</code>. The byte
+ * position after each line is tracked, so reading can be resumed from the end of the last complete (terminated) line
+ * (e.g. of a log that is still being written).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class GcLogReader implements Closeable {
+
+    /**
+     * The initial buffer size (bytes). The buffer grows to hold the longest line.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private byte[] buffer = new byte[BUFFER_SIZE];
+
+    /**
+     * The number of lines with malformed bytes.
+     */
+    private int damagedLineCount;
+
+    /**
+     * Strict UTF-8 decoder, to detect malformed bytes.
+     */
+    private CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+
+    /**
+     * The end of the bytes read into the buffer.
+     */
+    private int end;
+
+    private InputStream in;
+
+    /**
+     * The number of bytes read before the start of the buffer.
+     */
+    private long position;
+
+    /**
+     * The start of the next line in the buffer.
+     */
+    private int start;
+
+    /**
+     * Whether or not the last line read was terminated.
+     */
+    private boolean terminated;
+
+    /**
+     * @param in
+     *            The log bytes.
+     */
+    public GcLogReader(InputStream in) {
+        this.in = in;
+    }
+
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * @param offset
+     *            The line offset in the buffer.
+     * @param length
+     *            The line length.
+     * @param ascii
+     *            Whether or not the line is all ASCII.
+     * @return The line.
+     */
+    private String decode(int offset, int length, boolean ascii) {
+        if (ascii) {
+            return new String(buffer, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        try {
+            return decoder.decode(ByteBuffer.wrap(buffer, offset, length)).toString();
+        } catch (CharacterCodingException e) {
+            damagedLineCount++;
+            return new String(buffer, offset, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Read more bytes into the buffer, moving the unread bytes to the start of the buffer and growing it if needed.
+     * 
+     * @return The number of unread bytes moved (to adjust positions in the buffer), or -1 at the end of the stream.
+     * @throws IOException
+     *             if the bytes cannot be read.
+     */
+    private int fill() throws IOException {
+        int moved = start;
+        position += start;
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            end -= start;
+            start = 0;
+        }
+        if (end == buffer.length) {
+            byte[] grown = new byte[buffer.length * 2];
+            System.arraycopy(buffer, 0, grown, 0, end);
+            buffer = grown;
+        }
+        int n;
+        do {
+            n = in.read(buffer, end, buffer.length - end);
+        } while (n == 0);
+        if (n < 0) {
+            return -1;
+        }
+        end += n;
+        return moved;
+    }
+
+    /**
+     * @return The number of lines with malformed bytes, which were replaced with U+FFFD.
+     */
+    public int getDamagedLineCount() {
+        return damagedLineCount;
+    }
+
+    /**
+     * @return The number of bytes read up to the end of the last line read, including its line terminator.
+     */
+    public long getPosition() {
+        return position + start;
+    }
+
+    /**
+     * @return true if the last line read was terminated, false if it is the end of the stream without a line
+     *         terminator or with a "\r" that could be the first byte of a "\r\n" not yet written.
+     */
+    public boolean isTerminated() {
+        return terminated;
+    }
+
+    /**
+     * @return An iterator over the remaining lines, reading each line as it is needed. An <code>IOException</code>
+     *         reading a line is thrown as an <code>UncheckedIOException</code>.
+     */
+    public Iterator<String> lines() {
+        return new Iterator<String>() {
+
+            private String next;
+
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = readLine();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return next != null;
+            }
+
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String line = next;
+                next = null;
+                return line;
+            }
+        };
+    }
+
+    /**
+     * @return All remaining lines.
+     * @throws IOException
+     *             if the bytes cannot be read.
+     */
+    public List<String> readAllLines() throws IOException {
+        List<String> lines = new ArrayList<String>();
+        String line;
+        while ((line = readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    /**
+     * @return The next line, without the line terminator, or null at the end of the stream.
+     * @throws IOException
+     *             if the bytes cannot be read.
+     */
+    public String readLine() throws IOException {
+        boolean ascii = true;
+        int i = start;
+        while (true) {
+            for (; i < end; i++) {
+                byte b = buffer[i];
+                if (b == '\n' || b == '\r') {
+                    String line = decode(start, i - start, ascii);
+                    start = i + 1;
+                    terminated = true;
+                    if (b == '\r') {
+                        // Read a "\r\n" terminator as a whole, so the position is never between the two bytes
+                        if (start == end && fill() < 0) {
+                            terminated = false;
+                        } else if (buffer[start] == '\n') {
+                            start++;
+                        }
+                    }
+                    return line;
+                } else if (b < 0) {
+                    ascii = false;
+                }
+            }
+            int moved = fill();
+            if (moved < 0) {
+                if (start == end) {
+                    return null;
+                }
+                String line = decode(start, end - start, ascii);
+                start = end;
+                terminated = false;
+                return line;
+            }
+            i -= moved;
+        }
+    }
+}
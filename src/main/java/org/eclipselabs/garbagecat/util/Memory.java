@@ -14,10 +14,10 @@ package org.eclipselabs.garbagecat.util;
 
 import static java.lang.Long.parseLong;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.BYTES;
+import static org.eclipselabs.garbagecat.util.Memory.Unit.forUnit;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.GIGABYTES;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.KILOBYTES;
 import static org.eclipselabs.garbagecat.util.Memory.Unit.MEGABYTES;
-import static org.eclipselabs.garbagecat.util.Memory.Unit.forUnit;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -139,7 +139,22 @@ public class Memory implements Comparable<Memory> {
         private static final int K = 1024;
 
         public static Unit forUnit(char unit) {
-            return forUnit(String.valueOf(unit));
+            switch (unit) {
+            case 'B':
+            case 'b':
+                return BYTES;
+            case 'K':
+            case 'k':
+                return KILOBYTES;
+            case 'M':
+            case 'm':
+                return MEGABYTES;
+            case 'G':
+            case 'g':
+                return GIGABYTES;
+            default:
+                return forUnit(String.valueOf(unit));
+            }
         }
 
         public static Unit forUnit(String unit) {
@@ -175,6 +190,12 @@ public class Memory implements Comparable<Memory> {
 
     private static final Pattern optionSizePattern = Pattern.compile("(\\d{1,12})(" + JdkRegEx.OPTION_SIZE + ")?");
 
+    /**
+     * The kilobytes value of a size that is not known (e.g. not logged), the primitive counterpart of a null
+     * <code>Memory</code>.
+     */
+    public static final long UNKNOWN_KILOBYTES = Long.MIN_VALUE;
+
     public static final Memory ZERO = new Memory(0, BYTES);
 
     public static Memory bytes(long value) {
@@ -232,6 +253,37 @@ public class Memory implements Comparable<Memory> {
         return kilobytes(parseLong(value));
     }
 
+    /**
+     * @param kilobytes
+     *            The size in kilobytes, or <code>UNKNOWN_KILOBYTES</code>.
+     * @return The size, or null if the size is not known.
+     */
+    public static Memory kilobytesOrNull(long kilobytes) {
+        return kilobytes == UNKNOWN_KILOBYTES ? null : kilobytes(kilobytes);
+    }
+
+    /**
+     * @param memory
+     *            The size, or null.
+     * @return The size in kilobytes, or <code>UNKNOWN_KILOBYTES</code> if the size is null.
+     */
+    public static long kilobytesValue(Memory memory) {
+        return memory == null ? UNKNOWN_KILOBYTES : memory.getValue(KILOBYTES);
+    }
+
+    /**
+     * The kilobytes value of <code>memory(value, unit).convertTo(KILOBYTES)</code> without creating any objects.
+     * 
+     * @param value
+     *            The size as a whole number.
+     * @param unit
+     *            The units (e.g. 'M').
+     * @return The size in kilobytes.
+     */
+    public static long kilobytesValue(String value, char unit) {
+        return (long) forUnit(unit).toKiloBytes(parseLong(value));
+    }
+
     public static Memory megabytes(long value) {
         return memory(value, MEGABYTES);
     }
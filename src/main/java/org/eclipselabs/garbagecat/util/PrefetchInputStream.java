@@ -0,0 +1,179 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+
+/**
+ * <p>
+ * An <code>InputStream</code> read ahead on a separate thread into a bounded buffer.
+ * </p>
+ * 
+ * <p>
+ * Used to overlap decompressing a gc log with parsing: the source stream is opened and read by a daemon thread, which
+ * blocks when <code>CAPACITY</code> chunks are waiting to be read, so memory use is bounded no matter how large the
+ * log is.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class PrefetchInputStream extends InputStream {
+
+    /**
+     * The maximum number of chunks read ahead.
+     */
+    public static final int CAPACITY = 16;
+
+    /**
+     * The chunk size (bytes).
+     */
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * End of stream marker.
+     */
+    private static final byte[] EOF = new byte[0];
+
+    /**
+     * The chunk being read.
+     */
+    private byte[] chunk;
+
+    /**
+     * The chunks read ahead.
+     */
+    private BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<byte[]>(CAPACITY);
+
+    /**
+     * Whether or not the stream is closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The error reading the source stream, or null if none.
+     */
+    private volatile IOException error;
+
+    /**
+     * The position in the chunk being read.
+     */
+    private int position;
+
+    /**
+     * The read ahead thread.
+     */
+    private Thread thread;
+
+    /**
+     * @param source
+     *            Opens the source stream. Called on the read ahead thread.
+     * @param name
+     *            The read ahead thread name.
+     */
+    public PrefetchInputStream(Callable<InputStream> source, String name) {
+        thread = new Thread(() -> {
+            try (InputStream in = source.call()) {
+                while (!closed) {
+                    byte[] buffer = new byte[CHUNK_SIZE];
+                    int length = 0;
+                    int n;
+                    while (length < buffer.length && (n = in.read(buffer, length, buffer.length - length)) > 0) {
+                        length += n;
+                    }
+                    if (length == 0) {
+                        break;
+                    }
+                    chunks.put(length == buffer.length ? buffer : Arrays.copyOf(buffer, length));
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException e) {
+                error = e;
+            } catch (Exception e) {
+                error = new IOException(e);
+            }
+            try {
+                chunks.put(EOF);
+            } catch (InterruptedException e) {
+                // closed
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+        chunks.clear();
+    }
+
+    /**
+     * @return True if there are bytes to read, false at the end of the stream.
+     * @throws IOException
+     *             if the stream is closed or the source stream could not be read.
+     */
+    private boolean fill() throws IOException {
+        if (closed) {
+            // The read ahead thread may have stopped without queuing the end of the stream.
+            throw new IOException("Stream closed");
+        }
+        if (chunk == EOF) {
+            return false;
+        }
+        if (chunk != null && position < chunk.length) {
+            return true;
+        }
+        try {
+            chunk = chunks.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        position = 0;
+        if (chunk == EOF) {
+            if (error != null) {
+                throw error;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return fill() ? chunk[position++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.length - position);
+        System.arraycopy(chunk, position, b, off, n);
+        position += n;
+        return n;
+    }
+}
@@ -0,0 +1,351 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.eclipselabs.garbagecat.util.jdk.LogEventRanking;
+
+/**
+ * <p>
+ * Collects where time is spent analyzing gc logging: wall and CPU time per stage, and the cost of identifying and
+ * constructing each <code>LogEventType</code>.
+ * </p>
+ * 
+ * <p>
+ * Profiling is enabled with the <code>--profile</code> command line option. When it is not enabled no
+ * <code>Profiler</code> is created, and the analysis does not take any timestamps.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class Profiler {
+
+    /**
+     * Per <code>LogEventType</code> statistics.
+     */
+    public static class EventTypeProfile {
+
+        private long attempts;
+
+        private long constructNanos;
+
+        private final LogEventType eventType;
+
+        private long identifyNanos;
+
+        private long lines;
+
+        private EventTypeProfile(LogEventType eventType) {
+            this.eventType = eventType;
+        }
+
+        /**
+         * @return The number of patterns tried to identify the lines, including the one that matched.
+         */
+        public long getAttempts() {
+            return attempts;
+        }
+
+        public long getConstructNanos() {
+            return constructNanos;
+        }
+
+        public LogEventType getEventType() {
+            return eventType;
+        }
+
+        public long getIdentifyNanos() {
+            return identifyNanos;
+        }
+
+        public long getLines() {
+            return lines;
+        }
+    }
+
+    /**
+     * A log line and what it cost to parse.
+     */
+    public static class ExpensiveLine {
+
+        private final LogEventType eventType;
+
+        private final String logLine;
+
+        private final long nanos;
+
+        private ExpensiveLine(LogEventType eventType, String logLine, long nanos) {
+            this.eventType = eventType;
+            this.logLine = logLine;
+            this.nanos = nanos;
+        }
+
+        public LogEventType getEventType() {
+            return eventType;
+        }
+
+        public String getLogLine() {
+            return logLine;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+
+    /**
+     * Analysis stages, in report order. Identify and construct are summed over every stage that parses log lines
+     * (preprocess and store).
+     */
+    public enum Stage {
+        READ("read"), PREPROCESS("preprocess"), STORE("store"), JVM_RUN("getJvmRun"), REPORT("report"),
+        //
+        IDENTIFY("identify"), CONSTRUCT("construct");
+
+        private final String label;
+
+        private Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * The number of most expensive log lines to track.
+     */
+    public static final int EXPENSIVE_LINES_LIMIT = 10;
+
+    /**
+     * The maximum log line length shown in the report.
+     */
+    private static final int LOG_LINE_DISPLAY_LENGTH = 100;
+
+    /**
+     * Match attempts for the log line currently being identified.
+     */
+    private int attempts;
+
+    private final long[] cpuNanos = new long[Stage.values().length];
+
+    private final long[] cpuStart = new long[Stage.values().length];
+
+    private final Map<LogEventType, EventTypeProfile> eventTypeProfiles = new EnumMap<LogEventType, EventTypeProfile>(
+            LogEventType.class);
+
+    /**
+     * Min heap of the most expensive lines, so the cheapest is evicted first.
+     */
+    private final PriorityQueue<ExpensiveLine> expensiveLines = new PriorityQueue<ExpensiveLine>(
+            Comparator.comparingLong(ExpensiveLine::getNanos));
+
+    private final ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+
+    private final boolean cpuTimeSupported = threadMxBean.isCurrentThreadCpuTimeSupported();
+
+    private final long[] wallNanos = new long[Stage.values().length];
+
+    private final long[] wallStart = new long[Stage.values().length];
+
+    /**
+     * Count an attempt to match a pattern to the log line currently being identified.
+     */
+    public void attempt() {
+        attempts++;
+    }
+
+    private long cpuTime() {
+        return cpuTimeSupported ? threadMxBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * @param stage
+     *            The analysis stage.
+     * @return The CPU time spent in the stage in nanoseconds, or -1 if CPU time is not supported.
+     */
+    public long getCpuNanos(Stage stage) {
+        return cpuTimeSupported ? cpuNanos[stage.ordinal()] : -1;
+    }
+
+    /**
+     * @return The per <code>LogEventType</code> statistics, most expensive first.
+     */
+    public List<EventTypeProfile> getEventTypeProfiles() {
+        List<EventTypeProfile> profiles = new ArrayList<EventTypeProfile>(eventTypeProfiles.values());
+        profiles.sort(Comparator
+                .comparingLong((EventTypeProfile profile) -> profile.identifyNanos + profile.constructNanos)
+                .reversed());
+        return profiles;
+    }
+
+    /**
+     * @return The most expensive log lines, most expensive first.
+     */
+    public List<ExpensiveLine> getExpensiveLines() {
+        List<ExpensiveLine> lines = new ArrayList<ExpensiveLine>(expensiveLines);
+        lines.sort(Comparator.comparingLong(ExpensiveLine::getNanos));
+        Collections.reverse(lines);
+        return lines;
+    }
+
+    /**
+     * @return The profile report.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Profile:").append(Constants.LINE_SEPARATOR);
+        report.append(String.format(Locale.ROOT, "%-22s %12s %12s", "Stage", "Wall (ms)", "CPU (ms)"));
+        report.append(Constants.LINE_SEPARATOR);
+        for (Stage stage : Stage.values()) {
+            long cpu = getCpuNanos(stage);
+            report.append(String.format(Locale.ROOT, "%-22s %12.3f %12s", stage.getLabel(),
+                    wallNanos[stage.ordinal()] / 1e6,
+                    cpu < 0 ? "n/a" : String.format(Locale.ROOT, "%.3f", cpu / 1e6)));
+            report.append(Constants.LINE_SEPARATOR);
+        }
+        report.append(Constants.LINE_SEPARATOR);
+        report.append(String.format(Locale.ROOT, "%-40s %10s %10s %14s %14s", "Event Type", "Lines", "Attempts",
+                "Match (us)", "Construct (us)"));
+        report.append(Constants.LINE_SEPARATOR);
+        for (EventTypeProfile profile : getEventTypeProfiles()) {
+            report.append(String.format(Locale.ROOT, "%-40s %10d %10.1f %14.2f %14.2f", profile.eventType,
+                    profile.lines, (double) profile.attempts / profile.lines,
+                    profile.identifyNanos / 1e3 / profile.lines, profile.constructNanos / 1e3 / profile.lines));
+            report.append(Constants.LINE_SEPARATOR);
+        }
+        report.append(Constants.LINE_SEPARATOR);
+        report.append("Most expensive lines (us):").append(Constants.LINE_SEPARATOR);
+        for (ExpensiveLine line : getExpensiveLines()) {
+            String logLine = line.logLine.length() > LOG_LINE_DISPLAY_LENGTH
+                    ? line.logLine.substring(0, LOG_LINE_DISPLAY_LENGTH) + "..."
+                    : line.logLine;
+            report.append(String.format(Locale.ROOT, "%10.2f %s: %s", line.nanos / 1e3, line.eventType, logLine));
+            report.append(Constants.LINE_SEPARATOR);
+        }
+        return report.toString();
+    }
+
+    /**
+     * @param stage
+     *            The analysis stage.
+     * @return The wall time spent in the stage in nanoseconds.
+     */
+    public long getWallNanos(Stage stage) {
+        return wallNanos[stage.ordinal()];
+    }
+
+    /**
+     * Identify and construct the <code>LogEvent</code> for a log line, recording the cost of each step.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param collectorFamily
+     *            The <code>CollectorFamily</code>.
+     * @return The <code>LogEvent</code> for the log line.
+     */
+    public LogEvent parseLogLine(String logLine, LogEvent priorLogEvent, CollectorFamily collectorFamily) {
+        return parseLogLine(logLine, priorLogEvent, collectorFamily, null);
+    }
+
+    /**
+     * Identify and construct the <code>LogEvent</code> for a log line, recording the cost of each step.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param collectorFamily
+     *            The <code>CollectorFamily</code>.
+     * @param ranking
+     *            The <code>LogEventRanking</code> that tries the most frequent candidates first, or null to try the
+     *            candidates in order.
+     * @return The <code>LogEvent</code> for the log line.
+     */
+    public LogEvent parseLogLine(String logLine, LogEvent priorLogEvent, CollectorFamily collectorFamily,
+            LogEventRanking ranking) {
+        attempts = 0;
+        long wall0 = System.nanoTime();
+        long cpu0 = cpuTime();
+        LogEventType eventType = JdkUtil.identifyEventType(logLine, priorLogEvent, collectorFamily, this, ranking);
+        long wall1 = System.nanoTime();
+        long cpu1 = cpuTime();
+        LogEvent event = JdkUtil.createLogEvent(eventType, logLine);
+        long wall2 = System.nanoTime();
+        long cpu2 = cpuTime();
+
+        wallNanos[Stage.IDENTIFY.ordinal()] += wall1 - wall0;
+        cpuNanos[Stage.IDENTIFY.ordinal()] += cpu1 - cpu0;
+        wallNanos[Stage.CONSTRUCT.ordinal()] += wall2 - wall1;
+        cpuNanos[Stage.CONSTRUCT.ordinal()] += cpu2 - cpu1;
+
+        EventTypeProfile profile = eventTypeProfiles.get(eventType);
+        if (profile == null) {
+            profile = new EventTypeProfile(eventType);
+            eventTypeProfiles.put(eventType, profile);
+        }
+        profile.lines++;
+        profile.attempts += attempts;
+        profile.identifyNanos += wall1 - wall0;
+        profile.constructNanos += wall2 - wall1;
+
+        long nanos = wall2 - wall0;
+        if (expensiveLines.size() < EXPENSIVE_LINES_LIMIT) {
+            expensiveLines.add(new ExpensiveLine(eventType, logLine, nanos));
+        } else if (nanos > expensiveLines.peek().nanos) {
+            expensiveLines.poll();
+            expensiveLines.add(new ExpensiveLine(eventType, logLine, nanos));
+        }
+        return event;
+    }
+
+    /**
+     * Start timing a stage.
+     * 
+     * @param stage
+     *            The analysis stage.
+     */
+    public void start(Stage stage) {
+        wallStart[stage.ordinal()] = System.nanoTime();
+        cpuStart[stage.ordinal()] = cpuTime();
+    }
+
+    /**
+     * Stop timing a stage. A stage can be started and stopped more than once, and the times are summed.
+     * 
+     * @param stage
+     *            The analysis stage.
+     */
+    public void stop(Stage stage) {
+        wallNanos[stage.ordinal()] += System.nanoTime() - wallStart[stage.ordinal()];
+        cpuNanos[stage.ordinal()] += cpuTime() - cpuStart[stage.ordinal()];
+    }
+}
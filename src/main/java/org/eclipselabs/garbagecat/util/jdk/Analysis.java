@@ -304,6 +304,11 @@ public enum Analysis {
      */
     WARN_HEAP_INSPECTION_INITIATED_GC("warn.heap.inspection.initiated.gc"),
 
+    /**
+     * Property key for log lines with malformed bytes.
+     */
+    WARN_LOG_LINES_DAMAGED("warn.log.lines.damaged"),
+
     /**
      * Property key for inverted parallelism.
      */
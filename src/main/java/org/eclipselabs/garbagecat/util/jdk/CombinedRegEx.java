@@ -0,0 +1,522 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
+
+/**
+ * <p>
+ * A list of regular expressions combined into a single matcher that determines if a log line matches any of them.
+ * </p>
+ * 
+ * <p>
+ * Each regular expression is indexed by the literal text it requires at the start of the log line (or at the end of
+ * the unified decorator), so a log line is only tested against the regular expressions whose literal prefix it has,
+ * found in one scan of a prefix tree. Regular expressions without a literal prefix (e.g. "^.+$") are always tested.
+ * Runs of spaces are treated as a single space when indexing and scanning, so indentation does not limit the index.
+ * </p>
+ * 
+ * <p>
+ * The result is the same as testing the regular expressions one at a time: the index only selects candidates, and a
+ * log line matches only if a candidate regular expression matches the whole log line.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class CombinedRegEx {
+
+    /**
+     * A node in the prefix tree: the regular expressions whose literal prefix ends at the node, and the child nodes by
+     * next character.
+     */
+    private static final class Node {
+
+        private Node[] children = new Node[0];
+
+        private char[] labels = new char[0];
+
+        private int[] patterns = new int[0];
+
+        private Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+    }
+
+    /**
+     * The literal prefixes of a regular expression (or part of one). Open prefixes can be extended by what follows;
+     * closed prefixes cannot.
+     */
+    private static final class Prefixes {
+
+        private Set<String> closed = new LinkedHashSet<>();
+
+        private Set<String> open = new LinkedHashSet<>();
+
+        private int size() {
+            return closed.size() + open.size();
+        }
+    }
+
+    /**
+     * The maximum number of literal prefixes indexed for a single regular expression. Regular expressions with more
+     * alternatives are indexed by a shorter prefix.
+     */
+    private static final int MAX_PREFIXES = 256;
+
+    /**
+     * The maximum number of characters in a character class expanded into literal prefixes.
+     */
+    private static final int MAX_CLASS_SIZE = 16;
+
+    /**
+     * The unified decorator at the beginning of a regular expression.
+     */
+    private static final String[] UNIFIED_DECORATOR = { "^" + UnifiedRegEx.DECORATOR,
+            "^(" + UnifiedRegEx.DECORATOR + ")" };
+
+    /**
+     * Append literal text to a prefix, collapsing runs of spaces.
+     */
+    private static final String append(String prefix, String text) {
+        StringBuilder s = new StringBuilder(prefix);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != ' ' || s.length() == 0 || s.charAt(s.length() - 1) != ' ') {
+                s.append(c);
+            }
+        }
+        return s.toString();
+    }
+
+    /**
+     * Find the position after the closing character of a group or character class.
+     * 
+     * @return The position after the closing character, or -1 if there is none.
+     */
+    private static final int close(String regex, int from, int to) {
+        int depth = 0;
+        boolean inClass = false;
+        for (int i = from; i < to; i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                if (c == ']') {
+                    inClass = false;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Combine the prefixes in <code>prefixes</code> with a following element repeated
+     * <code>min</code>..<code>max</code> times.
+     * 
+     * @return true if the following elements can extend the prefixes, false otherwise.
+     */
+    private static final boolean combine(Prefixes prefixes, Prefixes element, int min, int max) {
+        boolean space = element.closed.isEmpty() && element.open.size() == 1 && element.open.contains(" ");
+        Prefixes combined = new Prefixes();
+        if (space) {
+            // Runs of spaces are collapsed, so the number of repetitions does not matter
+            for (String prefix : prefixes.open) {
+                if (min == 0) {
+                    combined.open.add(prefix);
+                }
+                combined.open.add(append(prefix, " "));
+            }
+        } else if (min == 0 && max == 1) {
+            for (String prefix : prefixes.open) {
+                combined.open.add(prefix);
+                cross(prefix, element, combined.open, combined.closed);
+            }
+        } else if (min >= 1) {
+            for (String prefix : prefixes.open) {
+                cross(prefix, element, max == 1 ? combined.open : combined.closed, combined.closed);
+            }
+        } else {
+            prefixes.closed.addAll(prefixes.open);
+            prefixes.open.clear();
+            return false;
+        }
+        if (prefixes.closed.size() + combined.size() > MAX_PREFIXES) {
+            prefixes.closed.addAll(prefixes.open);
+            prefixes.open.clear();
+            return false;
+        }
+        prefixes.closed.addAll(combined.closed);
+        prefixes.open = combined.open;
+        return !prefixes.open.isEmpty();
+    }
+
+    /**
+     * @param regexes
+     *            The regular expressions.
+     * @return A <code>CombinedRegEx</code> that indexes the regular expressions from the start of the log line.
+     */
+    public static final CombinedRegEx of(String[] regexes) {
+        return new CombinedRegEx(regexes, false);
+    }
+
+    /**
+     * @param regexes
+     *            The regular expressions, beginning with "^" followed by the <code>UnifiedRegEx.DECORATOR</code>.
+     * @return A <code>CombinedRegEx</code> that indexes the regular expressions from the end of the unified decorator.
+     */
+    public static final CombinedRegEx ofUnified(String[] regexes) {
+        return new CombinedRegEx(regexes, true);
+    }
+
+    /**
+     * Add the prefixes of an element to a prefix, sorting them by whether they can be extended.
+     */
+    private static final void cross(String prefix, Prefixes element, Set<String> open, Set<String> closed) {
+        for (String text : element.open) {
+            open.add(append(prefix, text));
+        }
+        for (String text : element.closed) {
+            closed.add(append(prefix, text));
+        }
+    }
+
+    /**
+     * Freeze the prefix tree built from sorted maps into arrays.
+     */
+    private static final Node freeze(Map<String, List<Integer>> index) {
+        Node root = new Node();
+        for (Map.Entry<String, List<Integer>> entry : index.entrySet()) {
+            Node node = root;
+            for (int i = 0; i < entry.getKey().length(); i++) {
+                char c = entry.getKey().charAt(i);
+                Node child = node.child(c);
+                if (child == null) {
+                    child = new Node();
+                    int position = -(Arrays.binarySearch(node.labels, c) + 1);
+                    char[] labels = new char[node.labels.length + 1];
+                    Node[] children = new Node[node.children.length + 1];
+                    System.arraycopy(node.labels, 0, labels, 0, position);
+                    System.arraycopy(node.children, 0, children, 0, position);
+                    labels[position] = c;
+                    children[position] = child;
+                    System.arraycopy(node.labels, position, labels, position + 1, node.labels.length - position);
+                    System.arraycopy(node.children, position, children, position + 1,
+                            node.children.length - position);
+                    node.labels = labels;
+                    node.children = children;
+                }
+                node = child;
+            }
+            int[] patterns = Arrays.copyOf(node.patterns, node.patterns.length + entry.getValue().size());
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                patterns[node.patterns.length + i] = entry.getValue().get(i);
+            }
+            node.patterns = patterns;
+        }
+        return root;
+    }
+
+    /**
+     * Parse a sequence of alternatives (e.g. "a|b|c") into the literal prefixes of each alternative.
+     */
+    private static final Prefixes parseAlternatives(String regex, int from, int to) {
+        Prefixes prefixes = new Prefixes();
+        int depth = 0;
+        boolean inClass = false;
+        int start = from;
+        for (int i = from; i <= to; i++) {
+            char c = i < to ? regex.charAt(i) : '|';
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                inClass = c != ']';
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                Prefixes alternative = parseSequence(regex, start, i);
+                prefixes.open.addAll(alternative.open);
+                prefixes.closed.addAll(alternative.closed);
+                start = i + 1;
+            }
+        }
+        return prefixes;
+    }
+
+    /**
+     * Parse a character class (e.g. "[OYy]") into single character prefixes.
+     * 
+     * @return The prefixes, or null if the class is negated or too large to expand.
+     */
+    private static final Prefixes parseClass(String regex, int from, int to) {
+        Prefixes prefixes = new Prefixes();
+        if (regex.charAt(from) == '^') {
+            return null;
+        }
+        for (int i = from; i < to; i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+                c = regex.charAt(i);
+                if (c == 'd') {
+                    for (char digit = '0'; digit <= '9'; digit++) {
+                        prefixes.open.add(String.valueOf(digit));
+                    }
+                    continue;
+                } else if (Character.isLetterOrDigit(c)) {
+                    return null;
+                }
+            } else if (i + 2 < to && regex.charAt(i + 1) == '-') {
+                char last = regex.charAt(i + 2);
+                if (last - c > MAX_CLASS_SIZE) {
+                    return null;
+                }
+                for (char member = c; member <= last; member++) {
+                    prefixes.open.add(String.valueOf(member));
+                }
+                i += 2;
+                continue;
+            }
+            prefixes.open.add(String.valueOf(c));
+        }
+        return prefixes.size() > MAX_CLASS_SIZE ? null : prefixes;
+    }
+
+    /**
+     * Parse a sequence of regular expression elements into the literal prefixes the sequence requires.
+     */
+    private static final Prefixes parseSequence(String regex, int from, int to) {
+        Prefixes prefixes = new Prefixes();
+        prefixes.open.add("");
+        int i = from;
+        while (i < to) {
+            char c = regex.charAt(i);
+            Prefixes element = null;
+            int next = -1;
+            if (c == '^' && i == 0) {
+                i++;
+                continue;
+            } else if (c == '\\' && i + 1 < to) {
+                char escaped = regex.charAt(i + 1);
+                if (escaped == 'd') {
+                    element = parseClass(regex, i, i + 2);
+                } else if (!Character.isLetterOrDigit(escaped)) {
+                    element = new Prefixes();
+                    element.open.add(String.valueOf(escaped));
+                }
+                next = i + 2;
+            } else if (c == '[') {
+                next = close(regex, i, to);
+                if (next > i + 2) {
+                    element = parseClass(regex, i + 1, next - 1);
+                }
+            } else if (c == '(') {
+                next = close(regex, i, to);
+                if (next > 0 && regex.charAt(i + 1) != '?') {
+                    element = parseAlternatives(regex, i + 1, next - 1);
+                }
+            } else if ("^$.|)*+?{".indexOf(c) < 0) {
+                element = new Prefixes();
+                element.open.add(String.valueOf(c));
+                next = i + 1;
+            }
+            if (element == null) {
+                break;
+            }
+            // Quantifier
+            int min = 1;
+            int max = 1;
+            if (next < to) {
+                char quantifier = regex.charAt(next);
+                if (quantifier == '?') {
+                    min = 0;
+                    next++;
+                } else if (quantifier == '*') {
+                    min = 0;
+                    max = Integer.MAX_VALUE;
+                    next++;
+                } else if (quantifier == '+') {
+                    max = Integer.MAX_VALUE;
+                    next++;
+                } else if (quantifier == '{') {
+                    int end = regex.indexOf('}', next);
+                    String[] bounds = regex.substring(next + 1, end).split(",", -1);
+                    min = Integer.parseInt(bounds[0]);
+                    max = bounds.length == 1 ? min
+                            : bounds[1].isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(bounds[1]);
+                    next = end + 1;
+                }
+                if (next < to && (regex.charAt(next) == '?' || regex.charAt(next) == '+') && min != max) {
+                    // Reluctant or possessive
+                    next++;
+                }
+            }
+            if (!combine(prefixes, element, min, max)) {
+                return prefixes;
+            }
+            i = next;
+        }
+        if (i < to) {
+            prefixes.closed.addAll(prefixes.open);
+            prefixes.open.clear();
+        }
+        return prefixes;
+    }
+
+    /**
+     * Find the end of the unified decorator (e.g. "[2020-02-14T15:21:55.207-0500][info][gc] GC(1)").
+     * 
+     * @return The position after the decorator, or -1 if the log line does not start with a decorator.
+     */
+    private static final int unifiedDecoratorEnd(String logLine) {
+        int i = UnifiedUtil.getDecoratorEnd(logLine);
+        if (i > 0 && logLine.startsWith(" GC(", i)) {
+            int j = i + 4;
+            while (j < logLine.length() && Character.isDigit(logLine.charAt(j))) {
+                j++;
+            }
+            if (j > i + 4 && j < logLine.length() && logLine.charAt(j) == ')') {
+                i = j + 1;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * The compiled regular expressions.
+     */
+    private final Pattern[] patterns;
+
+    /**
+     * The prefix tree. The regular expressions without a literal prefix are at the root.
+     */
+    private final Node root;
+
+    /**
+     * Whether the regular expressions are indexed from the end of the unified decorator.
+     */
+    private final boolean unified;
+
+    private CombinedRegEx(String[] regexes, boolean unified) {
+        this.unified = unified;
+        patterns = new Pattern[regexes.length];
+        Map<String, List<Integer>> index = new TreeMap<>();
+        for (int i = 0; i < regexes.length; i++) {
+            String regex = regexes[i];
+            patterns[i] = Pattern.compile(regex);
+            Set<String> keys = new LinkedHashSet<>();
+            int from = 0;
+            if (unified) {
+                from = -1;
+                for (String decorator : UNIFIED_DECORATOR) {
+                    if (regex.startsWith(decorator)) {
+                        from = decorator.length();
+                    }
+                }
+            }
+            if (from >= 0) {
+                Prefixes prefixes = parseSequence(regex, from, regex.length());
+                keys.addAll(prefixes.open);
+                keys.addAll(prefixes.closed);
+            } else {
+                keys.add("");
+            }
+            // A log line with a prefix also has every shorter prefix, so index the shortest
+            List<String> shortest = new ArrayList<>();
+            for (String key : keys) {
+                boolean covered = false;
+                for (String other : keys) {
+                    if (!other.equals(key) && key.startsWith(other)) {
+                        covered = true;
+                        break;
+                    }
+                }
+                if (!covered) {
+                    shortest.add(key);
+                }
+            }
+            for (String key : shortest) {
+                index.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+        root = freeze(index);
+    }
+
+    /**
+     * @param logLine
+     *            The log line to test.
+     * @return true if the log line matches any of the regular expressions, false otherwise.
+     */
+    public boolean matches(String logLine) {
+        Node node = root;
+        if (test(node, logLine)) {
+            return true;
+        }
+        int i = unified ? unifiedDecoratorEnd(logLine) : 0;
+        if (i < 0) {
+            return false;
+        }
+        while (i < logLine.length()) {
+            char c = logLine.charAt(i++);
+            if (c == ' ') {
+                while (i < logLine.length() && logLine.charAt(i) == ' ') {
+                    i++;
+                }
+            }
+            node = node.child(c);
+            if (node == null) {
+                break;
+            }
+            if (test(node, logLine)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean test(Node node, String logLine) {
+        for (int i = 0; i < node.patterns.length; i++) {
+            if (patterns[node.patterns[i]].matcher(logLine).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -339,9 +339,7 @@ public final class JdkMath {
     }
 
     public static Memory convertSizeToKilobytes(double size, char units) {
-        return new Memory(BigDecimal.valueOf(Unit.forUnit(units).toKiloBytes(size)).setScale(0, RoundingMode.HALF_EVEN)
-                .longValue(), Unit.KILOBYTES);
-
+        return new Memory(convertSizeToKilobytesValue(size, units), Unit.KILOBYTES);
     }
 
     /**
@@ -357,6 +355,33 @@ public final class JdkMath {
         return convertSizeToKilobytes(Double.parseDouble(size.replace(",", ".")), units);
     }
 
+    /**
+     * Convert SIZE to kilobytes.
+     * 
+     * @param size
+     *            The size.
+     * @param units
+     *            The units (e.g. 'G').
+     * @return The size in kilobytes, rounded the same as <code>convertSizeToKilobytes</code>.
+     */
+    public static long convertSizeToKilobytesValue(double size, char units) {
+        return BigDecimal.valueOf(Unit.forUnit(units).toKiloBytes(size)).setScale(0, RoundingMode.HALF_EVEN)
+                .longValue();
+    }
+
+    /**
+     * Convert SIZE to kilobytes.
+     * 
+     * @param size
+     *            The size (e.g. '128.0', 306,0).
+     * @param units
+     *            The units (e.g. 'G').
+     * @return The size in kilobytes, rounded the same as <code>convertSizeToKilobytes</code>.
+     */
+    public static long convertSizeToKilobytesValue(String size, char units) {
+        return convertSizeToKilobytesValue(Double.parseDouble(size.replace(",", ".")), units);
+    }
+
     /**
      * @param parallelism
      *            The parallelism percent (ratio of user + sys to wall (real) time).
@@ -15,12 +15,15 @@ package org.eclipselabs.garbagecat.util.jdk;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipselabs.garbagecat.domain.ApplicationLoggingEvent;
 import org.eclipselabs.garbagecat.domain.BlankLineEvent;
+import org.eclipselabs.garbagecat.domain.BlockEvent;
 import org.eclipselabs.garbagecat.domain.BlockingEvent;
 import org.eclipselabs.garbagecat.domain.LogEvent;
 import org.eclipselabs.garbagecat.domain.NullEvent;
@@ -124,6 +127,7 @@ import org.eclipselabs.garbagecat.domain.jdk.unified.ZRelocationStallEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZStatsEvent;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.GcUtil;
+import org.eclipselabs.garbagecat.util.Profiler;
 import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedUtil;
 
 /**
@@ -204,6 +208,88 @@ public final class JdkUtil {
     public static final int DECORATOR_SIZE = Pattern.compile(JdkRegEx.DECORATOR)
             .matcher("2020-03-10T08:03:29.311-0400: 0.373:").groupCount();
 
+    /**
+     * Legacy (JDK8 and prior) log line candidates, in order of most common events to limit checking. Candidates that
+     * can match the same log line declare it, so precedence is kept when the most frequent candidates are tried first.
+     */
+    private static final List<LogEventMatcher> LEGACY_MATCHERS = Arrays.asList(
+            // Unknown collector (has to go 1st)
+            LogEventMatcher.of(LogEventType.VERBOSE_GC_YOUNG, VerboseGcYoungEvent::match)
+                    .overlaps(LogEventType.G1_YOUNG_PAUSE, LogEventType.G1_MIXED_PAUSE,
+                            LogEventType.G1_YOUNG_INITIAL_MARK, LogEventType.PAR_NEW, LogEventType.PARALLEL_SCAVENGE,
+                            LogEventType.SERIAL_NEW),
+            LogEventMatcher.of(LogEventType.VERBOSE_GC_OLD, VerboseGcOldEvent::match)
+                    .overlaps(LogEventType.G1_FULL_GC_SERIAL, LogEventType.CMS_SERIAL_OLD,
+                            LogEventType.PARALLEL_SERIAL_OLD, LogEventType.PARALLEL_COMPACTING_OLD,
+                            LogEventType.SERIAL_OLD, LogEventType.SHENANDOAH_FULL_GC),
+            // G1
+            LogEventMatcher.of(LogEventType.G1_YOUNG_PAUSE, G1YoungPauseEvent::match)
+                    .overlaps(LogEventType.G1_MIXED_PAUSE, LogEventType.G1_YOUNG_INITIAL_MARK),
+            LogEventMatcher.of(LogEventType.G1_MIXED_PAUSE, G1MixedPauseEvent::match),
+            LogEventMatcher.of(LogEventType.G1_CONCURRENT, G1ConcurrentEvent::match),
+            LogEventMatcher.of(LogEventType.G1_YOUNG_INITIAL_MARK, G1YoungInitialMarkEvent::match),
+            LogEventMatcher.of(LogEventType.G1_REMARK, G1RemarkEvent::match),
+            LogEventMatcher.of(LogEventType.G1_FULL_GC_SERIAL, G1FullGcEvent::match),
+            LogEventMatcher.of(LogEventType.G1_CLEANUP, G1CleanupEvent::match),
+            // CMS
+            LogEventMatcher.of(LogEventType.PAR_NEW, ParNewEvent::match).overlaps(LogEventType.CMS_SERIAL_OLD),
+            LogEventMatcher.of(LogEventType.CMS_SERIAL_OLD, CmsSerialOldEvent::match),
+            LogEventMatcher.of(LogEventType.CMS_INITIAL_MARK, CmsInitialMarkEvent::match),
+            LogEventMatcher.of(LogEventType.CMS_REMARK, CmsRemarkEvent::match),
+            LogEventMatcher.of(LogEventType.CMS_CONCURRENT, CmsConcurrentEvent::match),
+            // Parallel
+            LogEventMatcher.of(LogEventType.PARALLEL_SCAVENGE, ParallelScavengeEvent::match)
+                    .overlaps(LogEventType.PARALLEL_SERIAL_OLD),
+            LogEventMatcher.of(LogEventType.PARALLEL_SERIAL_OLD, ParallelSerialOldEvent::match),
+            LogEventMatcher.of(LogEventType.PARALLEL_COMPACTING_OLD, ParallelCompactingOldEvent::match),
+            // Serial
+            LogEventMatcher.of(LogEventType.SERIAL_OLD, SerialOldEvent::match),
+            LogEventMatcher.of(LogEventType.SERIAL_NEW, SerialNewEvent::match).overlaps(LogEventType.SERIAL_OLD),
+            // Shenandoah
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_CANCELLING_GC,
+                    UnifiedShenandoahCancellingGcEvent::match),
+            LogEventMatcher.of(LogEventType.SHENANDOAH_CONCURRENT, ShenandoahConcurrentEvent::match),
+            LogEventMatcher.of(LogEventType.SHENANDOAH_DEGENERATED_GC, ShenandoahDegeneratedGcEvent::match),
+            LogEventMatcher.of(LogEventType.SHENANDOAH_FINAL_EVAC, ShenandoahFinalEvacEvent::match),
+            LogEventMatcher.of(LogEventType.SHENANDOAH_FINAL_MARK, ShenandoahFinalMarkEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_FINAL_ROOTS,
+                    UnifiedShenandoahFinalRootsEvent::match),
+            LogEventMatcher.of(LogEventType.SHENANDOAH_FINAL_UPDATE, ShenandoahFinalUpdateEvent::match),
+            LogEventMatcher.of(LogEventType.SHENANDOAH_FULL_GC, ShenandoahFullGcEvent::match),
+            LogEventMatcher.of(LogEventType.SHENANDOAH_INIT_MARK, ShenandoahInitMarkEvent::match),
+            LogEventMatcher.of(LogEventType.SHENANDOAH_INIT_UPDATE, ShenandoahInitUpdateEvent::match),
+            LogEventMatcher.withPrior(LogEventType.SHENANDOAH_STATS,
+                    (logLine, priorLogEvent) -> logLine.matches(ShenandoahStatsEvent._REGEX_HEADER)
+                            || (ShenandoahStatsEvent.match(logLine) && priorLogEvent instanceof ShenandoahStatsEvent)),
+            LogEventMatcher.of(LogEventType.SHENANDOAH_TRIGGER, ShenandoahTriggerEvent::match),
+            // Other
+            LogEventMatcher.of(LogEventType.APPLICATION_CONCURRENT_TIME, ApplicationConcurrentTimeEvent::match),
+            LogEventMatcher.of(LogEventType.APPLICATION_STOPPED_TIME, ApplicationStoppedTimeEvent::match),
+            LogEventMatcher.of(LogEventType.CLASS_UNLOADING, ClassUnloadingEvent::match),
+            LogEventMatcher.withPrior(LogEventType.FOOTER_STATS,
+                    (logLine, priorLogEvent) -> logLine.matches(FooterStatsEvent._REGEX_HEADER)
+                            || (FooterStatsEvent.match(logLine) && priorLogEvent instanceof FooterStatsEvent)),
+            LogEventMatcher.withPrior(LogEventType.GC_INFO,
+                    (logLine, priorLogEvent) -> GcInfoEvent.match(logLine)
+                            && !(priorLogEvent instanceof UnifiedHeaderEvent)),
+            LogEventMatcher.withPrior(LogEventType.HEAP,
+                    (logLine, priorLogEvent) -> logLine.matches(HeapEvent._REGEX_HEADER)
+                            || (HeapEvent.match(logLine) && priorLogEvent instanceof HeapEvent)),
+            LogEventMatcher.of(LogEventType.HEAP_AT_GC, HeapAtGcEvent::match).overlaps(LogEventType.HEAP),
+            LogEventMatcher.of(LogEventType.TENURING_DISTRIBUTION, TenuringDistributionEvent::match),
+            LogEventMatcher.of(LogEventType.CLASS_HISTOGRAM, ClassHistogramEvent::match),
+            LogEventMatcher.of(LogEventType.APPLICATION_LOGGING, ApplicationLoggingEvent::match).overlapsAll(),
+            LogEventMatcher.of(LogEventType.THREAD_DUMP, ThreadDumpEvent::match).overlapsAll(),
+            LogEventMatcher.of(LogEventType.LOG_FILE, LogFileEvent::match),
+            LogEventMatcher.of(LogEventType.GC_OVERHEAD_LIMIT, GcOverheadLimitEvent::match),
+            LogEventMatcher.of(LogEventType.FLS_STATISTICS, FlsStatisticsEvent::match),
+            LogEventMatcher.of(LogEventType.GC_LOCKER_SCAVENGE_FAILED, GcLockerScavengeFailedEvent::match),
+            LogEventMatcher.of(LogEventType.HEADER_COMMAND_LINE_FLAGS, HeaderCommandLineFlagsEvent::match),
+            LogEventMatcher.of(LogEventType.HEADER_MEMORY, HeaderMemoryEvent::match),
+            LogEventMatcher.of(LogEventType.HEADER_VM_INFO, HeaderVmInfoEvent::match),
+            LogEventMatcher.of(LogEventType.VM_WARNING, VmWarningEvent::match),
+            LogEventMatcher.of(LogEventType.BLANK_LINE, BlankLineEvent::match));
+
     /**
      * Convert datestamp to milliseconds from a point in time.
      * 
@@ -213,8 +299,7 @@ public final class JdkUtil {
      */
     public static long convertDatestampToMillis(String datestamp) {
         // Calculate uptimemillis from random date/time
-        Date eventDate = GcUtil.parseDateStamp(datestamp);
-        return GcUtil.dateDiff(GcUtil.JVM_START_DATE, eventDate);
+        return GcUtil.parseDateStampMillis(datestamp) - GcUtil.JVM_START_DATE.getTime();
     }
 
     /**
@@ -407,20 +492,63 @@ public final class JdkUtil {
      */
     public static final LogEventType identifyEventType(String logLine, LogEvent priorLogEvent,
             CollectorFamily collectorFamily) {
+        return identifyEventType(logLine, priorLogEvent, collectorFamily, null);
+    }
+
+    /**
+     * Identify the log line garbage collection event.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param collectorFamily
+     *            The <code>CollectorFamily</code>.
+     * @param profiler
+     *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+     * @return The <code>LogEventType</code> of the log entry.
+     */
+    public static final LogEventType identifyEventType(String logLine, LogEvent priorLogEvent,
+            CollectorFamily collectorFamily, Profiler profiler) {
+        return identifyEventType(logLine, priorLogEvent, collectorFamily, profiler, null);
+    }
+
+    /**
+     * Identify the log line garbage collection event.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param collectorFamily
+     *            The <code>CollectorFamily</code>.
+     * @param profiler
+     *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+     * @param ranking
+     *            The <code>LogEventRanking</code> that tries the most frequent candidates first, or null to try the
+     *            candidates in order.
+     * @return The <code>LogEventType</code> of the log entry.
+     */
+    public static final LogEventType identifyEventType(String logLine, LogEvent priorLogEvent,
+            CollectorFamily collectorFamily, Profiler profiler, LogEventRanking ranking) {
+        if (priorLogEvent instanceof BlockEvent && ((BlockEvent) priorLogEvent).isBlockLine(logLine)) {
+            // Inside a multi-line block, so skip identification
+            return LogEventType.valueOf(priorLogEvent.getName());
+        }
         LogEventType logEventType = LogEventType.UNKNOWN;
         if (priorLogEvent instanceof UnifiedLogging) {
             // Unified
-            logEventType = UnifiedUtil.identifyEventType(logLine, priorLogEvent, collectorFamily);
+            logEventType = UnifiedUtil.identifyEventType(logLine, priorLogEvent, collectorFamily, profiler, ranking);
         } else if (priorLogEvent == null || priorLogEvent instanceof NullEvent
                 || priorLogEvent instanceof UnknownEvent) {
             // Unknown
-            logEventType = UnifiedUtil.identifyEventType(logLine, priorLogEvent, collectorFamily);
+            logEventType = UnifiedUtil.identifyEventType(logLine, priorLogEvent, collectorFamily, profiler, ranking);
             if (logEventType == LogEventType.UNKNOWN) {
-                logEventType = identifyLegacyEventType(logLine, priorLogEvent);
+                logEventType = identifyLegacyEventType(logLine, priorLogEvent, profiler, ranking);
             }
         } else {
             // Legacy
-            logEventType = identifyLegacyEventType(logLine, priorLogEvent);
+            logEventType = identifyLegacyEventType(logLine, priorLogEvent, profiler, ranking);
         }
         return logEventType;
     }
@@ -435,130 +563,42 @@ public final class JdkUtil {
      * @return The <code>LogEventType</code> of the log entry.
      */
     public static final LogEventType identifyLegacyEventType(String logLine, LogEvent priorLogEvent) {
+        return identifyLegacyEventType(logLine, priorLogEvent, null);
+    }
 
-        // In order of most common events to limit checking
-
-        // Unknown collector (has to go 1st)
-        if (VerboseGcYoungEvent.match(logLine))
-            return LogEventType.VERBOSE_GC_YOUNG;
-        if (VerboseGcOldEvent.match(logLine))
-            return LogEventType.VERBOSE_GC_OLD;
-
-        // G1
-        if (G1YoungPauseEvent.match(logLine))
-            return LogEventType.G1_YOUNG_PAUSE;
-        if (G1MixedPauseEvent.match(logLine))
-            return LogEventType.G1_MIXED_PAUSE;
-        if (G1ConcurrentEvent.match(logLine))
-            return LogEventType.G1_CONCURRENT;
-        if (G1YoungInitialMarkEvent.match(logLine))
-            return LogEventType.G1_YOUNG_INITIAL_MARK;
-        if (G1RemarkEvent.match(logLine))
-            return LogEventType.G1_REMARK;
-        if (G1FullGcEvent.match(logLine))
-            return LogEventType.G1_FULL_GC_SERIAL;
-        if (G1CleanupEvent.match(logLine))
-            return LogEventType.G1_CLEANUP;
-
-        // CMS
-        if (ParNewEvent.match(logLine))
-            return LogEventType.PAR_NEW;
-        if (CmsSerialOldEvent.match(logLine))
-            return LogEventType.CMS_SERIAL_OLD;
-        if (CmsInitialMarkEvent.match(logLine))
-            return LogEventType.CMS_INITIAL_MARK;
-        if (CmsRemarkEvent.match(logLine))
-            return LogEventType.CMS_REMARK;
-        if (CmsConcurrentEvent.match(logLine))
-            return LogEventType.CMS_CONCURRENT;
-
-        // Parallel
-        if (ParallelScavengeEvent.match(logLine))
-            return LogEventType.PARALLEL_SCAVENGE;
-        if (ParallelSerialOldEvent.match(logLine))
-            return LogEventType.PARALLEL_SERIAL_OLD;
-        if (ParallelCompactingOldEvent.match(logLine))
-            return LogEventType.PARALLEL_COMPACTING_OLD;
-
-        // Serial
-        if (SerialOldEvent.match(logLine))
-            return LogEventType.SERIAL_OLD;
-        if (SerialNewEvent.match(logLine))
-            return LogEventType.SERIAL_NEW;
-
-        // Shenandoah
-        if (UnifiedShenandoahCancellingGcEvent.match(logLine))
-            return LogEventType.UNIFIED_SHENANDOAH_CANCELLING_GC;
-        if (ShenandoahConcurrentEvent.match(logLine))
-            return LogEventType.SHENANDOAH_CONCURRENT;
-        if (ShenandoahDegeneratedGcEvent.match(logLine))
-            return LogEventType.SHENANDOAH_DEGENERATED_GC;
-        if (ShenandoahFinalEvacEvent.match(logLine))
-            return LogEventType.SHENANDOAH_FINAL_EVAC;
-        if (ShenandoahFinalMarkEvent.match(logLine))
-            return LogEventType.SHENANDOAH_FINAL_MARK;
-        if (UnifiedShenandoahFinalRootsEvent.match(logLine))
-            return LogEventType.UNIFIED_SHENANDOAH_FINAL_ROOTS;
-        if (ShenandoahFinalUpdateEvent.match(logLine))
-            return LogEventType.SHENANDOAH_FINAL_UPDATE;
-        if (ShenandoahFullGcEvent.match(logLine))
-            return LogEventType.SHENANDOAH_FULL_GC;
-        if (ShenandoahInitMarkEvent.match(logLine))
-            return LogEventType.SHENANDOAH_INIT_MARK;
-        if (ShenandoahInitUpdateEvent.match(logLine))
-            return LogEventType.SHENANDOAH_INIT_UPDATE;
-        if (logLine.matches(ShenandoahStatsEvent._REGEX_HEADER)
-                || (ShenandoahStatsEvent.match(logLine) && priorLogEvent instanceof ShenandoahStatsEvent))
-            return LogEventType.SHENANDOAH_STATS;
-        if (ShenandoahTriggerEvent.match(logLine))
-            return LogEventType.SHENANDOAH_TRIGGER;
+    /**
+     * Identify the log line garbage collection event.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param profiler
+     *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+     * @return The <code>LogEventType</code> of the log entry.
+     */
+    public static final LogEventType identifyLegacyEventType(String logLine, LogEvent priorLogEvent,
+            Profiler profiler) {
+        return identifyLegacyEventType(logLine, priorLogEvent, profiler, null);
+    }
 
-        // Other
-        if (ApplicationConcurrentTimeEvent.match(logLine))
-            return LogEventType.APPLICATION_CONCURRENT_TIME;
-        if (ApplicationStoppedTimeEvent.match(logLine))
-            return LogEventType.APPLICATION_STOPPED_TIME;
-        if (ClassUnloadingEvent.match(logLine))
-            return LogEventType.CLASS_UNLOADING;
-        if (logLine.matches(FooterStatsEvent._REGEX_HEADER)
-                || (FooterStatsEvent.match(logLine) && priorLogEvent instanceof FooterStatsEvent))
-            return LogEventType.FOOTER_STATS;
-        if (GcInfoEvent.match(logLine) && !(priorLogEvent instanceof UnifiedHeaderEvent))
-            return LogEventType.GC_INFO;
-        if (logLine.matches(HeapEvent._REGEX_HEADER)
-                || (HeapEvent.match(logLine) && priorLogEvent instanceof HeapEvent))
-            return LogEventType.HEAP;
-        if (HeapAtGcEvent.match(logLine))
-            return LogEventType.HEAP_AT_GC;
-        if (TenuringDistributionEvent.match(logLine))
-            return LogEventType.TENURING_DISTRIBUTION;
-        if (ClassHistogramEvent.match(logLine))
-            return LogEventType.CLASS_HISTOGRAM;
-        if (ApplicationLoggingEvent.match(logLine))
-            return LogEventType.APPLICATION_LOGGING;
-        if (ThreadDumpEvent.match(logLine))
-            return LogEventType.THREAD_DUMP;
-        if (LogFileEvent.match(logLine))
-            return LogEventType.LOG_FILE;
-        if (GcOverheadLimitEvent.match(logLine))
-            return LogEventType.GC_OVERHEAD_LIMIT;
-        if (FlsStatisticsEvent.match(logLine))
-            return LogEventType.FLS_STATISTICS;
-        if (GcLockerScavengeFailedEvent.match(logLine))
-            return LogEventType.GC_LOCKER_SCAVENGE_FAILED;
-        if (HeaderCommandLineFlagsEvent.match(logLine))
-            return LogEventType.HEADER_COMMAND_LINE_FLAGS;
-        if (HeaderMemoryEvent.match(logLine))
-            return LogEventType.HEADER_MEMORY;
-        if (HeaderVmInfoEvent.match(logLine))
-            return LogEventType.HEADER_VM_INFO;
-        if (VmWarningEvent.match(logLine))
-            return LogEventType.VM_WARNING;
-        if (BlankLineEvent.match(logLine))
-            return LogEventType.BLANK_LINE;
-
-        // no idea what event is
-        return LogEventType.UNKNOWN;
+    /**
+     * Identify the log line garbage collection event.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param profiler
+     *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+     * @param ranking
+     *            The <code>LogEventRanking</code> that tries the most frequent candidates first, or null to try the
+     *            candidates in order.
+     * @return The <code>LogEventType</code> of the log entry.
+     */
+    public static final LogEventType identifyLegacyEventType(String logLine, LogEvent priorLogEvent,
+            Profiler profiler, LogEventRanking ranking) {
+        return LogEventMatcher.identify(LEGACY_MATCHERS, logLine, priorLogEvent, profiler, ranking);
     }
 
     /**
@@ -750,7 +790,36 @@ public final class JdkUtil {
      * @return The <code>LogEvent</code> for the log line.
      */
     public static final LogEvent parseLogLine(String logLine, LogEvent priorLogEvent, CollectorFamily collectorFamily) {
-        LogEventType eventType = identifyEventType(logLine, priorLogEvent, collectorFamily);
+        return createLogEvent(identifyEventType(logLine, priorLogEvent, collectorFamily), logLine);
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param collectorFamily
+     *            The <code>CollectorFamily</code>.
+     * @param ranking
+     *            The <code>LogEventRanking</code> that tries the most frequent candidates first, or null to try the
+     *            candidates in order.
+     * @return The <code>LogEvent</code> for the log line.
+     */
+    public static final LogEvent parseLogLine(String logLine, LogEvent priorLogEvent, CollectorFamily collectorFamily,
+            LogEventRanking ranking) {
+        return createLogEvent(identifyEventType(logLine, priorLogEvent, collectorFamily, null, ranking), logLine);
+    }
+
+    /**
+     * Create the <code>LogEvent</code> for an identified log line.
+     * 
+     * @param eventType
+     *            The <code>LogEventType</code> of the log line.
+     * @param logLine
+     *            The log line.
+     * @return The <code>LogEvent</code> for the log line.
+     */
+    public static final LogEvent createLogEvent(LogEventType eventType, String logLine) {
         switch (eventType) {
         // Unified (order of appearance)
         case UNIFIED_SAFEPOINT:
@@ -0,0 +1,532 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import static org.eclipselabs.garbagecat.util.Memory.UNKNOWN_KILOBYTES;
+
+import java.util.regex.Pattern;
+
+import org.eclipselabs.garbagecat.util.Memory;
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+
+/**
+ * <p>
+ * Cursor over a log line for the hand-written scanners of the most frequent log events (e.g.
+ * <code>UnifiedSafepointEvent</code>, <code>ApplicationStoppedTimeEvent</code>). The scanners extract the fields
+ * directly instead of matching the event regular expression and converting the captured groups.
+ * </p>
+ * 
+ * <p>
+ * Each scan method recognizes one element of the event regular expression (e.g. <code>JdkRegEx.DURATION</code>,
+ * <code>JdkRegEx.SIZE</code>). It advances past the element and returns true, or returns false if the element is not
+ * at the current position. A scanner only recognizes the common forms of its log event and returns false on anything
+ * else, so the event falls back to its regular expression, which remains the reference.
+ * </p>
+ * 
+ * <p>
+ * Numbers are converted with the same rounding as <code>JdkMath</code> (e.g. seconds to microseconds rounded down).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class LineScanner {
+
+    /**
+     * The bracketed fields of <code>UnifiedRegEx.DECORATOR</code> following the uptime (e.g. "[info][gc,start ]").
+     */
+    private static final Pattern DECORATOR_FIELDS = Pattern.compile(UnifiedRegEx.HOSTNAME + "?" + UnifiedRegEx.PID
+            + "?" + UnifiedRegEx.LEVEL + "?" + UnifiedRegEx.TAGS + "?");
+
+    /**
+     * The maximum number of digits in a number, so the scaled value fits in a <code>long</code>.
+     */
+    private static final int MAX_DIGITS = 18;
+
+    /**
+     * Time unit identifier for a datestamp (e.g. "2020-02-14T15:21:55.207-0500").
+     */
+    private static final char TIME_DATESTAMP = 'd';
+
+    /**
+     * Time unit identifier for milliseconds (e.g. "1802ms").
+     */
+    private static final char TIME_MILLIS = 'm';
+
+    /**
+     * Time unit identifier for seconds (e.g. "1.802s").
+     */
+    private static final char TIME_SECS = 's';
+
+    /**
+     * The log line.
+     */
+    private final String line;
+
+    /**
+     * The value of the last number scanned.
+     */
+    private long number;
+
+    /**
+     * The current position in the log line.
+     */
+    private int position;
+
+    /**
+     * The position after the time of the last decorator scanned.
+     */
+    private int timeEnd;
+
+    /**
+     * The position of the time of the last decorator scanned.
+     */
+    private int timeStart;
+
+    /**
+     * The unit of the time of the last decorator scanned.
+     */
+    private char timeUnit;
+
+    /**
+     * @param line
+     *            The log line.
+     */
+    public LineScanner(String line) {
+        this.line = line;
+    }
+
+    /**
+     * Scan a datestamp (<code>JdkRegEx.DATESTAMP</code>).
+     * 
+     * @return true if a datestamp was scanned, false otherwise.
+     */
+    private boolean datestamp() {
+        int start = position;
+        if (digits(4, 4) && literal('-') && digits(2, 2) && literal('-') && digits(2, 2) && literal('T')
+                && digits(2, 2) && literal(':') && digits(2, 2) && literal(':') && digits(2, 2) && literal('.')
+                && digits(3, 3) && (literal('-') || literal('+')) && digits(4, 4)) {
+            return true;
+        }
+        position = start;
+        return false;
+    }
+
+    /**
+     * Scan a decimal number (e.g. "0.0153682") with <code>minInteger</code> to <code>maxInteger</code> integer digits
+     * and <code>minFraction</code> to <code>maxFraction</code> fraction digits, separated by a decimal point or comma.
+     * The number is moved <code>scale</code> places to the right and rounded down (e.g. seconds to microseconds with a
+     * scale of 6).
+     * 
+     * @param minInteger
+     *            The minimum number of integer digits.
+     * @param maxInteger
+     *            The maximum number of integer digits.
+     * @param minFraction
+     *            The minimum number of fraction digits.
+     * @param maxFraction
+     *            The maximum number of fraction digits.
+     * @param scale
+     *            The number of places to move the decimal point to the right.
+     * @return true if a decimal number was scanned, false otherwise.
+     */
+    public boolean decimal(int minInteger, int maxInteger, int minFraction, int maxFraction, int scale) {
+        int start = position;
+        if (digits(minInteger, Math.min(maxInteger, MAX_DIGITS - scale))) {
+            long integer = number;
+            if (literal('.') || literal(',')) {
+                int fractionStart = position;
+                if (digits(minFraction, Math.min(maxFraction, MAX_DIGITS))) {
+                    long fraction = number;
+                    int fractionDigits = position - fractionStart;
+                    for (int i = fractionDigits; i < scale; i++) {
+                        fraction *= 10;
+                    }
+                    for (int i = scale; i < fractionDigits; i++) {
+                        fraction /= 10;
+                    }
+                    for (int i = 0; i < scale; i++) {
+                        integer *= 10;
+                    }
+                    number = integer + fraction;
+                    return true;
+                }
+            }
+        }
+        position = start;
+        return false;
+    }
+
+    /**
+     * Scan a legacy decorator (<code>JdkRegEx.DECORATOR</code>, e.g. "2020-03-10T08:03:29.311-0400: 0.373:"). The time
+     * is the timestamp following the datestamp, the timestamp, or the datestamp (see <code>getTime</code>).
+     * 
+     * @return true if a decorator was scanned, false otherwise.
+     */
+    public boolean decorator() {
+        int start = position;
+        timeStart = position;
+        if (datestamp()) {
+            timeUnit = TIME_DATESTAMP;
+        } else if (decimal(0, 12, 3, 3, 3)) {
+            timeUnit = TIME_SECS;
+        } else {
+            return false;
+        }
+        timeEnd = position;
+        if (!literal(':')) {
+            position = start;
+            return false;
+        }
+        int timestamp = position;
+        if (literal(' ')) {
+            int secs = position;
+            if (decimal(0, 12, 3, 3, 3) && literal(':')) {
+                timeStart = secs;
+                timeEnd = position - 1;
+                timeUnit = TIME_SECS;
+            } else {
+                position = timestamp;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scan a duration (<code>JdkRegEx.DURATION</code>, e.g. "0.0153682 secs").
+     * 
+     * @return true if a duration was scanned, false otherwise. The number is the duration in microseconds.
+     */
+    public boolean duration() {
+        if (decimal(1, 4, 7, 8, 6)) {
+            literal(" sec");
+            literal('s');
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Scan digits (e.g. "1523") with <code>min</code> to <code>max</code> digits.
+     * 
+     * @param min
+     *            The minimum number of digits.
+     * @param max
+     *            The maximum number of digits.
+     * @return true if the digits were scanned, false otherwise.
+     */
+    public boolean digits(int min, int max) {
+        int start = position;
+        long value = 0;
+        while (position < line.length() && line.charAt(position) >= '0' && line.charAt(position) <= '9') {
+            value = value * 10 + line.charAt(position) - '0';
+            position++;
+            if (position - start > max) {
+                position = start;
+                return false;
+            }
+        }
+        if (position - start < min) {
+            position = start;
+            return false;
+        }
+        number = value;
+        return true;
+    }
+
+    /**
+     * @return true if only spaces remain in the log line, false otherwise.
+     */
+    public boolean end() {
+        int end = position;
+        while (end < line.length() && line.charAt(end) == ' ') {
+            end++;
+        }
+        return end == line.length();
+    }
+
+    /**
+     * @return The value of the last number scanned.
+     */
+    public long getNumber() {
+        return number;
+    }
+
+    /**
+     * @return The current position in the log line.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * The time of the last decorator scanned in milliseconds after JVM startup, rounded down. A datestamp is converted
+     * with <code>JdkUtil.convertDatestampToMillis</code>.
+     * 
+     * @return The time of the last decorator scanned.
+     */
+    public long getTime() {
+        int end = position;
+        position = timeStart;
+        long time;
+        if (timeUnit == TIME_DATESTAMP) {
+            time = JdkUtil.convertDatestampToMillis(line.substring(timeStart, timeEnd));
+        } else if (timeUnit == TIME_MILLIS) {
+            digits(1, MAX_DIGITS);
+            time = number;
+        } else {
+            decimal(0, MAX_DIGITS, 3, 3, 3);
+            time = number;
+        }
+        position = end;
+        return time;
+    }
+
+    /**
+     * Scan a size (<code>JdkRegEx.SIZE</code>, e.g. "1523M") with optional tenths (e.g. "112.0M").
+     * 
+     * @return The size converted to kilobytes with <code>JdkMath.convertSizeToKilobytes</code>, or
+     *         <code>Memory.UNKNOWN_KILOBYTES</code> if no size was scanned.
+     */
+    public long kilobytes() {
+        int start = position;
+        if (digits(1, 10)) {
+            long tenths = number * 10;
+            int integerEnd = position;
+            if (literal('.') || literal(',')) {
+                if (digits(1, 1)) {
+                    tenths += number;
+                } else {
+                    position = integerEnd;
+                }
+            }
+            char unit = unit();
+            if (unit != 0) {
+                // An exact quotient rounds the same as Double.parseDouble
+                return JdkMath.convertSizeToKilobytesValue(tenths / 10.0, unit);
+            }
+        }
+        position = start;
+        return UNKNOWN_KILOBYTES;
+    }
+
+    /**
+     * Scan a size in kilobytes (<code>JdkRegEx.SIZE_K</code>, e.g. "994826K").
+     * 
+     * @return The size, or <code>Memory.UNKNOWN_KILOBYTES</code> if no size was scanned.
+     */
+    public long kilobytesK() {
+        int start = position;
+        if (digits(1, 9)) {
+            literal(' ');
+            if (literal('K')) {
+                return number;
+            }
+        }
+        position = start;
+        return UNKNOWN_KILOBYTES;
+    }
+
+    /**
+     * Scan a literal character.
+     * 
+     * @param literal
+     *            The character.
+     * @return true if the character was scanned, false otherwise.
+     */
+    public boolean literal(char literal) {
+        if (position < line.length() && line.charAt(position) == literal) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Scan literal text.
+     * 
+     * @param literal
+     *            The text.
+     * @return true if the text was scanned, false otherwise.
+     */
+    public boolean literal(String literal) {
+        if (line.startsWith(literal, position)) {
+            position += literal.length();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Scan a size without a fraction (<code>JdkRegEx.SIZE</code>, e.g. "1523M"), the form parsed with
+     * <code>Memory.memory(String, char)</code>.
+     * 
+     * @return The size converted to kilobytes, or <code>Memory.UNKNOWN_KILOBYTES</code> if no size was scanned.
+     */
+    public long memory() {
+        int start = position;
+        if (digits(1, 10)) {
+            char unit = unit();
+            if (unit != 0) {
+                return (long) Memory.Unit.forUnit(unit).toKiloBytes(number);
+            }
+        }
+        position = start;
+        return UNKNOWN_KILOBYTES;
+    }
+
+    /**
+     * Scan the "Other" time (<code>OtherTime.REGEX</code>, e.g. "[Other: 0.3 ms]").
+     * 
+     * @return true if the "Other" time was scanned, false otherwise. The number is the time in microseconds.
+     */
+    public boolean otherTime() {
+        int start = position;
+        literal('[');
+        if (literal("Other:")) {
+            int spaces = 0;
+            while (spaces < 3 && literal(' ')) {
+                spaces++;
+            }
+            if (spaces > 0 && decimal(1, 15, 1, 3, 3)) {
+                literal(' ');
+                if (literal("ms")) {
+                    literal(']');
+                    return true;
+                }
+            }
+        }
+        position = start;
+        return false;
+    }
+
+    /**
+     * Set the current position in the log line.
+     * 
+     * @param position
+     *            The position.
+     */
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    /**
+     * Scan a trigger literal (e.g. "G1 Evacuation Pause"). Only triggers whose regular expression is a literal can be
+     * scanned.
+     * 
+     * @param triggers
+     *            The candidate triggers.
+     * @return The trigger, or null if none of the triggers was scanned.
+     */
+    public GcTrigger trigger(GcTrigger[] triggers) {
+        for (GcTrigger trigger : triggers) {
+            if (literal(trigger.getRegex())) {
+                return trigger;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Scan a unified decorator (<code>UnifiedRegEx.DECORATOR</code>, e.g. "[1.802s][info][gc ] GC(0)"). The time is
+     * the first uptime or uptimemillis (see <code>getTime</code>).
+     * 
+     * @return true if a decorator was scanned, false otherwise.
+     */
+    public boolean unifiedDecorator() {
+        int start = position;
+        if (!literal('[')) {
+            return false;
+        }
+        timeStart = position;
+        if (datestamp()) {
+            timeUnit = TIME_DATESTAMP;
+            timeEnd = position;
+            if (!literal(']')) {
+                position = start;
+                return false;
+            }
+            int uptime = position;
+            if (!(literal('[') && uptime() && literal(']'))) {
+                position = uptime;
+                timeStart = start + 1;
+                timeEnd = uptime - 1;
+                timeUnit = TIME_DATESTAMP;
+            }
+        } else if (!(uptime() && literal(']'))) {
+            position = start;
+            return false;
+        }
+        int fieldsStart = position;
+        while (position < line.length() && line.charAt(position) == '[') {
+            int close = line.indexOf(']', position);
+            if (close < 0) {
+                position = start;
+                return false;
+            }
+            position = close + 1;
+        }
+        if (position > fieldsStart
+                && !DECORATOR_FIELDS.matcher(line).region(fieldsStart, position).matches()) {
+            position = start;
+            return false;
+        }
+        int gcEventNumber = position;
+        if (!(literal(" GC(") && digits(1, MAX_DIGITS) && literal(')'))) {
+            position = gcEventNumber;
+        }
+        return true;
+    }
+
+    /**
+     * Scan a size unit (<code>JdkRegEx.BYTES</code>, <code>KILOBYTES</code>, <code>MEGABYTES</code> or
+     * <code>GIGABYTES</code>).
+     * 
+     * @return The unit, or 0 if no unit was scanned.
+     */
+    private char unit() {
+        if (position < line.length()) {
+            char unit = line.charAt(position);
+            if (unit == 'B' || unit == 'K' || unit == 'M' || unit == 'G') {
+                position++;
+                return unit;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Scan an uptime (<code>UnifiedRegEx.UPTIME</code>, e.g. "1.802s") or uptimemillis
+     * (<code>UnifiedRegEx.UPTIMEMILLIS</code>, e.g. "1802ms").
+     * 
+     * @return true if an uptime was scanned, false otherwise.
+     */
+    private boolean uptime() {
+        int start = position;
+        if (digits(1, 12) && literal("ms")) {
+            timeStart = start;
+            timeEnd = position - 2;
+            timeUnit = TIME_MILLIS;
+            return true;
+        }
+        position = start;
+        if (decimal(0, 12, 3, 3, 3) && literal('s')) {
+            timeStart = start;
+            timeEnd = position - 1;
+            timeUnit = TIME_SECS;
+            return true;
+        }
+        position = start;
+        return false;
+    }
+}
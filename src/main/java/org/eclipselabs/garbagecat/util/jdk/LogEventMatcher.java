@@ -0,0 +1,202 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.util.Profiler;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+
+/**
+ * <p>
+ * A candidate in a log event identification sequence: the <code>LogEventType</code> and the test that determines if a
+ * log line is that type.
+ * </p>
+ * 
+ * <p>
+ * Identification walks an ordered list of candidates and returns the type of the first match, so the order of the list
+ * defines precedence between overlapping patterns. Candidates that can match the same log line declare it (see
+ * <code>overlaps</code>) so precedence is kept when candidates are tried out of order (see
+ * <code>LogEventRanking</code>).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class LogEventMatcher {
+
+    /**
+     * Identify the log line by walking a list of candidates in order.
+     * 
+     * @param matchers
+     *            The ordered candidates.
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param profiler
+     *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+     * @return The <code>LogEventType</code> of the first matching candidate, or <code>LogEventType.UNKNOWN</code> if
+     *         none match.
+     */
+    public static final LogEventType identify(List<LogEventMatcher> matchers, String logLine, LogEvent priorLogEvent,
+            Profiler profiler) {
+        for (int i = 0; i < matchers.size(); i++) {
+            LogEventMatcher matcher = matchers.get(i);
+            if (profiler != null) {
+                profiler.attempt();
+            }
+            if (matcher.match(logLine, priorLogEvent)) {
+                return matcher.eventType;
+            }
+        }
+        return LogEventType.UNKNOWN;
+    }
+
+    /**
+     * Identify the log line by walking a list of candidates in order, or adaptively if ranking.
+     * 
+     * @param matchers
+     *            The ordered candidates.
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param profiler
+     *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+     * @param ranking
+     *            The <code>LogEventRanking</code> that tries the most frequent candidates first, or null to walk the
+     *            candidates in order.
+     * @return The <code>LogEventType</code> of the first matching candidate, or <code>LogEventType.UNKNOWN</code> if
+     *         none match.
+     */
+    public static final LogEventType identify(List<LogEventMatcher> matchers, String logLine, LogEvent priorLogEvent,
+            Profiler profiler, LogEventRanking ranking) {
+        if (ranking == null) {
+            return identify(matchers, logLine, priorLogEvent, profiler);
+        }
+        return ranking.identify(matchers, logLine, priorLogEvent, profiler);
+    }
+
+    /**
+     * @param eventType
+     *            The <code>LogEventType</code>.
+     * @param predicate
+     *            The test on the log line.
+     * @return A candidate that depends only on the log line.
+     */
+    public static final LogEventMatcher of(LogEventType eventType, Predicate<String> predicate) {
+        return new LogEventMatcher(eventType, (logLine, priorLogEvent) -> predicate.test(logLine));
+    }
+
+    /**
+     * @param eventType
+     *            The <code>LogEventType</code>.
+     * @param predicate
+     *            The test on the log line and the prior <code>LogEvent</code>.
+     * @return A candidate that depends on the log line and the prior log event (e.g. multi-line blocks).
+     */
+    public static final LogEventMatcher withPrior(LogEventType eventType,
+            BiPredicate<String, LogEvent> predicate) {
+        return new LogEventMatcher(eventType, predicate);
+    }
+
+    /**
+     * The <code>LogEventType</code> identified when the predicate matches.
+     */
+    private final LogEventType eventType;
+
+    /**
+     * The <code>LogEventType</code>s of other candidates that can match a log line this candidate matches.
+     */
+    private LogEventType[] overlaps = new LogEventType[0];
+
+    /**
+     * Whether the candidate is a catch-all pattern (e.g. any line ending with ":") that can match a log line any other
+     * candidate matches.
+     */
+    private boolean overlapsAll;
+
+    /**
+     * The test on the log line and the prior <code>LogEvent</code>.
+     */
+    private final BiPredicate<String, LogEvent> predicate;
+
+    private LogEventMatcher(LogEventType eventType, BiPredicate<String, LogEvent> predicate) {
+        this.eventType = eventType;
+        this.predicate = predicate;
+    }
+
+    public LogEventType getEventType() {
+        return eventType;
+    }
+
+    /**
+     * @param matcher
+     *            Another candidate.
+     * @return true if either candidate declares it overlaps the other, false otherwise.
+     */
+    public boolean isOverlap(LogEventMatcher matcher) {
+        if (overlapsAll || matcher.overlapsAll) {
+            return true;
+        }
+        for (LogEventType eventType : overlaps) {
+            if (eventType == matcher.eventType) {
+                return true;
+            }
+        }
+        for (LogEventType eventType : matcher.overlaps) {
+            if (eventType == this.eventType) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @return true if the log line is the candidate <code>LogEventType</code>, false otherwise.
+     */
+    public boolean match(String logLine, LogEvent priorLogEvent) {
+        return predicate.test(logLine, priorLogEvent);
+    }
+
+    /**
+     * Declare the candidates that can match a log line this candidate matches (e.g. a generic pattern and a collector
+     * specific pattern for the same log line). The order of the candidate list decides between them.
+     * 
+     * @param eventTypes
+     *            The overlapping <code>LogEventType</code>s.
+     * @return This candidate.
+     */
+    public LogEventMatcher overlaps(LogEventType... eventTypes) {
+        this.overlaps = eventTypes;
+        return this;
+    }
+
+    /**
+     * Declare the candidate a catch-all pattern that can match a log line any other candidate matches.
+     * 
+     * @return This candidate.
+     */
+    public LogEventMatcher overlapsAll() {
+        this.overlapsAll = true;
+        return this;
+    }
+}
@@ -0,0 +1,324 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.util.Profiler;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+
+/**
+ * <p>
+ * Adaptive log event identification. Counts the hits of each candidate during an analysis and tries the most frequent
+ * candidates first, so the one or two event types that make up most of a log (e.g. <code>UnifiedSafepointEvent</code>,
+ * <code>ApplicationStoppedTimeEvent</code>) are identified without first failing every candidate ahead of them.
+ * </p>
+ * 
+ * <p>
+ * Log lines also repeat the same shape, differing only in numbers. The candidate that identified each line shape (see
+ * <code>getShape</code>) is remembered in a bounded least recently used cache and tried before the most frequent
+ * candidates, so most log lines are identified with a single match.
+ * </p>
+ * 
+ * <p>
+ * The result is the same as walking the candidates in order. A remembered or frequent candidate that matches out of
+ * order yields to any earlier candidate declared to overlap it (see <code>LogEventMatcher.overlaps</code>).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class LogEventRanking {
+
+    /**
+     * The hit counts and most frequent candidates of a candidate list.
+     */
+    private static final class Ranking {
+
+        /**
+         * The hit count of each candidate.
+         */
+        private final int[] hits;
+
+        /**
+         * The most frequent candidate indexes, most frequent first, -1 if not yet determined.
+         */
+        private final int[] hot;
+
+        /**
+         * The indexes of the earlier candidates that overlap each candidate, in list order.
+         */
+        private final int[][] precedence;
+
+        /**
+         * The index of the candidate that identified each log line shape.
+         */
+        private final Shapes shapes = new Shapes();
+
+        private Ranking(List<LogEventMatcher> matchers) {
+            hits = new int[matchers.size()];
+            hot = new int[HOT_SIZE];
+            for (int i = 0; i < hot.length; i++) {
+                hot[i] = -1;
+            }
+            precedence = new int[matchers.size()][];
+            for (int i = 0; i < matchers.size(); i++) {
+                int[] overlaps = new int[i];
+                int size = 0;
+                for (int j = 0; j < i; j++) {
+                    if (matchers.get(i).isOverlap(matchers.get(j))) {
+                        overlaps[size++] = j;
+                    }
+                }
+                precedence[i] = new int[size];
+                System.arraycopy(overlaps, 0, precedence[i], 0, size);
+            }
+        }
+
+        /**
+         * @param index
+         *            The index of a candidate that matched the log line.
+         * @param matchers
+         *            The ordered candidates.
+         * @param logLine
+         *            The log line.
+         * @param priorLogEvent
+         *            The prior log line <code>LogEvent</code>.
+         * @param profiler
+         *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+         * @return The index of the earliest overlapping candidate that also matches the log line, or the index if none
+         *         do.
+         */
+        private int getPrecedent(int index, List<LogEventMatcher> matchers, String logLine, LogEvent priorLogEvent,
+                Profiler profiler) {
+            for (int earlier : precedence[index]) {
+                if (match(matchers.get(earlier), logLine, priorLogEvent, profiler)) {
+                    return earlier;
+                }
+            }
+            return index;
+        }
+
+        /**
+         * Count a hit and keep the most frequent candidates in order.
+         * 
+         * @param index
+         *            The index of the candidate that matched.
+         */
+        private void hit(int index) {
+            int count = ++hits[index];
+            int rank = hot.length - 1;
+            while (rank >= 0 && hot[rank] != index) {
+                rank--;
+            }
+            if (rank < 0) {
+                rank = hot.length - 1;
+                if (hot[rank] >= 0 && hits[hot[rank]] >= count) {
+                    return;
+                }
+                hot[rank] = index;
+            }
+            while (rank > 0 && (hot[rank - 1] < 0 || hits[hot[rank - 1]] < count)) {
+                hot[rank] = hot[rank - 1];
+                hot[rank - 1] = index;
+                rank--;
+            }
+        }
+
+        /**
+         * @param index
+         *            The index of a candidate.
+         * @return true if the candidate is one of the most frequent candidates, false otherwise.
+         */
+        private boolean isHot(int index) {
+            for (int i = 0; i < hot.length; i++) {
+                if (hot[i] == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A bounded least recently used map of log line shapes to candidate indexes.
+     */
+    private static final class Shapes extends LinkedHashMap<Long, Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private Shapes() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+            return size() > SHAPES_SIZE;
+        }
+    }
+
+    /**
+     * The number of most frequent candidates tried first.
+     */
+    public static final int HOT_SIZE = 2;
+
+    /**
+     * The maximum number of log line shapes remembered for a candidate list.
+     */
+    public static final int SHAPES_SIZE = 1024;
+
+    /**
+     * Hash the shape of a log line: the characters of the log line with each number (a run of digits, or "0x" and the
+     * hexadecimal digits that follow) collapsed to a single "0", so log lines that differ only in numbers (e.g.
+     * timestamps, sizes, durations, addresses) have the same shape.
+     * 
+     * @param logLine
+     *            The log line.
+     * @return The 64-bit FNV-1a hash of the log line shape.
+     */
+    public static final long getShape(String logLine) {
+        long hash = 0xcbf29ce484222325L;
+        int i = 0;
+        while (i < logLine.length()) {
+            char c = logLine.charAt(i++);
+            if (c >= '0' && c <= '9') {
+                if (c == '0' && i < logLine.length() && logLine.charAt(i) == 'x') {
+                    i++;
+                    while (i < logLine.length() && Character.digit(logLine.charAt(i), 16) >= 0) {
+                        i++;
+                    }
+                } else {
+                    while (i < logLine.length() && logLine.charAt(i) >= '0' && logLine.charAt(i) <= '9') {
+                        i++;
+                    }
+                }
+                c = '0';
+            }
+            hash = (hash ^ c) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * @param matcher
+     *            The candidate.
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param profiler
+     *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+     * @return true if the log line is the candidate <code>LogEventType</code>, false otherwise.
+     */
+    private static final boolean match(LogEventMatcher matcher, String logLine, LogEvent priorLogEvent,
+            Profiler profiler) {
+        if (profiler != null) {
+            profiler.attempt();
+        }
+        return matcher.match(logLine, priorLogEvent);
+    }
+
+    /**
+     * The <code>Ranking</code> of each candidate list, by identity.
+     */
+    private final Map<List<LogEventMatcher>, Ranking> rankings = new IdentityHashMap<List<LogEventMatcher>, Ranking>();
+
+    /**
+     * @param matchers
+     *            The ordered candidates.
+     * @param eventType
+     *            The <code>LogEventType</code>.
+     * @return The number of log lines identified as the <code>LogEventType</code> by the candidates.
+     */
+    public int getHits(List<LogEventMatcher> matchers, LogEventType eventType) {
+        Ranking ranking = rankings.get(matchers);
+        if (ranking != null) {
+            for (int i = 0; i < matchers.size(); i++) {
+                if (matchers.get(i).getEventType() == eventType) {
+                    return ranking.hits[i];
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Identify the log line, trying the candidate that identified the log line shape, then the most frequent
+     * candidates, first.
+     * 
+     * @param matchers
+     *            The ordered candidates.
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param profiler
+     *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+     * @return The <code>LogEventType</code> of the first matching candidate in list order, or
+     *         <code>LogEventType.UNKNOWN</code> if none match.
+     */
+    public LogEventType identify(List<LogEventMatcher> matchers, String logLine, LogEvent priorLogEvent,
+            Profiler profiler) {
+        Ranking ranking = rankings.get(matchers);
+        if (ranking == null) {
+            ranking = new Ranking(matchers);
+            rankings.put(matchers, ranking);
+        }
+        Long shape = Long.valueOf(getShape(logLine));
+        Integer shapeIndex = ranking.shapes.get(shape);
+        int tried = -1;
+        if (shapeIndex != null) {
+            tried = shapeIndex.intValue();
+            if (match(matchers.get(tried), logLine, priorLogEvent, profiler)) {
+                return identified(ranking, ranking.getPrecedent(tried, matchers, logLine, priorLogEvent, profiler),
+                        matchers, shape);
+            }
+        }
+        for (int i = 0; i < ranking.hot.length && ranking.hot[i] >= 0; i++) {
+            int index = ranking.hot[i];
+            if (index != tried && match(matchers.get(index), logLine, priorLogEvent, profiler)) {
+                return identified(ranking, ranking.getPrecedent(index, matchers, logLine, priorLogEvent, profiler),
+                        matchers, shape);
+            }
+        }
+        for (int i = 0; i < matchers.size(); i++) {
+            if (i != tried && !ranking.isHot(i) && match(matchers.get(i), logLine, priorLogEvent, profiler)) {
+                return identified(ranking, i, matchers, shape);
+            }
+        }
+        return LogEventType.UNKNOWN;
+    }
+
+    /**
+     * Record an identified log line.
+     * 
+     * @param ranking
+     *            The <code>Ranking</code> of the candidate list.
+     * @param index
+     *            The index of the candidate that identified the log line.
+     * @param matchers
+     *            The ordered candidates.
+     * @param shape
+     *            The log line shape.
+     * @return The <code>LogEventType</code> of the candidate.
+     */
+    private LogEventType identified(Ranking ranking, int index, List<LogEventMatcher> matchers, Long shape) {
+        ranking.hit(index);
+        ranking.shapes.put(shape, Integer.valueOf(index));
+        return matchers.get(index).getEventType();
+    }
+}
@@ -12,6 +12,8 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util.jdk.unified;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
 
@@ -64,10 +66,13 @@ import org.eclipselabs.garbagecat.domain.jdk.unified.ZRelocateStartOldEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZRelocateStartYoungEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZRelocationStallEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.ZStatsEvent;
+import org.eclipselabs.garbagecat.util.Profiler;
 import org.eclipselabs.garbagecat.util.jdk.JdkMath;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.eclipselabs.garbagecat.util.jdk.LogEventMatcher;
+import org.eclipselabs.garbagecat.util.jdk.LogEventRanking;
 
 /**
  * <p>
@@ -79,6 +84,178 @@ import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
  */
 public final class UnifiedUtil {
 
+    /**
+     * Unified log line candidates common to all collector families, appended to the collector family candidates
+     * (declared first so they are initialized before the collector family candidates).
+     * 
+     * <p>
+     * Candidates that can match the same log line declare it, so precedence is kept when the most frequent candidates
+     * are tried first.
+     * </p>
+     */
+    private static final List<LogEventMatcher> COMMON_MATCHERS = Arrays.asList(
+            LogEventMatcher.of(LogEventType.UNIFIED_HEAP, UnifiedHeapEvent::match),
+            LogEventMatcher.of(LogEventType.OOME_METASPACE, OomeMetaspaceEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SAFEPOINT, UnifiedSafepointEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_CONCURRENT, UnifiedConcurrentEvent::match),
+            LogEventMatcher.withPrior(LogEventType.UNIFIED_FOOTER_STATS,
+                    (logLine, priorLogEvent) -> logLine.matches(UnifiedFooterStatsEvent._REGEX_HEADER)
+                            || (UnifiedFooterStatsEvent.match(logLine)
+                                    && priorLogEvent instanceof UnifiedFooterStatsEvent)),
+            LogEventMatcher.of(LogEventType.UNIFIED_GC_LOCKER_RETRY, UnifiedGcLockerRetryEvent::match),
+            LogEventMatcher.withPrior(LogEventType.UNIFIED_HEADER,
+                    (logLine, priorLogEvent) -> UnifiedHeaderEvent.match(logLine)
+                            && (priorLogEvent instanceof NullEvent || priorLogEvent instanceof UnifiedHeaderEvent)),
+            LogEventMatcher.of(LogEventType.UNIFIED_OLD, UnifiedOldEvent::match)
+                    .overlaps(LogEventType.UNIFIED_G1_FULL_GC_PARALLEL, LogEventType.UNIFIED_PARALLEL_COMPACTING_OLD,
+                            LogEventType.UNIFIED_SERIAL_OLD, LogEventType.UNIFIED_SHENANDOAH_FULL_GC),
+            LogEventMatcher.of(LogEventType.UNIFIED_REMARK, UnifiedRemarkEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_YOUNG, UnifiedYoungEvent::match)
+                    .overlaps(LogEventType.UNIFIED_G1_YOUNG_PAUSE, LogEventType.UNIFIED_G1_YOUNG_INITIAL_MARK,
+                            LogEventType.UNIFIED_G1_MIXED_PAUSE, LogEventType.UNIFIED_G1_YOUNG_PREPARE_MIXED,
+                            LogEventType.UNIFIED_PARALLEL_SCAVENGE, LogEventType.UNIFIED_PAR_NEW,
+                            LogEventType.UNIFIED_SERIAL_NEW, LogEventType.UNIFIED_SERIAL_OLD),
+            LogEventMatcher.of(LogEventType.UNIFIED_BLANK_LINE,
+                    logLine -> UnifiedBlankLineEvent.match(logLine) && !BlankLineEvent.match(logLine)));
+
+    /**
+     * CMS unified log line candidates.
+     */
+    private static final List<LogEventMatcher> CMS_MATCHERS = withCommon(
+            LogEventMatcher.of(LogEventType.UNIFIED_CMS_INITIAL_MARK, UnifiedCmsInitialMarkEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_PAR_NEW, UnifiedParNewEvent::match));
+
+    /**
+     * G1 unified log line candidates.
+     */
+    private static final List<LogEventMatcher> G1_MATCHERS = withCommon(
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_FULL_GC_PARALLEL, UnifiedG1FullGcEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_CLEANUP, UnifiedG1CleanupEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_INFO, UnifiedG1InfoEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_MIXED_PAUSE, UnifiedG1MixedPauseEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_YOUNG_INITIAL_MARK, UnifiedG1YoungInitialMarkEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_YOUNG_PAUSE, UnifiedG1YoungPauseEvent::match)
+                    .overlaps(LogEventType.UNIFIED_G1_MIXED_PAUSE, LogEventType.UNIFIED_G1_YOUNG_INITIAL_MARK,
+                            LogEventType.UNIFIED_G1_YOUNG_PREPARE_MIXED),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_YOUNG_PREPARE_MIXED, UnifiedG1YoungPrepareMixedEvent::match));
+
+    /**
+     * Parallel unified log line candidates.
+     */
+    private static final List<LogEventMatcher> PARALLEL_MATCHERS = withCommon(
+            LogEventMatcher.of(LogEventType.UNIFIED_PARALLEL_COMPACTING_OLD, UnifiedParallelCompactingOldEvent::match)
+                    .overlaps(LogEventType.UNIFIED_SERIAL_OLD),
+            LogEventMatcher.of(LogEventType.UNIFIED_PARALLEL_SCAVENGE, UnifiedParallelScavengeEvent::match)
+                    .overlaps(LogEventType.UNIFIED_SERIAL_OLD),
+            LogEventMatcher.of(LogEventType.UNIFIED_SERIAL_OLD, UnifiedSerialOldEvent::match));
+
+    /**
+     * Serial unified log line candidates.
+     */
+    private static final List<LogEventMatcher> SERIAL_MATCHERS = withCommon(
+            LogEventMatcher.of(LogEventType.UNIFIED_SERIAL_NEW, UnifiedSerialNewEvent::match)
+                    .overlaps(LogEventType.UNIFIED_SERIAL_OLD),
+            LogEventMatcher.of(LogEventType.UNIFIED_SERIAL_OLD, UnifiedSerialOldEvent::match));
+
+    /**
+     * Shenandoah unified log line candidates.
+     */
+    private static final List<LogEventMatcher> SHENANDOAH_MATCHERS = withCommon(
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_DEGENERATED_GC,
+                    UnifiedShenandoahDegeneratedGcEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_FINAL_EVAC, UnifiedShenandoahFinalEvacEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_FINAL_MARK, UnifiedShenandoahFinalMarkEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS,
+                    UnifiedShenandoahFinalUpdateRefsEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_FULL_GC, UnifiedShenandoahFullGcEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_INIT_MARK, UnifiedShenandoahInitMarkEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_INIT_UPDATE_REFS,
+                    UnifiedShenandoahInitUpdateRefsEvent::match),
+            LogEventMatcher.withPrior(LogEventType.UNIFIED_SHENANDOAH_STATS,
+                    (logLine, priorLogEvent) -> logLine.matches(UnifiedShenandoahStatsEvent._REGEX_HEADER)
+                            || (UnifiedShenandoahStatsEvent.match(logLine)
+                                    && priorLogEvent instanceof UnifiedShenandoahStatsEvent)),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_TRIGGER, UnifiedShenandoahTriggerEvent::match));
+
+    /**
+     * Z unified log line candidates.
+     */
+    private static final List<LogEventMatcher> Z_MATCHERS = withCommon(
+            LogEventMatcher.of(LogEventType.Z_ALLOCATION_STALL, ZAllocationStallEvent::match),
+            LogEventMatcher.of(LogEventType.Z_MARK_END, ZMarkEndEvent::match)
+                    .overlaps(LogEventType.Z_MARK_END_OLD, LogEventType.Z_MARK_END_YOUNG),
+            LogEventMatcher.of(LogEventType.Z_MARK_END_OLD, ZMarkEndOldEvent::match),
+            LogEventMatcher.of(LogEventType.Z_MARK_END_YOUNG, ZMarkEndYoungEvent::match),
+            LogEventMatcher.of(LogEventType.Z_MARK_START, ZMarkStartEvent::match)
+                    .overlaps(LogEventType.Z_MARK_START_YOUNG, LogEventType.Z_MARK_START_YOUNG_AND_OLD),
+            LogEventMatcher.of(LogEventType.Z_MARK_START_YOUNG, ZMarkStartYoungEvent::match)
+                    .overlaps(LogEventType.Z_MARK_START_YOUNG_AND_OLD),
+            LogEventMatcher.of(LogEventType.Z_MARK_START_YOUNG_AND_OLD, ZMarkStartYoungAndOldEvent::match),
+            LogEventMatcher.of(LogEventType.Z_RELOCATE_START, ZRelocateStartEvent::match)
+                    .overlaps(LogEventType.Z_RELOCATE_START_OLD, LogEventType.Z_RELOCATE_START_YOUNG),
+            LogEventMatcher.of(LogEventType.Z_RELOCATE_START_OLD, ZRelocateStartOldEvent::match),
+            LogEventMatcher.of(LogEventType.Z_RELOCATE_START_YOUNG, ZRelocateStartYoungEvent::match),
+            LogEventMatcher.of(LogEventType.Z_RELOCATION_STALL, ZRelocationStallEvent::match),
+            LogEventMatcher.withPrior(LogEventType.Z_STATS,
+                    (logLine, priorLogEvent) -> logLine.matches(ZStatsEvent._REGEX_HEADER)
+                            || (ZStatsEvent.match(logLine) && priorLogEvent instanceof ZStatsEvent)));
+
+    /**
+     * Unified log line candidates when the collector family is not known.
+     */
+    private static final List<LogEventMatcher> UNKNOWN_MATCHERS = withCommon(
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_FULL_GC_PARALLEL, UnifiedG1FullGcEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_CMS_INITIAL_MARK, UnifiedCmsInitialMarkEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_CLEANUP, UnifiedG1CleanupEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_INFO, UnifiedG1InfoEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_MIXED_PAUSE, UnifiedG1MixedPauseEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_YOUNG_INITIAL_MARK, UnifiedG1YoungInitialMarkEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_YOUNG_PAUSE, UnifiedG1YoungPauseEvent::match)
+                    .overlaps(LogEventType.UNIFIED_G1_MIXED_PAUSE, LogEventType.UNIFIED_G1_YOUNG_INITIAL_MARK,
+                            LogEventType.UNIFIED_G1_YOUNG_PREPARE_MIXED),
+            LogEventMatcher.of(LogEventType.UNIFIED_G1_YOUNG_PREPARE_MIXED, UnifiedG1YoungPrepareMixedEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_PARALLEL_COMPACTING_OLD, UnifiedParallelCompactingOldEvent::match)
+                    .overlaps(LogEventType.UNIFIED_SERIAL_OLD),
+            LogEventMatcher.of(LogEventType.UNIFIED_PARALLEL_SCAVENGE, UnifiedParallelScavengeEvent::match)
+                    .overlaps(LogEventType.UNIFIED_SERIAL_OLD),
+            LogEventMatcher.of(LogEventType.UNIFIED_PAR_NEW, UnifiedParNewEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SERIAL_NEW, UnifiedSerialNewEvent::match)
+                    .overlaps(LogEventType.UNIFIED_SERIAL_OLD),
+            LogEventMatcher.of(LogEventType.UNIFIED_SERIAL_OLD, UnifiedSerialOldEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_DEGENERATED_GC,
+                    UnifiedShenandoahDegeneratedGcEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_FINAL_EVAC, UnifiedShenandoahFinalEvacEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_FINAL_MARK, UnifiedShenandoahFinalMarkEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS,
+                    UnifiedShenandoahFinalUpdateRefsEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_FULL_GC, UnifiedShenandoahFullGcEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_INIT_MARK, UnifiedShenandoahInitMarkEvent::match),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_INIT_UPDATE_REFS,
+                    UnifiedShenandoahInitUpdateRefsEvent::match),
+            LogEventMatcher.withPrior(LogEventType.UNIFIED_SHENANDOAH_STATS,
+                    (logLine, priorLogEvent) -> logLine.matches(UnifiedShenandoahStatsEvent._REGEX_HEADER)
+                            || (UnifiedShenandoahStatsEvent.match(logLine)
+                                    && priorLogEvent instanceof UnifiedShenandoahStatsEvent)),
+            LogEventMatcher.of(LogEventType.UNIFIED_SHENANDOAH_TRIGGER, UnifiedShenandoahTriggerEvent::match),
+            LogEventMatcher.of(LogEventType.Z_ALLOCATION_STALL, ZAllocationStallEvent::match),
+            LogEventMatcher.of(LogEventType.Z_MARK_END, ZMarkEndEvent::match)
+                    .overlaps(LogEventType.Z_MARK_END_OLD, LogEventType.Z_MARK_END_YOUNG),
+            LogEventMatcher.of(LogEventType.Z_MARK_END_OLD, ZMarkEndOldEvent::match),
+            LogEventMatcher.of(LogEventType.Z_MARK_END_YOUNG, ZMarkEndYoungEvent::match),
+            LogEventMatcher.of(LogEventType.Z_MARK_START, ZMarkStartEvent::match)
+                    .overlaps(LogEventType.Z_MARK_START_YOUNG, LogEventType.Z_MARK_START_YOUNG_AND_OLD),
+            LogEventMatcher.of(LogEventType.Z_MARK_START_YOUNG, ZMarkStartYoungEvent::match)
+                    .overlaps(LogEventType.Z_MARK_START_YOUNG_AND_OLD),
+            LogEventMatcher.of(LogEventType.Z_MARK_START_YOUNG_AND_OLD, ZMarkStartYoungAndOldEvent::match),
+            LogEventMatcher.of(LogEventType.Z_RELOCATE_START, ZRelocateStartEvent::match)
+                    .overlaps(LogEventType.Z_RELOCATE_START_OLD, LogEventType.Z_RELOCATE_START_YOUNG),
+            LogEventMatcher.of(LogEventType.Z_RELOCATE_START_OLD, ZRelocateStartOldEvent::match),
+            LogEventMatcher.of(LogEventType.Z_RELOCATE_START_YOUNG, ZRelocateStartYoungEvent::match),
+            LogEventMatcher.of(LogEventType.Z_RELOCATION_STALL, ZRelocationStallEvent::match),
+            LogEventMatcher.withPrior(LogEventType.Z_STATS,
+                    (logLine, priorLogEvent) -> logLine.matches(ZStatsEvent._REGEX_HEADER)
+                            || (ZStatsEvent.match(logLine) && priorLogEvent instanceof ZStatsEvent)));
+
     /**
      * @param matcher
      *            The unified log line <code>Matcher</code>.
@@ -110,6 +287,49 @@ public final class UnifiedUtil {
         }
     }
 
+    /**
+     * Find the end of the decorator (e.g. "[2020-02-14T15:21:55.207-0500][info][gc,stats ]") by its structure, the
+     * leading bracketed fields, without matching <code>UnifiedRegEx.DECORATOR</code>.
+     * 
+     * @param logLine
+     *            The log line.
+     * @return The position after the decorator, or -1 if the log line does not start with a bracketed field.
+     */
+    public static final int getDecoratorEnd(String logLine) {
+        int end = 0;
+        while (end < logLine.length() && logLine.charAt(end) == '[') {
+            int close = logLine.indexOf(']', end);
+            if (close < 0) {
+                return -1;
+            }
+            end = close + 1;
+        }
+        return end > 0 ? end : -1;
+    }
+
+    /**
+     * Determine if a log line has the same decorator as a prior log line (e.g. the lines of a statistics block logged
+     * at the same time with the same tags).
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogLine
+     *            The prior log line, or null if not known.
+     * @return The position after the decorator if the log line has the same decorator as the prior log line followed
+     *         by a space, -1 otherwise.
+     */
+    public static final int getSameDecoratorEnd(String logLine, String priorLogLine) {
+        if (priorLogLine == null) {
+            return -1;
+        }
+        int end = getDecoratorEnd(priorLogLine);
+        if (end < 0 || logLine.length() <= end || logLine.charAt(end) != ' '
+                || !logLine.regionMatches(0, priorLogLine, 0, end)) {
+            return -1;
+        }
+        return end;
+    }
+
     /**
      * Identify the unified log line.
      * 
@@ -123,204 +343,71 @@ public final class UnifiedUtil {
      */
     public static final LogEventType identifyEventType(String logLine, LogEvent priorLogEvent,
             CollectorFamily collectorFamily) {
-        LogEventType eventType = LogEventType.UNKNOWN;
+        return identifyEventType(logLine, priorLogEvent, collectorFamily, null);
+    }
+
+    /**
+     * Identify the unified log line.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param collectorFamily
+     *            The <code>CollectorFamily</code>.
+     * @param profiler
+     *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+     * @return The <code>LogEventType</code> of the log entry.
+     */
+    public static final LogEventType identifyEventType(String logLine, LogEvent priorLogEvent,
+            CollectorFamily collectorFamily, Profiler profiler) {
+        return identifyEventType(logLine, priorLogEvent, collectorFamily, profiler, null);
+    }
+
+    /**
+     * Identify the unified log line.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param priorLogEvent
+     *            The prior log line <code>LogEvent</code>.
+     * @param collectorFamily
+     *            The <code>CollectorFamily</code>.
+     * @param profiler
+     *            The <code>Profiler</code> that counts match attempts, or null if not profiling.
+     * @param ranking
+     *            The <code>LogEventRanking</code> that tries the most frequent candidates first, or null to try the
+     *            candidates in order.
+     * @return The <code>LogEventType</code> of the log entry.
+     */
+    public static final LogEventType identifyEventType(String logLine, LogEvent priorLogEvent,
+            CollectorFamily collectorFamily, Profiler profiler, LogEventRanking ranking) {
+        List<LogEventMatcher> matchers;
         switch (collectorFamily) {
         case CMS:
-            if (UnifiedCmsInitialMarkEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_CMS_INITIAL_MARK;
-            } else if (UnifiedParNewEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_PAR_NEW;
-            }
+            matchers = CMS_MATCHERS;
             break;
         case G1:
-            if (UnifiedG1FullGcEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_FULL_GC_PARALLEL;
-            } else if (UnifiedG1CleanupEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_CLEANUP;
-            } else if (UnifiedG1InfoEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_INFO;
-            } else if (UnifiedG1MixedPauseEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_MIXED_PAUSE;
-            } else if (UnifiedG1YoungInitialMarkEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_YOUNG_INITIAL_MARK;
-            } else if (UnifiedG1YoungPauseEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_YOUNG_PAUSE;
-            } else if (UnifiedG1YoungPrepareMixedEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_YOUNG_PREPARE_MIXED;
-            }
+            matchers = G1_MATCHERS;
             break;
         case PARALLEL:
-            if (UnifiedParallelCompactingOldEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_PARALLEL_COMPACTING_OLD;
-            } else if (UnifiedParallelScavengeEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_PARALLEL_SCAVENGE;
-            } else if (UnifiedSerialOldEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SERIAL_OLD;
-            }
+            matchers = PARALLEL_MATCHERS;
             break;
         case SERIAL:
-            if (UnifiedSerialNewEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SERIAL_NEW;
-            } else if (UnifiedSerialOldEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SERIAL_OLD;
-            }
+            matchers = SERIAL_MATCHERS;
             break;
         case SHENANDOAH:
-            if (UnifiedShenandoahDegeneratedGcEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_DEGENERATED_GC;
-            } else if (UnifiedShenandoahFinalEvacEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_FINAL_EVAC;
-            } else if (UnifiedShenandoahFinalMarkEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_FINAL_MARK;
-            } else if (UnifiedShenandoahFinalUpdateRefsEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS;
-            } else if (UnifiedShenandoahFullGcEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_FULL_GC;
-            } else if (UnifiedShenandoahInitMarkEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_INIT_MARK;
-            } else if (UnifiedShenandoahInitUpdateRefsEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_INIT_UPDATE_REFS;
-            } else if (logLine.matches(UnifiedShenandoahStatsEvent._REGEX_HEADER)
-                    || (UnifiedShenandoahStatsEvent.match(logLine)
-                            && priorLogEvent instanceof UnifiedShenandoahStatsEvent)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_STATS;
-            } else if (UnifiedShenandoahTriggerEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_TRIGGER;
-            }
+            matchers = SHENANDOAH_MATCHERS;
             break;
-        case UNKNOWN:
-            if (UnifiedG1FullGcEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_FULL_GC_PARALLEL;
-            } else if (UnifiedCmsInitialMarkEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_CMS_INITIAL_MARK;
-            } else if (UnifiedG1CleanupEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_CLEANUP;
-            } else if (UnifiedG1InfoEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_INFO;
-            } else if (UnifiedG1MixedPauseEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_MIXED_PAUSE;
-            } else if (UnifiedG1YoungInitialMarkEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_YOUNG_INITIAL_MARK;
-            } else if (UnifiedG1YoungPauseEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_YOUNG_PAUSE;
-            } else if (UnifiedG1YoungPrepareMixedEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_G1_YOUNG_PREPARE_MIXED;
-            } else if (UnifiedParallelCompactingOldEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_PARALLEL_COMPACTING_OLD;
-            } else if (UnifiedParallelScavengeEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_PARALLEL_SCAVENGE;
-            } else if (UnifiedParNewEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_PAR_NEW;
-            } else if (UnifiedSerialNewEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SERIAL_NEW;
-            } else if (UnifiedSerialOldEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SERIAL_OLD;
-            } else if (UnifiedShenandoahDegeneratedGcEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_DEGENERATED_GC;
-            } else if (UnifiedShenandoahFinalEvacEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_FINAL_EVAC;
-            } else if (UnifiedShenandoahFinalMarkEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_FINAL_MARK;
-            } else if (UnifiedShenandoahFinalUpdateRefsEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_FINAL_UPDATE_REFS;
-            } else if (UnifiedShenandoahFullGcEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_FULL_GC;
-            } else if (UnifiedShenandoahInitMarkEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_INIT_MARK;
-            } else if (UnifiedShenandoahInitUpdateRefsEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_INIT_UPDATE_REFS;
-            } else if (logLine.matches(UnifiedShenandoahStatsEvent._REGEX_HEADER)
-                    || (UnifiedShenandoahStatsEvent.match(logLine)
-                            && priorLogEvent instanceof UnifiedShenandoahStatsEvent)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_STATS;
-            } else if (UnifiedShenandoahTriggerEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SHENANDOAH_TRIGGER;
-            } else if (ZAllocationStallEvent.match(logLine)) {
-                eventType = LogEventType.Z_ALLOCATION_STALL;
-            } else if (ZMarkEndEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_END;
-            } else if (ZMarkEndOldEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_END_OLD;
-            } else if (ZMarkEndYoungEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_END_YOUNG;
-            } else if (ZMarkStartEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_START;
-            } else if (ZMarkStartYoungEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_START_YOUNG;
-            } else if (ZMarkStartYoungAndOldEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_START_YOUNG_AND_OLD;
-            } else if (ZRelocateStartEvent.match(logLine)) {
-                eventType = LogEventType.Z_RELOCATE_START;
-            } else if (ZRelocateStartOldEvent.match(logLine)) {
-                eventType = LogEventType.Z_RELOCATE_START_OLD;
-            } else if (ZRelocateStartYoungEvent.match(logLine)) {
-                eventType = LogEventType.Z_RELOCATE_START_YOUNG;
-            } else if (ZRelocationStallEvent.match(logLine)) {
-                eventType = LogEventType.Z_RELOCATION_STALL;
-            } else if (logLine.matches(ZStatsEvent._REGEX_HEADER)
-                    || (ZStatsEvent.match(logLine) && priorLogEvent instanceof ZStatsEvent)) {
-                eventType = LogEventType.Z_STATS;
-                break;
-            }
         case Z:
-            if (ZAllocationStallEvent.match(logLine)) {
-                eventType = LogEventType.Z_ALLOCATION_STALL;
-            } else if (ZMarkEndEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_END;
-            } else if (ZMarkEndOldEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_END_OLD;
-            } else if (ZMarkEndYoungEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_END_YOUNG;
-            } else if (ZMarkStartEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_START;
-            } else if (ZMarkStartYoungEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_START_YOUNG;
-            } else if (ZMarkStartYoungAndOldEvent.match(logLine)) {
-                eventType = LogEventType.Z_MARK_START_YOUNG_AND_OLD;
-            } else if (ZRelocateStartEvent.match(logLine)) {
-                eventType = LogEventType.Z_RELOCATE_START;
-            } else if (ZRelocateStartOldEvent.match(logLine)) {
-                eventType = LogEventType.Z_RELOCATE_START_OLD;
-            } else if (ZRelocateStartYoungEvent.match(logLine)) {
-                eventType = LogEventType.Z_RELOCATE_START_YOUNG;
-            } else if (ZRelocationStallEvent.match(logLine)) {
-                eventType = LogEventType.Z_RELOCATION_STALL;
-            } else if (logLine.matches(ZStatsEvent._REGEX_HEADER)
-                    || (ZStatsEvent.match(logLine) && priorLogEvent instanceof ZStatsEvent)) {
-                eventType = LogEventType.Z_STATS;
-            }
+            matchers = Z_MATCHERS;
             break;
+        case UNKNOWN:
         default:
+            matchers = UNKNOWN_MATCHERS;
             break;
         }
-        if (eventType == LogEventType.UNKNOWN) {
-            if (UnifiedHeapEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_HEAP;
-            } else if (OomeMetaspaceEvent.match(logLine)) {
-                eventType = LogEventType.OOME_METASPACE;
-            } else if (UnifiedSafepointEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_SAFEPOINT;
-            } else if (UnifiedConcurrentEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_CONCURRENT;
-            } else if (logLine.matches(UnifiedFooterStatsEvent._REGEX_HEADER)
-                    || (UnifiedFooterStatsEvent.match(logLine) && priorLogEvent instanceof UnifiedFooterStatsEvent)) {
-                eventType = LogEventType.UNIFIED_FOOTER_STATS;
-            } else if (UnifiedGcLockerRetryEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_GC_LOCKER_RETRY;
-            } else if (UnifiedHeaderEvent.match(logLine)
-                    && (priorLogEvent instanceof NullEvent || priorLogEvent instanceof UnifiedHeaderEvent)) {
-                eventType = LogEventType.UNIFIED_HEADER;
-            } else if (UnifiedOldEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_OLD;
-            } else if (UnifiedRemarkEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_REMARK;
-            } else if (UnifiedYoungEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_YOUNG;
-            } else if (UnifiedBlankLineEvent.match(logLine) && !BlankLineEvent.match(logLine)) {
-                eventType = LogEventType.UNIFIED_BLANK_LINE;
-            }
-        }
-        return eventType;
+        return LogEventMatcher.identify(matchers, logLine, priorLogEvent, profiler, ranking);
     }
 
     /**
@@ -384,6 +471,17 @@ public final class UnifiedUtil {
         return false;
     }
 
+    /**
+     * @param matchers
+     *            The collector family candidates.
+     * @return The collector family candidates followed by the candidates common to all collector families.
+     */
+    private static final List<LogEventMatcher> withCommon(LogEventMatcher... matchers) {
+        List<LogEventMatcher> candidates = new ArrayList<LogEventMatcher>(Arrays.asList(matchers));
+        candidates.addAll(COMMON_MATCHERS);
+        return candidates;
+    }
+
     private UnifiedUtil() {
         super();
     }
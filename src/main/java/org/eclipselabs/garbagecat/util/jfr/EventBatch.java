@@ -0,0 +1,92 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jfr;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+
+/**
+ * <p>
+ * Groups log lines into fixed size batches, recording a <code>PipelineEvent</code> for each batch with the line count
+ * and the log event types in the batch.
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class EventBatch {
+
+    /**
+     * The number of log lines in a batch.
+     */
+    public static final int SIZE = 10000;
+
+    /**
+     * The current batch event.
+     */
+    private PipelineEvent event;
+
+    /**
+     * The log event types in the current batch.
+     */
+    private final Set<String> eventTypes = new TreeSet<String>();
+
+    /**
+     * Creates the event for a new batch.
+     */
+    private final Supplier<PipelineEvent> factory;
+
+    /**
+     * The number of log lines in the current batch.
+     */
+    private int lines;
+
+    /**
+     * @param factory
+     *            Creates the event for a new batch (e.g. <code>PipelineEvent::storeBatch</code>).
+     */
+    public EventBatch(Supplier<PipelineEvent> factory) {
+        this.factory = factory;
+        this.event = factory.get().begin();
+    }
+
+    /**
+     * Add a log line to the batch, recording the batch if it is full.
+     * 
+     * @param logEvent
+     *            The log line <code>LogEvent</code>.
+     */
+    public void add(LogEvent logEvent) {
+        if (event.isEnabled()) {
+            eventTypes.add(logEvent.getName());
+        }
+        if (++lines == SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Record the current batch, if it has any log lines, and start a new one.
+     */
+    public void flush() {
+        if (lines > 0) {
+            event.commit(lines, String.join(",", eventTypes));
+        }
+        lines = 0;
+        eventTypes.clear();
+        event = factory.get().begin();
+    }
+}
@@ -0,0 +1,128 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jfr;
+
+/**
+ * <p>
+ * A garbagecat pipeline event for JDK Flight Recorder (JFR), so hotspots in garbagecat itself can be seen in JFR
+ * recordings (e.g. <code>-XX:StartFlightRecording</code>) of batch analysis runs.
+ * </p>
+ * 
+ * <p>
+ * This is the JDK 8 implementation, which does nothing. The JDK 11+ implementation in the multi-release jar
+ * (<code>META-INF/versions/11</code>) has the same API and records <code>jdk.jfr.Event</code>s when the event type is
+ * enabled in the recording.
+ * </p>
+ * 
+ * <p>
+ * Usage:
+ * </p>
+ * 
+ * <pre>
+ * PipelineEvent event = PipelineEvent.storeBatch().begin();
+ * ...
+ * event.commit(lines, eventTypes);
+ * </pre>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class PipelineEvent {
+
+    /**
+     * The event that records nothing.
+     */
+    private static final PipelineEvent DISABLED = new PipelineEvent();
+
+    /**
+     * @return A log file, or a chunk of a log file, read and parsed.
+     */
+    public static PipelineEvent chunkParsed() {
+        return DISABLED;
+    }
+
+    /**
+     * @return A batch of log lines preprocessed.
+     */
+    public static PipelineEvent preprocessBatch() {
+        return DISABLED;
+    }
+
+    /**
+     * @param section
+     *            The report section name.
+     * @return A report section written.
+     */
+    public static PipelineEvent reportSection(String section) {
+        return DISABLED;
+    }
+
+    /**
+     * @return A single log line that took longer than the event threshold to identify and construct.
+     */
+    public static PipelineEvent slowLine() {
+        return DISABLED;
+    }
+
+    /**
+     * @return A batch of log lines parsed and stored.
+     */
+    public static PipelineEvent storeBatch() {
+        return DISABLED;
+    }
+
+    private PipelineEvent() {
+        super();
+    }
+
+    /**
+     * Start timing the event.
+     * 
+     * @return This event.
+     */
+    public PipelineEvent begin() {
+        return this;
+    }
+
+    /**
+     * Stop timing the event and record it.
+     * 
+     * @param lines
+     *            The number of log lines.
+     * @param eventTypes
+     *            The log event types.
+     */
+    public void commit(long lines, String eventTypes) {
+        // Nothing to record
+    }
+
+    /**
+     * Stop timing a single log line event and record it.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param eventType
+     *            The log event type.
+     */
+    public void commitLine(String logLine, String eventType) {
+        // Nothing to record
+    }
+
+    /**
+     * @return true if the event is recorded, false otherwise. Used to skip collecting event data that would be thrown
+     *         away.
+     */
+    public boolean isEnabled() {
+        return false;
+    }
+}
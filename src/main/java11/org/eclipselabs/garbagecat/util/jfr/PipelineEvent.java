@@ -0,0 +1,179 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jfr;
+
+import java.util.function.Supplier;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * <p>
+ * A garbagecat pipeline event for JDK Flight Recorder (JFR), so hotspots in garbagecat itself can be seen in JFR
+ * recordings (e.g. <code>-XX:StartFlightRecording</code>) of batch analysis runs.
+ * </p>
+ * 
+ * <p>
+ * This is the JDK 11+ implementation in the multi-release jar. It wraps a <code>jdk.jfr.Event</code> when the event
+ * type is enabled in the recording, and does nothing otherwise. No <code>jdk.jfr.Event</code> is created until the
+ * Flight Recorder has been initialized (e.g. a recording has been started).
+ * </p>
+ * 
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+public class PipelineEvent {
+
+    /**
+     * The event that records nothing.
+     */
+    private static final PipelineEvent DISABLED = new PipelineEvent(null);
+
+    /**
+     * @return A log file, or a chunk of a log file, read and parsed.
+     */
+    public static PipelineEvent chunkParsed() {
+        return of(ChunkParsedEvent::new);
+    }
+
+    /**
+     * @param factory
+     *            Creates the JFR event.
+     * @return The event wrapping the JFR event if it is enabled, otherwise the event that records nothing.
+     */
+    private static PipelineEvent of(Supplier<Event> factory) {
+        if (!FlightRecorder.isInitialized()) {
+            return DISABLED;
+        }
+        Event event = factory.get();
+        return event.isEnabled() ? new PipelineEvent(event) : DISABLED;
+    }
+
+    /**
+     * @return A batch of log lines preprocessed.
+     */
+    public static PipelineEvent preprocessBatch() {
+        return of(PreprocessBatchEvent::new);
+    }
+
+    /**
+     * @param section
+     *            The report section name.
+     * @return A report section written.
+     */
+    public static PipelineEvent reportSection(String section) {
+        return of(() -> {
+            ReportSectionEvent event = new ReportSectionEvent();
+            event.section = section;
+            return event;
+        });
+    }
+
+    /**
+     * @return A single log line that took longer than the event threshold to identify and construct.
+     */
+    public static PipelineEvent slowLine() {
+        return of(SlowLineEvent::new);
+    }
+
+    /**
+     * @return A batch of log lines parsed and stored.
+     */
+    public static PipelineEvent storeBatch() {
+        return of(StoreBatchEvent::new);
+    }
+
+    /**
+     * The JFR event, or null if not recorded.
+     */
+    private final Event event;
+
+    private PipelineEvent(Event event) {
+        this.event = event;
+    }
+
+    /**
+     * Start timing the event.
+     * 
+     * @return This event.
+     */
+    public PipelineEvent begin() {
+        if (event != null) {
+            event.begin();
+        }
+        return this;
+    }
+
+    /**
+     * Stop timing the event and record it.
+     * 
+     * @param lines
+     *            The number of log lines.
+     * @param eventTypes
+     *            The log event types.
+     */
+    public void commit(long lines, String eventTypes) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            if (event instanceof ChunkParsedEvent) {
+                ((ChunkParsedEvent) event).lines = lines;
+                ((ChunkParsedEvent) event).eventTypes = eventTypes;
+            } else if (event instanceof PreprocessBatchEvent) {
+                ((PreprocessBatchEvent) event).lines = lines;
+                ((PreprocessBatchEvent) event).eventTypes = eventTypes;
+            } else if (event instanceof StoreBatchEvent) {
+                ((StoreBatchEvent) event).lines = lines;
+                ((StoreBatchEvent) event).eventTypes = eventTypes;
+            } else if (event instanceof ReportSectionEvent) {
+                ((ReportSectionEvent) event).lines = lines;
+                ((ReportSectionEvent) event).eventTypes = eventTypes;
+            } else if (event instanceof SlowLineEvent) {
+                ((SlowLineEvent) event).eventType = eventTypes;
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * Stop timing a single log line event and record it.
+     * 
+     * @param logLine
+     *            The log line.
+     * @param eventType
+     *            The log event type.
+     */
+    public void commitLine(String logLine, String eventType) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            if (event instanceof SlowLineEvent) {
+                ((SlowLineEvent) event).logLine = logLine;
+                ((SlowLineEvent) event).eventType = eventType;
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * @return true if the event is recorded, false otherwise. Used to skip collecting event data that would be thrown
+     *         away.
+     */
+    public boolean isEnabled() {
+        return event != null;
+    }
+}
@@ -0,0 +1,421 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import org.apache.commons.cli.CommandLine;
+
+/**
+ * <p>
+ * End-to-end throughput benchmark. Runs the full {@link Main#createReport(CommandLine)} pipeline (read, preprocess,
+ * store, <code>getJvmRun</code>, report) over a set of gc logs and records throughput, peak heap, and allocation.
+ * </p>
+ *
+ * <p>
+ * Results are written as a properties file (one <code>&lt;log&gt;.&lt;metric&gt;</code> key per measurement plus
+ * <code>total.&lt;metric&gt;</code> aggregates) so they can be diffed or compared against a stored baseline. When a
+ * baseline is given, a regression larger than the tolerance in any comparable metric fails the run with exit code 1.
+ * If the baseline file does not exist, the results are saved as the baseline.
+ * </p>
+ *
+ * <pre>
+ * Benchmark [-b baseline.properties] [-o result.properties] [-i iterations] [-w warmups] [-t tolerance%] [FILE|DIR]...
+ * </pre>
+ *
+ * <p>
+ * With no FILE or DIR the test datasets in {@link #DATA_DIR} are used.
+ * Large synthetic logs (e.g. created with {@link GcLogGenerator}) are passed in explicitly.
+ * </p>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+public class Benchmark {
+
+    /**
+     * Test datasets directory.
+     */
+    public static final String DATA_DIR = "src" + File.separator + "test" + File.separator + "resources"
+            + File.separator + "data";
+
+    /**
+     * Metrics where a larger value is better.
+     */
+    private static final List<String> HIGHER_IS_BETTER = Arrays.asList("linesPerSec", "mbPerSec");
+
+    /**
+     * Metrics where a smaller value is better.
+     */
+    private static final List<String> LOWER_IS_BETTER = Arrays.asList("allocBytesPerLine", "peakHeapBytes");
+
+    /**
+     * Entries that run for less than this are too noisy to compare.
+     */
+    private static final long MIN_COMPARABLE_MILLIS = 100;
+
+    /**
+     * Key prefix for the aggregate over all logs.
+     */
+    public static final String TOTAL = "total";
+
+    /**
+     * Result of benchmarking a single gc log.
+     */
+    public static class Result {
+
+        /**
+         * Bytes allocated by the benchmark thread (best iteration).
+         */
+        private long allocatedBytes;
+
+        /**
+         * Log file size in bytes.
+         */
+        private long bytes;
+
+        /**
+         * Number of log lines.
+         */
+        private long lines;
+
+        /**
+         * Elapsed wall time in milliseconds (best iteration).
+         */
+        private long millis;
+
+        /**
+         * Maximum heap used while processing the log (all iterations).
+         */
+        private long peakHeapBytes;
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public double getAllocBytesPerLine() {
+            return lines == 0 ? 0 : (double) allocatedBytes / lines;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getLines() {
+            return lines;
+        }
+
+        public double getLinesPerSec() {
+            return lines * 1000d / Math.max(millis, 1);
+        }
+
+        public double getMbPerSec() {
+            return bytes * 1000d / Math.max(millis, 1) / (1024 * 1024);
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        public long getPeakHeapBytes() {
+            return peakHeapBytes;
+        }
+
+        /**
+         * Add the metrics to a result set under the given key prefix.
+         *
+         * @param properties
+         *            The result set.
+         * @param key
+         *            The key prefix.
+         */
+        public void store(Properties properties, String key) {
+            properties.setProperty(key + ".lines", Long.toString(lines));
+            properties.setProperty(key + ".bytes", Long.toString(bytes));
+            properties.setProperty(key + ".millis", Long.toString(millis));
+            properties.setProperty(key + ".linesPerSec", String.format(Locale.ROOT, "%.1f", getLinesPerSec()));
+            properties.setProperty(key + ".mbPerSec", String.format(Locale.ROOT, "%.3f", getMbPerSec()));
+            properties.setProperty(key + ".peakHeapBytes", Long.toString(peakHeapBytes));
+            properties.setProperty(key + ".allocBytesPerLine",
+                    String.format(Locale.ROOT, "%.1f", getAllocBytesPerLine()));
+        }
+    }
+
+    /**
+     * Compare results to a baseline.
+     *
+     * @param baseline
+     *            The baseline results.
+     * @param current
+     *            The current results.
+     * @param tolerance
+     *            The allowed regression as a percentage.
+     * @return A description of each regression, empty if there are none.
+     */
+    public static List<String> compare(Properties baseline, Properties current, double tolerance) {
+        List<String> regressions = new ArrayList<String>();
+        for (String key : new TreeSet<String>(current.stringPropertyNames())) {
+            int index = key.lastIndexOf('.');
+            String entry = key.substring(0, index);
+            String metric = key.substring(index + 1);
+            boolean higherIsBetter = HIGHER_IS_BETTER.contains(metric);
+            if ((!higherIsBetter && !LOWER_IS_BETTER.contains(metric)) || baseline.getProperty(key) == null
+                    || Long.parseLong(baseline.getProperty(entry + ".millis", "0")) < MIN_COMPARABLE_MILLIS) {
+                continue;
+            }
+            double before = Double.parseDouble(baseline.getProperty(key));
+            double after = Double.parseDouble(current.getProperty(key));
+            if (before == 0) {
+                continue;
+            }
+            double change = (after - before) * 100 / before;
+            if ((higherIsBetter && change < -tolerance) || (!higherIsBetter && change > tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "%s: %s -> %s (%+.1f%%)", key,
+                        baseline.getProperty(key), current.getProperty(key), change));
+            }
+        }
+        return regressions;
+    }
+
+    private static long countLines(File file) throws IOException {
+        long lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            while (reader.readLine() != null) {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * @param files
+     *            Files and/or directories.
+     * @return The log files, directories expanded one level, in name order.
+     */
+    public static List<File> expand(List<File> files) {
+        List<File> logs = new ArrayList<File>();
+        for (File file : files) {
+            if (file.isDirectory()) {
+                File[] children = file.listFiles();
+                if (children != null) {
+                    Arrays.sort(children);
+                    for (File child : children) {
+                        if (child.isFile()) {
+                            logs.add(child);
+                        }
+                    }
+                }
+            } else {
+                logs.add(file);
+            }
+        }
+        return logs;
+    }
+
+    private static Properties load(File file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    public static void main(String... args) throws IOException {
+        File baselineFile = null;
+        File resultFile = new File("benchmark.properties");
+        int iterations = 3;
+        int warmups = 1;
+        double tolerance = 10;
+        List<File> files = new ArrayList<File>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+            case "-b":
+                baselineFile = new File(args[++i]);
+                break;
+            case "-o":
+                resultFile = new File(args[++i]);
+                break;
+            case "-i":
+                iterations = Integer.parseInt(args[++i]);
+                break;
+            case "-w":
+                warmups = Integer.parseInt(args[++i]);
+                break;
+            case "-t":
+                tolerance = Double.parseDouble(args[++i]);
+                break;
+            default:
+                files.add(new File(args[i]));
+            }
+        }
+        if (files.isEmpty()) {
+            files.add(new File(DATA_DIR));
+        }
+        List<File> logs = expand(files);
+        Properties results = run(logs, iterations, warmups);
+        store(results, resultFile);
+        System.out.println("lines/sec: " + results.getProperty(TOTAL + ".linesPerSec") + " MB/sec: "
+                + results.getProperty(TOTAL + ".mbPerSec") + " peak heap: "
+                + results.getProperty(TOTAL + ".peakHeapBytes") + " alloc bytes/line: "
+                + results.getProperty(TOTAL + ".allocBytesPerLine") + " (" + logs.size() + " logs, results in "
+                + resultFile + ")");
+        if (baselineFile != null) {
+            if (baselineFile.exists()) {
+                List<String> regressions = compare(load(baselineFile), results, tolerance);
+                for (String regression : regressions) {
+                    System.out.println("REGRESSION " + regression);
+                }
+                if (!regressions.isEmpty()) {
+                    System.exit(1);
+                }
+            } else {
+                store(results, baselineFile);
+                System.out.println("baseline saved to " + baselineFile);
+            }
+        }
+    }
+
+    private static long peakHeapBytes() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Benchmark a single gc log.
+     *
+     * @param log
+     *            The gc log.
+     * @param report
+     *            The (throwaway) report file.
+     * @param iterations
+     *            Number of measured runs. The best run is reported.
+     * @param warmups
+     *            Number of unmeasured runs.
+     * @return The benchmark result.
+     * @throws IOException
+     *             if the log cannot be read or the report cannot be written.
+     */
+    public static Result run(File log, File report, int iterations, int warmups) throws IOException {
+        String[] args = new String[] { "-p", "-o", report.getAbsolutePath(), log.getAbsolutePath() };
+        Result result = new Result();
+        result.bytes = log.length();
+        result.lines = countLines(log);
+        result.millis = Long.MAX_VALUE;
+        result.allocatedBytes = Long.MAX_VALUE;
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < warmups + iterations; i++) {
+            System.gc();
+            resetPeakHeap();
+            long allocatedBefore = threadAllocatedBytes(threadMxBean);
+            long start = System.nanoTime();
+            try {
+                Main.createReport(OptionsParser.parseOptions(args));
+            } catch (org.apache.commons.cli.ParseException e) {
+                throw new IllegalArgumentException(e);
+            }
+            long millis = (System.nanoTime() - start) / 1000000;
+            long allocated = threadAllocatedBytes(threadMxBean) - allocatedBefore;
+            result.peakHeapBytes = Math.max(result.peakHeapBytes, peakHeapBytes());
+            if (i >= warmups) {
+                result.millis = Math.min(result.millis, millis);
+                result.allocatedBytes = Math.min(result.allocatedBytes, allocated);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Benchmark gc logs.
+     *
+     * @param logs
+     *            The gc logs.
+     * @param iterations
+     *            Number of measured runs per log.
+     * @param warmups
+     *            Number of unmeasured runs per log.
+     * @return The results for each log and the total.
+     * @throws IOException
+     *             if a log cannot be read or the report cannot be written.
+     */
+    public static Properties run(List<File> logs, int iterations, int warmups) throws IOException {
+        Properties results = new Properties();
+        Result total = new Result();
+        File report = File.createTempFile("garbagecat-benchmark", ".txt");
+        try {
+            for (File log : logs) {
+                Result result = run(log, report, iterations, warmups);
+                result.store(results, log.getName());
+                total.lines += result.lines;
+                total.bytes += result.bytes;
+                total.millis += result.millis;
+                total.allocatedBytes += result.allocatedBytes;
+                total.peakHeapBytes = Math.max(total.peakHeapBytes, result.peakHeapBytes);
+            }
+        } finally {
+            report.delete();
+        }
+        total.store(results, TOTAL);
+        return results;
+    }
+
+    private static void store(Properties results, File file) throws IOException {
+        try (OutputStream out = new FileOutputStream(file)) {
+            results.store(out, "garbagecat benchmark");
+        }
+    }
+
+    /**
+     * @return The bytes allocated by the current thread, or 0 if the JVM does not support allocation measurement.
+     */
+    private static long threadAllocatedBytes(ThreadMXBean threadMxBean) {
+        if (threadMxBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreadMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+            if (sunThreadMxBean.isThreadAllocatedMemorySupported()
+                    && sunThreadMxBean.isThreadAllocatedMemoryEnabled()) {
+                return sunThreadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return 0;
+    }
+}
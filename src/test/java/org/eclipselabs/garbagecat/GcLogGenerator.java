@@ -0,0 +1,847 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+/**
+ * <p>
+ * Synthetic gc log generator for scale testing. Writes syntactically valid gc logging of any size for the collector
+ * families and decorators garbagecat parses. The line templates are modeled on the logging examples documented in the
+ * <code>org.eclipselabs.garbagecat.domain.jdk</code> and <code>org.eclipselabs.garbagecat.domain.jdk.unified</code>
+ * event classes.
+ * </p>
+ *
+ * <p>
+ * Unified logging is generated as <code>-Xlog:gc,gc+init,safepoint</code> (JDK17, or JDK11 for CMS) output with the
+ * <code>uptime</code> or <code>time,uptime</code> decorators. Legacy logging is generated as JDK8
+ * <code>-XX:+PrintGCDetails -XX:+PrintGCTimeStamps</code> output with or without <code>-XX:+PrintGCDateStamps</code>,
+ * and safepoint logging as <code>-XX:+PrintGCApplicationStoppedTime -XX:+PrintGCApplicationConcurrentTime</code>. Z
+ * has no legacy logging.
+ * </p>
+ *
+ * <p>
+ * Values (sizes, durations, intervals) are pseudo-random from a fixed seed, so the same arguments produce the same
+ * log.
+ * </p>
+ *
+ * <pre>
+ * GcLogGenerator -c SERIAL|PARALLEL|CMS|G1|SHENANDOAH|Z -f UNIFIED|LEGACY [-d] [-s] [-b SIZE[K|M|G]] [-r SEED] FILE
+ * </pre>
+ *
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ *
+ */
+public class GcLogGenerator {
+
+    /**
+     * Collector families that can be generated.
+     */
+    public enum Collector {
+        CMS, G1, PARALLEL, SERIAL, SHENANDOAH, Z
+    }
+
+    /**
+     * Logging formats that can be generated.
+     */
+    public enum Format {
+        LEGACY, UNIFIED
+    }
+
+    /**
+     * Heap capacity in kilobytes.
+     */
+    private static final long HEAP = 4 * 1024 * 1024;
+
+    /**
+     * JVM start date (datestamp decorator base).
+     */
+    private static final long START = 1704085200000L;
+
+    /**
+     * Young generation capacity in kilobytes.
+     */
+    private static final long YOUNG = HEAP / 4;
+
+    /**
+     * Tracks bytes written.
+     */
+    private long bytes;
+
+    private final Collector collector;
+
+    private final boolean datestamps;
+
+    private final SimpleDateFormat datestampFormat;
+
+    /**
+     * The formatted datestamp to the second and the second it represents (formatting is expensive).
+     */
+    private String datestampSecond;
+
+    private long datestampSecondMillis = -1;
+
+    private final Format format;
+
+    /**
+     * The last generated duration in microseconds.
+     */
+    private int duration;
+
+    /**
+     * GC event number (unified logging).
+     */
+    private int gc;
+
+    /**
+     * Old generation occupancy in kilobytes.
+     */
+    private long old = HEAP / 8;
+
+    private final Random random;
+
+    private final boolean safepoint;
+
+    /**
+     * Milliseconds since JVM start.
+     */
+    private long uptime = 10;
+
+    private Writer writer;
+
+    /**
+     * @param collector
+     *            The collector family.
+     * @param format
+     *            The logging format.
+     * @param datestamps
+     *            Whether to include datestamps.
+     * @param safepoint
+     *            Whether to include safepoint logging.
+     * @param seed
+     *            The random seed.
+     */
+    public GcLogGenerator(Collector collector, Format format, boolean datestamps, boolean safepoint, long seed) {
+        if (collector == Collector.Z && format == Format.LEGACY) {
+            throw new IllegalArgumentException("Z has no legacy logging.");
+        }
+        this.collector = collector;
+        this.format = format;
+        this.datestamps = datestamps;
+        this.safepoint = safepoint;
+        this.random = new Random(seed);
+        datestampFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.ROOT);
+        datestampFormat.setTimeZone(TimeZone.getTimeZone("GMT-05:00"));
+    }
+
+    /**
+     * Advance the clock.
+     *
+     * @param min
+     *            Minimum milliseconds.
+     * @param max
+     *            Maximum milliseconds.
+     */
+    private void advance(int min, int max) {
+        uptime += min + random.nextInt(max - min + 1);
+    }
+
+    private void cmsLegacy() throws IOException {
+        parNewLegacy();
+        if (old > HEAP * 3 / 5) {
+            line(prefix() + "[GC (CMS Initial Mark) [1 CMS-initial-mark: " + old + "K(" + (HEAP - YOUNG) + "K)] "
+                    + (old + kb(YOUNG / 4)) + "K(" + HEAP + "K), " + secs(2, 20) + "] " + times());
+            stoppedLegacy();
+            concurrentLegacy("CMS-concurrent-mark", true);
+            concurrentLegacy("CMS-concurrent-preclean", true);
+            long young = kb(YOUNG / 2);
+            String prefix = prefix();
+            line(prefix + "[GC (CMS Final Remark) [YG occupancy: " + young + " K (" + YOUNG + " K)]" + prefix
+                    + "[Rescan (parallel) , " + secs(5, 30) + "]" + prefix + "[weak refs processing, " + secs(0, 2)
+                    + "]" + prefix + "[class unloading, " + secs(1, 6) + "]" + prefix + "[scrub symbol table, "
+                    + secs(1, 8) + "]" + prefix + "[scrub string table, " + secs(0, 2) + "][1 CMS-remark: " + old
+                    + "K(" + (HEAP - YOUNG) + "K)] " + (old + young) + "K(" + HEAP + "K), " + secs(10, 50) + "] "
+                    + times());
+            stoppedLegacy();
+            concurrentLegacy("CMS-concurrent-sweep", true);
+            old = HEAP / 8 + kb(HEAP / 8);
+            concurrentLegacy("CMS-concurrent-reset", true);
+        }
+    }
+
+    private void cmsUnified() throws IOException {
+        youngUnified("Pause Young (Allocation Failure)", "GenCollectForAllocation");
+        if (old > HEAP * 3 / 5) {
+            pauseUnified("Pause Initial Mark " + mb(old) + "M->" + mb(old) + "M(" + mb(HEAP) + "M) " + ms(1, 20),
+                    "CMS_Initial_Mark");
+            concurrentUnified("Concurrent Mark");
+            concurrentUnified("Concurrent Preclean");
+            pauseUnified("Pause Remark " + mb(old) + "M->" + mb(old) + "M(" + mb(HEAP) + "M) " + ms(5, 50),
+                    "CMS_Final_Remark");
+            concurrentUnified("Concurrent Sweep");
+            old = HEAP / 8 + kb(HEAP / 8);
+            concurrentUnified("Concurrent Reset");
+            gc++;
+        }
+    }
+
+    /**
+     * A legacy (start/end) concurrent phase.
+     */
+    private void concurrentLegacy(String phase, boolean times) throws IOException {
+        advance(1, 5);
+        line(prefix() + "[" + phase + "-start]");
+        advance(10, 500);
+        int cpu = 1 + random.nextInt(400);
+        int wall = cpu + random.nextInt(500);
+        uptime += wall + 1;
+        line(prefix() + "[" + phase + ": " + decimal(cpu, 3) + "/" + decimal(wall, 3) + " secs]"
+                + (times ? " " + times() : ""));
+    }
+
+    /**
+     * A unified (start/end) concurrent phase.
+     */
+    private void concurrentUnified(String phase) throws IOException {
+        advance(1, 5);
+        line(decorator("gc,marking") + "GC(" + gc + ") " + phase);
+        advance(10, 500);
+        line(decorator("gc,marking") + "GC(" + gc + ") " + phase + " " + ms(10, 500));
+    }
+
+    /**
+     * @return The datestamp for the current time.
+     */
+    private String datestamp() {
+        long millis = START + uptime;
+        if (millis / 1000 != datestampSecondMillis) {
+            datestampSecondMillis = millis / 1000;
+            datestampSecond = datestampFormat.format(new Date(datestampSecondMillis * 1000));
+        }
+        return datestampSecond + "." + decimal(millis % 1000 + 1000, 3).substring(2) + "-0500";
+    }
+
+    /**
+     * @param value
+     *            An unscaled value.
+     * @param scale
+     *            The number of decimal places.
+     * @return The value formatted as a decimal number (e.g. 12345, 3 = "12.345"). Faster than String.format.
+     */
+    private static String decimal(long value, int scale) {
+        long divisor = 1;
+        for (int i = 0; i < scale; i++) {
+            divisor *= 10;
+        }
+        String fraction = Long.toString(value % divisor + divisor);
+        return (value / divisor) + "." + fraction.substring(1);
+    }
+
+    /**
+     * @param tags
+     *            The unified logging tags.
+     * @return The unified logging decorator.
+     */
+    private String decorator(String tags) {
+        StringBuilder decorator = new StringBuilder(64);
+        if (datestamps) {
+            decorator.append('[').append(datestamp()).append(']');
+        }
+        decorator.append('[').append(uptime()).append("s][info][").append(tags);
+        for (int i = tags.length(); i < 12; i++) {
+            decorator.append(' ');
+        }
+        return decorator.append("] ").toString();
+    }
+
+    private void g1Legacy() throws IOException {
+        long before = old + kb(YOUNG);
+        old += kb(YOUNG / 8);
+        if (old > HEAP * 3 / 5) {
+            line(prefix() + "[GC pause (G1 Evacuation Pause) (young) (initial-mark) " + mb(before) + "M->" + mb(old)
+                    + "M(" + mb(HEAP) + "M), " + secs(10, 100) + "]");
+            stoppedLegacy();
+            advance(1, 5);
+            line(prefix() + "[GC concurrent-root-region-scan-start]");
+            advance(5, 50);
+            line(prefix() + "[GC concurrent-root-region-scan-end, " + secs(5, 50) + "]");
+            advance(1, 5);
+            line(prefix() + "[GC concurrent-mark-start]");
+            advance(100, 900);
+            line(prefix() + "[GC concurrent-mark-end, " + secs(100, 900) + "]");
+            line(prefix() + "[GC remark, " + secs(5, 50) + "]");
+            stoppedLegacy();
+            advance(1, 5);
+            long cleanup = old - kb(old / 4);
+            line(prefix() + "[GC cleanup " + mb(old) + "M->" + mb(cleanup) + "M(" + mb(HEAP) + "M), " + secs(1, 5)
+                    + "]");
+            stoppedLegacy();
+            old = cleanup;
+            line(prefix() + "[GC concurrent-cleanup-start]");
+            advance(1, 5);
+            line(prefix() + "[GC concurrent-cleanup-end, " + secs(0, 2) + "]");
+            before = old + kb(YOUNG);
+            old = HEAP / 8 + kb(HEAP / 8);
+            line(prefix() + "[GC pause (G1 Evacuation Pause) (mixed) " + mb(before) + "M->" + mb(old) + "M("
+                    + mb(HEAP) + "M), " + secs(10, 200) + "]");
+        } else {
+            line(prefix() + "[GC pause (G1 Evacuation Pause) (young) " + mb(before) + "M->" + mb(old) + "M("
+                    + mb(HEAP) + "M), " + secs(5, 100) + "]");
+        }
+        stoppedLegacy();
+    }
+
+    private void g1Unified() throws IOException {
+        if (old > HEAP * 3 / 5) {
+            youngUnified("Pause Young (Concurrent Start) (G1 Humongous Allocation)", "G1CollectForAllocation");
+            line(decorator("gc") + "GC(" + gc + ") Concurrent Cycle");
+            concurrentUnified("Concurrent Scan Root Regions");
+            concurrentUnified("Concurrent Mark From Roots");
+            pauseUnified("Pause Remark " + mb(old) + "M->" + mb(old) + "M(" + mb(HEAP) + "M) " + ms(5, 50),
+                    "G1PauseRemark");
+            concurrentUnified("Concurrent Rebuild Remembered Sets");
+            long cleanup = old - kb(old / 4);
+            pauseUnified("Pause Cleanup " + mb(old) + "M->" + mb(cleanup) + "M(" + mb(HEAP) + "M) " + ms(1, 5),
+                    "G1PauseCleanup");
+            old = cleanup;
+            concurrentUnified("Concurrent Cleanup for Next Mark");
+            line(decorator("gc") + "GC(" + gc + ") Concurrent Cycle " + ms(200, 2000));
+            gc++;
+            youngUnified("Pause Young (Prepare Mixed) (G1 Evacuation Pause)", "G1CollectForAllocation");
+            old = HEAP / 8 + kb(HEAP / 8);
+            youngUnified("Pause Young (Mixed) (G1 Evacuation Pause)", "G1CollectForAllocation");
+        } else {
+            youngUnified("Pause Young (Normal) (G1 Evacuation Pause)", "G1CollectForAllocation");
+        }
+    }
+
+    /**
+     * Write the legacy logging header.
+     */
+    private void headerLegacy() throws IOException {
+        StringBuilder flags = new StringBuilder("CommandLine flags: -XX:InitialHeapSize=").append(HEAP * 1024)
+                .append(" -XX:MaxHeapSize=").append(HEAP * 1024).append(" -XX:+PrintGC");
+        if (collector != Collector.G1) {
+            // G1 is generated without details to get single line events
+            flags.append(" -XX:+PrintGCDetails");
+        }
+        if (datestamps) {
+            flags.append(" -XX:+PrintGCDateStamps");
+        }
+        flags.append(" -XX:+PrintGCTimeStamps");
+        if (safepoint) {
+            flags.append(" -XX:+PrintGCApplicationConcurrentTime -XX:+PrintGCApplicationStoppedTime");
+        }
+        switch (collector) {
+        case CMS:
+            flags.append(" -XX:+UseConcMarkSweepGC -XX:+UseParNewGC");
+            break;
+        case G1:
+            flags.append(" -XX:+UseG1GC");
+            break;
+        case PARALLEL:
+            flags.append(" -XX:+UseParallelGC");
+            break;
+        case SERIAL:
+            flags.append(" -XX:+UseSerialGC");
+            break;
+        case SHENANDOAH:
+        default:
+            flags.append(" -XX:+UseShenandoahGC");
+            break;
+        }
+        line(flags.toString());
+    }
+
+    /**
+     * Write the unified logging header.
+     */
+    private void headerUnified() throws IOException {
+        String name;
+        switch (collector) {
+        case CMS:
+            name = "Concurrent Mark Sweep";
+            break;
+        case G1:
+            name = "G1";
+            break;
+        case PARALLEL:
+            name = "Parallel";
+            break;
+        case SERIAL:
+            name = "Serial";
+            break;
+        case SHENANDOAH:
+            name = "Shenandoah";
+            break;
+        case Z:
+        default:
+            name = "The Z Garbage Collector";
+            break;
+        }
+        line(decorator("gc") + "Using " + name);
+        if (collector != Collector.CMS) {
+            line(decorator("gc,init") + "Version: 17.0.9+9-LTS (release)");
+            line(decorator("gc,init") + "CPUs: 8 total, 8 available");
+            line(decorator("gc,init") + "Memory: 31888M");
+            line(decorator("gc,init") + "Heap Min Capacity: " + mb(HEAP) + "M");
+            line(decorator("gc,init") + "Heap Initial Capacity: " + mb(HEAP) + "M");
+            line(decorator("gc,init") + "Heap Max Capacity: " + mb(HEAP) + "M");
+        }
+    }
+
+    /**
+     * @param max
+     *            The upper bound.
+     * @return A random number of kilobytes between 0 (inclusive) and max (exclusive).
+     */
+    private long kb(long max) {
+        return (long) (random.nextDouble() * max);
+    }
+
+    private void line(String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+        bytes += line.length() + 1;
+    }
+
+    public static void main(String... args) throws IOException {
+        Collector collector = Collector.G1;
+        Format format = Format.UNIFIED;
+        boolean datestamps = false;
+        boolean safepoint = false;
+        long size = 1024 * 1024;
+        long seed = 1;
+        File file = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+            case "-c":
+                collector = Collector.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                break;
+            case "-f":
+                format = Format.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                break;
+            case "-d":
+                datestamps = true;
+                break;
+            case "-s":
+                safepoint = true;
+                break;
+            case "-b":
+                size = parseSize(args[++i]);
+                break;
+            case "-r":
+                seed = Long.parseLong(args[++i]);
+                break;
+            default:
+                file = new File(args[i]);
+            }
+        }
+        if (file == null) {
+            System.out.println("GcLogGenerator -c SERIAL|PARALLEL|CMS|G1|SHENANDOAH|Z -f UNIFIED|LEGACY [-d] [-s] "
+                    + "[-b SIZE[K|M|G]] [-r SEED] FILE");
+            return;
+        }
+        long written = new GcLogGenerator(collector, format, datestamps, safepoint, seed).write(file, size);
+        System.out.println(file + ": " + written + " bytes");
+    }
+
+    /**
+     * @param kilobytes
+     *            Kilobytes.
+     * @return Megabytes.
+     */
+    private static long mb(long kilobytes) {
+        return kilobytes / 1024;
+    }
+
+    /**
+     * @return A random duration in milliseconds formatted as unified logging (e.g. "1.234ms"). The clock is advanced
+     *         by the duration.
+     */
+    private String ms(int min, int max) {
+        int micros = min * 1000 + random.nextInt((max - min) * 1000 + 1);
+        duration = micros;
+        uptime += micros / 1000 + 1;
+        return decimal(micros, 3) + "ms";
+    }
+
+    private void parallelLegacy() throws IOException {
+        long youngBefore = YOUNG - kb(YOUNG / 8);
+        long youngAfter = kb(YOUNG / 16);
+        long promoted = kb(YOUNG / 8);
+        if (old + promoted > HEAP * 3 / 4) {
+            long oldAfter = HEAP / 8 + kb(HEAP / 8);
+            line(prefix() + "[Full GC (Ergonomics) [PSYoungGen: " + youngBefore + "K->0K(" + YOUNG + "K)] [ParOldGen: "
+                    + old + "K->" + oldAfter + "K(" + (HEAP - YOUNG) + "K)] " + (youngBefore + old) + "K->" + oldAfter
+                    + "K(" + HEAP + "K), [Metaspace: 20526K->20526K(1069056K)], " + secs(200, 2000) + "] "
+                    + times());
+            old = oldAfter;
+        } else {
+            line(prefix() + "[GC (Allocation Failure) [PSYoungGen: " + youngBefore + "K->" + youngAfter + "K(" + YOUNG
+                    + "K)] " + (youngBefore + old) + "K->" + (youngAfter + old + promoted) + "K(" + HEAP + "K), "
+                    + secs(5, 200) + "] " + times());
+            old += promoted;
+        }
+        stoppedLegacy();
+    }
+
+    private void parNewLegacy() throws IOException {
+        long youngBefore = YOUNG - kb(YOUNG / 8);
+        long youngAfter = kb(YOUNG / 16);
+        long promoted = kb(YOUNG / 8);
+        String prefix = prefix();
+        String duration = secs(5, 200);
+        line(prefix + "[GC (Allocation Failure) " + prefix + "[ParNew: " + youngBefore + "K->" + youngAfter + "K("
+                + YOUNG + "K), " + duration + "] " + (youngBefore + old) + "K->" + (youngAfter + old + promoted) + "K("
+                + HEAP + "K), " + duration + "] " + times());
+        old += promoted;
+        stoppedLegacy();
+    }
+
+    /**
+     * @param size
+     *            A size with an optional K, M, or G suffix.
+     * @return The size in bytes.
+     */
+    public static long parseSize(String size) {
+        char unit = Character.toUpperCase(size.charAt(size.length() - 1));
+        long multiplier = 1;
+        if (unit == 'K') {
+            multiplier = 1024;
+        } else if (unit == 'M') {
+            multiplier = 1024 * 1024;
+        } else if (unit == 'G') {
+            multiplier = 1024 * 1024 * 1024;
+        }
+        return Long.parseLong(multiplier == 1 ? size : size.substring(0, size.length() - 1)) * multiplier;
+    }
+
+    /**
+     * A unified pause event followed by the safepoint it ran in.
+     */
+    private void pauseUnified(String event, String vmOperation) throws IOException {
+        advance(1, 50);
+        line(decorator("gc") + "GC(" + gc + ") " + event);
+        safepointUnified(vmOperation);
+    }
+
+    /**
+     * @return The legacy logging datestamp and/or timestamp prefix.
+     */
+    private String prefix() {
+        if (datestamps) {
+            return datestamp() + ": " + uptime() + ": ";
+        }
+        return uptime() + ": ";
+    }
+
+    /**
+     * A unified safepoint event.
+     */
+    private void safepointUnified(String vmOperation) throws IOException {
+        if (!safepoint) {
+            return;
+        }
+        if (collector == Collector.CMS) {
+            // JDK11
+            line(decorator("safepoint") + "Entering safepoint region: " + vmOperation);
+            String stopped = stopped();
+            String stopping = seconds(0, 1);
+            line(decorator("safepoint") + "Leaving safepoint region");
+            line(decorator("safepoint") + "Total time for which application threads were stopped: " + stopped
+                    + " seconds, Stopping threads took: " + stopping + " seconds");
+        } else {
+            int reaching = random.nextInt(100000) + 100;
+            int at = duration * 1000 + random.nextInt(1000000) + 1000;
+            uptime += (reaching + at) / 1000000 + 1;
+            line(decorator("safepoint") + "Safepoint \"" + vmOperation + "\", Time since last: "
+                    + (random.nextInt(1000000000) + 1000) + " ns, Reaching safepoint: " + reaching
+                    + " ns, At safepoint: " + at + " ns, Total: " + (reaching + at) + " ns");
+        }
+    }
+
+    /**
+     * @return A random duration in seconds with 7 decimal places (e.g. "0.0123456"). The clock is advanced by the
+     *         duration.
+     */
+    private String seconds(int minMillis, int maxMillis) {
+        int tenthMicros = minMillis * 10000 + random.nextInt((maxMillis - minMillis) * 10000 + 1);
+        duration = tenthMicros / 10;
+        uptime += tenthMicros / 10000 + 1;
+        return decimal(tenthMicros, 7);
+    }
+
+    /**
+     * @return A random duration formatted as legacy logging (e.g. "0.0123456 secs").
+     */
+    private String secs(int minMillis, int maxMillis) {
+        return seconds(minMillis, maxMillis) + " secs";
+    }
+
+    private void serialLegacy() throws IOException {
+        long youngBefore = YOUNG - kb(YOUNG / 8);
+        long youngAfter = kb(YOUNG / 16);
+        long promoted = kb(YOUNG / 8);
+        String prefix = prefix();
+        if (old + promoted > HEAP * 3 / 4) {
+            long oldAfter = HEAP / 8 + kb(HEAP / 8);
+            String duration = secs(200, 2000);
+            line(prefix + "[Full GC (Allocation Failure) " + prefix + "[Tenured: " + old + "K->" + oldAfter + "K("
+                    + (HEAP - YOUNG) + "K), " + duration + "] " + (youngBefore + old) + "K->" + oldAfter + "K(" + HEAP
+                    + "K), [Metaspace: 20526K->20526K(1069056K)], " + duration + "] " + times());
+            old = oldAfter;
+        } else {
+            String duration = secs(5, 200);
+            line(prefix + "[GC (Allocation Failure) " + prefix + "[DefNew: " + youngBefore + "K->" + youngAfter + "K("
+                    + YOUNG + "K), " + duration + "] " + (youngBefore + old) + "K->" + (youngAfter + old + promoted)
+                    + "K(" + HEAP + "K), " + duration + "] " + times());
+            old += promoted;
+        }
+        stoppedLegacy();
+    }
+
+    private void shenandoahLegacy() throws IOException {
+        old += kb(YOUNG);
+        String size = old + "K->" + (old + kb(YOUNG / 16)) + "K(" + HEAP + "K), ";
+        line(prefix() + "[Pause Init Mark, " + ms(0, 2).replace("ms", " ms") + "]");
+        stoppedLegacy();
+        advance(1, 5);
+        line(prefix() + "[Concurrent marking " + size + ms(10, 500).replace("ms", " ms") + "]");
+        line(prefix() + "[Pause Final Mark, " + ms(0, 2).replace("ms", " ms") + "]");
+        stoppedLegacy();
+        advance(1, 5);
+        line(prefix() + "[Concurrent evacuation " + size + ms(10, 500).replace("ms", " ms") + "]");
+        line(prefix() + "[Pause Init Update Refs, " + ms(0, 1).replace("ms", " ms") + "]");
+        stoppedLegacy();
+        advance(1, 5);
+        line(prefix() + "[Concurrent update references " + size + ms(10, 500).replace("ms", " ms") + "]");
+        line(prefix() + "[Pause Final Update Refs, " + ms(0, 2).replace("ms", " ms") + "]");
+        stoppedLegacy();
+        long after = HEAP / 8 + kb(HEAP / 8);
+        line(prefix() + "[Concurrent cleanup " + old + "K->" + after + "K(" + HEAP + "K), "
+                + ms(0, 1).replace("ms", " ms") + "]");
+        old = after;
+    }
+
+    private void shenandoahUnified() throws IOException {
+        old += kb(YOUNG);
+        line(decorator("gc") + "Trigger: Free (" + mb(HEAP - old) + "M) is below minimum threshold ("
+                + mb(HEAP / 10) + "M)");
+        pauseUnified("Pause Init Mark " + ms(0, 2), "ShenandoahInitMark");
+        advance(10, 500);
+        line(decorator("gc") + "GC(" + gc + ") Concurrent marking " + mb(old) + "M->" + mb(old) + "M(" + mb(HEAP)
+                + "M) " + ms(10, 500));
+        pauseUnified("Pause Final Mark " + ms(0, 2), "ShenandoahFinalMarkStartEvac");
+        advance(10, 500);
+        line(decorator("gc") + "GC(" + gc + ") Concurrent evacuation " + mb(old) + "M->" + mb(old) + "M(" + mb(HEAP)
+                + "M) " + ms(10, 500));
+        pauseUnified("Pause Init Update Refs " + ms(0, 1), "ShenandoahInitUpdateRefs");
+        advance(10, 500);
+        line(decorator("gc") + "GC(" + gc + ") Concurrent update references " + mb(old) + "M->" + mb(old) + "M("
+                + mb(HEAP) + "M) " + ms(10, 500));
+        pauseUnified("Pause Final Update Refs " + ms(0, 2), "ShenandoahFinalUpdateRefs");
+        long after = HEAP / 8 + kb(HEAP / 8);
+        line(decorator("gc") + "GC(" + gc + ") Concurrent cleanup " + mb(old) + "M->" + mb(after) + "M(" + mb(HEAP)
+                + "M) " + ms(0, 1));
+        old = after;
+        gc++;
+    }
+
+    /**
+     * Legacy safepoint logging following a pause.
+     */
+    private void stoppedLegacy() throws IOException {
+        if (safepoint) {
+            // Logged when the safepoint ends
+            String stopped = stopped();
+            String stopping = seconds(0, 1);
+            line(prefix() + "Total time for which application threads were stopped: " + stopped
+                    + " seconds, Stopping threads took: " + stopping + " seconds");
+        }
+    }
+
+    /**
+     * @return The time the application threads were stopped for the last pause, in seconds with 7 decimal places
+     *         (e.g. "0.0123456"). The clock is advanced by the safepoint overhead.
+     */
+    private String stopped() {
+        int overhead = random.nextInt(2000);
+        int micros = duration + overhead;
+        uptime += overhead / 1000;
+        return decimal(micros * 10L, 7);
+    }
+
+    /**
+     * @return Legacy logging times data block for the last pause (4 parallel gc threads).
+     */
+    private String times() {
+        int real = (duration + 5000) / 10000;
+        int user = real * 4 + random.nextInt(2);
+        return "[Times: user=" + decimal(user, 2) + " sys=" + decimal(real / 10, 2) + ", real=" + decimal(real, 2)
+                + " secs]";
+    }
+
+    /**
+     * @return Seconds since JVM start with millisecond precision.
+     */
+    private String uptime() {
+        return decimal(uptime, 3);
+    }
+
+    /**
+     * Write a gc log.
+     *
+     * @param file
+     *            The log file.
+     * @param size
+     *            The approximate size in bytes. Generation stops at the end of the first gc cycle that reaches it.
+     * @return The number of bytes written.
+     * @throws IOException
+     *             if the file cannot be written.
+     */
+    public long write(File file, long size) throws IOException {
+        try (Writer out = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.US_ASCII), 1 << 16)) {
+            return write(out, size);
+        }
+    }
+
+    /**
+     * Write gc logging.
+     *
+     * @param out
+     *            The destination.
+     * @param size
+     *            The approximate size in bytes. Generation stops at the end of the first gc cycle that reaches it.
+     * @return The number of bytes written.
+     * @throws IOException
+     *             if the destination cannot be written.
+     */
+    public long write(Writer out, long size) throws IOException {
+        writer = out;
+        bytes = 0;
+        if (format == Format.UNIFIED) {
+            headerUnified();
+        } else {
+            headerLegacy();
+        }
+        while (bytes < size) {
+            advance(100, 2000);
+            if (safepoint && format == Format.LEGACY) {
+                line(prefix() + "Application time: " + seconds(100, 2000) + " seconds");
+            }
+            switch (collector) {
+            case CMS:
+                if (format == Format.UNIFIED) {
+                    cmsUnified();
+                } else {
+                    cmsLegacy();
+                }
+                break;
+            case G1:
+                if (format == Format.UNIFIED) {
+                    g1Unified();
+                } else {
+                    g1Legacy();
+                }
+                break;
+            case PARALLEL:
+                if (format == Format.UNIFIED) {
+                    youngOrFullUnified("ParallelGCFailedAllocation", "Ergonomics");
+                } else {
+                    parallelLegacy();
+                }
+                break;
+            case SERIAL:
+                if (format == Format.UNIFIED) {
+                    youngOrFullUnified("GenCollectForAllocation", "Allocation Failure");
+                } else {
+                    serialLegacy();
+                }
+                break;
+            case SHENANDOAH:
+                if (format == Format.UNIFIED) {
+                    shenandoahUnified();
+                } else {
+                    shenandoahLegacy();
+                }
+                break;
+            case Z:
+            default:
+                zUnified();
+                break;
+            }
+        }
+        out.flush();
+        return bytes;
+    }
+
+    /**
+     * A unified young collection, or a full collection when the old generation is nearly full.
+     */
+    private void youngOrFullUnified(String vmOperation, String fullTrigger) throws IOException {
+        if (old > HEAP * 3 / 4) {
+            long before = old + kb(YOUNG);
+            old = HEAP / 8 + kb(HEAP / 8);
+            pauseUnified("Pause Full (" + fullTrigger + ") " + mb(before) + "M->" + mb(old) + "M(" + mb(HEAP) + "M) "
+                    + ms(200, 2000), vmOperation);
+        } else {
+            youngUnified("Pause Young (Allocation Failure)", vmOperation);
+        }
+    }
+
+    /**
+     * A unified young collection.
+     */
+    private void youngUnified(String event, String vmOperation) throws IOException {
+        long before = old + YOUNG - kb(YOUNG / 8);
+        old += kb(YOUNG / 8);
+        pauseUnified(event + " " + mb(before) + "M->" + mb(old) + "M(" + mb(HEAP) + "M) " + ms(5, 200), vmOperation);
+        gc++;
+    }
+
+    private void zUnified() throws IOException {
+        old += kb(YOUNG);
+        line(decorator("gc") + "GC(" + gc + ") Garbage Collection (Allocation Rate)");
+        pauseUnified("Pause Mark Start " + ms(0, 1), "ZMarkStart");
+        advance(10, 500);
+        line(decorator("gc,phases") + "GC(" + gc + ") Concurrent Mark " + ms(10, 500));
+        pauseUnified("Pause Mark End " + ms(0, 1), "ZMarkEnd");
+        line(decorator("gc,phases") + "GC(" + gc + ") Concurrent Mark Free " + ms(0, 1));
+        advance(1, 20);
+        line(decorator("gc,phases") + "GC(" + gc + ") Concurrent Process Non-Strong References " + ms(1, 20));
+        line(decorator("gc,phases") + "GC(" + gc + ") Concurrent Reset Relocation Set " + ms(0, 1));
+        advance(1, 20);
+        line(decorator("gc,phases") + "GC(" + gc + ") Concurrent Select Relocation Set " + ms(1, 20));
+        pauseUnified("Pause Relocate Start " + ms(0, 1), "ZRelocateStart");
+        advance(1, 50);
+        line(decorator("gc,phases") + "GC(" + gc + ") Concurrent Relocate " + ms(1, 50));
+        long after = HEAP / 8 + kb(HEAP / 8);
+        line(decorator("gc") + "GC(" + gc + ") Garbage Collection (Allocation Rate) " + mb(old) + "M("
+                + (old * 100 / HEAP) + "%)->" + mb(after) + "M(" + (after * 100 / HEAP) + "%)");
+        old = after;
+        gc++;
+    }
+}
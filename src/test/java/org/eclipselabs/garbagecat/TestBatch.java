@@ -0,0 +1,82 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.ParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestBatch {
+
+    @Test
+    void testBatch(@TempDir File temporaryFolder) throws IOException, ParseException {
+        File logDir = new File(temporaryFolder, "logs");
+        File hostDir = new File(logDir, "host1");
+        assertTrue(hostDir.mkdirs(), "Log directory not created.");
+        Files.copy(TestUtil.getFile("dataset283.txt").toPath(), new File(logDir, "gc.log").toPath());
+        Files.copy(TestUtil.getFile("dataset200.txt").toPath(), new File(hostDir, "gc.log").toPath());
+        Files.write(new File(hostDir, "gc.log" + ".snapshot").toPath(), new byte[] { 0 });
+        File batchDir = new File(temporaryFolder, "reports");
+        CommandLine cmd = OptionsParser.parseOptions(new String[] { "--batch", batchDir.getPath(), "--threads", "2",
+                "-p", logDir.getPath(), new File(logDir, "*.log").getPath() });
+        Batch.run(cmd);
+        List<String> summary = Files.readAllLines(new File(batchDir, Batch.SUMMARY_FILE_NAME).toPath());
+        assertEquals("Fleet Summary: 2 gc logs analyzed", summary.get(0), "Summary header not correct.");
+        assertEquals(4, summary.size(), "Summary rows not correct.");
+        assertEquals(3, batchDir.list().length, "Report count not correct.");
+    }
+
+    @Test
+    void testRanking() {
+        Batch.Result throughput = result(90, 100, 0);
+        Batch.Result pause = result(95, 200, 0);
+        Batch.Result findings = result(95, 100, 2);
+        Batch.Result best = result(95, 100, 1);
+        List<Batch.Result> results = Arrays.asList(best, findings, pause, throughput);
+        results.sort(Batch.RANKING);
+        assertEquals(Arrays.asList(throughput, pause, findings, best), results, "Ranking not correct.");
+    }
+
+    @Test
+    void testReportFileName() {
+        Set<String> names = new HashSet<String>();
+        assertEquals("logs_host1_gc.log.txt", Batch.reportFileName(new File("./logs/host1/gc.log"), names),
+                "Report file name not correct.");
+        assertEquals("logs_host1_gc.log-2.txt", Batch.reportFileName(new File("logs/host1:gc.log"), names),
+                "Duplicate report file name not made unique.");
+    }
+
+    private static Batch.Result result(long gcThroughput, long gcPauseMax, int findings) {
+        Batch.Result result = new Batch.Result(null);
+        result.setGcThroughput(gcThroughput);
+        result.setGcPauseMax(gcPauseMax);
+        result.setFindings(findings);
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestBenchmark {
+
+    @Test
+    void testCompareRegression() {
+        Properties baseline = new Properties();
+        baseline.setProperty("total.millis", "1000");
+        baseline.setProperty("total.linesPerSec", "1000.0");
+        baseline.setProperty("total.allocBytesPerLine", "500.0");
+        Properties current = new Properties();
+        current.setProperty("total.millis", "1500");
+        current.setProperty("total.linesPerSec", "700.0");
+        current.setProperty("total.allocBytesPerLine", "520.0");
+        List<String> regressions = Benchmark.compare(baseline, current, 10);
+        assertEquals(1, regressions.size(), "Regression count not correct.");
+        assertTrue(regressions.get(0).startsWith("total.linesPerSec"), "Throughput regression not identified.");
+    }
+
+    @Test
+    void testCompareShortRunsIgnored() {
+        Properties baseline = new Properties();
+        baseline.setProperty("dataset1.txt.millis", "5");
+        baseline.setProperty("dataset1.txt.linesPerSec", "1000.0");
+        Properties current = new Properties();
+        current.setProperty("dataset1.txt.millis", "10");
+        current.setProperty("dataset1.txt.linesPerSec", "500.0");
+        assertTrue(Benchmark.compare(baseline, current, 10).isEmpty(), "Noisy short run compared.");
+    }
+
+    @Test
+    void testRun() throws IOException {
+        File dataset = TestUtil.getFile("dataset1.txt");
+        Properties results = Benchmark.run(Arrays.asList(dataset), 1, 0);
+        long lines;
+        try (Stream<String> stream = Files.lines(dataset.toPath())) {
+            lines = stream.count();
+        }
+        assertEquals(Long.toString(lines), results.getProperty("dataset1.txt.lines"), "Line count not correct.");
+        assertEquals(Long.toString(dataset.length()), results.getProperty(Benchmark.TOTAL + ".bytes"),
+                "Byte count not correct.");
+        assertTrue(Double.parseDouble(results.getProperty(Benchmark.TOTAL + ".linesPerSec")) > 0,
+                "Throughput not calculated.");
+    }
+}
@@ -0,0 +1,92 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.GcLogGenerator.Collector;
+import org.eclipselabs.garbagecat.GcLogGenerator.Format;
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGcLogGenerator {
+
+    /**
+     * Generate a small log and verify every line is identified.
+     */
+    private static JvmRun parse(File dir, Collector collector, Format format, boolean datestamps, boolean safepoint)
+            throws IOException {
+        File log = new File(dir, collector + "-" + format + "-" + datestamps + "-" + safepoint + ".log");
+        long bytes = new GcLogGenerator(collector, format, datestamps, safepoint, 1).write(log, 32 * 1024);
+        assertEquals(log.length(), bytes, "Bytes written not correct.");
+        GcManager gcManager = new GcManager();
+        List<String> logLines = gcManager.preprocess(Files.readAllLines(log.toPath()), null);
+        gcManager.store(logLines, false);
+        JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        String name = log.getName();
+        assertEquals(0, jvmRun.getUnidentifiedLogLines().size(),
+                name + " has unidentified lines: " + jvmRun.getUnidentifiedLogLines());
+        assertFalse(jvmRun.getEventTypes().contains(LogEventType.UNKNOWN), name + " has UNKNOWN events.");
+        assertTrue(jvmRun.getBlockingEventCount() > 0, name + " has no blocking events.");
+        if (safepoint) {
+            assertTrue(jvmRun.getStoppedTimeEventCount() > 0 || jvmRun.getUnifiedSafepointEventCount() > 0,
+                    name + " has no safepoint events.");
+        }
+        return jvmRun;
+    }
+
+    @Test
+    void testAllCombinations(@TempDir File dir) throws IOException {
+        for (Collector collector : Collector.values()) {
+            for (Format format : Format.values()) {
+                if (collector == Collector.Z && format == Format.LEGACY) {
+                    continue;
+                }
+                for (boolean datestamps : new boolean[] { false, true }) {
+                    for (boolean safepoint : new boolean[] { false, true }) {
+                        parse(dir, collector, format, datestamps, safepoint);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testParseSize() {
+        assertEquals(10L * 1024 * 1024 * 1024, GcLogGenerator.parseSize("10G"), "Size not correct.");
+        assertEquals(50L * 1024 * 1024, GcLogGenerator.parseSize("50m"), "Size not correct.");
+        assertEquals(123L, GcLogGenerator.parseSize("123"), "Size not correct.");
+    }
+
+    @Test
+    void testZLegacy() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GcLogGenerator(Collector.Z, Format.LEGACY, false, false, 1));
+    }
+}
@@ -28,12 +28,19 @@ import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_THRESHOLD_SHORT;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_LONG;
 import static org.eclipselabs.garbagecat.util.Constants.OPTION_VERBOSE_SHORT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
 
 import org.apache.commons.cli.CommandLine;
 import org.junit.jupiter.api.Test;
@@ -46,6 +53,23 @@ class TestMain {
         assertTrue(cmd.hasOption(option), "'-" + option + "' is a valid option");
     }
 
+    @Test
+    void testDamagedLogLines(@TempDir File temporaryFolder) throws Exception {
+        byte[] bytes = Files.readAllBytes(TestUtil.getFile("dataset283.txt").toPath());
+        // Binary application output interleaved with the gc logging.
+        byte[] damaged = Arrays.copyOf(bytes, bytes.length + 3);
+        damaged[bytes.length] = (byte) 0xff;
+        damaged[bytes.length + 1] = (byte) 0xfe;
+        damaged[bytes.length + 2] = '\n';
+        File logFile = new File(temporaryFolder, "gc.log");
+        Files.write(logFile.toPath(), damaged);
+        File reportFile = new File(temporaryFolder, "report.txt");
+        Main.createReport(OptionsParser.parseOptions(new String[] { "-p", "-o", reportFile.getPath(),
+                logFile.getPath() }));
+        List<String> report = Files.readAllLines(reportFile.toPath());
+        assertTrue(report.contains("# Damaged Log Lines: 1"), "Damaged log line count not reported.");
+    }
+
     @Test
     void testLogFileEqualsReportFile(@TempDir File temporaryFolder) throws Exception {
         // Method arguments
@@ -107,6 +131,37 @@ class TestMain {
         assertHasOption(cmd, OPTION_VERBOSE_LONG);
     }
 
+    @Test
+    void testNotGcLog(@TempDir File temporaryFolder) throws Exception {
+        File logFile = new File(temporaryFolder, "application.log");
+        Files.write(logFile.toPath(), Arrays.asList("Starting application", "Listening on port 8080"));
+        File reportFile = new File(temporaryFolder, "report.txt");
+        CommandLine cmd = OptionsParser.parseOptions(new String[] { "-o", reportFile.getPath(), logFile.getPath() });
+        assertThrows(IllegalArgumentException.class, () -> Main.createReport(cmd), "Not a gc log not rejected.");
+        assertFalse(reportFile.exists(), "Report created for a file that is not a gc log.");
+    }
+
+    @Test
+    void testStdin(@TempDir File temporaryFolder) throws Exception {
+        File testFile = TestUtil.getFile("dataset283.txt");
+        File expected = new File(temporaryFolder, "expected.txt");
+        Main.createReport(OptionsParser.parseOptions(new String[] { "-p", "-o", expected.getPath(),
+                testFile.getPath() }));
+        File actual = new File(temporaryFolder, "actual.txt");
+        InputStream in = System.in;
+        try {
+            System.setIn(new ByteArrayInputStream(Files.readAllBytes(testFile.toPath())));
+            Main.createReport(OptionsParser.parseOptions(new String[] { "-p", "-o", actual.getPath(), "-" }));
+        } finally {
+            System.setIn(in);
+        }
+        List<String> expectedReport = Files.readAllLines(expected.toPath());
+        List<String> actualReport = Files.readAllLines(actual.toPath());
+        assertEquals("stdin", actualReport.get(0), "Log name not correct.");
+        assertEquals(expectedReport.subList(1, expectedReport.size()), actualReport.subList(1, actualReport.size()),
+                "Report from stdin not correct.");
+    }
+
     @Test
     void testShortHelpOption() throws Exception {
         // Method arguments
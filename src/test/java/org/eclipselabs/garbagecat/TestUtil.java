@@ -13,16 +13,51 @@
 package org.eclipselabs.garbagecat;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipselabs.garbagecat.service.GcManager;
 
 /**
  * @author <a href="https://github.com/pfichtner">Peter Fichtner</a>
  */
 public final class TestUtil {
 
+    /**
+     * The distinct log lines in the test data files, as logged and as preprocessed.
+     */
+    private static Set<String> dataLines;
+
+    /**
+     * @return The distinct log lines in the test data files, as logged and as preprocessed, for tests over all of the
+     *         test data.
+     */
+    public static synchronized Set<String> getDataLines() {
+        if (dataLines == null) {
+            dataLines = new LinkedHashSet<>();
+            File[] files = getFile("dataset1.txt").getParentFile().listFiles((dir, name) -> name.endsWith(".txt"));
+            for (File file : files) {
+                try {
+                    List<String> logLines = Files.readAllLines(file.toPath(), StandardCharsets.ISO_8859_1);
+                    dataLines.addAll(logLines);
+                    dataLines.addAll(new GcManager().preprocess(logLines, null));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return dataLines;
+    }
+
     public static File getFile(String name) {
         try {
             return new File(TestUtil.class.getClassLoader().getResource("data/" + name).toURI());
@@ -12,13 +12,18 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.dao;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
 import org.eclipselabs.garbagecat.domain.BlockingEvent;
+import org.eclipselabs.garbagecat.domain.jdk.ApplicationStoppedTimeEvent;
+import org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseEvent;
 import org.eclipselabs.garbagecat.domain.jdk.ParNewEvent;
 import org.eclipselabs.garbagecat.domain.jdk.SerialOldEvent;
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSafepointEvent;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -27,6 +32,72 @@ import org.junit.jupiter.api.Test;
  */
 class TestJvmDao {
 
+    private static G1YoungPauseEvent g1YoungPause(String timestamp, String eden) {
+        return new G1YoungPauseEvent(timestamp + ": [GC pause (G1 Evacuation Pause) (young), 0.0124023 secs]"
+                + "[Ext Root Scanning (ms): 1.2][Other: 544.6 ms][Eden: " + eden + "(75.0M)->0.0B(66.0M) "
+                + "Survivors: 0.0B->9216.0K Heap: 75.0M(1500.0M)->8749.6K(1500.0M)] [Times: user=0.03 sys=0.00, "
+                + "real=0.02 secs]");
+    }
+
+    @Test
+    void testAggregates() {
+        JvmDao jvmDao = new JvmDao();
+        long duration = g1YoungPause("1.000", "10.0M").getDurationMicros();
+        jvmDao.addBlockingEvent(g1YoungPause("1.000", "10.0M"));
+        jvmDao.addBlockingEvent(g1YoungPause("2.000", "20.0M"));
+        assertEquals(2, jvmDao.getBlockingEventCount(), "Blocking event count not correct.");
+        assertEquals(duration * 2, jvmDao.getDurationTotal(), "Duration total not correct.");
+        assertEquals(duration, jvmDao.getDurationMax(), "Duration max not correct.");
+        assertEquals(75 * 1024, jvmDao.getMaxHeapOccupancy(), "Max heap occupancy not correct.");
+        assertEquals(1500 * 1024, jvmDao.getMaxHeapSpace(), "Max heap space not correct.");
+        assertEquals(20 * 1024, jvmDao.getAllocatedKilobytes(), "Allocated kilobytes not correct.");
+        // Reordered
+        jvmDao.addBlockingEvent(g1YoungPause("1.500", "15.0M"));
+        assertEquals(1, jvmDao.getBlockingEventsReorderCount(), "Reorder count not correct.");
+        assertEquals(35 * 1024, jvmDao.getAllocatedKilobytes(), "Allocated kilobytes not recalculated.");
+        assertEquals(1000, jvmDao.getFirstG1YoungPauseEvent().getTimestamp(), "First event not correct.");
+        assertEquals(2000, jvmDao.getLastG1YoungPauseEvent().getTimestamp(), "Last event not correct.");
+        jvmDao.addBlockingEvent(g1YoungPause("3.000", "30.0M"));
+        assertEquals(65 * 1024, jvmDao.getAllocatedKilobytes(), "Allocated kilobytes not updated.");
+        assertEquals(duration * 4, jvmDao.getDurationTotal(), "Duration total not correct.");
+    }
+
+    @Test
+    void testCleanup() {
+        JvmDao jvmDao = new JvmDao();
+        jvmDao.addBlockingEvent(g1YoungPause("2.000", "20.0M"));
+        jvmDao.addBlockingEvent(g1YoungPause("1.000", "10.0M"));
+        jvmDao.addBlockingEvent(g1YoungPause("3.000", "30.0M"));
+        jvmDao.addSafepointEvent(new UnifiedSafepointEvent("[0.064s][info][safepoint   ] Safepoint "
+                + "\"ClassLoaderStatsOperation\", Time since last: 4597148 ns, Reaching safepoint: 19270 ns, "
+                + "Cleanup: 47719 ns, At safepoint: 586473 ns, Total: 653462 ns"));
+        jvmDao.addStoppedTimeEvent(new ApplicationStoppedTimeEvent(
+                "Total time for which application threads were stopped: 0.0968457 seconds"));
+        assertEquals(1, jvmDao.getBlockingEventsReorderCount(), "Reorder count not correct.");
+        jvmDao.cleanup();
+        assertEquals(0, jvmDao.getBlockingEventCount(), "Blocking event count not reset.");
+        assertEquals(0, jvmDao.getBlockingEventsReorderCount(), "Reorder count not reset.");
+        assertEquals(0, jvmDao.getDurationMax(), "Duration max not reset.");
+        assertEquals(0, jvmDao.getDurationTotal(), "Duration total not reset.");
+        assertEquals(0, jvmDao.getAllocatedKilobytes(), "Allocated kilobytes not reset.");
+        assertNull(jvmDao.getFirstG1YoungPauseEvent(), "First event not reset.");
+        assertNull(jvmDao.getLastG1YoungPauseEvent(), "Last event not reset.");
+        assertEquals(0, jvmDao.getMaxHeapOccupancy(), "Max heap occupancy not reset.");
+        assertEquals(0, jvmDao.getMaxHeapSpace(), "Max heap space not reset.");
+        assertTrue(jvmDao.getSafepointEventSummaries().isEmpty(), "Safepoint summaries not reset.");
+        assertEquals(0, jvmDao.getStoppedTimeEventCount(), "Stopped time event count not reset.");
+        assertEquals(0, jvmDao.getStoppedTimeMax(), "Stopped time max not reset.");
+        assertEquals(0, jvmDao.getStoppedTimeTotal(), "Stopped time total not reset.");
+        assertEquals(0, jvmDao.getUnifiedSafepointEventCount(), "Safepoint event count not reset.");
+        assertEquals(0, jvmDao.getUnifiedSafepointTimeMax(), "Safepoint time max not reset.");
+        assertEquals(0, jvmDao.getUnifiedSafepointTimeTotal(), "Safepoint time total not reset.");
+        // Aggregates start over after cleanup
+        jvmDao.addBlockingEvent(g1YoungPause("1.000", "10.0M"));
+        jvmDao.addBlockingEvent(g1YoungPause("2.000", "20.0M"));
+        assertEquals(0, jvmDao.getBlockingEventsReorderCount(), "Reorder count not correct after cleanup.");
+        assertEquals(20 * 1024, jvmDao.getAllocatedKilobytes(), "Allocated kilobytes not correct after cleanup.");
+    }
+
     @Test
     void testSameTimestampOrdering() {
         JvmDao jvmDao = new JvmDao();
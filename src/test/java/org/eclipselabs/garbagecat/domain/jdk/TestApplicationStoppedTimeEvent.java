@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
 import org.junit.jupiter.api.Test;
@@ -121,4 +122,26 @@ class TestApplicationStoppedTimeEvent {
         assertFalse(JdkUtil.isBlocking(JdkUtil.identifyEventType(logLine, null, CollectorFamily.UNKNOWN)),
                 JdkUtil.LogEventType.APPLICATION_STOPPED_TIME.toString() + " incorrectly indentified as blocking.");
     }
+
+    /**
+     * Differential test of the scanner against the regular expression(s), the reference, over the test data.
+     */
+    @Test
+    void testScanner() {
+        int scanned = 0;
+        for (String logLine : TestUtil.getDataLines()) {
+            if (ApplicationStoppedTimeEvent.scan(logLine, null)) {
+                ApplicationStoppedTimeEvent event = new ApplicationStoppedTimeEvent(logLine);
+                ApplicationStoppedTimeEvent reference = new ApplicationStoppedTimeEvent(logLine, false);
+                assertEquals(reference.getTimestamp(), event.getTimestamp(),
+                        "Time stamp not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeThreadsStopped(), event.getTimeThreadsStopped(),
+                        "Time threads stopped not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeToStopThreads(), event.getTimeToStopThreads(),
+                        "Time to stop threads not parsed correctly: " + logLine);
+                scanned++;
+            }
+        }
+        assertTrue(scanned > 0, "No log lines scanned.");
+    }
 }
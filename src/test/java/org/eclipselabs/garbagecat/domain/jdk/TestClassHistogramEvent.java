@@ -47,6 +47,15 @@ class TestClassHistogramEvent {
                 "Log line not recognized as " + JdkUtil.LogEventType.CLASS_HISTOGRAM.toString() + ".");
     }
 
+    @Test
+    void testBlockLine() {
+        ClassHistogramEvent priorLogEvent = new ClassHistogramEvent("   1:       3786335     1564600208  [C");
+        assertTrue(priorLogEvent.isBlockLine("   2:        169531      128245632  [B"), "Block line not identified.");
+        assertTrue(priorLogEvent.isBlockLine("100000:             1             16  java.lang.Object"),
+                "Block line with a 6 digit rank not identified.");
+        assertFalse(priorLogEvent.isBlockLine("Total      28383541     3279893216"), "Total line identified.");
+    }
+
     @Test
     void testClassDataWithBracketLine() {
         String logLine = "   1:       9249662      876131272  [C";
@@ -0,0 +1,132 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.domain.jdk;
+
+import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipselabs.garbagecat.util.jdk.GcTrigger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestG1YoungPauseAccumulator {
+
+    private static final String BEGINNING = "2.192: [GC pause (G1 Evacuation Pause) (young)";
+
+    private static final String DURATION = ", 0.0209631 secs]";
+
+    private static final String EDEN = "[Eden: 128.0M(128.0M)->0.0B(112.0M) Survivors: 0.0B->16.0M "
+            + "Heap: 128.0M(30.0G)->24.9M(30.0G)]";
+
+    private static final String EXT_ROOT_SCANNING = "[Ext Root Scanning (ms): 3.5]";
+
+    private static final String OTHER_TIME = "[Other: 8.2 ms]";
+
+    private static final String TIMES = " [Times: user=0.09 sys=0.02, real=0.03 secs]";
+
+    @Test
+    void testAbandonMetaspace() {
+        G1YoungPauseAccumulator accumulator = new G1YoungPauseAccumulator();
+        accumulator.beginning(BEGINNING + DURATION);
+        accumulator.eden("[Eden: 20.0M(20.0M)->0.0B(18.0M) Survivors: 0.0B->2048.0K Heap: 20.0M(100.0M)->"
+                + "4412.8K(100.0M)], [Metaspace: 2628K->2628K(1056768K)]");
+        accumulator.times(TIMES);
+        assertFalse(accumulator.isComplete(), "Eden with Metaspace not abandoned.");
+    }
+
+    @Test
+    void testAbandonOutOfOrder() {
+        G1YoungPauseAccumulator accumulator = new G1YoungPauseAccumulator();
+        accumulator.beginning(BEGINNING);
+        accumulator.eden(EDEN);
+        accumulator.duration(DURATION);
+        accumulator.times(TIMES);
+        assertFalse(accumulator.isComplete(), "Eden before duration not abandoned.");
+    }
+
+    @Test
+    void testAbandonYoungInitialMark() {
+        G1YoungPauseAccumulator accumulator = new G1YoungPauseAccumulator();
+        accumulator.beginning("2.192: [GC pause (G1 Evacuation Pause) (young) (initial-mark)");
+        accumulator.duration(DURATION);
+        accumulator.eden(EDEN);
+        accumulator.times(TIMES);
+        assertFalse(accumulator.isComplete(), "Initial mark not abandoned.");
+    }
+
+    @Test
+    void testAssemble() {
+        G1YoungPauseAccumulator accumulator = new G1YoungPauseAccumulator();
+        accumulator.beginning(BEGINNING);
+        accumulator.duration(DURATION);
+        accumulator.extRootScanning(EXT_ROOT_SCANNING);
+        accumulator.otherTime(OTHER_TIME);
+        accumulator.eden(EDEN);
+        assertFalse(accumulator.isComplete(), "Event complete before times data.");
+        accumulator.times(TIMES);
+        assertTrue(accumulator.isComplete(), "Event not complete.");
+        String logEntry = BEGINNING + DURATION + EXT_ROOT_SCANNING + OTHER_TIME + EDEN + TIMES;
+        assertTrue(accumulator.isLogEntry(new StringBuilder(logEntry)), "Log entry not the parts.");
+        assertFalse(accumulator.isLogEntry(logEntry + "x"), "Log entry with more than the parts.");
+        G1YoungPauseEvent event = accumulator.newEvent();
+        G1YoungPauseEvent parsed = new G1YoungPauseEvent(logEntry);
+        assertEquals((long) 2192, event.getTimestamp(), "Time stamp not assembled correctly.");
+        assertEquals(GcTrigger.G1_EVACUATION_PAUSE, event.getTrigger(), "Trigger not assembled correctly.");
+        assertEquals(20963 + 8200, event.getDurationMicros(), "Duration not assembled correctly.");
+        assertEquals(3500, event.getExtRootScanningTime(), "Ext root scanning time not assembled correctly.");
+        assertEquals(8200, event.getOtherTime(), "Other time not assembled correctly.");
+        assertEquals(kilobytes(128 * 1024), event.getEdenOccupancyInit(),
+                "Eden initial occupancy not assembled correctly.");
+        assertEquals(kilobytes(0), event.getEdenOccupancyEnd(), "Eden end occupancy not assembled correctly.");
+        assertEquals(kilobytes(128 * 1024), event.getCombinedOccupancyInit(),
+                "Combined initial occupancy not assembled correctly.");
+        assertEquals(kilobytes(25498), event.getCombinedOccupancyEnd(),
+                "Combined end occupancy not assembled correctly.");
+        assertEquals(kilobytes(30 * 1024 * 1024), event.getCombinedSpace(),
+                "Combined available size not assembled correctly.");
+        assertEquals(9, event.getTimeUser(), "User time not assembled correctly.");
+        assertEquals(2, event.getTimeSys(), "Sys time not assembled correctly.");
+        assertEquals(3, event.getTimeReal(), "Real time not assembled correctly.");
+        assertEquals(parsed.getTimestamp(), event.getTimestamp(), "Time stamp not the same as parsed.");
+        assertEquals(parsed.getDurationMicros(), event.getDurationMicros(), "Duration not the same as parsed.");
+        assertEquals(parsed.getCombinedOccupancyEnd(), event.getCombinedOccupancyEnd(),
+                "Combined end occupancy not the same as parsed.");
+        assertEquals(parsed.getParallelism(), event.getParallelism(), "Parallelism not the same as parsed.");
+        assertEquals(logEntry, event.getLogEntry(), "Log entry not correct.");
+        assertFalse(accumulator.isComplete(), "Accumulator not reset after the event is created.");
+    }
+
+    @Test
+    void testAssembleToSpaceExhausted() {
+        G1YoungPauseAccumulator accumulator = new G1YoungPauseAccumulator();
+        accumulator.beginning("27.287: [GC pause (G1 Evacuation Pause) (young)");
+        accumulator.duration(" (to-space exhausted), 0.3314995 secs]");
+        accumulator.eden("[Eden: 0.0B(151.0M)->0.0B(153.0M) Survivors: 2048.0K->0.0B Heap: "
+                + "3038.7M(3072.0M)->3038.7M(3072.0M)]");
+        accumulator.times(" [Times: user=0.20 sys=0.00, real=0.33 secs]");
+        assertTrue(accumulator.isComplete(), "Event not complete.");
+        G1YoungPauseEvent event = accumulator.newEvent();
+        assertEquals(GcTrigger.TO_SPACE_EXHAUSTED, event.getTrigger(), "Trigger not assembled correctly.");
+        assertEquals(331499, event.getDurationMicros(), "Duration not assembled correctly.");
+        assertEquals(G1ExtRootScanningData.NO_DATA, event.getExtRootScanningTime(),
+                "Ext root scanning time not assembled correctly.");
+        G1YoungPauseEvent parsed = new G1YoungPauseEvent(event.getLogEntry());
+        assertEquals(parsed.getTrigger(), event.getTrigger(), "Trigger not the same as parsed.");
+        assertEquals(parsed.getDurationMicros(), event.getDurationMicros(), "Duration not the same as parsed.");
+    }
+}
@@ -442,6 +442,46 @@ class TestG1YoungPauseEvent {
                 Analysis.ERROR_G1_EVACUATION_FAILURE + " analysis not identified.");
     }
 
+    /**
+     * Differential test of the scanner against the regular expression(s), the reference, over the test data.
+     */
+    @Test
+    void testScanner() {
+        int scanned = 0;
+        for (String logLine : TestUtil.getDataLines()) {
+            if (G1YoungPauseEvent.scan(logLine, null)) {
+                G1YoungPauseEvent event = new G1YoungPauseEvent(logLine);
+                G1YoungPauseEvent reference = new G1YoungPauseEvent(logLine, false);
+                assertEquals(reference.getTimestamp(), event.getTimestamp(),
+                        "Time stamp not parsed correctly: " + logLine);
+                assertEquals(reference.getDurationMicros(), event.getDurationMicros(),
+                        "Duration not parsed correctly: " + logLine);
+                assertEquals(reference.getTrigger(), event.getTrigger(), "Trigger not parsed correctly: " + logLine);
+                assertEquals(reference.getExtRootScanningTime(), event.getExtRootScanningTime(),
+                        "Ext root scanning time not parsed correctly: " + logLine);
+                assertEquals(reference.getOtherTime(), event.getOtherTime(),
+                        "Other time not parsed correctly: " + logLine);
+                assertEquals(reference.getEdenOccupancyInit(), event.getEdenOccupancyInit(),
+                        "Eden begin size not parsed correctly: " + logLine);
+                assertEquals(reference.getEdenOccupancyEnd(), event.getEdenOccupancyEnd(),
+                        "Eden end size not parsed correctly: " + logLine);
+                assertEquals(reference.getCombinedOccupancyInit(), event.getCombinedOccupancyInit(),
+                        "Combined begin size not parsed correctly: " + logLine);
+                assertEquals(reference.getCombinedOccupancyEnd(), event.getCombinedOccupancyEnd(),
+                        "Combined end size not parsed correctly: " + logLine);
+                assertEquals(reference.getCombinedSpace(), event.getCombinedSpace(),
+                        "Combined allocation not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeUser(), event.getTimeUser(),
+                        "User time not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeSys(), event.getTimeSys(), "Sys time not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeReal(), event.getTimeReal(),
+                        "Real time not parsed correctly: " + logLine);
+                scanned++;
+            }
+        }
+        assertTrue(scanned > 0, "No log lines scanned.");
+    }
+
     @Test
     void testTriggerG1EvacuationPauseDashDash() {
         String logLine = "424751.601: [GC pause (G1 Evacuation Pause) (young)-- 8172M->8168M(8192M), 0.4589730 secs]";
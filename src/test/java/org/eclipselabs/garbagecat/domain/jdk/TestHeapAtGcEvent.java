@@ -12,6 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.domain.jdk;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -25,6 +26,18 @@ import org.junit.jupiter.api.Test;
  */
 class TestHeapAtGcEvent {
 
+    @Test
+    void testBlockLine() {
+        HeapAtGcEvent priorLogEvent = new HeapAtGcEvent("{Heap before GC invocations=1 (full 0):");
+        String logLine = " par new generation   total 1310720K, used 1048576K [0x00000005a0000000, "
+                + "0x0000000600000000, 0x0000000600000000)";
+        assertTrue(priorLogEvent.isBlockLine(logLine), "Block line not identified.");
+        assertEquals(JdkUtil.LogEventType.HEAP_AT_GC,
+                JdkUtil.identifyEventType(logLine, priorLogEvent, CollectorFamily.UNKNOWN),
+                JdkUtil.LogEventType.HEAP_AT_GC.toString() + " not identified.");
+        assertFalse(new HeapAtGcEvent("}").isBlockLine(logLine), "Block line after the closing brace identified.");
+    }
+
     @Test
     void testBraceLine() {
         String logLine = "}";
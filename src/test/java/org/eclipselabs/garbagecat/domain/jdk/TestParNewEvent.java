@@ -512,6 +512,46 @@ class TestParNewEvent {
                 Analysis.INFO_FIRST_TIMESTAMP_THRESHOLD_EXCEEDED + " analysis incorrectly identified.");
     }
 
+    /**
+     * Differential test of the scanner against the regular expression(s), the reference, over the test data.
+     */
+    @Test
+    void testScanner() {
+        int scanned = 0;
+        for (String logLine : TestUtil.getDataLines()) {
+            if (ParNewEvent.scan(logLine, null)) {
+                ParNewEvent event = new ParNewEvent(logLine);
+                ParNewEvent reference = new ParNewEvent(logLine, false);
+                assertEquals(reference.getTimestamp(), event.getTimestamp(),
+                        "Time stamp not parsed correctly: " + logLine);
+                assertEquals(reference.getDurationMicros(), event.getDurationMicros(),
+                        "Duration not parsed correctly: " + logLine);
+                assertEquals(reference.getTrigger(), event.getTrigger(), "Trigger not parsed correctly: " + logLine);
+                assertEquals(reference.getYoungOccupancyInit(), event.getYoungOccupancyInit(),
+                        "Young begin size not parsed correctly: " + logLine);
+                assertEquals(reference.getYoungOccupancyEnd(), event.getYoungOccupancyEnd(),
+                        "Young end size not parsed correctly: " + logLine);
+                assertEquals(reference.getYoungSpace(), event.getYoungSpace(),
+                        "Young allocation not parsed correctly: " + logLine);
+                assertEquals(reference.getOldOccupancyInit(), event.getOldOccupancyInit(),
+                        "Old begin size not parsed correctly: " + logLine);
+                assertEquals(reference.getOldOccupancyEnd(), event.getOldOccupancyEnd(),
+                        "Old end size not parsed correctly: " + logLine);
+                assertEquals(reference.getOldSpace(), event.getOldSpace(),
+                        "Old allocation not parsed correctly: " + logLine);
+                assertEquals(reference.isIncrementalMode(), event.isIncrementalMode(),
+                        "Incremental mode not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeUser(), event.getTimeUser(),
+                        "User time not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeSys(), event.getTimeSys(), "Sys time not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeReal(), event.getTimeReal(),
+                        "Real time not parsed correctly: " + logLine);
+                scanned++;
+            }
+        }
+        assertTrue(scanned > 0, "No log lines scanned.");
+    }
+
     /**
      * Test preprocessing a split <code>ParNewCmsConcurrentEvent</code> that does not include the "concurrent mode
      * failure" text.
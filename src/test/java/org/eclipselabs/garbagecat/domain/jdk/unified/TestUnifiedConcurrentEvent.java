@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
@@ -443,6 +444,36 @@ class TestUnifiedConcurrentEvent {
                 "Log line not recognized as " + JdkUtil.LogEventType.UNIFIED_CONCURRENT.toString() + ".");
     }
 
+    /**
+     * Differential test of the scanner against the regular expression(s), the reference, over the test data.
+     */
+    @Test
+    void testScanner() {
+        int scanned = 0;
+        for (String logLine : TestUtil.getDataLines()) {
+            if (UnifiedConcurrentEvent.scan(logLine, null)) {
+                UnifiedConcurrentEvent event = new UnifiedConcurrentEvent(logLine);
+                UnifiedConcurrentEvent reference = new UnifiedConcurrentEvent(logLine, false);
+                assertEquals(reference.getTimestamp(), event.getTimestamp(),
+                        "Time stamp not parsed correctly: " + logLine);
+                assertEquals(reference.getCombinedOccupancyInit(), event.getCombinedOccupancyInit(),
+                        "Combined begin size not parsed correctly: " + logLine);
+                assertEquals(reference.getCombinedOccupancyEnd(), event.getCombinedOccupancyEnd(),
+                        "Combined end size not parsed correctly: " + logLine);
+                assertEquals(reference.getCombinedSpace(), event.getCombinedSpace(),
+                        "Combined allocation not parsed correctly: " + logLine);
+                assertEquals(reference.getClassOccupancyInit(), event.getClassOccupancyInit(),
+                        "Class begin size not parsed correctly: " + logLine);
+                assertEquals(reference.getClassOccupancyEnd(), event.getClassOccupancyEnd(),
+                        "Class end size not parsed correctly: " + logLine);
+                assertEquals(reference.getClassSpace(), event.getClassSpace(),
+                        "Class allocation not parsed correctly: " + logLine);
+                scanned++;
+            }
+        }
+        assertTrue(scanned > 0, "No log lines scanned.");
+    }
+
     @Test
     void testShenandoahClassUnloading() {
         String logLine = "[0.191s][info][gc,start    ] GC(0) Concurrent class unloading";
@@ -20,11 +20,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.MatchResult;
 
 import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.domain.JvmRun;
@@ -113,6 +115,19 @@ class TestUnifiedG1YoungPauseEvent {
                 "Log line not recognized as " + JdkUtil.LogEventType.UNIFIED_G1_YOUNG_PAUSE.toString() + ".");
     }
 
+    @Test
+    void testNoMatchResultRetained() {
+        // Every field is read when an event is stored, so pause events decode when created and keep no match state.
+        Class<?>[] eventClasses = { UnifiedG1MixedPauseEvent.class, UnifiedG1YoungPauseEvent.class,
+                UnifiedParallelScavengeEvent.class, UnifiedSerialNewEvent.class };
+        for (Class<?> eventClass : eventClasses) {
+            for (Field field : eventClass.getDeclaredFields()) {
+                assertFalse(MatchResult.class.isAssignableFrom(field.getType()),
+                        eventClass.getSimpleName() + " retains a MatchResult in " + field.getName() + ".");
+            }
+        }
+    }
+
     @Test
     void testParseLogLine() {
         String logLine = "[15.086s][info][gc,start     ] GC(1192) Pause Young (Normal) (G1 Evacuation Pause) Ext Root "
@@ -379,6 +394,48 @@ class TestUnifiedG1YoungPauseEvent {
                 JdkUtil.LogEventType.UNIFIED_G1_YOUNG_PAUSE.toString() + " not indentified as reportable.");
     }
 
+    /**
+     * Differential test of the scanner against the regular expression(s), the reference, over the test data.
+     */
+    @Test
+    void testScanner() {
+        int scanned = 0;
+        for (String logLine : TestUtil.getDataLines()) {
+            if (UnifiedG1YoungPauseEvent.scan(logLine, null)) {
+                UnifiedG1YoungPauseEvent event = new UnifiedG1YoungPauseEvent(logLine);
+                UnifiedG1YoungPauseEvent reference = new UnifiedG1YoungPauseEvent(logLine, false);
+                assertEquals(reference.getTimestamp(), event.getTimestamp(),
+                        "Time stamp not parsed correctly: " + logLine);
+                assertEquals(reference.getDurationMicros(), event.getDurationMicros(),
+                        "Duration not parsed correctly: " + logLine);
+                assertEquals(reference.getTrigger(), event.getTrigger(), "Trigger not parsed correctly: " + logLine);
+                assertEquals(reference.getExtRootScanningTime(), event.getExtRootScanningTime(),
+                        "Ext root scanning time not parsed correctly: " + logLine);
+                assertEquals(reference.getOtherTime(), event.getOtherTime(),
+                        "Other time not parsed correctly: " + logLine);
+                assertEquals(reference.getClassOccupancyInit(), event.getClassOccupancyInit(),
+                        "Class begin size not parsed correctly: " + logLine);
+                assertEquals(reference.getClassOccupancyEnd(), event.getClassOccupancyEnd(),
+                        "Class end size not parsed correctly: " + logLine);
+                assertEquals(reference.getClassSpace(), event.getClassSpace(),
+                        "Class allocation not parsed correctly: " + logLine);
+                assertEquals(reference.getCombinedOccupancyInit(), event.getCombinedOccupancyInit(),
+                        "Combined begin size not parsed correctly: " + logLine);
+                assertEquals(reference.getCombinedOccupancyEnd(), event.getCombinedOccupancyEnd(),
+                        "Combined end size not parsed correctly: " + logLine);
+                assertEquals(reference.getCombinedSpace(), event.getCombinedSpace(),
+                        "Combined allocation not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeUser(), event.getTimeUser(),
+                        "User time not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeSys(), event.getTimeSys(), "Sys time not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeReal(), event.getTimeReal(),
+                        "Real time not parsed correctly: " + logLine);
+                scanned++;
+            }
+        }
+        assertTrue(scanned > 0, "No log lines scanned.");
+    }
+
     /**
      * Test single line with time, uptime decorator.
      * 
@@ -312,6 +312,34 @@ class TestUnifiedSafepointEvent {
                 JdkUtil.LogEventType.UNIFIED_SAFEPOINT.toString() + " incorrectly indentified as reportable.");
     }
 
+    /**
+     * Differential test of the scanner against the regular expression(s), the reference, over the test data.
+     */
+    @Test
+    void testScanner() {
+        int scanned = 0;
+        for (String logLine : TestUtil.getDataLines()) {
+            if (UnifiedSafepointEvent.scan(logLine, null)) {
+                UnifiedSafepointEvent event = new UnifiedSafepointEvent(logLine);
+                UnifiedSafepointEvent reference = new UnifiedSafepointEvent(logLine, false);
+                assertEquals(reference.getTrigger(), event.getTrigger(), "Trigger not parsed correctly: " + logLine);
+                assertEquals(reference.getTimestamp(), event.getTimestamp(),
+                        "Time stamp not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeCleanup(), event.getTimeCleanup(),
+                        "Time cleanup not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeThreadsStopped(), event.getTimeThreadsStopped(),
+                        "Time threads stopped not parsed correctly: " + logLine);
+                assertEquals(reference.getTimeToStopThreads(), event.getTimeToStopThreads(),
+                        "Time to stop threads not parsed correctly: " + logLine);
+                assertEquals(reference.getDurationNanos(), event.getDurationNanos(),
+                        "Duration not parsed correctly: " + logLine);
+                assertEquals(reference.isEndstamp(), event.isEndstamp(), "Endstamp not parsed correctly: " + logLine);
+                scanned++;
+            }
+        }
+        assertTrue(scanned > 0, "No log lines scanned.");
+    }
+
     @Test
     void testSetNotifyJvmtiEventsMode() {
         String logLine = "[0.433s][info][safepoint   ] Safepoint \"SetNotifyJvmtiEventsMode\", Time since last: "
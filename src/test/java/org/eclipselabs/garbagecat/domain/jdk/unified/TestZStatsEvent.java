@@ -41,6 +41,21 @@ import org.junit.jupiter.api.Test;
  */
 class TestZStatsEvent {
 
+    @Test
+    void testBlockLine() {
+        ZStatsEvent priorLogEvent = new ZStatsEvent("[10.485s] === Garbage Collection Statistics ==========");
+        String logLine = "[10.485s]      Memory: Allocation Rate          941 / 1154            941 / 1154        MB/s";
+        assertTrue(priorLogEvent.isBlockLine(logLine), "Block line not identified.");
+        assertEquals(JdkUtil.LogEventType.Z_STATS,
+                JdkUtil.identifyEventType(logLine, priorLogEvent, CollectorFamily.UNKNOWN),
+                JdkUtil.LogEventType.Z_STATS + " not identified.");
+        assertFalse(priorLogEvent.isBlockLine("[10.486s]      Memory: Allocation Rate"),
+                "Block line with a different decorator identified.");
+        ZStatsEvent footer = new ZStatsEvent("[10.485s] ======================================================");
+        assertTrue(footer.isFooter(), "Footer not identified.");
+        assertFalse(footer.isBlockLine(logLine), "Block line after the footer identified.");
+    }
+
     @Test
     void testFooter() {
         LogEvent priorLogEvent = new ZStatsEvent(null);
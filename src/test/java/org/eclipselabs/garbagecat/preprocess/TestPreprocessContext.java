@@ -0,0 +1,77 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.preprocess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext.Token;
+import org.eclipselabs.garbagecat.preprocess.jdk.G1PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.jdk.unified.UnifiedPreprocessAction;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestPreprocessContext {
+
+    @Test
+    void testBits() {
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessAction.NEWLINE);
+        context.add(UnifiedPreprocessAction.JDK17U8);
+        PreprocessContext restored = new PreprocessContext();
+        restored.setBits(context.getBits());
+        assertTrue(restored.contains(Token.NEWLINE), "NEWLINE not restored.");
+        assertTrue(restored.contains(Token.JDK17U8), "JDK17U8 not restored.");
+        assertEquals(2, restored.size(), "Context size not correct.");
+    }
+
+    @Test
+    void testBitOrder() {
+        // The bits are saved in snapshots, so existing tokens must keep their position.
+        PreprocessContext context = new PreprocessContext();
+        context.add(Token.NEWLINE);
+        assertEquals(1L, context.getBits(), "NEWLINE bit not correct.");
+        context.clear();
+        context.add(Token.GC_START);
+        assertEquals(1L << 16, context.getBits(), "GC_START bit not correct.");
+    }
+
+    @Test
+    void testClear() {
+        PreprocessContext context = new PreprocessContext();
+        context.add(G1PreprocessAction.TOKEN);
+        context.add(Token.GC_START);
+        context.add(PreprocessAction.NEWLINE);
+        context.remove(PreprocessAction.NEWLINE);
+        assertEquals(2, context.size(), "Context size not correct.");
+        context.clear();
+        assertTrue(context.isEmpty(), "Context not empty.");
+        assertFalse(context.contains(Token.GC_START), "Token incorrectly in context.");
+    }
+
+    @Test
+    void testToken() {
+        PreprocessContext context = new PreprocessContext();
+        assertTrue(context.add(G1PreprocessAction.TOKEN), "Token not added.");
+        assertFalse(context.add(G1PreprocessAction.TOKEN), "Token added twice.");
+        assertTrue(context.contains(Token.G1), "Token not in context.");
+        assertFalse(context.contains(UnifiedPreprocessAction.TOKEN), "Token incorrectly in context.");
+        assertTrue(context.remove(G1PreprocessAction.TOKEN), "Token not removed.");
+        assertFalse(context.remove(G1PreprocessAction.TOKEN), "Token removed twice.");
+        assertTrue(context.isEmpty(), "Context not empty.");
+    }
+}
@@ -21,12 +21,11 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
 import org.eclipselabs.garbagecat.service.GcManager;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -45,7 +44,7 @@ class TestApplicationStoppedTimePreprocessAction {
         String logLine = ": Total time for which application threads were stopped: 0.0017109 seconds, Stopping "
                 + "threads took: 0.0000136 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -61,7 +60,7 @@ class TestApplicationStoppedTimePreprocessAction {
         String logLine = "2021-10-28T07:39:54.391-0400: 2021-10-28T07:39:54.391-0400: Total time for which "
                 + "application threads were stopped: 0.0014232 seconds, Stopping threads took: 0.0000111 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -79,7 +78,7 @@ class TestApplicationStoppedTimePreprocessAction {
         String logLine = "2021-10-27T19:39:02.591-0400: 2021-10-27T19:39:02.591-0400: 0.210: Total time for which "
                 + "application threads were stopped: 0.0007018 seconds, Stopping threads took: 0.0000202 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -97,7 +96,7 @@ class TestApplicationStoppedTimePreprocessAction {
         String logLine = "2021-10-27T10:52:38.345-0400: 2021-10-27T10:52:38.345-04000.181: : Total time for which "
                 + "application threads were stopped: 0.0013170 seconds, Stopping threads took: 0.0000454 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -116,7 +115,7 @@ class TestApplicationStoppedTimePreprocessAction {
                 + "time for which application threads were stopped: 0.3765423 seconds, Stopping threads took: "
                 + "0.0002408 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -134,7 +133,7 @@ class TestApplicationStoppedTimePreprocessAction {
         String logLine = "2021-10-28T07:41:40.468-0400: 2021-10-28T07:41:40.468-0400: 0.179: 0.179: Total time for "
                 + "which application threads were stopped: 0.0012393 seconds, Stopping threads took: 0.0000233 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -152,7 +151,7 @@ class TestApplicationStoppedTimePreprocessAction {
         String logLine = "2022-10-30T08:28:23.839-0400: 2022-10-30T08:28:23.839-0400: 0.408: 0.408Total time for which "
                 + "application threads were stopped: 0.0078201 seconds, Stopping threads took: 0.0000168 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -170,7 +169,7 @@ class TestApplicationStoppedTimePreprocessAction {
         String logLine = "2022-11-01T22:22:52.436+08002022-11-01T22:22:52.436+0800: : 583259.869: Total time for which "
                 + "application threads were stopped: 0.0590826 seconds, Stopping threads took: 0.0001473 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -188,7 +187,7 @@ class TestApplicationStoppedTimePreprocessAction {
         String logLine = "2021-10-27T12:32:13.753-0400: 0.250: 2021-10-27T12:32:13.753-0400: Total time for which "
                 + "application threads were stopped: 0.0012571 seconds, Stopping threads took: 0.0000262 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -207,7 +206,7 @@ class TestApplicationStoppedTimePreprocessAction {
                 + "time for which application threads were stopped: 0.1477543 seconds, Stopping threads took: "
                 + "0.0000903 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -243,7 +242,7 @@ class TestApplicationStoppedTimePreprocessAction {
         String logLine = "2017-02-27T02:56:13.203+0300: 35952.084: Total time for which application threads were "
                 + "stopped: 40.6810160 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -258,7 +257,7 @@ class TestApplicationStoppedTimePreprocessAction {
         String logLine = ": 492683.478: Total time for which application threads were stopped: 0.1442017 seconds, "
                 + "Stopping threads took: 0.0001502 seconds";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ApplicationStoppedTimePreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.APPLICATION_STOPPED_TIME.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
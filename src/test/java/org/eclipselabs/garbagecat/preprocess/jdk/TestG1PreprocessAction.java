@@ -23,14 +23,13 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.domain.JvmRun;
 import org.eclipselabs.garbagecat.domain.LogEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction.PreprocessEvent;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
 import org.eclipselabs.garbagecat.service.GcManager;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.Analysis;
@@ -64,7 +63,7 @@ class TestG1PreprocessAction {
     void testBeginningG1FullMixedG1SummarizeRSetStatsBeforeRsSummary() {
         String logLine = "73.164: [Full GC (System.gc()) Before GC RS summary";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -157,7 +156,7 @@ class TestG1PreprocessAction {
                 + "[GC concurrent-root-region-scan-start]";
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         G1PreprocessAction event = new G1PreprocessAction(null, logLine, null, entangledLogLines, context, null);
         assertEquals("2021-10-27T10:13:37.450-0400: [GC concurrent-root-region-scan-start]", event.getLogEntry(),
@@ -171,7 +170,7 @@ class TestG1PreprocessAction {
                 + "[GC concurrent-root-region-scan-start]";
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         G1PreprocessAction event = new G1PreprocessAction(null, logLine, null, entangledLogLines, context, null);
         assertEquals("2021-10-27T10:50:59.400-0400: [GC concurrent-root-region-scan-start]", event.getLogEntry(),
@@ -185,7 +184,7 @@ class TestG1PreprocessAction {
                 + "[GC concurrent-root-region-scan-start]";
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         G1PreprocessAction event = new G1PreprocessAction(null, logLine, null, entangledLogLines, context, null);
         assertEquals("2021-10-27T08:03:11.806-0400: 0.223: [GC concurrent-root-region-scan-start]", event.getLogEntry(),
@@ -199,7 +198,7 @@ class TestG1PreprocessAction {
                 + "[GC concurrent-root-region-scan-start]";
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         G1PreprocessAction event = new G1PreprocessAction(null, logLine, null, entangledLogLines, context, null);
         assertEquals("2021-10-26T09:58:12.120-0400: [GC concurrent-root-region-scan-start]", event.getLogEntry(),
@@ -213,7 +212,7 @@ class TestG1PreprocessAction {
                 + "[GC concurrent-root-region-scan-start]";
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         G1PreprocessAction event = new G1PreprocessAction(null, logLine, null, entangledLogLines, context, null);
         assertEquals("2021-10-27T08:03:11.757-0400: 0.174: [GC concurrent-root-region-scan-start]", event.getLogEntry(),
@@ -227,7 +226,7 @@ class TestG1PreprocessAction {
                 + "[GC concurrent-root-region-scan-start]";
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         G1PreprocessAction event = new G1PreprocessAction(null, logLine, null, entangledLogLines, context, null);
         assertEquals("2021-10-27T12:32:11.621-0400: 0.210: [GC concurrent-root-region-scan-start]", event.getLogEntry(),
@@ -239,7 +238,7 @@ class TestG1PreprocessAction {
         String logLine = "2022-10-31T21:51:10.608+0800: 2022-10-31T21:51:10.608+0800494958.042: : 494958.042: "
                 + "[GC concurrent-root-region-scan-start]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -253,7 +252,7 @@ class TestG1PreprocessAction {
         String logLine = "2022-10-31T23:25:12.197+0800: 2022-10-31T23:25:12.197+0800: 500599.630: 500599.630"
                 + "[GC concurrent-root-region-scan-start]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -267,7 +266,7 @@ class TestG1PreprocessAction {
         String logLine = "2022-10-31T17:20:02.747+0800: 478690.181: 2022-10-31T17:20:02.747+0800: "
                 + "[GC concurrent-root-region-scan-start]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -281,7 +280,7 @@ class TestG1PreprocessAction {
         String logLine = "2022-11-01T20:32:55.433+0800: 576662.8672022-11-01T20:32:55.433+0800: : 576662.867: "
                 + "[GC concurrent-root-region-scan-start]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -295,7 +294,7 @@ class TestG1PreprocessAction {
         String logLine = "2022-10-31T21:13:16.044+0800: 492683.478: 2022-10-31T21:13:16.044+0800"
                 + "[GC concurrent-root-region-scan-start]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -309,7 +308,7 @@ class TestG1PreprocessAction {
         String logLine = "2022-10-31T22:59:37.717+0800: 499065.151: 2022-10-31T22:59:37.717+0800: 499065.151: "
                 + "[GC concurrent-root-region-scan-start]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -325,7 +324,7 @@ class TestG1PreprocessAction {
                 + "[GC concurrent-root-region-scan-start]";
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         G1PreprocessAction event = new G1PreprocessAction(null, logLine, null, entangledLogLines, context, null);
         assertEquals("2022-11-02T04:25:44.738+0800: 605031.338: [GC concurrent-root-region-scan-start]",
@@ -341,7 +340,7 @@ class TestG1PreprocessAction {
         String logLine = ": [GC concurrent-root-region-scan-start]";
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         G1PreprocessAction event = new G1PreprocessAction(null, logLine, null, entangledLogLines, context, null);
         assertNull(event.getLogEntry(), "Log line not parsed correctly.");
@@ -354,7 +353,7 @@ class TestG1PreprocessAction {
                 + "[Eden: 0.0B(153.0M)->0.0B(153.0M) Survivors: 0.0B->0.0B Heap: 3035.6M(3072.0M)->3035.6M(3072.0M)] "
                 + "[Times: user=0.09 sys=0.00, real=0.11 secs]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -373,7 +372,7 @@ class TestG1PreprocessAction {
                 + "0.3314995 secs][Eden: 0.0B(151.0M)->0.0B(153.0M) Survivors: 2048.0K->0.0B Heap: "
                 + "3038.7M(3072.0M)->3038.7M(3072.0M)] [Times: user=0.20 sys=0.00, real=0.33 secs]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -412,7 +411,7 @@ class TestG1PreprocessAction {
         String logLine = "0.218: 0.218[GC concurrent-root-region-scan-start]";
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         G1PreprocessAction event = new G1PreprocessAction(null, logLine, null, entangledLogLines, context, null);
         assertEquals("0.218: [GC concurrent-root-region-scan-start]", event.getLogEntry(),
@@ -425,7 +424,7 @@ class TestG1PreprocessAction {
         String logLine = "0.2270.227: : [GC concurrent-root-region-scan-start]";
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         G1PreprocessAction event = new G1PreprocessAction(null, logLine, null, entangledLogLines, context, null);
         assertEquals("0.227: [GC concurrent-root-region-scan-start]", event.getLogEntry(),
@@ -436,7 +435,7 @@ class TestG1PreprocessAction {
     void testConcurrentWithDatestamp() {
         String logLine = "2017-02-27T02:55:32.524+0300: 35911.405: [GC concurrent-mark-start]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -479,7 +478,7 @@ class TestG1PreprocessAction {
         String logLine = "4295945.119: [G1Ergonomics (CSet Construction) start choosing CSet, _pending_cards: 122401, "
                 + "predicted base time: 65.52 ms, remaining time: 134.48 ms, target pause time: 200.00 ms]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -492,7 +491,7 @@ class TestG1PreprocessAction {
     @Test
     void testExtRootScanning() {
         String logLine = "      [Ext Root Scanning (ms): Min: 2.7, Avg: 3.0, Max: 3.5, Diff: 0.8, Sum: 18.1]";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -504,7 +503,7 @@ class TestG1PreprocessAction {
     void testExtRootScanningEarlyImplementation() {
         String logLine = "      [Ext Root Scanning (ms):  27,4  33,8  26,4  24,8  28,6  19,5  28,4  8,9  18,9  31,9  "
                 + "29,6  28,0  28,1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -516,7 +515,7 @@ class TestG1PreprocessAction {
     @Test
     void testExtRootScanningSingleNumber() {
         String logLine = "      [Ext Root Scanning (ms):  28.7]";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -588,7 +587,7 @@ class TestG1PreprocessAction {
         String priorLogLine = "";
         String logLine = "49689.217: [Full GC49689.217: [Class Histogram (before full gc):";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -625,7 +624,7 @@ class TestG1PreprocessAction {
                 + "[Metaspace: 93308K->93308K(352256K)] [Times: user=16.39 sys=0.04, real=21.75 secs]";
         String nextLogLine = "2132.960: [GC pause (G1 Evacuation Pause) (young)2132.962: "
                 + "[GC concurrent-root-region-scan-start]";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -643,7 +642,7 @@ class TestG1PreprocessAction {
         String logLine = "2017-02-27T02:55:32.523+0300: 35911.404: [Full GC (Allocation Failure)"
                 + "2017-02-27T02:55:32.524+0300: 35911.405: [GC concurrent-root-region-scan-end, 0.0127300 secs]";
         String nextLogLine = "2017-02-27T02:55:32.524+0300: 35911.405: [GC concurrent-mark-start]";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -966,7 +965,7 @@ class TestG1PreprocessAction {
         String logLine = "2017-06-28T18:24:40.453-0400: 12289.351: [GC pause (G1 Evacuation Pause) (mixed)"
                 + "Before GC RS summary";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1821,7 +1820,7 @@ class TestG1PreprocessAction {
     void testG1YoungInitialMarkMixedG1SummarizeRSetStatsBeforeRsSummary() {
         String logLine = "1.738: [GC pause (Metadata GC Threshold) (young) (initial-mark)Before GC RS summary";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1879,7 +1878,7 @@ class TestG1PreprocessAction {
     void testG1YoungPauseMixedG1SummarizeRSetStatsBeforeRsSummary() {
         String logLine = "0.449: [GC pause (G1 Evacuation Pause) (young)Before GC RS summary";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2009,6 +2008,19 @@ class TestG1PreprocessAction {
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
     }
 
+    @Test
+    void testIsDetail() {
+        assertTrue(G1PreprocessAction.isDetail("   [Eden: 1024.0K(1024.0K)->0.0B(1024.0K) Survivors: 0.0B->1024.0K "
+                + "Heap: 1024.0K(2048.0K)->565.8K(2048.0K)]"), "Detail line not recognized.");
+        assertTrue(G1PreprocessAction.isDetail(" [Times: user=0.02 sys=0.00, real=0.00 secs] "),
+                "Detail line not recognized.");
+        assertFalse(G1PreprocessAction.isDetail("0.065: [GC pause (G1 Evacuation Pause) (young), 0.0039925 secs]"),
+                "Event line incorrectly recognized as a detail line.");
+        assertFalse(G1PreprocessAction.isDetail("   1:      13269691     2158610984  [C"),
+                "Class histogram line incorrectly recognized as a detail line.");
+        assertFalse(G1PreprocessAction.isDetail("   "), "Blank line incorrectly recognized as a detail line.");
+    }
+
     @Test
     void testInvertedSerialism() throws IOException {
         File testFile = TestUtil.getFile("dataset251.txt");
@@ -2099,7 +2111,7 @@ class TestG1PreprocessAction {
     void testMiddleG1FullMixedG1SummarizeRSetStatsAfterRsSummary() {
         String logLine = " 390M->119M(512M)After GC RS summary";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2110,7 +2122,7 @@ class TestG1PreprocessAction {
     @Test
     void testMiddleG1FullWithSizeInformation() {
         String logLine = " 1831M->1213M(5120M), 5.1353878 secs]";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         G1PreprocessAction action = new G1PreprocessAction(null, logLine, null, null, context, null);
@@ -2122,7 +2134,7 @@ class TestG1PreprocessAction {
     void testMiddleInitialMark() {
         String logLine = " (initial-mark), 0.12895600 secs]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2156,7 +2168,7 @@ class TestG1PreprocessAction {
                 + "121.64 ms, remaining time: 378.36 ms, target pause time: 500.00 ms]";
         String nextLogLine = " 5612.999: [G1Ergonomics (CSet Construction) add young regions to CSet, eden: 146 "
                 + "regions, survivors: 14 regions, predicted young region time: 71.49 ms]";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2184,7 +2196,7 @@ class TestG1PreprocessAction {
         String logLine = "2017-06-01T03:09:18.078-0400: 3978.886: [GC pause (GCLocker Initiated GC) (young)"
                 + "2017-06-01T03:09:18.081-0400: 3978.888: [GC concurrent-root-region-scan-end, 0.0059070 secs]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2226,7 +2238,7 @@ class TestG1PreprocessAction {
     void testOther6LeadingSpaces() {
         String logLine = "      [Other:   0.9 ms]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, null, null),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2323,7 +2335,7 @@ class TestG1PreprocessAction {
                 + "8185.5M(31.0G)->7616.3M(31.0G)], [Metaspace: 668658K->668658K(1169408K)]";
         String logLine = "2021-10-07T10:05:58.708+0100: 69326.814: [Class Histogram (after full gc): ";
         String nextLogLine = " num     #instances         #bytes  class name";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2337,7 +2349,7 @@ class TestG1PreprocessAction {
         String priorLogLine = "";
         String logLine = "49709.036: [Class Histogram (after full gc): ";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2355,7 +2367,7 @@ class TestG1PreprocessAction {
                 + "2023-01-30T14:54:56.607-0500: 1394.827: [PhantomReference, 103 refs, 909 refs, 0.0045834 secs]"
                 + "2023-01-30T14:54:56.611-0500: 1394.832: [JNI Weak Reference, 0.0001317 secs], 0.0847598 secs]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2376,7 +2388,7 @@ class TestG1PreprocessAction {
                 + "4295945.642: [G1Ergonomics (Mixed GCs) continue mixed GCs, reason: candidate old regions available, "
                 + "candidate old regions: 687 regions, reclaimable: 737569024 bytes (11.45 %), threshold: 5.00 %]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2398,7 +2410,7 @@ class TestG1PreprocessAction {
                 + "not over threshold, candidate old regions: 452 regions, reclaimable: 321143560 bytes (4.98 %), "
                 + "threshold: 5.00 %]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2420,7 +2432,7 @@ class TestG1PreprocessAction {
                 + "still doing mixed collections, occupancy: 3080716288 bytes, allocation request: 0 bytes, threshold: "
                 + "2899102905 bytes (45.00 %), source: end of GC]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2460,7 +2472,7 @@ class TestG1PreprocessAction {
                 + "occupancy higher than threshold, occupancy: 3057647616 bytes, allocation request: 0 bytes, "
                 + "threshold: 2899102905 bytes (45.00 %), source: end of GC]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2481,7 +2493,7 @@ class TestG1PreprocessAction {
                 + "4295945.212: [G1Ergonomics (Mixed GCs) start mixed GCs, reason: candidate old regions available, "
                 + "candidate old regions: 995 regions, reclaimable: 1382364536 bytes (21.46 %), threshold: 5.00 %]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2503,7 +2515,7 @@ class TestG1PreprocessAction {
                 + "2021-08-20T11:53:49.509+0100: 2377835.559: [JNI Weak Reference, 0.0001679 secs], 14.8775199 secs] "
                 + "2021-08-20T11:53:59.227+0100: 2377845.278: [Unloading, 0.0178265 secs], 14.9383332 secs]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2929,7 +2941,7 @@ class TestG1PreprocessAction {
         String priorLogLine = "";
         String logLine = "785,047: [GC pause (young), 0,73936800 secs]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2950,7 +2962,7 @@ class TestG1PreprocessAction {
         String logLine = "188935.313: [GC pause (G1 Evacuation Pause) (young)"
                 + "188935.321: [GC concurrent-mark-end, 0.4777427 secs]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2965,7 +2977,7 @@ class TestG1PreprocessAction {
         String logLine = "2021-06-15T13:51:22.274-0600: 39666.928: [GC pause (G1 Evacuation Pause) (young)"
                 + "2021-06-15T13:51:22.274-0600: 39666.928: [GC concurrent-root-region-scan-end, 0.0005374 secs]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2980,7 +2992,7 @@ class TestG1PreprocessAction {
         String logLine = "537.122: [GC pause (G1 Evacuation Pause) (young)"
                 + "537.123: [GC concurrent-root-region-scan-start]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2996,7 +3008,7 @@ class TestG1PreprocessAction {
                 + "880272.699: [G1Ergonomics (CSet Construction) start choosing CSet, _pending_cards: 241090, "
                 + "predicted base time: 129.61 ms, remaining time: 70.39 ms, target pause time: 200.00 ms]";
         String nextLogLine = "";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3023,7 +3035,7 @@ class TestG1PreprocessAction {
                 + "180.94 ms, remaining time: 319.06 ms, target pause time: 500.00 ms]";
         String nextLogLine = " 7.883: [G1Ergonomics (CSet Construction) add young regions to CSet, eden: 141 regions, "
                 + "survivors: 20 regions, predicted young region time: 2463.53 ms]";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(G1PreprocessAction.match(logLine, priorLogLine, nextLogLine),
                 "Log line not recognized as " + PreprocessActionType.G1.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
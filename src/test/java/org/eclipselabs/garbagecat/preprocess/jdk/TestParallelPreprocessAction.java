@@ -21,12 +21,11 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
 import org.eclipselabs.garbagecat.service.GcManager;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.Analysis;
@@ -81,7 +80,7 @@ class TestParallelPreprocessAction {
     void testLogLineClassUnloading() {
         String logLine = "65.343: [Full GC[Unloading class $Proxy111]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ParallelPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.PARALLEL.toString() + ".");
         ParallelPreprocessAction event = new ParallelPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -107,7 +106,7 @@ class TestParallelPreprocessAction {
         String logLine = " [PSYoungGen: 32064K->0K(819840K)] [PSOldGen: 355405K->387085K(699072K)] "
                 + "387470K->387085K(1518912K) [PSPermGen: 115215K->115215K(238912K)], 1.5692400 secs]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ParallelPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.PARALLEL.toString() + ".");
         ParallelPreprocessAction event = new ParallelPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -118,7 +117,7 @@ class TestParallelPreprocessAction {
     void testLogLineEndTimes() {
         String logLine = ", 33.6887649 secs] [Times: user=33.68 sys=0.02, real=33.69 secs]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ParallelPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.PARALLEL.toString() + ".");
         ParallelPreprocessAction event = new ParallelPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -166,7 +165,7 @@ class TestParallelPreprocessAction {
         String logLine = "2021-04-09T07:19:43.692-0400: 74865.313: [Full GC (Ergonomics) AdaptiveSizeStart: 74869.165 "
                 + "collection: 1223 ";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ParallelPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.PARALLEL.toString() + ".");
         ParallelPreprocessAction event = new ParallelPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -188,7 +187,7 @@ class TestParallelPreprocessAction {
         String logLine = "2021-04-09T00:00:27.785-0400: 48509.406: [GC (Allocation Failure) AdaptiveSizePolicy::"
                 + "update_averages:  survived: 51216232  promoted: 106256  overflow: false";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ParallelPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.PARALLEL.toString() + ".");
         ParallelPreprocessAction event = new ParallelPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -201,7 +200,7 @@ class TestParallelPreprocessAction {
         String logLine = "2021-04-09T00:30:10.485-0400: 50292.105: [GC (Allocation Failure) AdaptiveSizePolicy::"
                 + "update_averages:  survived: 76006984  promoted: 7100224  overflow: true";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ParallelPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.PARALLEL.toString() + ".");
         ParallelPreprocessAction event = new ParallelPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -214,7 +213,7 @@ class TestParallelPreprocessAction {
         String logLine = "2021-04-09T00:14:14.347-0400: 49335.968: [GC (GCLocker Initiated GC) AdaptiveSizePolicy::"
                 + "update_averages:  survived: 56481056  promoted: 722928  overflow: false";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ParallelPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.PARALLEL.toString() + ".");
         ParallelPreprocessAction event = new ParallelPreprocessAction(null, logLine, nextLogLine, null, context);
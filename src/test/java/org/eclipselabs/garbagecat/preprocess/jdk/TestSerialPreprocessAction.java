@@ -21,12 +21,11 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
 import org.eclipselabs.garbagecat.service.GcManager;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -42,7 +41,7 @@ class TestSerialPreprocessAction {
     @Test
     void testLogLineBeginSerialNew() {
         String logLine = "10.204: [GC 10.204: [DefNew";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(SerialPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SERIAL.toString() + ".");
         SerialPreprocessAction event = new SerialPreprocessAction(null, logLine, null, null, context);
@@ -52,7 +51,7 @@ class TestSerialPreprocessAction {
     @Test
     void testLogLineEndSerialNew() {
         String logLine = ": 36825K->4352K(39424K), 0.0224830 secs] 44983K->14441K(126848K), 0.0225800 secs]";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(SerialPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SERIAL.toString() + ".");
         SerialPreprocessAction event = new SerialPreprocessAction(null, logLine, null, null, context);
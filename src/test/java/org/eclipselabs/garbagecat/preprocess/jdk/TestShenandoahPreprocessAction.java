@@ -23,12 +23,11 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
 import org.eclipselabs.garbagecat.service.GcManager;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -46,7 +45,7 @@ class TestShenandoahPreprocessAction {
     void testBadProgressFreeSpaceDegeneratedGc() {
         String logLine = "    Bad progress for free space: 11750K, need 17305K";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -58,7 +57,7 @@ class TestShenandoahPreprocessAction {
     @Test
     void testBeginConcurrentMarking() {
         String logLine = "2020-08-18T14:05:39.789+0000: 854865.439: [Concurrent marking";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SHENANDOAH.toString() + ".");
         ShenandoahPreprocessAction event = new ShenandoahPreprocessAction(null, logLine, null, null, context);
@@ -69,7 +68,7 @@ class TestShenandoahPreprocessAction {
     void testBeginConcurrentUpdateReferences() {
         String logLine = "19.373: [Concurrent update references";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SHENANDOAH.toString() + ".");
         ShenandoahPreprocessAction event = new ShenandoahPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -80,7 +79,7 @@ class TestShenandoahPreprocessAction {
     void testCancellingGcAllocationFailureNoDecorator() {
         String logLine = "    Cancelling GC: Allocation Failure";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -93,7 +92,7 @@ class TestShenandoahPreprocessAction {
     void testCancellingGcStoppingVmNoDecorator() {
         String logLine = "    Cancelling GC: Stopping VM";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -106,7 +105,7 @@ class TestShenandoahPreprocessAction {
     void testCancellingGcUpgradeToFullGc() {
         String logLine = "    Cancelling GC: Upgrade To Full GC";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -119,7 +118,7 @@ class TestShenandoahPreprocessAction {
     void testConcurrentCleanup() {
         String logLine = "2020-08-21T09:40:29.929-0400: 0.467: [Concurrent cleanup 21278K->4701K(37888K), 0.048 ms]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SHENANDOAH.toString() + ".");
         ShenandoahPreprocessAction event = new ShenandoahPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -146,7 +145,7 @@ class TestShenandoahPreprocessAction {
     void testConcurrentCleanupStart() {
         String logLine = "2020-03-11T07:00:01.020-0400: 0.517: [Concurrent cleanup, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -158,7 +157,7 @@ class TestShenandoahPreprocessAction {
     @Test
     void testConcurrentEvacuationPartial() {
         String logLine = "2021-10-27T19:37:39.139-0400: [Concurrent evacuation";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SHENANDOAH.toString() + ".");
         ShenandoahPreprocessAction event = new ShenandoahPreprocessAction(null, logLine, null, null, context);
@@ -170,7 +169,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "2020-08-18T14:05:39.789+0000: 854865.439: [Concurrent marking";
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SHENANDOAH.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         ShenandoahPreprocessAction event = new ShenandoahPreprocessAction(null, logLine, null, null, context);
         assertEquals(logLine, event.getLogEntry(), "Log line not parsed correctly.");
     }
@@ -179,7 +178,7 @@ class TestShenandoahPreprocessAction {
     void testConcurrentMarkingProcessWeakrefs() {
         String logLine = "2020-03-11T07:00:01.007-0400: 0.505: [Concurrent marking (process weakrefs), start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -192,7 +191,7 @@ class TestShenandoahPreprocessAction {
     void testConcurrentMarkingUnloadClassesStart() {
         String logLine = "2024-04-12T13:21:24.037-0400: 4.907: [Concurrent marking (unload classes), start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -205,7 +204,7 @@ class TestShenandoahPreprocessAction {
     void testConcurrentMarkingUpdateRefs() {
         String logLine = "2020-03-11T07:00:51.479-0400: 50.976: [Concurrent marking (update refs), start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -219,7 +218,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "2020-03-11T07:02:09.720-0400: 129.217: [Concurrent marking (update refs) (process weakrefs), "
                 + "start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -233,7 +232,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "19.373: [Concurrent update references";
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SHENANDOAH.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         ShenandoahPreprocessAction event = new ShenandoahPreprocessAction(null, logLine, null, null, context);
         assertEquals(logLine, event.getLogEntry(), "Log line not parsed correctly.");
     }
@@ -242,7 +241,7 @@ class TestShenandoahPreprocessAction {
     void testDegeneratedGcEvacuationStart() {
         String logLine = "2021-03-23T20:19:44.496+0000: 2871.170: [Pause Degenerated GC (Evacuation), start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -255,7 +254,7 @@ class TestShenandoahPreprocessAction {
     void testDegeneratedGcMarkStart() {
         String logLine = "2021-03-23T20:57:22.923+0000: 120816.207: [Pause Degenerated GC (Mark), start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -268,7 +267,7 @@ class TestShenandoahPreprocessAction {
     void testDegeneratedGcUpdateRefsStart() {
         String logLine = "2021-03-23T20:57:30.141+0000: 120823.424: [Pause Degenerated GC (Update Refs), start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -281,7 +280,7 @@ class TestShenandoahPreprocessAction {
     void testEndDuration() {
         String logLine = ", 2714.003 ms]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SHENANDOAH.toString() + ".");
         ShenandoahPreprocessAction event = new ShenandoahPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -292,7 +291,7 @@ class TestShenandoahPreprocessAction {
     void testEndMetaspace() {
         String logLine = ", [Metaspace: 6477K->6481K(1056768K)]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SHENANDOAH.toString() + ".");
         ShenandoahPreprocessAction event = new ShenandoahPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -304,7 +303,7 @@ class TestShenandoahPreprocessAction {
     void testEvacuationStart() {
         String logLine = "2020-03-11T07:00:01.020-0400: 0.517: [Concurrent evacuation, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -317,7 +316,7 @@ class TestShenandoahPreprocessAction {
     void testFailedToAllocateShared() {
         String logLine = "    Failed to allocate Shared, 45072B";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -330,7 +329,7 @@ class TestShenandoahPreprocessAction {
     void testFailedToAllocateTlabNoDecorator() {
         String logLine = "    Failed to allocate TLAB, 4096K";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -343,7 +342,7 @@ class TestShenandoahPreprocessAction {
     void testFinalEvacStart() {
         String logLine = "2020-03-11T07:00:50.985-0400: 50.482: [Pause Final Evac, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -356,7 +355,7 @@ class TestShenandoahPreprocessAction {
     void testFinalMark() {
         String logLine = "2024-04-05T16:31:23.569-0400: 0.526: [Pause Final Mark (process weakrefs), 0.498 ms]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -370,7 +369,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "    Adaptive CSet Selection. Target Free: 6553K, Actual Free: 52224K, Max CSet: 2730K, Min "
                 + "Garbage: 0B";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -384,7 +383,7 @@ class TestShenandoahPreprocessAction {
     void testFinalMarkCollectableGarbageCSetRegions4Digit() {
         String logLine = "    Collectable Garbage: 5964M (95% of total), 102031K CSet, 1516 CSet regions";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -397,7 +396,7 @@ class TestShenandoahPreprocessAction {
     void testFinalMarkCollectableGarbageWithImmediateBlock() {
         String logLine = "    Collectable Garbage: 30279K (99%), Immediate: 16640K (54%), CSet: 13639K (44%)";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -411,7 +410,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "    Pacer for Evacuation. Used CSet: 7668K, Free: 49107K, Non-Taxable: 4910K, "
                 + "Alloc Tax Rate: 1.1x";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -425,7 +424,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "    Pacer for Evacuation. Used CSet: 1030M, Free: 146M, Non-Taxable: 15012K, "
                 + "Alloc Tax Rate: 17.2x";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -446,7 +445,7 @@ class TestShenandoahPreprocessAction {
     void testFinalMarkStart() {
         String logLine = "2020-03-11T07:00:01.015-0400: 0.512: [Pause Final Mark (process weakrefs), start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -459,7 +458,7 @@ class TestShenandoahPreprocessAction {
     void testFinalMarkUsingWorkers() {
         String logLine = "    Using 2 of 2 workers for final marking";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -472,7 +471,7 @@ class TestShenandoahPreprocessAction {
     void testFinalUpdateStart() {
         String logLine = "2020-03-11T07:00:04.856-0400: 4.353: [Pause Final Update Refs, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -486,7 +485,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "Free: 48924K (192 regions), Max regular: 256K, Max humongous: 42496K, External frag: 14%, "
                 + "Internal frag: 0%";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -499,7 +498,7 @@ class TestShenandoahPreprocessAction {
     void testFreeHeadroom() {
         String logLine = "Free headroom: 16207K (free) - 3276K (spike) - 0B (penalties) = 12930K";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -512,7 +511,7 @@ class TestShenandoahPreprocessAction {
     void testFullGc() {
         String logLine = "2021-03-23T20:57:46.427+0000: 120839.710: [Pause Full 1589M->1002M(1690M), 4077.274 ms]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.SHENANDOAH.toString() + ".");
         ShenandoahPreprocessAction event = new ShenandoahPreprocessAction(null, logLine, nextLogLine, null, context);
@@ -523,7 +522,7 @@ class TestShenandoahPreprocessAction {
     void testFullGcStart() {
         String logLine = "2021-03-23T20:57:42.349+0000: 120835.633: [Pause Full, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -536,7 +535,7 @@ class TestShenandoahPreprocessAction {
     void testGoodProgressFreeSpaceDegeneratedGc() {
         String logLine = "    Good progress for free space: 495M, need 17305K";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -549,7 +548,7 @@ class TestShenandoahPreprocessAction {
     void testGoodProgressUsedSpaceDegeneratedGc() {
         String logLine = "    Good progress for used space: 486M, need 512K";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -562,7 +561,7 @@ class TestShenandoahPreprocessAction {
     void testInitMarkStartProcessWeakrefsUptimeMillis() {
         String logLine = "2020-03-11T07:00:00.999-0400: 0.496: [Pause Init Mark (process weakrefs), start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -576,7 +575,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "    Pacer for Update Refs. Used: 15015K, Free: 48702K, Non-Taxable: 4870K, "
                 + "Alloc Tax Rate: 1.1x";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -590,7 +589,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "    Pacer for Update Refs. Used: 1544M, Free: 129M, Non-Taxable: 13303K, "
                 + "Alloc Tax Rate: 14.5x";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -603,7 +602,7 @@ class TestShenandoahPreprocessAction {
     void testInitUpdatePacerInfiniteRate() {
         String logLine = "    Pacer for Update Refs. Used: 1615M, Free: 0B, Non-Taxable: 0B, Alloc Tax Rate: infx";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -616,7 +615,7 @@ class TestShenandoahPreprocessAction {
     void testInitUpdateRefs() {
         String logLine = "2024-04-05T16:31:23.570-0400: 0.527: [Pause Init Update Refs, 0.011 ms]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -629,7 +628,7 @@ class TestShenandoahPreprocessAction {
     void testInitUpdateStart() {
         String logLine = "2020-03-11T07:00:04.771-0400: 4.268: [Pause Init Update Refs, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -642,7 +641,7 @@ class TestShenandoahPreprocessAction {
     void testMarkingStart() {
         String logLine = "2022-10-28T10:58:59.284-0400: [Concurrent marking, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -656,7 +655,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "    Pacer for Mark. Expected Live: 6553K, Free: 44512K, Non-Taxable: 4451K, "
                 + "Alloc Tax Rate: 0.5x";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -670,7 +669,7 @@ class TestShenandoahPreprocessAction {
         String logLine = "    Pacer for Mark. Expected Live: 1115M, Free: 12463K, Non-Taxable: 1246K, "
                 + "Alloc Tax Rate: 112.0x";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -683,7 +682,7 @@ class TestShenandoahPreprocessAction {
     void testPacerForPrecleaningNoDecorator() {
         String logLine = "    Pacer for Precleaning. Non-Taxable: 128M";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -696,7 +695,7 @@ class TestShenandoahPreprocessAction {
     void testPacerForResetNoDecorator() {
         String logLine = "    Pacer for Reset. Non-Taxable: 128M";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -709,7 +708,7 @@ class TestShenandoahPreprocessAction {
     void testPauseFinalMarkUnloadClassesStart() {
         String logLine = "2024-04-12T13:21:24.042-0400: 4.911: [Pause Final Mark (unload classes), start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -722,7 +721,7 @@ class TestShenandoahPreprocessAction {
     void testPauseInitMarkUnloadClassesStart() {
         String logLine = "2024-04-12T13:21:24.037-0400: 4.906: [Pause Init Mark (unload classes), start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -735,7 +734,7 @@ class TestShenandoahPreprocessAction {
     void testPrecleaningStart() {
         String logLine = "2020-03-11T07:00:01.014-0400: 0.512: [Concurrent precleaning, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -844,7 +843,7 @@ class TestShenandoahPreprocessAction {
     void testResetStart() {
         String logLine = "2020-03-11T07:00:00.997-0400: 0.494: [Concurrent reset, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -857,7 +856,7 @@ class TestShenandoahPreprocessAction {
     void testUncommitStart() {
         String logLine = "2021-03-12T06:36:18.692+0000: 58175.759: [Concurrent uncommit, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -870,7 +869,7 @@ class TestShenandoahPreprocessAction {
     void testUpdateReferencesStart() {
         String logLine = "2020-03-11T07:00:01.023-0400: 0.520: [Concurrent update references, start]";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -883,7 +882,7 @@ class TestShenandoahPreprocessAction {
     void testUsingWorkersConcurrentReset() {
         String logLine = "    Using 1 of 2 workers for concurrent reset";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -896,7 +895,7 @@ class TestShenandoahPreprocessAction {
     void testUsingWorkersFullGc() {
         String logLine = "    Using 3 of 3 workers for full gc";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -909,7 +908,7 @@ class TestShenandoahPreprocessAction {
     void testUsingWorkersInitMark() {
         String logLine = "    Using 2 of 2 workers for init marking";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -922,7 +921,7 @@ class TestShenandoahPreprocessAction {
     void testUsingWorkersStwDegeneratedGc() {
         String logLine = "    Using 3 of 3 workers for stw degenerated gc";
         String nextLogLine = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(ShenandoahPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.SHENANDOAH.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
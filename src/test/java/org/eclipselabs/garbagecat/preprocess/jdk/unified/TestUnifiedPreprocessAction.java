@@ -25,16 +25,15 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.eclipselabs.garbagecat.TestUtil;
 import org.eclipselabs.garbagecat.domain.JvmRun;
-import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedLogging;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedSerialOldEvent;
 import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedShenandoahDegeneratedGcEvent;
 import org.eclipselabs.garbagecat.preprocess.PreprocessAction;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
 import org.eclipselabs.garbagecat.service.GcManager;
 import org.eclipselabs.garbagecat.util.Constants;
 import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
@@ -292,7 +291,7 @@ class TestUnifiedPreprocessAction {
     void testAttemptHeapExpansion() {
         String logLine = "[0.008s][debug][gc,ergo,heap] Attempt heap expansion (allocate archive regions). "
                 + "Total size: 8388608B";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -305,7 +304,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2.740s][debug][gc,ergo,heap] GC(2) Attempt heap shrinking (capacity higher than max "
                 + "desired capacity). Capacity: 2122317824B occupancy: 50331648B live: 30814280B "
                 + "maximum_desired_capacity: 71902354B (30 %)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -341,7 +340,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testBalanceQueues() {
         String logLine = "[1234ms] GC(500)     Balance queues: 1.0m";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -352,7 +351,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testBlankLine() {
         String logLine = "[2022-08-09T17:56:59.074-0400] ";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -364,7 +363,7 @@ class TestUnifiedPreprocessAction {
     void testChooseCollectionSet() {
         String logLine = "[2022-10-09T13:16:49.289+0000][3792.777s][debug][gc,phases         ] GC(9)     Choose "
                 + "Collection Set: 0.0ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -376,7 +375,7 @@ class TestUnifiedPreprocessAction {
     void testClaimedChunks() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Claimed Chunks:                Min: 0, "
                 + "Avg:  0.0, Max: 0, Diff: 0, Sum: 0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -387,7 +386,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testClassUnloading() {
         String logLine = "[1234ms] GC(500) Class Unloading";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -398,7 +397,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testClearClaimedMarks() {
         String logLine = "[1234ms] GC(499)     Clear Claimed Marks: 8.5ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -409,7 +408,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testCleared() {
         String logLine = "[1234ms] GC(500)     Cleared: 0";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -421,7 +420,7 @@ class TestUnifiedPreprocessAction {
     void testClearLoggedCards() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Clear Logged Cards (ms):       Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 3";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -432,7 +431,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testCmsData() {
         String logLine = "[0.053s][info][gc,heap      ] GC(0) CMS: 0K->518K(960K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -443,7 +442,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testCmsInitialMark() {
         String logLine = "[0.053s][info][gc,start     ] GC(1) Pause Initial Mark";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -454,7 +453,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testCmsInitialMarkWithDuration() {
         String logLine = "[0.053s][info][gc           ] GC(1) Pause Initial Mark 0M->0M(2M) 0.278ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -465,7 +464,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testCmsOld() {
         String logLine = "[0.056s][info][gc,heap      ] GC(1) Old: 518K->518K(960K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -485,7 +484,7 @@ class TestUnifiedPreprocessAction {
     void testCodeRootsFixup() {
         String logLine = "[2022-10-09T13:16:49.289+0000][3792.777s][debug][gc,phases         ] GC(9)     Code Roots "
                 + "Fixup: 0.0ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -496,7 +495,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcatenateDirtyCardLogs() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Concatenate Dirty Card Logs: 0.0ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -525,7 +524,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentCleanup() {
         String logLine = "[2022-08-09T17:56:59.058-0400] GC(0) Concurrent cleanup";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -536,7 +535,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentClearClaimedMarks() {
         String logLine = "[2021-03-13T03:37:44.312+0530][79857380ms] GC(8652) Concurrent Clear Claimed Marks";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -547,7 +546,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentClearClaimedMarksWithDuration() {
         String logLine = "[2021-03-13T03:37:44.312+0530][79857380ms] GC(8652) Concurrent Clear Claimed Marks 0.080ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -558,7 +557,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentCycle() {
         String logLine = "[2021-03-13T03:37:44.312+0530][79857380ms] GC(8652) Concurrent Cycle";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -569,7 +568,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentMark() {
         String logLine = "[2021-03-13T03:37:44.312+0530][79857380ms] GC(8652) Concurrent Mark (79857.381s)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -580,7 +579,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentMarkAbort() {
         String logLine = "[2021-03-13T03:37:46.439+0530][79859507ms] GC(8652) Concurrent Mark Abort";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -592,7 +591,7 @@ class TestUnifiedPreprocessAction {
     void testConcurrentMarkDoubleTime() {
         String logLine = "[2022-06-06T08:27:45.926-0500] GC(98825) Concurrent Mark (846234.699s, 846235.254s) "
                 + "555.386ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -603,7 +602,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentMarkFromRoots() {
         String logLine = "[2021-03-13T03:37:44.312+0530][79857381ms] GC(8652) Concurrent Mark From Roots";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -615,7 +614,7 @@ class TestUnifiedPreprocessAction {
     void testConcurrentMarkResetForOverflow() {
         String logLine = "[2022-05-12T14:50:49.174-0500][410877.325s][info][gc,marking    ] GC(566) Concurrent Mark "
                 + "reset for overflow";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -626,7 +625,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentMarkRootsZGenerational() {
         String logLine = "[65.489s][debug][gc,phases,start ] GC(0) Y: Concurrent Mark Roots";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -637,7 +636,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentMarkRootsZGenerationalWithDuration() {
         String logLine = "[65.490s][debug][gc,phases       ] GC(0) Y: Concurrent Mark Roots 1.615ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -655,7 +654,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentPreclean() {
         String logLine = "[0.083s][info][gc] GC(1) Concurrent Preclean";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -666,7 +665,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentRebuildRememberedSetsAndScrubRegions() {
         String logLine = "[2023-11-16T06:43:27.109-0500] GC(5) Concurrent Rebuild Remembered Sets and Scrub Regions";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -678,7 +677,7 @@ class TestUnifiedPreprocessAction {
     void testConcurrentRebuildRememberedSetsAndScrubRegionsWithDuration() {
         String logLine = "[2023-11-16T06:43:27.111-0500] GC(5) Concurrent Rebuild Remembered Sets and Scrub Regions "
                 + "2.155ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -690,7 +689,7 @@ class TestUnifiedPreprocessAction {
     void testConcurrentRefinement() {
         String logLine = "[0.834s][debug][gc,refine,stats] GC(0) Concurrent refinement: 0.00ms, refined: 0, "
                 + "precleaned: 0, dirtied: 0";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -702,7 +701,7 @@ class TestUnifiedPreprocessAction {
     void testConcurrentRefinementTimes() {
         String logLine = "[0.838s][debug][gc,ergo,refine ] GC(0) Concurrent refinement times: Logged Cards Scan time "
                 + "goal: 20.00ms Logged Cards Scan time: -nanms HCC time: 0.00ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -727,7 +726,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentScanRootRegionsWithDuration() {
         String logLine = "[2022-06-06T08:27:45.371-0500] GC(98825) Concurrent Scan Root Regions 47.873ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -745,7 +744,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentUndoCycle() {
         String logLine = "[2023-01-11T16:09:59.190+0000][19084.729s] GC(300) Concurrent Undo Cycle";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -756,7 +755,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testConcurrentUndoCycleWithDuration() {
         String logLine = "[2023-01-11T16:09:59.244+0000][19084.784s] GC(300) Concurrent Undo Cycle 54.191ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -768,7 +767,7 @@ class TestUnifiedPreprocessAction {
     void testCopiedBytes() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)         Copied Bytes                   Min: 455944, "
                 + "Avg: 697517.5, Max: 2108432, Diff: 1652488, Sum: 9067728, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -779,7 +778,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testDeactivatedWorker() {
         String logLine = "[1234ms] Deactivated worker 0, off threshold: 515, current: 515, processed: 18";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -791,7 +790,7 @@ class TestUnifiedPreprocessAction {
     void testDead5Spaces() {
         String logLine = "[2024-02-01T11:09:51.569+0000][0.843s][debug][gc,phases      ] GC(1)     Dead"
                 + "                           Min: 0, Avg:  0.0, Max: 0, Diff: 0, Sum: 0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -803,7 +802,7 @@ class TestUnifiedPreprocessAction {
     void testDead9Spaces() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)         Dead                           Min: 0, "
                 + "Avg:  0.0, Max: 0, Diff: 0, Sum: 0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -858,7 +857,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testDefNewData() {
         String logLine = "[0.112s][info][gc,heap        ] GC(3) DefNew: 1016K->128K(1152K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -870,7 +869,7 @@ class TestUnifiedPreprocessAction {
     void testDefNewDataJdk17() {
         String logLine = "[0.036s][info][gc,heap     ] GC(0) DefNew: 1022K(1152K)->127K(1152K) "
                 + "Eden: 1022K(1024K)->0K(1024K) From: 0K(128K)->127K(128K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -881,7 +880,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testDictionary() {
         String logLine = "[1234ms] GC(500) Dictionary";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -894,7 +893,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2.929s][debug][gc,ergo,heap   ] GC(4) Did not expand the heap (heap shrinking operation "
                 + "failed) Humongous regions: 0->0 Metaspace: 23110K(23424K)->23110K(23424K) 23M->23M(48M) 30.469ms "
                 + "User=0.03s Sys=0.00s Real=0.03s";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -907,7 +906,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2.881s][debug][gc,ergo,heap   ] GC(4) Did not shrink the heap (heap shrinking operation "
                 + "failed) Humongous regions: 0->0 Metaspace: 24342K(24768K)->24342K(24768K) 16M->16M(40M) 29.267ms "
                 + "User=0.06s Sys=0.00s Real=0.03s";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -919,7 +918,7 @@ class TestUnifiedPreprocessAction {
     void testDirtyCards() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Dirty Cards:                   Min: 0, "
                 + "Avg:  0.0, Max: 0, Diff: 0, Sum: 0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -930,7 +929,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testDiscovered() {
         String logLine = "[1234ms] GC(500)     Discovered: 18407";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -942,7 +941,7 @@ class TestUnifiedPreprocessAction {
     void testDoNotContinueMixedGcs() {
         String logLine = "[1234ms] GC(502) do not continue mixed GCs (reclaimable percentage not over threshold). "
                 + "candidate old regions: 226 reclaimable: 1287906400 (5.00) threshold: 5";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -955,7 +954,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[1729.296s][debug][gc,ergo,ihop      ] GC(97) Do not request concurrent cycle initiation "
                 + "(still doing mixed collections) occupancy: 6610223104B allocation request: 0B threshold: 0B (0.00) "
                 + "source: end of GC";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -967,7 +966,7 @@ class TestUnifiedPreprocessAction {
     void testEagerlyReclaimHumongousObjects() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Eagerly Reclaim Humongous Objects (ms): "
                 + "Min:  0.0, Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -978,7 +977,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testEagerReclaim() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Eager Reclaim (ms):            skipped";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1009,7 +1008,7 @@ class TestUnifiedPreprocessAction {
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         UnifiedPreprocessAction preprocessAction = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines,
                 context);
         assertNull(preprocessAction.getLogEntry());
@@ -1049,7 +1048,7 @@ class TestUnifiedPreprocessAction {
     void testExpandTheHeap() {
         String logLine = "[3.039s][debug][gc,ergo,heap   ] GC(6) Expand the heap. requested expansion amount: "
                 + "12582912B expansion amount: 16777216B";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1061,7 +1060,7 @@ class TestUnifiedPreprocessAction {
     void testExtRootScanning() {
         String logLine = "[2022-10-09T13:16:49.289+0000][3792.777s][debug][gc,phases         ] GC(9)     Ext Root "
                 + "Scanning (ms):   Min:  0.9, Avg:  1.0, Max:  1.0, Diff:  0.1, Sum:  7.8, Workers: 8";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1073,7 +1072,7 @@ class TestUnifiedPreprocessAction {
     void testExtRootScanningDoubleDigit() {
         String logLine = "[1234ms] GC(469)     Ext Root Scanning (ms):   Min:  0.1, Avg:  1.4, Max: 23.4, Diff: 23.2, "
                 + "Sum: 32.1, Workers: 23";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1085,7 +1084,7 @@ class TestUnifiedPreprocessAction {
     void testExtRootScanningTrippleDigit() {
         String logLine = "[1234ms] GC(499)     Ext Root Scanning (ms):   Min: 27.9, Avg: 28.3, Max: 28.6, Diff:  0.7, "
                 + "Sum: 651.2, Workers: 23";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1097,7 +1096,7 @@ class TestUnifiedPreprocessAction {
     void testExtRootScanningWithManySpacesAfter() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Ext Root Scanning (ms):        Min:  0.0, "
                 + "Avg:  0.2, Max:  1.5, Diff:  1.5, Sum:  2.4, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1108,7 +1107,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testFinalizeConcurrentMarkCleanup() {
         String logLine = "[1234ms] GC(500) Finalize Concurrent Mark Cleanup";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1119,7 +1118,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testFinalizeMarking() {
         String logLine = "[1234ms] GC(500) Finalize Marking";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1131,7 +1130,7 @@ class TestUnifiedPreprocessAction {
     void testFinalRef() {
         String logLine = "[1234ms] GC(500)     FinalRef (ms):            Min:  0.0, Avg:  0.0, Max:  0.0, Diff:  0.0, "
                 + "Sum:  0.0, Workers: 19";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1142,7 +1141,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testFinalReference() {
         String logLine = "[1234ms] GC(500)   FinalReference:";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1154,7 +1153,7 @@ class TestUnifiedPreprocessAction {
     void testFinishAddingOldRegionsToCset() {
         String logLine = "[1234ms] GC(502) Finish adding old regions to CSet (reclaimable percentage not over "
                 + "threshold). old 129 regions, max 308 regions, reclaimable: 1287906400B (5.00%) threshold: 5";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1165,7 +1164,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testFlushTaskCaches() {
         String logLine = "[1234ms] GC(500) Flush Task Caches";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1177,7 +1176,7 @@ class TestUnifiedPreprocessAction {
     void testFoundPollingPageLoopExecutionAtPc() {
         String logLine = "[27.197s] ... found polling page loop exception at pc = 0x00007f95fc518271, "
                 + "stub =0x00007f95fc455c00";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1189,7 +1188,7 @@ class TestUnifiedPreprocessAction {
     void testFreeCollectionSet() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Free Collection Set (ms):      Min:  0.0, "
                 + "Avg:  0.0, Max:  0.1, Diff:  0.1, Sum:  0.2, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1260,7 +1259,7 @@ class TestUnifiedPreprocessAction {
     void testG1ConcurrentRefinement() {
         String logLine = "[2.555s][debug][gc,refine,stats   ] GC(2) Concurrent refinement: 0.00ms, refined: 0, "
                 + "precleaned: 0, dirtied: 0";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1279,7 +1278,7 @@ class TestUnifiedPreprocessAction {
     void testG1DeadHumongousRegion() {
         String logLine = "[1234ms] GC(472) Dead humongous region 369 object size 6411784 start 0x00000002b8800000 with "
                 + "remset 0 code roots 0 is marked 0 reclaim candidate 1 type array 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1386,8 +1385,8 @@ class TestUnifiedPreprocessAction {
                 + "(Diagnostic Command) 41808M->35651M(49152M) 10840.271ms";
         String nextLogLine = "[2022-05-12T14:54:09.413-0500][411077.565s][info][gc,cpu         ] GC(567) "
                 + "User=84.75s Sys=0.00s Real=10.85s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         context.add(UnifiedPreprocessAction.TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
@@ -1415,7 +1414,7 @@ class TestUnifiedPreprocessAction {
     void testG1FullGcTriggerG1HumongousAllocation() {
         String logLine = "[2021-10-29T21:02:24.624+0000][info][gc,start       ] GC(23863) Pause Full "
                 + "(G1 Humongous Allocation)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1431,8 +1430,8 @@ class TestUnifiedPreprocessAction {
                 + "(G1 Humongous Allocation) 16339M->14486M(16384M) 8842.979ms";
         String nextLogLine = "[2021-10-29T21:02:33.467+0000][info][gc,cpu         ] GC(23863) "
                 + "User=52.67s Sys=0.01s Real=8.84s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         context.add(UnifiedPreprocessAction.TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
@@ -1526,7 +1525,7 @@ class TestUnifiedPreprocessAction {
     void testG1Humongous() {
         String logLine = "[2021-09-22T10:57:21.297-0500][5259442ms] GC(5172) Humongous regions: 13->13";
         String nextLogLine = "[2021-09-22T10:57:21.297-0500][5259442ms] GC(5172) Metaspace: 82409K->82409K(1126400K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1540,7 +1539,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2023-01-15T00:03:39.675+0200][info][gc,heap     ] GC(21) Humongous regions: 9739->9739";
         String nextLogLine = "[2023-01-15T00:03:39.675+0200][info][gc,metaspace] GC(21) Metaspace: "
                 + "243951K(262400K)->243951K(262400K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1561,7 +1560,7 @@ class TestUnifiedPreprocessAction {
     void testG1InitiateConcurrentCycle() {
         String logLine = "[0.833s][debug][gc,ergo       ] GC(0) Initiate concurrent cycle (concurrent cycle initiation "
                 + "requested)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1573,7 +1572,7 @@ class TestUnifiedPreprocessAction {
     void testG1LiveHumongousRegion() {
         String logLine = "[1234ms] GC(526) Live humongous region 103 object size 6392280 start 0x0000000233800000  "
                 + "with remset 0 code roots 0 is marked 0 reclaim candidate 0 type array 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1592,7 +1591,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testG1MarkingStats() {
         String logLine = "[1234ms] Marking Stats, task = 0, calls = 62";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1603,7 +1602,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testG1MarkingStatsElapsedTime() {
         String logLine = "[1234ms]   Elapsed time = 535.19ms, Termination time = 3.04ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1614,7 +1613,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testG1MarkingStatsMarkStatsCache() {
         String logLine = "[1234ms]   Mark Stats Cache: hits 3531515 misses 404 ratio 99.989";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1626,7 +1625,7 @@ class TestUnifiedPreprocessAction {
     void testG1MarkingStatsStepTimes() {
         String logLine = "[1234ms]   Step Times (cum): num = 2275, avg = 1.19ms, sd = 3.18ms max = 10.92ms, "
                 + "total = 2704.19ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1647,8 +1646,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[16.630s][info][gc            ] GC(1355) Pause Young (Mixed) (G1 Evacuation Pause) "
                 + "15M->12M(31M) 1.202ms";
         String nextLogLine = "[16.630s][info][gc           ] GC(0) User=0.18s Sys=0.00s Real=0.11s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1669,7 +1668,7 @@ class TestUnifiedPreprocessAction {
     void testG1MutatorRefinement() {
         String logLine = "[2.555s][debug][gc,refine,stats   ] GC(2) Mutator refinement: 0.00ms, refined: 0, "
                 + "precleaned: 0, dirtied: 0";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1709,7 +1708,7 @@ class TestUnifiedPreprocessAction {
     void testG1OldGenerationAllocationInTheLastMutatorPeriod() {
         String logLine = "[123456ms] Old generation allocation in the last mutator period, old gen allocated: 12345B, "
                 + "humongous allocated: 0B,old gen growth: 1234B.";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1720,7 +1719,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testG1Other() {
         String logLine = "[0.101s][info][gc,phases    ] GC(0)   Other: 0.2ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1731,7 +1730,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testG1Other5Spaces() {
         String logLine = "[16.072s][info][gc,phases     ] GC(971)   Other: 0.1ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1742,7 +1741,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testG1OtherDatestampMillis() {
         String logLine = "[2019-05-09T01:39:00.820+0000][5412ms] GC(0)   Other: 0.3ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1777,8 +1776,8 @@ class TestUnifiedPreprocessAction {
     void testG1PauseYoungInfo() {
         String logLine = "[0.337s][info][gc           ] GC(0) Pause Young (G1 Evacuation Pause) 25M->4M(254M) 3.523ms";
         String nextLogLine = "[0.337s][info][gc,cpu       ] GC(0) User=0.00s Sys=0.00s Real=0.00s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1879,7 +1878,7 @@ class TestUnifiedPreprocessAction {
     void testG1RequestConcurrentCycleInitiation() {
         String logLine = "[0.833s][debug][gc,ergo       ] Request concurrent cycle initiation (requested by GC cause). "
                 + "GC cause: Metadata GC Threshold";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -1898,7 +1897,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testG1ServiceThread() {
         String logLine = "[0.034s][debug][gc,task       ] G1 Service Thread (Remembered Set Sampling Task) (register)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2089,7 +2088,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testGenerateDirtyCardsRate() {
         String logLine = "[4.987s][debug][gc,refine,stats   ] GC(4) Generate dirty cards rate: 0.00 cards/ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2138,7 +2137,7 @@ class TestUnifiedPreprocessAction {
                 + "term pause time ratio 0.00% threshold 2.53% pause time ratio 7.69% fully expanded false resize by "
                 + "0B Other: 0.5ms Humongous regions: 0->0 Metaspace: 10930K(11200K)->10930K(11200K) 103M->19M(2024M) "
                 + "3.940ms User=0.04s Sys=0.01s Real=0.00s";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2150,7 +2149,7 @@ class TestUnifiedPreprocessAction {
     void testHeapExpansionTriggers() {
         String logLine = "[0.772s][trace][gc,ergo,heap] GC(0) Heap expansion triggers: pauses since start: 0 num prev "
                 + "pauses for heuristics: 10 ratio over threshold count: 0";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2162,7 +2161,7 @@ class TestUnifiedPreprocessAction {
     void testhenandoahFinalMarkAdaptiveCSetUptimeMillis() {
         String logLine = "[2019-02-05T14:47:34.201-0200][3113ms] GC(0) Adaptive CSet Selection. Target Free: 130M, "
                 + "Actual Free: 1084M, Max CSet: 54M, Min Garbage: 0M";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2174,7 +2173,7 @@ class TestUnifiedPreprocessAction {
     void testHotCardCache() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Hot Card Cache (ms):           Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2186,7 +2185,7 @@ class TestUnifiedPreprocessAction {
     void testHumongousRegion() {
         String logLine = "[77.301s][debug][gc,humongous      ] GC(19) Humongous region 1 (object size 179719864 @ "
                 + "0x0000000381000000) remset 0 code roots 0 marked 0 reclaim candidate 1 type array 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2198,7 +2197,7 @@ class TestUnifiedPreprocessAction {
     void testHumongousTotal() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)         Humongous Total                Min: 0, "
                 + "Avg:  0.0, Max: 0, Diff: 0, Sum: 0, Workers: 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2230,7 +2229,7 @@ class TestUnifiedPreprocessAction {
     void testJniWeak3Spaces() {
         String logLine = "[0.843s][debug][gc,phases      ] GC(1)   JNI Weak                       Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2242,7 +2241,7 @@ class TestUnifiedPreprocessAction {
     void testJniWeak7Spaces() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       JNI Weak                       Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2254,7 +2253,7 @@ class TestUnifiedPreprocessAction {
     void testJvmtiTagWeakOopStorage3Spaces() {
         String logLine = "[0.843s][debug][gc,phases      ] GC(1)   JVMTI Tag Weak OopStorage      Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2266,7 +2265,7 @@ class TestUnifiedPreprocessAction {
     void testJvmtiTagWeakOopStorage7Spaces() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       JVMTI Tag Weak OopStorage      Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2278,7 +2277,7 @@ class TestUnifiedPreprocessAction {
     void testLabWaste() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)         LAB Waste                      Min: 200, "
                 + "Avg: 1113.8, Max: 3040, Diff: 2840, Sum: 14480, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2290,7 +2289,7 @@ class TestUnifiedPreprocessAction {
     void testLogBuffers() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Log Buffers (ms):              Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2301,7 +2300,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testMarkStatsCache() {
         String logLine = "[1234ms] Mark stats cache hits 25288251 misses 4149 ratio 99.984";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2327,7 +2326,7 @@ class TestUnifiedPreprocessAction {
     void testMergePerThreadState() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Merge Per-Thread State (ms):   Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2339,7 +2338,7 @@ class TestUnifiedPreprocessAction {
     void testMergeSparsed() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Merged Sparse:                 Min: 0, "
                 + "Avg:  0.0, Max: 0, Diff: 0, Sum: 0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2357,7 +2356,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testMetaspaceData() {
         String logLine = "[0.032s][info][gc,metaspace ] GC(0) Metaspace: 120K->120K(1056768K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2369,7 +2368,7 @@ class TestUnifiedPreprocessAction {
     void testMetaspaceDataJdk17() {
         String logLine = "[0.061s][info][gc,metaspace] GC(1) Metaspace: 667K(832K)->667K(832K) NonClass: "
                 + "617K(704K)->617K(704K) Class: 49K(128K)->49K(128K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2388,7 +2387,7 @@ class TestUnifiedPreprocessAction {
     void testMetaspaceNoInfo() {
         String logLine = "[2022-08-03T06:58:41.321+0000][gc,metaspace] GC(0) Metaspace: 19460K(19840K)->19460K(19840K) "
                 + "NonClass: 17082K(17280K)->17082K(17280K) Class: 2378K(2560K)->2378K(2560K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2401,7 +2400,7 @@ class TestUnifiedPreprocessAction {
     void testMetaspaceTimePidTags() {
         String logLine = "[2022-08-04T11:38:08.058+0000][1908][gc,metaspace] GC(0) Metaspace: 21086K(21504K)->"
                 + "21086K(21504K) NonClass: 18491K(18752K)->18491K(18752K) Class: 2594K(2752K)->2594K(2752K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2441,7 +2440,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testNoRememberedSets() {
         String logLine = "[0.844s][debug][gc,phases         ] GC(1) No Remembered Sets to update after rebuild";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2452,7 +2451,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testNotify() {
         String logLine = "[1234ms] GC(500)   Notify Soft/WeakReferences: 0.4ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2464,7 +2463,7 @@ class TestUnifiedPreprocessAction {
     void testObjectSynchronizerWeak3Spaces() {
         String logLine = "[0.843s][debug][gc,phases      ] GC(1)   ObjectSynchronizer Weak        Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2476,7 +2475,7 @@ class TestUnifiedPreprocessAction {
     void testObjectSynchronizerWeak7Spaces() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       ObjectSynchronizer Weak        Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2487,7 +2486,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testOldCandidateCollectionSetEmpty() {
         String logLine = "[1759.746s][debug][gc,ergo,cset      ] GC(101) Old candidate collection set empty.";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2572,8 +2571,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2022-02-08T07:33:13.853+0000][7732101ms] GC(112) Pause Full (Metadata GC Clear Soft "
                 + "References) 141M->141M(2147M) 670.712ms";
         String nextLogLine = "[2022-02-08T07:33:13.854+0000][7732102ms] GC(112) User=1.05s Sys=0.01s Real=0.67s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         context.add(UnifiedPreprocessAction.TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC);
         context.add(PreprocessAction.NEWLINE);
         context.add(UnifiedPreprocessAction.TOKEN);
@@ -2638,8 +2637,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2022-02-08T07:33:13.183+0000][7731431ms] GC(111) Pause Young (Metadata GC Clear Soft "
                 + "References) 141M->141M(2147M) 4.151ms";
         String nextLogLine = "[2022-02-08T07:33:13.183+0000][7731431ms] GC(111) User=0.00s Sys=0.00s Real=0.01s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         context.add(PreprocessAction.NEWLINE);
         context.add(UnifiedPreprocessAction.TOKEN);
         assertTrue(UnifiedPreprocessAction.match(logLine),
@@ -2673,7 +2672,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testParNewData() {
         String logLine = "[0.053s][info][gc,heap      ] GC(0) ParNew: 974K->128K(1152K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2684,7 +2683,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testParOldGenData() {
         String logLine = "[0.030s][info][gc,heap      ] GC(0) ParOldGen: 0K->8K(512K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2703,8 +2702,8 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPauseYoungInfo() {
         String logLine = "[0.112s][info][gc             ] GC(3) Pause Young (Allocation Failure) 1M->1M(2M) 0.700ms";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         context.add(PreprocessAction.NEWLINE);
         context.add(UnifiedPreprocessAction.TOKEN);
         assertTrue(UnifiedPreprocessAction.match(logLine),
@@ -2726,8 +2725,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[0.058s][info][gc           ] GC(0) Pause Young (Normal) (G1 Evacuation Pause) 1M->1M(4M) "
                 + "5.780ms";
         String nextLogLine = "[0.058s][info][gc,cpu       ] GC(0) User=0.01s Sys=0.00s Real=0.01s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2741,7 +2740,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[390354.671s][info][gc] GC(1471) Pause Young (Concurrent Start) (G1 Humongous Allocation) "
                 + "16113M->15932M(16384M) 36.022ms";
         String nextLogLine = "[390354.671s][info][gc] GC(1472) Concurrent Cycle";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2755,8 +2754,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2020-06-24T19:24:56.395-0700][4442390ms] GC(126) Pause Young (Concurrent Start) "
                 + "(G1 Humongous Allocation) 882M->842M(1223M) 19.777ms";
         String nextLogLine = "[2020-06-24T19:24:56.395-0700][4442390ms] GC(126) User=0.04s Sys=0.00s Real=0.02s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2771,8 +2770,8 @@ class TestUnifiedPreprocessAction {
                 + "(Concurrent Start) (GCLocker Initiated GC) 614121M->614121M(614400M) 52.062ms";
         String nextLogLine = "[2023-02-12T01:16:20.228+0200][info][gc,cpu         ] GC(3296) User=3.24s Sys=0.03s "
                 + "Real=0.05s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2786,8 +2785,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2020-06-24T18:11:52.781-0700][58776ms] GC(44) Pause Young (Concurrent Start) "
                 + "(Metadata GC Threshold) 733M->588M(1223M) 105.541ms";
         String nextLogLine = "[2020-06-24T18:11:52.781-0700][58776ms] GC(44) User=0.18s Sys=0.00s Real=0.11s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2801,8 +2800,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[0.038s][info][gc          ] GC(0) Pause Young (Normal) (G1 Preventive Collection) "
                 + "1M->1M(4M) 0.792ms";
         String nextLogLine = "[0.038s][info][gc,cpu      ] GC(0) User=0.00s Sys=0.00s Real=0.00s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2817,7 +2816,7 @@ class TestUnifiedPreprocessAction {
                 + "16340M->16340M(16384M) 47.840ms";
         String nextLogLine = "[390361.491s][info][gc] GC(1474) Pause Full (GCLocker Initiated GC) "
                 + "16340M->15902M(16384M) 6628.742ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2831,8 +2830,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2019-05-09T01:39:07.172+0000][11764ms] GC(3) Pause Young (Normal) (GCLocker Initiated GC) "
                 + "78M->22M(1304M) 35.722ms";
         String nextLogLine = "[2019-05-09T01:39:07.172+0000][11764ms] GC(3) User=0.02s Sys=0.00s Real=0.04s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2846,8 +2845,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2019-05-09T01:39:00.821+0000][5413ms] GC(0) Pause Young (Normal) (G1 Evacuation Pause) "
                 + "65M->8M(1304M) 57.263ms";
         String nextLogLine = "[2019-05-09T01:39:00.821+0000][5413ms] GC(0) User=0.02s Sys=0.01s Real=0.06s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2859,7 +2858,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPauseYoungInfoStandAlone() {
         String logLine = "[1.507s][info][gc] GC(77) Pause Young (Allocation Failure) 24M->4M(25M) 0.509ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         context.add(PreprocessAction.NEWLINE);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
@@ -2872,8 +2871,8 @@ class TestUnifiedPreprocessAction {
     void testPauseYoungInfoTriggerHeapDumpInitiatedGc() {
         String logLine = "[2021-11-01T20:48:05.107+0000][240210706ms] GC(950) Pause Young (Heap Dump Initiated GC) "
                 + "678M->166M(1678M) 9.184ms";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         context.add(PreprocessAction.NEWLINE);
         context.add(UnifiedPreprocessAction.TOKEN);
         assertTrue(UnifiedPreprocessAction.match(logLine),
@@ -2888,8 +2887,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2022-08-03T06:58:41.321+0000][gc          ] GC(0) Pause Young (Normal) (G1 Evacuation Pause)"
                 + " 615M->23M(12288M) 7,870ms";
         String nextLogLine = "[2022-08-03T06:58:41.321+0000][gc,cpu      ] GC(0) User=0,04s Sys=0,00s Real=0,01s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2915,7 +2914,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPerformingGcAfterExcitingCriticalSection() {
         String logLine = "[1234ms] Performing GC after exiting critical section. Thread \"default task-12\" 0 locked.";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2927,7 +2926,7 @@ class TestUnifiedPreprocessAction {
     void testPhantomRef() {
         String logLine = "[1234ms] GC(500)     PhantomRef (ms):          Min:  0.1, Avg:  0.1, Max:  0.1, Diff:  0.0, "
                 + "Sum:  0.1, Workers: 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -2938,7 +2937,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPhantomReference() {
         String logLine = "[1234ms] GC(500)   PhantomReference:";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3005,7 +3004,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPostEvacuateCleanup() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Post Evacuate Cleanup 1: 0.0ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3016,7 +3015,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPrecleanFinalReferences() {
         String logLine = "[1234ms] GC(500) Preclean FinalReferences";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3027,7 +3026,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPrecleanPhantomReferences() {
         String logLine = "[1234ms] GC(500) Preclean PhantomReferences";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3038,7 +3037,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPrecleanSoftReferences() {
         String logLine = "[1234ms] GC(500) Preclean SoftReferences";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3049,7 +3048,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPrecleanWeakReferences() {
         String logLine = "[1234ms] GC(500) Preclean WeakReferences";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3062,7 +3061,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[0.007s][trace][gc,ergo,heap] Predicted base time: total 10.000000 lb_cards 0 rs_length 0 "
                 + "effective_scanned_cards 0 card_merge_time 0.000000 card_scan_time 0.000000 constant_other_time "
                 + "10.000000 survivor_evac_time 0.000000";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3073,7 +3072,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPrepareHeapRoots() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Prepare Heap Roots: 0.0ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3084,7 +3083,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPrepareMergeHeapRoots() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Prepare Merge Heap Roots: 0.1ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3096,7 +3095,7 @@ class TestUnifiedPreprocessAction {
     void testPrepareTlabs() {
         String logLine = "[2022-10-09T13:16:49.289+0000][3792.777s][debug][gc,phases         ] GC(9)     Prepare "
                 + "TLABs: 0.1ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3347,7 +3346,7 @@ class TestUnifiedPreprocessAction {
     void testProcessedBuffers() {
         String logLine = "[2022-10-09T13:16:49.289+0000][3792.777s][debug][gc,phases         ] GC(9)       Processed "
                 + "Buffers:        Min: 1, Avg: 26.9, Max: 111, Diff: 110, Sum: 215, Workers: 8";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3360,7 +3359,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2021-10-30T02:03:26.792+0000][404347ms] Promotion failed";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3371,7 +3370,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testProtectionDomainCacheTable() {
         String logLine = "[1234ms] GC(500) ProtectionDomainCacheTable";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3383,7 +3382,7 @@ class TestUnifiedPreprocessAction {
     void testPruned() {
         String logLine = "[140.081s][debug][gc,ergo,cset      ] GC(27) Pruned 19 regions out of 21, leaving 109682752 "
                 + "bytes waste (allowed 966367641)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3403,7 +3402,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPsOldGenData() {
         String logLine = "[0.032s][info][gc,heap      ] GC(0) PSOldGen: 0K->8K(512K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3414,7 +3413,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPsYoungGenData() {
         String logLine = "[0.032s][info][gc,heap      ] GC(0) PSYoungGen: 512K->464K(1024K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3426,7 +3425,7 @@ class TestUnifiedPreprocessAction {
     void testPurgeCodeRoots() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Purge Code Roots (ms):         Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3437,7 +3436,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testPurgeMetaspace() {
         String logLine = "[1234ms] GC(500) Purge Metaspace";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3448,7 +3447,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testRebuildFreeList() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Rebuild Free List: 0.0ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3460,7 +3459,7 @@ class TestUnifiedPreprocessAction {
     void testRecalculateUsedMemory() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Recalculate Used Memory (ms):  Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3471,7 +3470,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testReclaim() {
         String logLine = "[1234ms] GC(500) Reclaim Empty Regions";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3482,7 +3481,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testReclaimed() {
         String logLine = "[1234ms] GC(500) Reclaimed 3 empty regions";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3493,7 +3492,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testReclaimEmptyRegions() {
         String logLine = "[1234ms] GC(500) Reclaim Empty Regions";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3504,7 +3503,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testReconsiderSoftReferences() {
         String logLine = "[25231951ms] GC(500)   Reconsider SoftReferences: 1.2ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3516,7 +3515,7 @@ class TestUnifiedPreprocessAction {
     void testRedirtiedCards() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)         Redirtied Cards:               Min: 0, "
                 + "Avg:  0.0, Max: 0, Diff: 0, Sum: 0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3528,7 +3527,7 @@ class TestUnifiedPreprocessAction {
     void testRedirtyLoggedCards() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Redirty Logged Cards (ms):     Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3539,7 +3538,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testReferenceProcessing() {
         String logLine = "[1234ms] GC(500) Reference Processing";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3551,7 +3550,7 @@ class TestUnifiedPreprocessAction {
     void testReferenceProcessor() {
         String logLine = "[0.837s][debug][gc,ref         ] GC(0) ReferenceProcessor::execute queues: 1, "
                 + "RefProcThreadModel::Single, marks_oops_alive: false";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3562,7 +3561,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testRegionRegister() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Region Register: 0.1ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3594,7 +3593,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testRememberedSet() {
         String logLine = "[1234ms] GC(500) Remembered Set Tracking update regions total 3072, selected 419";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3606,7 +3605,7 @@ class TestUnifiedPreprocessAction {
     void testRememberedSets() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Remembered Sets (ms):          Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3618,7 +3617,7 @@ class TestUnifiedPreprocessAction {
     void testRememberedSetWithTags() {
         String logLine = "[0.843s][debug][gc,remset,tracking] GC(1) Remembered Set Tracking update regions total 1152, "
                 + "selected 0";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3629,7 +3628,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testReportObjectCount() {
         String logLine = "[1234ms] GC(500) Report Object Count";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3641,7 +3640,7 @@ class TestUnifiedPreprocessAction {
     void testRequestMixedGcs() {
         String logLine = "[1234ms] GC(500) request mixed gcs (candidate old regions available). candidate old "
                 + "regions: 355 reclaimable: 2360770192 (9.16) threshold: 5";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3653,7 +3652,7 @@ class TestUnifiedPreprocessAction {
     void testRequestYoungOnlyGcs() {
         String logLine = "[7.447s][debug][gc,ergo           ] GC(7) request young-only gcs (candidate old regions not "
                 + "available)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3665,7 +3664,7 @@ class TestUnifiedPreprocessAction {
     void testResetHotCardCache() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Reset Hot Card Cache (ms):     Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3677,7 +3676,7 @@ class TestUnifiedPreprocessAction {
     void testResolvedMethodTableWeak3Spaces() {
         String logLine = "[0.843s][debug][gc,phases      ] GC(1)   ResolvedMethodTable Weak       Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3689,7 +3688,7 @@ class TestUnifiedPreprocessAction {
     void testResolvedMethodTableWeak7Spaces() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       ResolvedMethodTable Weak       Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3830,7 +3829,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2023-08-18T11:40:51.508-0500][1.708s][info][safepoint     ] Safepoint "
                 + "\"G1CollectForAllocation\", Time since last: 11990384 ns, Reaching safepoint: 2496 ns, Cleanup: "
                 + "11042 ns, At safepoint: 623787 ns, " + "Total: 637325 ns";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         context.add(UnifiedPreprocessAction.JDK17U8);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
@@ -3846,7 +3845,7 @@ class TestUnifiedPreprocessAction {
     void testSafepointJdk17u9Time() {
         String logLine = "[2023-12-20T14:15:55.393-0500] Safepoint \"ICBufferFull\", Time since last: 256916975 ns, "
                 + "Reaching safepoint: 2351 ns, Cleanup: 84109 ns, At safepoint: 1590 ns, Total: 88050 ns";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         context.add(UnifiedPreprocessAction.JDK17U8);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
@@ -3888,7 +3887,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testSafepointSynchronizationInitiatedUsingFutexWaitBarrier() {
         String logLine = "[3.459s] Safepoint synchronization initiated using futex wait barrier. (14 threads)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3916,7 +3915,7 @@ class TestUnifiedPreprocessAction {
     void testScanHeapRoots() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)     Scan Heap Roots (ms):          Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3928,7 +3927,7 @@ class TestUnifiedPreprocessAction {
     void testScannedBlocks() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Scanned Blocks:                Min: 0, "
                 + "Avg:  0.0, Max: 0, Diff: 0, Sum: 0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -3955,8 +3954,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2021-03-13T03:37:42.178+0530][79855246ms] GC(8646) Pause Full (G1 Evacuation Pause) "
                 + "8186M->8178M(8192M) 2127.343ms";
         String nextLogLine = "[2021-03-13T03:37:42.179+0530][79855247ms] GC(8646) User=16.40s Sys=0.09s Real=2.13s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         context.add(UnifiedPreprocessAction.TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
@@ -3971,8 +3970,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2020-06-24T18:13:51.155-0700][177150ms] GC(74) Pause Full (System.gc()) 887M->583M(1223M) "
                 + "3460.196ms";
         String nextLogLine = "[2020-06-24T18:13:51.155-0700][177150ms] GC(74) User=1.78s Sys=0.01s Real=3.46s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         context.add(UnifiedPreprocessAction.TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
@@ -4021,7 +4020,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testSerialOldTriggerErgonomics() {
         String logLine = "[2021-10-27T13:03:09.055-0400] GC(3) Pause Full (Ergonomics)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4034,8 +4033,8 @@ class TestUnifiedPreprocessAction {
     void testSerialOldTriggerErgonomicsDetails() {
         String logLine = "[0.092s][info][gc             ] GC(3) Pause Full (Ergonomics) 0M->0M(3M) 1.849ms";
         String nextLogLine = "[0.092s][info][gc,cpu         ] GC(3) User=0.01s Sys=0.00s Real=0.00s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         context.add(UnifiedPreprocessAction.TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
@@ -4050,8 +4049,8 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2021-11-01T20:48:05.297+0000][240210896ms] GC(951) Pause Full (Heap Dump Initiated GC) "
                 + "166M->160M(1678M) 189.216ms";
         String nextLogLine = "[2021-11-01T20:48:05.297+0000][240210896ms] GC(951) User=0.80s Sys=0.02s Real=0.19s";
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         context.add(UnifiedPreprocessAction.TOKEN_BEGINNING_OF_UNIFIED_G1_FULL_GC);
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
@@ -4064,7 +4063,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testSettingNeedsGc() {
         String logLine = "[1234ms] Setting _needs_gc. Thread \"VM Thread\" 1 locked";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4076,7 +4075,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahBadProgressForExernalFragmentationNegativePercent() {
         String logLine = "[2023-08-25T02:17:13.552-0400][308.957s] GC(37) Bad progress for external fragmentation: "
                 + "-41.7%, need 1.0%";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4088,7 +4087,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahBadProgressForInternalFragmentation() {
         String logLine = "[2023-08-25T02:17:13.552-0400][308.957s] GC(37) Bad progress for internal fragmentation: "
                 + "0.1%, need 1.0%";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4099,7 +4098,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahCancellingGcAllocationFailure() {
         String logLine = "[52.872s][info][gc           ] Cancelling GC: Allocation Failure";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4110,7 +4109,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahCleanup() {
         String logLine = "[0.191s][info][gc,start    ] GC(0) Concurrent cleanup";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4121,7 +4120,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahConcurrent() {
         String logLine = "[2022-08-09T17:56:59.059-0400] GC(0) Concurrent cleanup 28M->27M(32M) 0.103ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4135,7 +4134,7 @@ class TestUnifiedPreprocessAction {
                 + "(process weakrefs) (unload classes)";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertNull(event.getLogEntry(), "Log line not parsed correctly.");
@@ -4144,7 +4143,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahConcurrentMarkingUnloadClasses() {
         String logLine = "[5.593s][info][gc,start     ] GC(99) Concurrent marking (unload classes)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4158,7 +4157,7 @@ class TestUnifiedPreprocessAction {
                 + "(process weakrefs) (unload classes) 24.734ms";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + JdkUtil.PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(logLine, event.getLogEntry(), "Log line not parsed correctly.");
@@ -4250,7 +4249,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahDecoratorPacerForMark() {
         String logLine = "[41.893s][info][gc,ergo      ] GC(1500) Pacer for Mark. Expected Live: 22M, Free: 9M, "
                 + "Non-Taxable: 0M, Alloc Tax Rate: 8.5x";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4296,7 +4295,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahDegeneratedGcEvacuation() {
         String logLine = "[2024-04-12T13:14:26.315-0400] GC(97) Pause Degenerated GC (Evacuation)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4308,7 +4307,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahDegeneratedGcMark() {
         String logLine = "[52.883s][info][gc,start     ] GC(1632) Pause Degenerated GC (Mark)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4319,7 +4318,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahDegeneratedGcOutsideOfCycle() {
         String logLine = "[8.061s][gc,start] GC(136) Pause Degenerated GC (Outside of Cycle)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4331,7 +4330,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahDegeneratedGcTriggerOutsideOfCycleData() {
         String logLine = "[2024-04-12T17:56:00.635-0400] GC(74) Pause Degenerated GC (Outside of Cycle) 90M->15M(96M) "
                 + "13.088ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4342,7 +4341,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahDegeneratedGcUpdateRefs() {
         String logLine = "[2024-04-12T17:56:01.722-0400] GC(90) Pause Degenerated GC (Update Refs)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4357,7 +4356,7 @@ class TestUnifiedPreprocessAction {
                 + "Phantom: 6";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertNull(event.getLogEntry(), "Log line not parsed correctly.");
@@ -4369,7 +4368,7 @@ class TestUnifiedPreprocessAction {
                 + "Phantom: 8";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertNull(event.getLogEntry(), "Log line not parsed correctly.");
@@ -4381,7 +4380,7 @@ class TestUnifiedPreprocessAction {
                 + "Phantom: 0";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertNull(event.getLogEntry(), "Log line not parsed correctly.");
@@ -4391,7 +4390,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahEvacuationReserve() {
         String logLine = "[41.911s][info][gc,ergo      ] GC(1500) Evacuation Reserve: 3M (13 regions), "
                 + "Max regular: 256K";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4402,7 +4401,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahEvacuationReserveNoGcEventNumber() {
         String logLine = "[41.912s][info][gc,ergo      ] Evacuation Reserve: 3M (13 regions), Max regular: 256K";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4414,7 +4413,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahEvacuationReserveUptimeMillis() {
         String logLine = "[2019-02-05T14:47:34.203-0200][3115ms] GC(0) Evacuation Reserve: 65M (131 regions), "
                 + "Max regular: 512K";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4425,7 +4424,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahFailedToAllocate() {
         String logLine = "[52.872s][info][gc           ] Failed to allocate 256K";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4436,7 +4435,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahFailedToAllocateShared() {
         String logLine = "[2024-04-12T13:14:26.313-0400] Failed to allocate Shared, 1496B";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4447,7 +4446,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahFailedToAllocateTlab() {
         String logLine = "[2024-04-12T17:56:00.620-0400] Failed to allocate TLAB, 165K";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4459,7 +4458,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahFinalMarkAdaptiveCSetUptimeMillis() {
         String logLine = "[2019-02-05T14:47:34.201-0200][3113ms] GC(0) Adaptive CSet Selection. Target Free: 130M, "
                 + "Actual Free: 1084M, Max CSet: 54M, Min Garbage: 0M";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4471,7 +4470,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahFinalMarkCollectableGarbageUptimeMillis() {
         String logLine = "[2019-02-05T14:47:34.201-0200][3113ms] GC(0) Collectable Garbage: 179M (61% of total), "
                 + "23M CSet, 407 CSet regions";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4501,7 +4500,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahFinalMarkPacerRateInfinity() {
         String logLine = "[2.919s] GC(67) Pacer for Evacuation. Used CSet: 79104K, Free: 0B, Non-Taxable: 0B, Alloc "
                 + "Tax Rate: infx";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4513,7 +4512,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahFinalMarkPacerUptimeMillis() {
         String logLine = "[2019-02-05T14:47:34.202-0200][3114ms] GC(0) Pacer for Evacuation. Used CSet: 203M, Free: "
                 + "1023M, Non-Taxable: 102M, Alloc Tax Rate: 1.1x";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4524,7 +4523,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahFinalMarkStartUnified() {
         String logLine = "[41.911s][info][gc,start     ] GC(1500) Pause Final Mark (update refs) (process weakrefs)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4554,7 +4553,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahFreeExternalFrag3Digit() {
         String logLine = "[42.421s][info][gc,ergo      ] Free: 8M (72 regions), Max regular: 256K, Max humongous: 0K, "
                 + "External frag: 100%, Internal frag: 51%";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4565,7 +4564,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahFreeHeadroomUnified() {
         String logLine = "[41.917s][info][gc,ergo      ] Free headroom: 11M (free) - 3M (spike) - 0M (penalties) = 8M";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4577,7 +4576,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahFreeHeadroomUptimeMillis() {
         String logLine = "[2019-02-05T14:48:05.666-0200][34578ms] Free headroom: 132M (free) - 65M (spike) - 0M "
                 + "(penalties) = 67M";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4589,7 +4588,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahFreeNoGcEventNumber() {
         String logLine = "[41.912s][info][gc,ergo      ] Free: 18M (109 regions), Max regular: 256K, Max humongous: "
                 + "1280K, External frag: 94%, Internal frag: 33%";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4601,7 +4600,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahFreeUnified() {
         String logLine = "[41.911s][info][gc,ergo      ] GC(1500) Free: 18M (109 regions), Max regular: 256K, "
                 + "Max humongous: 1280K, External frag: 94%, Internal frag: 33%";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4613,7 +4612,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahFreeUptimeMillis() {
         String logLine = "[2019-02-05T14:47:34.203-0200][3115ms] GC(0) Free: 1022M (2045 regions), Max regular: 512K, "
                 + "Max humongous: 929280K, External frag: 12%, Internal frag: 0%";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4625,7 +4624,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahGoodProgressForExernalFragmentation() {
         String logLine = "[2023-08-25T02:17:17.382-0400][312.787s] GC(38) Good progress for external fragmentation: "
                 + "33.9%, need 1.0%";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4636,7 +4635,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahGoodProgressFreeSpaceDegeneratedGcUnified() {
         String logLine = "[52.937s][info][gc,ergo      ] GC(1632) Good progress for free space: 31426K, need 655K";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4647,7 +4646,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahGoodProgressUsedSpaceDegeneratedGcUnified() {
         String logLine = "[52.937s][info][gc,ergo      ] GC(1632) Good progress for used space: 31488K, need 256K";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4658,7 +4657,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahImmediateGarbage() {
         String logLine = "[0.330s][info][gc,ergo      ] GC(0) Immediate Garbage: 4258K (31% of total), 17 regions";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4687,7 +4686,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahInitMarkProcessWeakRefs() {
         String logLine = "[2021-10-27T13:03:16.626-0400] GC(0) Pause Init Mark (process weakrefs)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4699,7 +4698,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahInitMarkStart() {
         String logLine = "[69.704s][info][gc,start     ] GC(2583) Pause Init Mark";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4710,7 +4709,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahInitMarkStartProcessWeakrefsUptimeMillisUnified() {
         String logLine = "[2019-02-05T14:47:34.175-0200][3087ms] GC(0) Pause Init Mark (process weakrefs)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4722,7 +4721,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahInitMarkStartUpdateRefs() {
         String logLine = "[41.918s][info][gc,start     ] GC(1501) Pause Init Mark (update refs)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4733,7 +4732,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahInitMarkStartUpdateRefsProcessWeakrefs() {
         String logLine = "[41.893s][info][gc,start     ] GC(1500) Pause Init Mark (update refs) (process weakrefs)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4744,7 +4743,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahInitMarkUnloadClasses() {
         String logLine = "[5.593s][info][gc,start     ] GC(99) Pause Init Mark (unload classes)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4755,7 +4754,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahInitUpdate() {
         String logLine = "[2021-10-27T13:03:16.666-0400] GC(2) Pause Init Update Refs";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4786,7 +4785,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahInitUpdatePacerUpdateMillis() {
         String logLine = "[2019-02-05T14:47:34.229-0200][3141ms] GC(0) Pacer for Update Refs. Used: 242M, Free: 1020M, "
                 + "Non-Taxable: 102M, Alloc Tax Rate: 1.1x";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4797,7 +4796,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahInitUpdateStartUnified() {
         String logLine = "[69.612s][info][gc,start     ] GC(2582) Pause Init Update Refs";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4808,7 +4807,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahInitUpdateStartUptimeMillis() {
         String logLine = "[2019-02-05T14:47:34.229-0200][3141ms] GC(0) Pause Init Update Refs";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4888,7 +4887,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahMarkingRoots() {
         String logLine = "[0.188s][info][gc,start    ] GC(0) Concurrent marking roots";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4929,7 +4928,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahMetaspaceDataJdk11() {
         String logLine = "[0.258s] Metaspace: 3477K->3501K(1056768K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4943,7 +4942,7 @@ class TestUnifiedPreprocessAction {
                 + "2860K(2944K)->2872K(2944K) Class: 258K(384K)->258K(384K)";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(" Metaspace: 3118K(3328K)->3130K(3328K)", event.getLogEntry(), "Log line not parsed correctly.");
@@ -4955,7 +4954,7 @@ class TestUnifiedPreprocessAction {
                 + "3091K(3136K)->3133K(3264K) Class: 278K(384K)->285K(384K)";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(" Metaspace: 3369K(3520K)->3419K(3648K)", event.getLogEntry(), "Log line not parsed correctly.");
@@ -4964,7 +4963,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahPacerForIdle() {
         String logLine = "[41.912s][info][gc,ergo      ] Pacer for Idle. Initial: 1M, Alloc Tax Rate: 1.0x";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4976,7 +4975,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahPacerForMarkPercent2Digit() {
         String logLine = "[42.019s][info][gc,ergo      ] GC(1505) Pacer for Mark. Expected Live: 22M, Free: 7M, "
                 + "Non-Taxable: 0M, Alloc Tax Rate: 11.5x";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -4988,7 +4987,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahPacerForMarkPercentInf() {
         String logLine = "[52.875s][info][gc,ergo      ] GC(1631) Pacer for Mark. Expected Live: 19163K, Free: 0B, "
                 + "Non-Taxable: 0B, Alloc Tax Rate: infx";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5000,7 +4999,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahPacerForMarkUptimeMillis() {
         String logLine = "[2019-02-05T14:47:34.178-0200][3090ms] GC(0) Pacer for Mark. Expected Live: 130M, "
                 + "Free: 911M, Non-Taxable: 91M, Alloc Tax Rate: 0.5x";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5011,7 +5010,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahPacerForPrecleaning() {
         String logLine = "[2020-06-26T15:30:31.311-0400] GC(0) Pacer for Precleaning. Non-Taxable: 98304K";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5022,7 +5021,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahPacerForReset() {
         String logLine = "[2020-06-26T15:30:31.303-0400] GC(0) Pacer for Reset. Non-Taxable: 98304K";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5034,7 +5033,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahPacerForUpdateRefs() {
         String logLine = "[2021-10-27T13:03:16.666-0400] GC(2) Pacer for Update Refs. Used: 32278K, Free: 60967K, "
                 + "Non-Taxable: 6096K, Alloc Tax Rate: 1.1x";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5047,7 +5046,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2021-10-27T13:03:16.630-0400] GC(0) Pause Final Mark (process weakrefs) 0.674ms";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(logLine, event.getLogEntry(), "Log line not parsed correctly.");
@@ -5058,7 +5057,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2021-10-27T13:03:16.629-0400] GC(0) Pause Final Mark (process weakrefs)";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals("[2021-10-27T13:03:16.629-0400][gc,start] GC(0) Pause Final Mark (process weakrefs)",
@@ -5071,7 +5070,7 @@ class TestUnifiedPreprocessAction {
                 + "(process weakrefs) (unload classes)";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(logLine, event.getLogEntry(), "Log line not parsed correctly.");
@@ -5083,7 +5082,7 @@ class TestUnifiedPreprocessAction {
                 + "(process weakrefs) (unload classes) 10.861ms";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(logLine, event.getLogEntry(), "Log line not parsed correctly.");
@@ -5092,7 +5091,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahPauseFinalRoots() {
         String logLine = "[2023-08-25T02:15:57.862-0400][233.267s] GC(4) Pause Final Roots";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5106,7 +5105,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2023-08-25T02:15:57.862-0400][233.267s] GC(4) Pause Final Roots 0.019ms";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(logLine, event.getLogEntry(), "Log line not parsed correctly.");
@@ -5117,7 +5116,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2021-10-27T13:03:16.634-0400] GC(0) Pause Final Update Refs 0.084ms";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(logLine, event.getLogEntry(), "Log line not parsed correctly.");
@@ -5128,7 +5127,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2021-10-27T13:03:16.634-0400] GC(0) Pause Final Update Refs";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals("[2021-10-27T13:03:16.634-0400][gc,start] GC(0) Pause Final Update Refs", event.getLogEntry(),
@@ -5138,7 +5137,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahPauseFull() {
         String logLine = "[2023-08-25T02:16:58.619-0400][294.024s] GC(22) Pause Full";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5150,7 +5149,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahPauseInitMark() {
         String logLine = "[2021-10-27T13:03:16.646-0400] GC(1) Pause Init Mark";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5162,7 +5161,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahPauseInitMarkProcessWeakrefs() {
         String logLine = "[2021-10-27T13:03:16.627-0400] GC(0) Pause Init Mark (process weakrefs) 0.575ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5176,7 +5175,7 @@ class TestUnifiedPreprocessAction {
                 + "(unload classes)";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(logLine, event.getLogEntry(), "Log line not parsed correctly.");
@@ -5188,8 +5187,8 @@ class TestUnifiedPreprocessAction {
                 + "(unload classes) 0.537ms";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
-        context.add(UnifiedLogging.Tag.GC_START.toString());
+        PreprocessContext context = new PreprocessContext();
+        context.add(PreprocessContext.Token.GC_START);
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(" 0.537ms", event.getLogEntry(), "Log line not parsed correctly.");
@@ -5220,7 +5219,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[2021-10-27T13:03:16.666-0400] GC(2) Pause Init Update Refs 0.012ms";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertEquals(logLine, event.getLogEntry(), "Log line not parsed correctly.");
@@ -5309,7 +5308,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahReferenceProcessing() {
         String logLine = "[2024-04-09T08:23:52.028-0400] Reference processing: parallel discovery, parallel processing";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5321,7 +5320,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahUncommittedUptimeMillis() {
         String logLine = "[2019-02-05T14:52:31.138-0200][300050ms] Uncommitted 140M. Heap: 1303M reserved, 1163M "
                 + "committed, 874M used";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5332,7 +5331,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUncommitUptimeMillisNoGcEventNumber() {
         String logLine = "[2019-02-05T14:52:31.132-0200][300044ms] Concurrent uncommit";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5343,7 +5342,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUptimeMillis() {
         String logLine = "[2019-02-05T14:47:34.156-0200][3068ms] GC(0) Concurrent reset";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5361,7 +5360,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForConcurrentEvacuation() {
         String logLine = "[41.911s][info][gc,task      ] GC(1500) Using 2 of 4 workers for concurrent evacuation";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5372,7 +5371,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForConcurrentMarking() {
         String logLine = "[41.893s][info][gc,task      ] GC(1500) Using 2 of 4 workers for concurrent marking";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5383,7 +5382,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForConcurrentMarkingRoots() {
         String logLine = "[0.188s][info][gc,task     ] GC(0) Using 2 of 6 workers for concurrent marking roots";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5394,7 +5393,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForConcurrentPreclean() {
         String logLine = "[41.911s][info][gc,task      ] GC(1500) Using 1 of 4 workers for concurrent preclean";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5406,7 +5405,7 @@ class TestUnifiedPreprocessAction {
     void testShenandoahUsingWorkersForConcurrentReferenceUpdate() {
         String logLine = "[69.612s][info][gc,task      ] GC(2582) Using 2 of 4 workers for concurrent reference "
                 + "update";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5417,7 +5416,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForConcurrentReset() {
         String logLine = "[41.892s][info][gc,task      ] GC(1500) Using 2 of 4 workers for concurrent reset";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5428,7 +5427,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForConcurrentResetUptimeMillis() {
         String logLine = "[2019-02-05T14:47:34.175-0200][3087ms] GC(0) Using 4 of 4 workers for concurrent reset";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5439,7 +5438,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForConcurrentStrongRoot() {
         String logLine = "[0.192s][info][gc,task     ] GC(0) Using 2 of 6 workers for concurrent strong root";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5450,7 +5449,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForConcurrentThreadRoots() {
         String logLine = "[0.191s][info][gc,task     ] GC(0) Using 2 of 6 workers for Concurrent thread roots";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5461,7 +5460,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForConcurrentWeakReferences() {
         String logLine = "[0.191s][info][gc,task     ] GC(0) Using 2 of 6 workers for concurrent weak references";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5472,7 +5471,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForConcurrentWeakRoot() {
         String logLine = "[0.191s][info][gc,task     ] GC(0) Using 2 of 6 workers for concurrent weak root";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5483,7 +5482,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForDegeneratedGc() {
         String logLine = "[52.883s][info][gc,task      ] GC(1632) Using 2 of 2 workers for stw degenerated gc";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5494,7 +5493,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForFinalMarking() {
         String logLine = "[41.911s][info][gc,task      ] GC(1500) Using 2 of 4 workers for final marking";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5505,7 +5504,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForFinalReferenceUpdate() {
         String logLine = "[69.644s][info][gc,task      ] GC(2582) Using 2 of 4 workers for final reference update";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5516,7 +5515,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testShenandoahUsingWorkersForInitMarking() {
         String logLine = "[2021-10-27T13:03:16.626-0400] GC(0) Using 4 of 6 workers for init marking";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5529,7 +5528,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[16.601s][info][gc,task      ] GC(1033) Using 1 workers of 1 for marking";
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         List<String> entangledLogLines = new ArrayList<String>();
         UnifiedPreprocessAction event = new UnifiedPreprocessAction(null, logLine, null, entangledLogLines, context);
         assertNull(event.getLogEntry(), "Log line not parsed correctly.");
@@ -5539,7 +5538,7 @@ class TestUnifiedPreprocessAction {
     void testShrinkTheHeap() {
         String logLine = "[2.740s][debug][gc,ergo,heap] GC(2) Shrink the heap. requested shrinking amount: 2050415470B "
                 + "aligned shrinking amount: 2046820352B attempted shrinking amount: 2046820352B";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5559,7 +5558,7 @@ class TestUnifiedPreprocessAction {
     void testSkippedPhaseSpace() {
         String logLine = "[0.837s][debug][gc,ref         ] GC(0) Skipped phase 1 of Reference Processing: no "
                 + "references";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5571,7 +5570,7 @@ class TestUnifiedPreprocessAction {
     void testSkippingRememberedSetRebuild() {
         String logLine = "[0.844s][debug][gc,marking        ] GC(1) Skipping Remembered Set Rebuild. No regions "
                 + "selected for rebuild";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5596,7 +5595,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testSoftRef() {
         String logLine = "[1234ms] GC(500)     SoftRef (ms)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5607,7 +5606,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testSoftReference() {
         String logLine = "[1234ms] GC(500)   SoftReference:";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5619,7 +5618,7 @@ class TestUnifiedPreprocessAction {
     void testStartAddingOldRegions() {
         String logLine = "[1759.746s][debug][gc,ergo,cset      ] GC(101) Start adding old regions to collection set. "
                 + "Min 14 regions, max 116 regions, time remaining 179.04ms, optional threshold 35.81ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5718,7 +5717,7 @@ class TestUnifiedPreprocessAction {
     void testStringDedupTableWeak3Spaces() {
         String logLine = "[0.843s][debug][gc,phases      ] GC(1)   StringDedup Table Weak         Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.1, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5730,7 +5729,7 @@ class TestUnifiedPreprocessAction {
     void testStringDedupTableWeak7Spaces() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       StringDedup Table Weak         Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5742,7 +5741,7 @@ class TestUnifiedPreprocessAction {
     void testStringTableWeak3Spaces() {
         String logLine = "[0.843s][debug][gc,phases      ] GC(1)   StringTable Weak               Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.1, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5754,7 +5753,7 @@ class TestUnifiedPreprocessAction {
     void testStringTableWeak7Spaces() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       StringTable Weak               Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.3, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5765,7 +5764,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testTenuredData() {
         String logLine = "[32.636s][info][gc,heap        ] GC(9239) Tenured: 24193K->24195K(25240K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5775,7 +5774,7 @@ class TestUnifiedPreprocessAction {
 
     void testTenuredDataJdk17() {
         String logLine = "[0.036s][info][gc,heap     ] GC(0) Tenured: 0K(768K)->552K(768K)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5786,7 +5785,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testTimesData() {
         String logLine = "[0.112s][info][gc,cpu         ] GC(3) User=0.00s Sys=0.00s Real=0.00s";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5812,7 +5811,7 @@ class TestUnifiedPreprocessAction {
     void testTotal() {
         String logLine = "[1234ms] GC(500)     Total (ms):               Min:  0.1, Avg:  0.1, Max:  0.2, Diff:  0.1, "
                 + "Sum:  2.5, Workers: 19";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5824,7 +5823,7 @@ class TestUnifiedPreprocessAction {
     void testTotalRefinement() {
         String logLine = "[0.834s][debug][gc,refine,stats] GC(0) Total refinement: 0.00ms, refined: 0, precleaned: 0, "
                 + "dirtied: 0";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5939,7 +5938,7 @@ class TestUnifiedPreprocessAction {
     void testUpdateDerivedPointers() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Update Derived Pointers (ms):  Min:  0.0, "
                 + "vg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 1";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5950,7 +5949,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testUpdateRememberedSetTracking() {
         String logLine = "[1234ms] GC(500) Update Remembered Set Tracking Before Rebuild";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5984,7 +5983,7 @@ class TestUnifiedPreprocessAction {
     void testVisitedCards() {
         String logLine = "[0.834s][debug][gc,remset      ] GC(0) Visited cards 0 Total dirty 0 (0.00%) Total old "
                 + "458752 (0.00%)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -5996,7 +5995,7 @@ class TestUnifiedPreprocessAction {
     void testVmWeak3Spaces() {
         String logLine = "[0.843s][debug][gc,phases      ] GC(1)   VM Weak                        Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6008,7 +6007,7 @@ class TestUnifiedPreprocessAction {
     void testVmWeak7Spaces() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       VM Weak                        Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6027,7 +6026,7 @@ class TestUnifiedPreprocessAction {
     void testWeakJfrOldObjectSamples3Spaces() {
         String logLine = "[0.843s][debug][gc,phases      ] GC(1)   Weak JFR Old Object Samples    Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6039,7 +6038,7 @@ class TestUnifiedPreprocessAction {
     void testWeakJfrOldObjectSamples7Spaces() {
         String logLine = "[0.838s][debug][gc,phases      ] GC(0)       Weak JFR Old Object Samples    Min:  0.0, "
                 + "Avg:  0.0, Max:  0.0, Diff:  0.0, Sum:  0.0, Workers: 13";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6050,7 +6049,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testWeakProcessing() {
         String logLine = "[1234ms] GC(500) Weak Processing";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6062,7 +6061,7 @@ class TestUnifiedPreprocessAction {
     void testWeakRef() {
         String logLine = "[1234ms] GC(500)     WeakRef (ms):             Min:  0.0, Avg:  0.0, Max:  0.0, Diff:  0.0, "
                 + "Sum:  0.0, Workers: 19";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6073,7 +6072,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testWeakReference() {
         String logLine = "[1234ms] GC(500)   WeakReference:";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6086,7 +6085,7 @@ class TestUnifiedPreprocessAction {
         String logLine = "[0.007s][trace][gc,ergo,heap] Young desired length 12 survivor length 0 allocated young "
                 + "length 0 absolute min young length 12 absolute max young length 150 desired eden length by mmu 0 "
                 + "desired eden length by pause 12";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6098,7 +6097,7 @@ class TestUnifiedPreprocessAction {
     void testYoungListLength() {
         String logLine = "[0.007s][trace][gc,ergo,heap] Young list length update: pending cards 0 rs_length 0 old "
                 + "target 0 desired: 12 target: 12 max: 12";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6109,7 +6108,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testYoungSingleLine() {
         String logLine = "[1.507s][info][gc] GC(77) Pause Young (Allocation Failure) 24M->4M(25M) 0.509ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6121,7 +6120,7 @@ class TestUnifiedPreprocessAction {
     void testYoungTargetLength() {
         String logLine = "[0.007s][trace][gc,ergo,heap] Young target length: No need to use reserve receiving "
                 + "additional eden 12";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6296,7 +6295,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalClassLoaderData() {
         String logLine = "[66.290s][debug][gc,phases,start ] GC(0) O: ClassLoaderData";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6307,7 +6306,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalConcurrentClassesUnlink() {
         String logLine = "[66.290s][debug][gc,phases,start ] GC(0) O: Concurrent Classes Unlink";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6318,7 +6317,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalConcurrentMarkOld() {
         String logLine = "[0.213s][info][gc,phases   ] GC(2) O: Concurrent Mark 0.295ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6329,7 +6328,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalConcurrentMarkYoung() {
         String logLine = "[0.100s][info][gc,phases   ] GC(0) Y: Concurrent Mark 2.536ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6340,7 +6339,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalConcurrentReferencesProcess() {
         String logLine = "[66.260s][debug][gc,phases,start ] GC(0) O: Concurrent References Process";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6351,7 +6350,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalConcurrentReferencesProcessWithDuration() {
         String logLine = "[66.260s][debug][gc,phases       ] GC(0) O: Concurrent References Process 0.022ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6362,7 +6361,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalPauseMarkEndOld() {
         String logLine = "[66.260s][debug][gc,phases,start ] GC(0) O: Pause Mark End";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6373,7 +6372,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalPauseMarkEndYoungMajor() {
         String logLine = "[66.076s][debug][gc,phases,start ] GC(0) Y: Pause Mark End";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6384,7 +6383,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalPauseMarkEndYoungMinor() {
         String logLine = "[2998.647s][debug][gc,phases,start ] GC(8) y: Pause Mark End";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6395,7 +6394,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalPauseMarkStartMajor() {
         String logLine = "[65.488s][debug][gc,phases,start ] GC(0) Y: Pause Mark Start (Major)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6406,7 +6405,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalPauseMarkStartMinor() {
         String logLine = "[4960.975s][debug][gc,phases,start ] GC(11) y: Pause Mark Start";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6417,7 +6416,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalPauseMarkStartWithDuration() {
         String logLine = "[65.489s][info ][gc,phases       ] GC(0) Y: Pause Mark Start (Major) 0.028ms";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6428,7 +6427,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalPauseRelocateStartOld() {
         String logLine = "[78.704s][debug][gc,phases,start ] GC(2) O: Pause Relocate Start";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6439,7 +6438,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalPauseRelocateStartYoung() {
         String logLine = "[66.101s][debug][gc,phases,start ] GC(0) Y: Pause Relocate Start";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6450,7 +6449,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZGenerationalTriggerCleanups() {
         String logLine = "[66.290s][debug][gc,phases,start ] GC(0) O: Trigger cleanups";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6556,7 +6555,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZMajorCollectionCodeCacheGCThreshold() {
         String logLine = "[518.231s][info ][gc              ] GC(4) Major Collection (CodeCache GC Threshold)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6568,7 +6567,7 @@ class TestUnifiedPreprocessAction {
     void testZMajorCollectionCodeCacheGCThresholdWithDetails() {
         String logLine = "[524.199s][info ][gc              ] GC(4) Major Collection (CodeCache GC Threshold) "
                 + "6762M(24%)->4956M(18%) 5.969s";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6579,7 +6578,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZMajorCollectionProactive() {
         String logLine = "[3107.964s][info ][gc              ] GC(9) Major Collection (Proactive)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
@@ -6590,7 +6589,7 @@ class TestUnifiedPreprocessAction {
     @Test
     void testZMajorCollectionWarmup() {
         String logLine = "[2021-12-01T10:04:06.358-0500] GC(0) Major Collection (Warmup)";
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         assertTrue(UnifiedPreprocessAction.match(logLine),
                 "Log line not recognized as " + PreprocessActionType.UNIFIED.toString() + ".");
         List<String> entangledLogLines = new ArrayList<String>();
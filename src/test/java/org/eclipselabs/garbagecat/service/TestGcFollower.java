@@ -0,0 +1,147 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGcFollower {
+
+    @Test
+    void testFollow(@TempDir File temporaryFolder) throws IOException {
+        File testFile = TestUtil.getFile("dataset283.txt");
+        GcManager gcManager = new GcManager();
+        List<String> logLines = gcManager.preprocess(Files.readAllLines(testFile.toPath()), null);
+        gcManager.store(logLines, false);
+        JvmRun expected = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+
+        byte[] bytes = Files.readAllBytes(testFile.toPath());
+        File logFile = new File(temporaryFolder, "gc.log");
+        int split = bytes.length / 3;
+        Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, 0, split));
+        gcManager = new GcManager();
+        GcFollower follower = new GcFollower(logFile, gcManager, null, true, false);
+        assertTrue(follower.poll() > 0, "Log lines not read.");
+        gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertEquals(0, follower.poll(), "Log lines read with no new logging.");
+        // Split mid-line to check a partial last line is held until complete.
+        Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, split, bytes.length), StandardOpenOption.APPEND);
+        assertTrue(follower.poll() > 0, "Appended log lines not read.");
+        follower.finish();
+        JvmRun actual = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertEquals(expected.getEventTypes(), actual.getEventTypes(), "Event types not correct.");
+        assertEquals(expected.getBlockingEventCount(), actual.getBlockingEventCount(), "Blocking count not correct.");
+        assertEquals(expected.getGcThroughput(), actual.getGcThroughput(), "GC throughput not correct.");
+        assertEquals(expected.getSafepointEventSummaries().size(), actual.getSafepointEventSummaries().size(),
+                "Safepoint summary count not correct.");
+        assertEquals(expected.getSafepointEventSummaries().get(0).getCount(),
+                actual.getSafepointEventSummaries().get(0).getCount(), "Safepoint summary not regenerated correctly.");
+        assertEquals(expected.getUnidentifiedLogLines(), actual.getUnidentifiedLogLines(),
+                "Unidentified log lines not correct.");
+    }
+
+    @Test
+    void testInterrupted(@TempDir File temporaryFolder) throws IOException {
+        File testFile = TestUtil.getFile("dataset283.txt");
+        GcManager gcManager = new GcManager();
+        List<String> logLines = gcManager.preprocess(Files.readAllLines(testFile.toPath()), null);
+        gcManager.store(logLines, false);
+        JvmRun expected = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+
+        // An interrupt (e.g. on shutdown) while polling must not close the log file and lose the final report.
+        File logFile = new File(temporaryFolder, "gc.log");
+        Files.copy(testFile.toPath(), logFile.toPath());
+        gcManager = new GcManager();
+        GcFollower follower = new GcFollower(logFile, gcManager, null, true, false);
+        Thread.currentThread().interrupt();
+        try {
+            assertTrue(follower.poll() > 0, "Log lines not read when interrupted.");
+            follower.finish();
+        } finally {
+            Thread.interrupted();
+        }
+        JvmRun actual = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertEquals(expected.getEventTypes(), actual.getEventTypes(), "Event types not correct.");
+        assertEquals(expected.getBlockingEventCount(), actual.getBlockingEventCount(), "Blocking count not correct.");
+        assertEquals(expected.getGcThroughput(), actual.getGcThroughput(), "GC throughput not correct.");
+    }
+
+    @Test
+    void testReportEachPoll(@TempDir File temporaryFolder) throws IOException {
+        File testFile = TestUtil.getFile("dataset283.txt");
+        GcManager gcManager = new GcManager();
+        List<String> logLines = gcManager.preprocess(Files.readAllLines(testFile.toPath()), null);
+        gcManager.store(logLines, false);
+        JvmRun expected = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+
+        // The report is regenerated from running aggregates after each poll.
+        byte[] bytes = Files.readAllBytes(testFile.toPath());
+        File logFile = new File(temporaryFolder, "gc.log");
+        Files.write(logFile.toPath(), new byte[0]);
+        gcManager = new GcManager();
+        GcFollower follower = new GcFollower(logFile, gcManager, null, true, false);
+        int parts = 4;
+        for (int i = 0; i < parts; i++) {
+            Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, bytes.length * i / parts,
+                    bytes.length * (i + 1) / parts), StandardOpenOption.APPEND);
+            follower.poll();
+            gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        }
+        follower.finish();
+        JvmRun actual = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertEquals(expected.getBlockingEventCount(), actual.getBlockingEventCount(), "Blocking count not correct.");
+        assertEquals(expected.getDurationTotal(), actual.getDurationTotal(), "Duration total not correct.");
+        assertEquals(expected.getDurationMax(), actual.getDurationMax(), "Duration max not correct.");
+        assertEquals(expected.getMaxHeapOccupancy(), actual.getMaxHeapOccupancy(), "Max heap occupancy not correct.");
+        assertEquals(expected.getAllocationRate(), actual.getAllocationRate(), "Allocation rate not correct.");
+        assertEquals(expected.getGcBottlenecks(), actual.getGcBottlenecks(), "GC bottlenecks not correct.");
+        assertEquals(expected.getSafepointBottlenecks(), actual.getSafepointBottlenecks(),
+                "Safepoint bottlenecks not correct.");
+        assertEquals(expected.getUnifiedSafepointTimeTotal(), actual.getUnifiedSafepointTimeTotal(),
+                "Safepoint time total not correct.");
+        assertEquals(expected.getSafepointEventSummaries().size(), actual.getSafepointEventSummaries().size(),
+                "Safepoint summary count not correct.");
+        for (int i = 0; i < expected.getSafepointEventSummaries().size(); i++) {
+            assertEquals(expected.getSafepointEventSummaries().get(i).getPauseTotal(),
+                    actual.getSafepointEventSummaries().get(i).getPauseTotal(), "Safepoint summary not correct.");
+        }
+    }
+
+    @Test
+    void testTruncated(@TempDir File temporaryFolder) throws IOException {
+        byte[] bytes = Files.readAllBytes(TestUtil.getFile("dataset283.txt").toPath());
+        File logFile = new File(temporaryFolder, "gc.log");
+        Files.write(logFile.toPath(), bytes);
+        GcFollower follower = new GcFollower(logFile, new GcManager(), null, true, false);
+        assertTrue(follower.poll() > 0, "Log lines not read.");
+        Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, 0, bytes.length / 2));
+        assertEquals(-1, follower.poll(), "Truncation not detected.");
+    }
+}
@@ -0,0 +1,99 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.service.GcLogFormat.Decorator;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.PreprocessActionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGcLogFormat {
+
+    @Test
+    void testBinary() {
+        GcLogFormat format = GcLogFormat.sniff(Arrays.asList("\u0000\u0001\u0002"));
+        assertFalse(format.isGcLog(), "Binary content not rejected.");
+    }
+
+    @Test
+    void testEmpty() {
+        GcLogFormat format = GcLogFormat.sniff(new ArrayList<String>());
+        assertTrue(format.isGcLog(), "Empty logging rejected.");
+        assertEquals(Decorator.UNKNOWN, format.getDecorator(), "Decorator not correct.");
+        assertEquals(CollectorFamily.UNKNOWN, format.getCollectorFamily(), "Collector family not correct.");
+    }
+
+    @Test
+    void testLegacyHeader() throws IOException {
+        GcLogFormat format = GcLogFormat.sniff(TestUtil.getFile("dataset106.txt"));
+        assertTrue(format.isGcLog(), "Gc log rejected.");
+        assertEquals(Decorator.LEGACY, format.getDecorator(), "Decorator not correct.");
+        assertEquals(8, format.getJdkVersionMajor(), "JDK major version not correct.");
+        assertEquals(45, format.getJdkVersionMinor(), "JDK minor version not correct.");
+        assertEquals(CollectorFamily.G1, format.getCollectorFamily(), "Collector family not correct.");
+        assertTrue(format.isPreprocessCandidate(PreprocessActionType.APPLICATION_STOPPED_TIME),
+                "Application stopped time preprocessing not tried.");
+        assertFalse(format.isPreprocessCandidate(PreprocessActionType.CMS), "CMS preprocessing tried on G1 logging.");
+        assertFalse(format.isPreprocessCandidate(PreprocessActionType.UNIFIED),
+                "Unified preprocessing tried on legacy logging.");
+    }
+
+    @Test
+    void testLegacyRaw() throws IOException {
+        // Multi-line G1 logging that is only identified once preprocessed
+        GcLogFormat format = GcLogFormat.sniff(TestUtil.getFile("dataset102.txt"));
+        assertTrue(format.isGcLog(), "Raw gc log rejected.");
+        assertEquals(Decorator.LEGACY, format.getDecorator(), "Decorator not correct.");
+        assertEquals(CollectorFamily.UNKNOWN, format.getCollectorFamily(), "Collector family not correct.");
+        assertTrue(format.isPreprocessCandidate(PreprocessActionType.G1), "G1 preprocessing not tried.");
+        assertTrue(format.isPreprocessCandidate(PreprocessActionType.CMS), "CMS preprocessing not tried.");
+        assertFalse(format.isPreprocessCandidate(PreprocessActionType.UNIFIED),
+                "Unified preprocessing tried on legacy logging.");
+    }
+
+    @Test
+    void testNotGcLog(@TempDir File temporaryFolder) throws IOException {
+        File logFile = new File(temporaryFolder, "application.log");
+        Files.write(logFile.toPath(), Arrays.asList("Starting application", "Listening on port 8080"));
+        assertFalse(GcLogFormat.sniff(logFile).isGcLog(), "Application logging not rejected.");
+        assertThrows(IllegalArgumentException.class, () -> GcLogFormat.verify(logFile), "Not a gc log not rejected.");
+    }
+
+    @Test
+    void testUnifiedHeader() throws IOException {
+        GcLogFormat format = GcLogFormat.sniff(TestUtil.getFile("dataset152.txt"));
+        assertTrue(format.isGcLog(), "Gc log rejected.");
+        assertEquals(Decorator.UNIFIED, format.getDecorator(), "Decorator not correct.");
+        assertEquals(CollectorFamily.G1, format.getCollectorFamily(), "Collector family not correct.");
+        assertTrue(format.isPreprocessCandidate(PreprocessActionType.UNIFIED), "Unified preprocessing not tried.");
+        assertFalse(format.isPreprocessCandidate(PreprocessActionType.G1),
+                "Legacy preprocessing tried on unified logging.");
+    }
+}
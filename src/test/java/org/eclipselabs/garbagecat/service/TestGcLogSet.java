@@ -0,0 +1,140 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGcLogSet {
+
+    @Test
+    void testCompressedRotation(@TempDir File temporaryFolder) throws IOException {
+        List<String> logLines = Files.readAllLines(TestUtil.getFile("dataset283.txt").toPath());
+        int half = logLines.size() / 2;
+        File logFile0 = new File(temporaryFolder, "gc.log.0.gz");
+        try (Writer out = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(logFile0)),
+                StandardCharsets.UTF_8)) {
+            for (String logLine : logLines.subList(0, half)) {
+                out.write(logLine + "\n");
+            }
+        }
+        File logFile = new File(temporaryFolder, "gc.log");
+        Files.write(logFile.toPath(), logLines.subList(half, logLines.size()));
+        GcLogSet logSet = new GcLogSet(GcLogSet.find(logFile));
+        assertEquals(Arrays.asList(logFile0, logFile), logSet.getLogFiles(), "Log files not in logging order.");
+        GcManager gcManager = new GcManager();
+        assertEquals(logLines.size(), logSet.parse(gcManager, null, true, false), "Log line count not correct.");
+        JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertEquals(0, jvmRun.getUnidentifiedLogLines().size(), "Unidentified log lines not correct.");
+    }
+
+    @Test
+    void testFind(@TempDir File temporaryFolder) throws IOException {
+        for (String name : new String[] { "gc.log.0", "gc.log.1", "gc.log.2.current", "gc.log.lck", "other.log.0" }) {
+            Files.write(new File(temporaryFolder, name).toPath(), new byte[0]);
+        }
+        List<File> logFiles = GcLogSet.find(new File(temporaryFolder, "gc.log.1"));
+        assertEquals(Arrays.asList(new File(temporaryFolder, "gc.log.0"), new File(temporaryFolder, "gc.log.1"),
+                new File(temporaryFolder, "gc.log.2.current")), logFiles, "Rotated log files not correct.");
+    }
+
+    @Test
+    void testJdk8Rotation(@TempDir File temporaryFolder) throws IOException {
+        // The current file has the earliest number, so name order is not logging order.
+        File logFile0 = new File(temporaryFolder, "gc.log.0.current");
+        Files.write(logFile0.toPath(), Arrays.asList("2016-10-18 01:52:10 GC log file created /path/to/gc.log.0",
+                "253.197: [Full GC (System) [PSYoungGen: 384K->0K(647360K)] [ParOldGen: 566561K->564118K(889536K)] "
+                        + "566945K->564118K(1536896K) [PSPermGen: 381589K->381589K(446208K)], 2.4491360 secs] "
+                        + "[Times: user=3.46 sys=0.02, real=2.45 secs]"));
+        File logFile1 = new File(temporaryFolder, "gc.log.1");
+        Files.write(logFile1.toPath(), Arrays.asList("2016-10-18 01:50:54 GC log file created /path/to/gc.log.1",
+                "253.161: [GC [PSYoungGen: 11734K->384K(647360K)] 578296K->566945K(1536896K), 0.0361840 secs] "
+                        + "[Times: user=0.05 sys=0.00, real=0.04 secs]",
+                "2016-10-18 01:52:10 GC log file has reached the maximum size. Saved as /path/to/gc.log.1"));
+        GcLogSet logSet = new GcLogSet(GcLogSet.find(logFile1));
+        assertEquals(Arrays.asList(logFile1, logFile0), logSet.getLogFiles(), "Log files not in logging order.");
+        GcManager gcManager = new GcManager();
+        // Rotation log file lines after the first are dropped.
+        assertEquals(3, logSet.parse(gcManager, null, false, false), "Log line count not correct.");
+        JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertEquals(2, jvmRun.getBlockingEventCount(), "Blocking event count not correct.");
+        assertTrue(jvmRun.getEventTypes().contains(LogEventType.LOG_FILE), "Log file event not identified.");
+        assertEquals(0, jvmRun.getUnidentifiedLogLines().size(), "Unidentified log lines not correct.");
+    }
+
+    @Test
+    void testTimestamp() {
+        assertEquals(253161, GcLogSet.getTimestamp("253.161: [GC [PSYoungGen: 11734K->384K(647360K)]"),
+                "Legacy timestamp not correct.");
+        assertEquals(253161, GcLogSet.getTimestamp("2016-10-18T01:50:54.123-0400: 253.161: [GC"),
+                "Legacy datestamp and timestamp not correct.");
+        assertEquals(JdkUtil.convertDatestampToMillis("2016-10-18T01:50:54.123-0400"),
+                GcLogSet.getTimestamp("2016-10-18T01:50:54.123-0400: [GC"), "Legacy datestamp not correct.");
+        assertEquals(2564, GcLogSet.getTimestamp("[2024-02-01T11:09:53.291+0000][2.564s][info ][gc] GC(3)"),
+                "Unified uptime not correct.");
+        assertEquals(2564, GcLogSet.getTimestamp("[2564ms][info][gc] GC(3)"), "Unified uptimemillis not correct.");
+        assertEquals(-1, GcLogSet.getTimestamp("   [PSYoungGen: 11734K->384K(647360K)]"), "Timestamp not expected.");
+        assertEquals(-1, GcLogSet.getTimestamp("CommandLine flags: -XX:+UseG1GC"), "Timestamp not expected.");
+    }
+
+    @Test
+    void testUnifiedRotation(@TempDir File temporaryFolder) throws IOException {
+        File testFile = TestUtil.getFile("dataset283.txt");
+        List<String> logLines = Files.readAllLines(testFile.toPath());
+        GcManager gcManager = new GcManager();
+        gcManager.store(gcManager.preprocess(logLines, null), false);
+        JvmRun expected = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+
+        // Unified logging reuses archive numbers cyclically: gc.log.1 is older than gc.log.0.
+        int third = logLines.size() / 3;
+        Files.write(new File(temporaryFolder, "gc.log.1").toPath(), logLines.subList(0, third));
+        Files.write(new File(temporaryFolder, "gc.log.0").toPath(), logLines.subList(third, 2 * third));
+        File logFile = new File(temporaryFolder, "gc.log");
+        Files.write(logFile.toPath(), logLines.subList(2 * third, logLines.size()));
+        GcLogSet logSet = new GcLogSet(GcLogSet.find(logFile));
+        assertEquals(Arrays.asList("gc.log.1", "gc.log.0", "gc.log"),
+                Arrays.asList(logSet.getLogFiles().stream().map(File::getName).toArray()),
+                "Log files not in logging order.");
+        gcManager = new GcManager();
+        assertEquals(logLines.size(), logSet.parse(gcManager, null, true, false), "Log line count not correct.");
+        JvmRun actual = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertEquals(expected.getEventTypes(), actual.getEventTypes(), "Event types not correct.");
+        assertEquals(expected.getBlockingEventCount(), actual.getBlockingEventCount(), "Blocking count not correct.");
+        assertEquals(expected.getGcThroughput(), actual.getGcThroughput(), "GC throughput not correct.");
+        assertEquals(expected.getUnidentifiedLogLines(), actual.getUnidentifiedLogLines(),
+                "Unidentified log lines not correct.");
+    }
+}
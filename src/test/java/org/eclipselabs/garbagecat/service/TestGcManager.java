@@ -13,21 +13,28 @@
 package org.eclipselabs.garbagecat.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.domain.JvmRun;
 import org.eclipselabs.garbagecat.domain.LogEvent;
 import org.eclipselabs.garbagecat.domain.jdk.CmsConcurrentEvent;
+import org.eclipselabs.garbagecat.domain.jdk.G1YoungPauseEvent;
+import org.eclipselabs.garbagecat.preprocess.PreprocessContext;
 import org.eclipselabs.garbagecat.util.Constants;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -47,7 +54,7 @@ class TestGcManager {
         String nextLogLine = null;
         Date jvmStartDate = null;
         List<String> entangledLogLines = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         GcManager gcManager = new GcManager();
         String preprocessedLogLine = gcManager.getPreprocessedLogEntry(currentLogLine, priorLogEvent, nextLogLine,
                 jvmStartDate, entangledLogLines, context);
@@ -61,7 +68,7 @@ class TestGcManager {
         String nextLogLine = null;
         Date jvmStartDate = null;
         List<String> entangledLogLines = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         GcManager gcManager = new GcManager();
         String preprocessedLogLine = gcManager.getPreprocessedLogEntry(currentLogLine, priorLogEvent, nextLogLine,
                 jvmStartDate, entangledLogLines, context);
@@ -75,7 +82,7 @@ class TestGcManager {
         String nextLogLine = null;
         Date jvmStartDate = null;
         List<String> entangledLogLines = null;
-        Set<String> context = new HashSet<String>();
+        PreprocessContext context = new PreprocessContext();
         GcManager gcManager = new GcManager();
         String preprocessedLogLine = gcManager.getPreprocessedLogEntry(currentLogLine, priorLogEvent, nextLogLine,
                 jvmStartDate, entangledLogLines, context);
@@ -95,4 +102,75 @@ class TestGcManager {
         List<String> logLines = Files.readAllLines(Paths.get(logFileUri));
         logLines = gcManager.preprocess(logLines, null);
     }
+
+    @Test
+    void testParsePreprocessingNeededAfterSniff() throws IOException {
+        // Logging that does not need preprocessing is longer than the sniffed head.
+        List<String> logLines = new ArrayList<String>(
+                Files.readAllLines(Paths.get(TestUtil.getFile("dataset103.txt").toURI())));
+        logLines.addAll(Files.readAllLines(Paths.get(TestUtil.getFile("dataset105.txt").toURI())));
+        GcManager gcManager = new GcManager();
+        assertFalse(gcManager.isPreprocessNeeded(logLines), "Preprocessing incorrectly needed.");
+        gcManager.parse(logLines, true, false);
+        JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        GcManager preprocessGcManager = new GcManager();
+        preprocessGcManager.store(preprocessGcManager.preprocess(logLines, null), false);
+        JvmRun preprocessJvmRun = preprocessGcManager.getJvmRun(null,
+                Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertTrue(gcManager.isPreprocessed(), "Logging not preprocessed.");
+        assertEquals(preprocessJvmRun.getEventTypes(), jvmRun.getEventTypes(), "Event types not correct.");
+        assertEquals(preprocessJvmRun.getUnidentifiedLogLines(), jvmRun.getUnidentifiedLogLines(),
+                "Unidentified log lines not correct.");
+        assertTrue(jvmRun.getEventTypes().contains(LogEventType.PAR_NEW),
+                "Log line not recognized as " + LogEventType.PAR_NEW.toString() + ".");
+    }
+
+    @Test
+    void testParsePreprocessingNotNeeded() throws IOException {
+        File testFile = TestUtil.getFile("dataset103.txt");
+        List<String> logLines = Files.readAllLines(Paths.get(testFile.toURI()));
+        GcManager gcManager = new GcManager();
+        assertFalse(gcManager.isPreprocessNeeded(logLines), "Preprocessing incorrectly needed.");
+        gcManager.parse(logLines, true, false);
+        JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertTrue(gcManager.isPreprocessed(), "Logging not preprocessed.");
+        assertEquals(0, jvmRun.getUnidentifiedLogLines().size(), "Unidentified log lines.");
+        assertEquals(151, jvmRun.getStoppedTimeEventCount(), "Stopped time event count not correct.");
+    }
+
+    @Test
+    void testPreprocessG1YoungPauseAssembled() throws IOException {
+        File testFile = TestUtil.getFile("dataset34.txt");
+        List<String> logLines = Files.readAllLines(Paths.get(testFile.toURI()));
+        GcManager gcManager = new GcManager();
+        PreprocessState state = gcManager.startPreprocessing(logLines, null);
+        for (String logLine : logLines) {
+            gcManager.preprocess(state, logLine);
+        }
+        gcManager.finishPreprocessing(state);
+        List<String> logEntries = new ArrayList<String>();
+        List<LogEvent> logEvents = new ArrayList<LogEvent>();
+        state.finishLogEntries(logEntries, logEvents);
+        List<String> preprocessedLogLines = new GcManager().preprocess(logLines, null);
+        assertEquals(preprocessedLogLines.size(), logEntries.size(), "Log entry count not correct.");
+        int index = preprocessedLogLines.size() - 1;
+        assertTrue(logEvents.get(index) instanceof G1YoungPauseEvent,
+                JdkUtil.LogEventType.G1_YOUNG_PAUSE.toString() + " not assembled.");
+        assertNull(logEntries.get(index), "Log entry created for the assembled event.");
+        assertEquals(preprocessedLogLines.get(index), logEvents.get(index).getLogEntry(),
+                "Assembled log entry not correct.");
+        gcManager.store(new StoreState(), logEntries, null, logEvents, false);
+        JvmRun jvmRun = gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+        assertEquals(0, jvmRun.getUnidentifiedLogLines().size(), "Unidentified log lines.");
+        assertTrue(jvmRun.getEventTypes().contains(LogEventType.G1_YOUNG_PAUSE),
+                JdkUtil.LogEventType.G1_YOUNG_PAUSE.toString() + " not stored.");
+    }
+
+    @Test
+    void testPreprocessingNeeded() throws IOException {
+        File testFile = TestUtil.getFile("dataset105.txt");
+        List<String> logLines = Files.readAllLines(Paths.get(testFile.toURI()));
+        GcManager gcManager = new GcManager();
+        assertTrue(gcManager.isPreprocessNeeded(logLines), "Preprocessing not needed.");
+    }
 }
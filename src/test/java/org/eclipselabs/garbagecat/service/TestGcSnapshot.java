@@ -0,0 +1,142 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.domain.JvmRun;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGcSnapshot {
+
+    private static void assertJvmRun(JvmRun expected, JvmRun actual) {
+        assertEquals(expected.getEventTypes(), actual.getEventTypes(), "Event types not correct.");
+        assertEquals(expected.getAnalysis().size(), actual.getAnalysis().size(), "Analysis count not correct.");
+        for (int i = 0; i < expected.getAnalysis().size(); i++) {
+            assertEquals(expected.getAnalysis().get(i)[0], actual.getAnalysis().get(i)[0], "Analysis not correct.");
+        }
+        assertEquals(expected.getPreprocessEvents(), actual.getPreprocessEvents(), "Preprocess events not correct.");
+        assertEquals(expected.getBlockingEventCount(), actual.getBlockingEventCount(), "Blocking count not correct.");
+        assertEquals(expected.getGcThroughput(), actual.getGcThroughput(), "GC throughput not correct.");
+        assertEquals(expected.getMaxHeapAfterGc(), actual.getMaxHeapAfterGc(), "Max heap after GC not correct.");
+        assertEquals(expected.getUnidentifiedLogLines(), actual.getUnidentifiedLogLines(),
+                "Unidentified log lines not correct.");
+        assertEquals(expected.getLastLogLineUnprocessed(), actual.getLastLogLineUnprocessed(),
+                "Last log line unprocessed not correct.");
+    }
+
+    private static JvmRun parse(File logFile) throws IOException {
+        GcManager gcManager = new GcManager();
+        List<String> logLines = Files.readAllLines(logFile.toPath());
+        logLines = gcManager.preprocess(logLines, null);
+        gcManager.store(logLines, false);
+        return gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+    }
+
+    private static JvmRun parse(GcSnapshot snapshot) throws IOException {
+        GcManager gcManager = new GcManager();
+        snapshot.parse(gcManager, null);
+        return gcManager.getJvmRun(null, Constants.DEFAULT_BOTTLENECK_THROUGHPUT_THRESHOLD);
+    }
+
+    @Test
+    void testLoad(@TempDir File temporaryFolder) throws IOException {
+        File logFile = new File(temporaryFolder, "gc.log");
+        Files.copy(TestUtil.getFile("dataset283.txt").toPath(), logFile.toPath());
+        JvmRun expected = parse(logFile);
+        GcSnapshot snapshot = new GcSnapshot(logFile, true, false);
+        assertJvmRun(expected, parse(snapshot));
+        assertEquals(0, snapshot.getResumeOffset(), "Resume offset not correct.");
+        assertTrue(snapshot.getSnapshotFile().isFile(), "Snapshot not saved.");
+        assertJvmRun(expected, parse(snapshot));
+        assertTrue(snapshot.getResumeOffset() > 0, "Snapshot not loaded.");
+    }
+
+    @Test
+    void testResume(@TempDir File temporaryFolder) throws IOException {
+        byte[] bytes = Files.readAllBytes(TestUtil.getFile("dataset283.txt").toPath());
+        File logFile = new File(temporaryFolder, "gc.log");
+        // Split mid-line to check a partial last line is picked up again on resume.
+        int split = bytes.length / 2;
+        Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, 0, split));
+        GcSnapshot snapshot = new GcSnapshot(logFile, true, false);
+        assertJvmRun(parse(logFile), parse(snapshot));
+        Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, split, bytes.length), StandardOpenOption.APPEND);
+        JvmRun resumed = parse(snapshot);
+        assertTrue(snapshot.getResumeOffset() > 0 && snapshot.getResumeOffset() <= split,
+                "Resume offset not correct.");
+        assertJvmRun(parse(logFile), resumed);
+    }
+
+    @Test
+    void testResumeTwice(@TempDir File temporaryFolder) throws IOException {
+        byte[] bytes = Files.readAllBytes(TestUtil.getFile("dataset283.txt").toPath());
+        File logFile = new File(temporaryFolder, "gc.log");
+        // Split mid-line twice to check each resume continues from the last complete line of the prior parse.
+        int split1 = bytes.length / 3;
+        int split2 = bytes.length * 2 / 3;
+        Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, 0, split1));
+        GcSnapshot snapshot = new GcSnapshot(logFile, true, false);
+        assertJvmRun(parse(logFile), parse(snapshot));
+        Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, split1, split2), StandardOpenOption.APPEND);
+        assertJvmRun(parse(logFile), parse(snapshot));
+        long resumeOffset = snapshot.getResumeOffset();
+        assertTrue(resumeOffset > 0 && resumeOffset <= split1, "First resume offset not correct.");
+        assertEquals('\n', bytes[(int) resumeOffset - 1], "First resume offset not at the end of a line.");
+        Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, split2, bytes.length), StandardOpenOption.APPEND);
+        assertJvmRun(parse(logFile), parse(snapshot));
+        assertTrue(snapshot.getResumeOffset() > split1 && snapshot.getResumeOffset() <= split2,
+                "Second resume offset not correct.");
+        assertEquals('\n', bytes[(int) snapshot.getResumeOffset() - 1],
+                "Second resume offset not at the end of a line.");
+    }
+
+    @Test
+    void testStale(@TempDir File temporaryFolder) throws IOException {
+        byte[] bytes = Files.readAllBytes(TestUtil.getFile("dataset283.txt").toPath());
+        File logFile = new File(temporaryFolder, "gc.log");
+        Files.write(logFile.toPath(), bytes);
+        parse(new GcSnapshot(logFile, true, false));
+        // Truncated
+        Files.write(logFile.toPath(), Arrays.copyOfRange(bytes, 0, bytes.length / 2));
+        GcSnapshot snapshot = new GcSnapshot(logFile, true, false);
+        assertJvmRun(parse(logFile), parse(snapshot));
+        assertEquals(0, snapshot.getResumeOffset(), "Truncated log resumed.");
+        // Rewritten
+        byte[] rewritten = bytes.clone();
+        rewritten[0] = (byte) (rewritten[0] == '[' ? '#' : '[');
+        Files.write(logFile.toPath(), rewritten);
+        snapshot = new GcSnapshot(logFile, true, false);
+        assertJvmRun(parse(logFile), parse(snapshot));
+        assertEquals(0, snapshot.getResumeOffset(), "Rewritten log resumed.");
+        // Different options
+        snapshot = new GcSnapshot(logFile, false, false);
+        parse(snapshot);
+        assertEquals(0, snapshot.getResumeOffset(), "Snapshot with different options loaded.");
+    }
+}
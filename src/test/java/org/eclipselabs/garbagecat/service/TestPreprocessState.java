@@ -0,0 +1,113 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.util.Constants;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestPreprocessState {
+
+    @Test
+    void testAppendLogEntry() {
+        PreprocessState state = new PreprocessState(null);
+        assertTrue(state.isLogEntriesEmpty(), "Log entries not empty.");
+        state.appendLogEntry("a");
+        state.appendLogEntry("b");
+        state.addLogEntry("c");
+        state.appendLogEntry("d");
+        assertFalse(state.isLogEntriesEmpty(), "Log entries empty.");
+        assertEquals("cd", state.getLastLogEntry(), "Last log entry not correct.");
+        assertEquals(Arrays.asList("ab", "cd"), state.finishLogEntries(), "Log entries not correct.");
+        assertNull(state.getLastLogEntry(), "Last log entry not completed.");
+    }
+
+    @Test
+    void testAssembledLogEntry() {
+        PreprocessState state = new PreprocessState(null);
+        String beginning = "2.192: [GC pause (G1 Evacuation Pause) (young), 0.0209631 secs]";
+        String eden = "[Eden: 128.0M(128.0M)->0.0B(112.0M) Survivors: 0.0B->16.0M Heap: 128.0M(30.0G)->24.9M(30.0G)]";
+        String times = " [Times: user=0.09 sys=0.02, real=0.03 secs]";
+        state.addLogEntry("a");
+        state.getAccumulator().beginning(beginning);
+        state.addLogEntry(beginning);
+        state.getAccumulator().eden(eden);
+        state.appendLogEntry(eden);
+        assertNull(state.getLastLogEvent(), "Event assembled before it is complete.");
+        state.getAccumulator().times(times);
+        state.appendLogEntry(times);
+        assertNotNull(state.getLastLogEvent(), "Event not assembled.");
+        List<String> logEntries = new ArrayList<String>();
+        List<LogEvent> logEvents = new ArrayList<LogEvent>();
+        state.finishLogEntries(logEntries, logEvents);
+        assertEquals(Arrays.asList("a", null), logEntries, "Log entry created for the assembled event.");
+        assertNull(logEvents.get(0), "Event assembled for a log entry to parse.");
+        assertEquals(beginning + eden + times, logEvents.get(1).getLogEntry(), "Assembled log entry not correct.");
+    }
+
+    @Test
+    void testAssembledLogEntryAppended() {
+        PreprocessState state = new PreprocessState(null);
+        String beginning = "2.192: [GC pause (G1 Evacuation Pause) (young), 0.0209631 secs]";
+        String eden = "[Eden: 128.0M(128.0M)->0.0B(112.0M) Survivors: 0.0B->16.0M Heap: 128.0M(30.0G)->24.9M(30.0G)]";
+        String times = " [Times: user=0.09 sys=0.02, real=0.03 secs]";
+        state.getAccumulator().beginning(beginning);
+        state.addLogEntry(beginning);
+        state.getAccumulator().eden(eden);
+        state.appendLogEntry(eden);
+        state.getAccumulator().times(times);
+        state.appendLogEntry(times);
+        state.appendLogEntry("b");
+        assertNull(state.getLastLogEvent(), "Assembled event used after the log entry was appended to.");
+        assertEquals(Arrays.asList(beginning + eden + times + "b"), state.finishLogEntries(),
+                "Log entry not correct.");
+    }
+
+    @Test
+    void testLastLogEntryEndsWith() {
+        PreprocessState state = new PreprocessState(null);
+        assertFalse(state.isLastLogEntryEndsWith(Constants.LINE_SEPARATOR), "No last log entry ends with separator.");
+        state.addLogEntry("a" + Constants.LINE_SEPARATOR);
+        assertTrue(state.isLastLogEntryEndsWith(Constants.LINE_SEPARATOR),
+                "Last log entry does not end with separator.");
+        state.appendLogEntry("b");
+        assertFalse(state.isLastLogEntryEndsWith(Constants.LINE_SEPARATOR), "Last log entry ends with separator.");
+    }
+
+    @Test
+    void testTakeLogEntries() {
+        PreprocessState state = new PreprocessState(null);
+        state.addLogEntry("a");
+        state.addLogEntry("b");
+        state.addLogEntry("c");
+        List<String> logEntries = state.takeLogEntries();
+        assertEquals(Arrays.asList("a", "b"), logEntries, "Complete log entries not correct.");
+        state.appendLogEntry("d");
+        assertTrue(state.takeLogEntries().isEmpty(), "Last log entry handed off before it is complete.");
+        assertEquals(Arrays.asList("cd"), state.finishLogEntries(), "Last log entry not correct.");
+    }
+}
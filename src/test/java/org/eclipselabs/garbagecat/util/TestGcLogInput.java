@@ -0,0 +1,122 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGcLogInput {
+
+    private static List<String> readAllLines(File logFile) throws IOException {
+        try (GcLogReader reader = GcLogInput.reader(logFile)) {
+            return reader.readAllLines();
+        }
+    }
+
+    @Test
+    void testGzip(@TempDir File temporaryFolder) throws IOException {
+        File testFile = TestUtil.getFile("dataset283.txt");
+        File logFile = new File(temporaryFolder, "gc.log.gz");
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(logFile))) {
+            Files.copy(testFile.toPath(), out);
+        }
+        List<String> expected = Files.readAllLines(testFile.toPath());
+        assertEquals(expected, readAllLines(logFile), "gzip log lines not correct.");
+    }
+
+    @Test
+    void testPrefetch(@TempDir File temporaryFolder) throws IOException {
+        // Larger than the read ahead buffer, so reading ahead blocks until the stream is read.
+        byte[] bytes = new byte[PrefetchInputStream.CHUNK_SIZE * (PrefetchInputStream.CAPACITY + 3) + 7];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) ('a' + i % 26);
+        }
+        File logFile = new File(temporaryFolder, "gc.log.gz");
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(logFile))) {
+            out.write(bytes);
+        }
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        try (InputStream in = GcLogInput.prefetch(logFile)) {
+            byte[] buffer = new byte[5000];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                actual.write(buffer, 0, n);
+            }
+        }
+        assertArrayEquals(bytes, actual.toByteArray(), "Prefetched bytes not correct.");
+    }
+
+    @Test
+    void testPrefetchClosed(@TempDir File temporaryFolder) throws IOException {
+        // Larger than the read ahead buffer, so reading ahead is blocked when the stream is closed.
+        byte[] bytes = new byte[PrefetchInputStream.CHUNK_SIZE * (PrefetchInputStream.CAPACITY + 3)];
+        File logFile = new File(temporaryFolder, "gc.log.gz");
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(logFile))) {
+            out.write(bytes);
+        }
+        InputStream in = GcLogInput.prefetch(logFile);
+        assertEquals(0, in.read(), "Prefetched byte not correct.");
+        in.close();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            IOException e = assertThrows(IOException.class, () -> in.read(), "Read after close not reported.");
+            assertEquals("Stream closed", e.getMessage(), "Read after close error not correct.");
+        }, "Read after close blocked.");
+    }
+
+    @Test
+    void testPrefetchError(@TempDir File temporaryFolder) {
+        File logFile = new File(temporaryFolder, "missing.log.gz");
+        assertThrows(FileNotFoundException.class, () -> {
+            try (InputStream in = GcLogInput.prefetch(logFile)) {
+                in.read();
+            }
+        }, "Open error not reported.");
+    }
+
+    @Test
+    void testZip(@TempDir File temporaryFolder) throws IOException {
+        File testFile = TestUtil.getFile("dataset283.txt");
+        File logFile = new File(temporaryFolder, "gc.zip");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(logFile))) {
+            out.putNextEntry(new ZipEntry("logs/"));
+            out.putNextEntry(new ZipEntry("logs/gc.log"));
+            Files.copy(testFile.toPath(), out);
+        }
+        List<String> expected = Files.readAllLines(testFile.toPath());
+        assertEquals(expected, readAllLines(logFile), "zip log lines not correct.");
+    }
+}
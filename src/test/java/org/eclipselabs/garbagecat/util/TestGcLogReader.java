@@ -0,0 +1,109 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestGcLogReader {
+
+    private static GcLogReader reader(byte[] bytes) {
+        return new GcLogReader(new ByteArrayInputStream(bytes));
+    }
+
+    @Test
+    void testDatasets() throws IOException {
+        // Same lines as strict UTF-8 decoding for all test data.
+        File dir = TestUtil.getFile("dataset1.txt").getParentFile();
+        for (File file : dir.listFiles()) {
+            if (!file.isFile()) {
+                continue;
+            }
+            List<String> expected;
+            try {
+                expected = Files.readAllLines(file.toPath());
+            } catch (IOException e) {
+                continue;
+            }
+            try (GcLogReader reader = reader(Files.readAllBytes(file.toPath()))) {
+                assertEquals(expected, reader.readAllLines(), file.getName() + " lines not correct.");
+                assertEquals(0, reader.getDamagedLineCount(), file.getName() + " damaged line count not correct.");
+            }
+        }
+    }
+
+    @Test
+    void testLineTerminators() throws IOException {
+        byte[] bytes = "a\r\nb\rc\n\nd".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Arrays.asList("a", "b", "c", "", "d"), reader(bytes).readAllLines(),
+                "Line terminators not handled correctly.");
+    }
+
+    @Test
+    void testLongLine() throws IOException {
+        char[] chars = new char[200000];
+        Arrays.fill(chars, 'x');
+        String longLine = new String(chars);
+        byte[] bytes = ("first\n" + longLine + "\u00e9\r\nlast").getBytes(StandardCharsets.UTF_8);
+        try (GcLogReader reader = reader(bytes)) {
+            assertEquals(Arrays.asList("first", longLine + "\u00e9", "last"), reader.readAllLines(),
+                    "Line longer than the buffer not read correctly.");
+            assertEquals(bytes.length, reader.getPosition(), "Position not correct.");
+        }
+    }
+
+    @Test
+    void testMalformed() throws IOException {
+        byte[] bytes = { '1', '.', '2', '3', '4', ':', ' ', (byte) 0xff, (byte) 0xfe, '\n', 'o', 'k', (byte) 0xc3,
+                (byte) 0xa9, '\n', (byte) 0xe2, (byte) 0x82, '\n' };
+        try (GcLogReader reader = reader(bytes)) {
+            assertEquals(Arrays.asList("1.234: \ufffd\ufffd", "ok\u00e9", "\ufffd"), reader.readAllLines(),
+                    "Malformed bytes not replaced.");
+            assertEquals(2, reader.getDamagedLineCount(), "Damaged line count not correct.");
+        }
+    }
+
+    @Test
+    void testPosition() throws IOException {
+        byte[] bytes = "a\r\nbc\rd\ne\r".getBytes(StandardCharsets.US_ASCII);
+        try (GcLogReader reader = reader(bytes)) {
+            assertEquals("a", reader.readLine(), "Line not correct.");
+            assertTrue(reader.isTerminated(), "Line not terminated.");
+            assertEquals(3, reader.getPosition(), "Position after \"\\r\\n\" not correct.");
+            assertEquals("bc", reader.readLine(), "Line not correct.");
+            assertEquals(6, reader.getPosition(), "Position after \"\\r\" not correct.");
+            assertEquals("d", reader.readLine(), "Line not correct.");
+            assertEquals(8, reader.getPosition(), "Position after \"\\n\" not correct.");
+            // A "\r" at the end of the stream could be the start of a "\r\n" not yet written.
+            assertEquals("e", reader.readLine(), "Line not correct.");
+            assertFalse(reader.isTerminated(), "Partial line terminated.");
+            assertEquals(null, reader.readLine(), "End of stream not correct.");
+        }
+    }
+}
@@ -12,6 +12,7 @@
  *********************************************************************************************************************/
 package org.eclipselabs.garbagecat.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -39,4 +40,15 @@ class TestGcUtil {
         SerialNewEvent firstEvent = new SerialNewEvent(logLine);
         assertFalse(GcUtil.isPartialLog(firstEvent.getTimestamp()), "Incorrectly identified as partial logging.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParseDateStampMillis() {
+        String[] datestamps = { "2016-11-22T09:07:01.358+0100", "2017-03-21T15:05:29.910-0400",
+                "2000-01-01T00:00:00.000-0500", "2020-02-29T23:59:59.999+0000", "2021-02-29T12:00:00.000+0530",
+                "1969-12-31T23:59:59.999-0800", "2100-03-01T00:00:00.001+1400" };
+        for (String datestamp : datestamps) {
+            assertEquals(GcUtil.parseDateStamp(datestamp).getTime(), GcUtil.parseDateStampMillis(datestamp),
+                    "Datestamp not parsed correctly: " + datestamp);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.TestUtil;
+import org.eclipselabs.garbagecat.domain.LogEvent;
+import org.eclipselabs.garbagecat.domain.NullEvent;
+import org.eclipselabs.garbagecat.domain.jdk.ParallelScavengeEvent;
+import org.eclipselabs.garbagecat.service.GcManager;
+import org.eclipselabs.garbagecat.util.Profiler.EventTypeProfile;
+import org.eclipselabs.garbagecat.util.Profiler.Stage;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestProfiler {
+
+    @Test
+    void testParseLogLine() {
+        String logLine = "19810.091: [GC [PSYoungGen: 27808K->632K(28032K)] 160183K->133159K(585088K), "
+                + "0.0225213 secs]";
+        Profiler profiler = new Profiler();
+        LogEvent event = profiler.parseLogLine(logLine, new NullEvent(), CollectorFamily.UNKNOWN);
+        assertTrue(event instanceof ParallelScavengeEvent, "Log line not parsed.");
+        List<EventTypeProfile> profiles = profiler.getEventTypeProfiles();
+        assertEquals(1, profiles.size(), "Event type count not correct.");
+        assertEquals(LogEventType.PARALLEL_SCAVENGE, profiles.get(0).getEventType(), "Event type not correct.");
+        assertEquals(1, profiles.get(0).getLines(), "Line count not correct.");
+        assertTrue(profiles.get(0).getAttempts() > 1, "Match attempts not counted.");
+        assertEquals(1, profiler.getExpensiveLines().size(), "Expensive line count not correct.");
+        assertEquals(logLine, profiler.getExpensiveLines().get(0).getLogLine(), "Expensive line not correct.");
+    }
+
+    @Test
+    void testStages() throws IOException {
+        File testFile = TestUtil.getFile("dataset7.txt");
+        Profiler profiler = new Profiler();
+        GcManager gcManager = new GcManager();
+        gcManager.setProfiler(profiler);
+        profiler.start(Stage.READ);
+        List<String> logLines = Files.readAllLines(testFile.toPath());
+        profiler.stop(Stage.READ);
+        profiler.start(Stage.STORE);
+        gcManager.store(logLines, false);
+        profiler.stop(Stage.STORE);
+        assertTrue(profiler.getWallNanos(Stage.READ) > 0, "Read not timed.");
+        assertTrue(profiler.getWallNanos(Stage.STORE) >= profiler.getWallNanos(Stage.IDENTIFY),
+                "Identify not included in store.");
+        long lines = 0;
+        for (EventTypeProfile profile : profiler.getEventTypeProfiles()) {
+            lines += profile.getLines();
+        }
+        assertEquals(logLines.size(), lines, "Line count not correct.");
+        assertEquals(Profiler.EXPENSIVE_LINES_LIMIT, profiler.getExpensiveLines().size(),
+                "Expensive line count not correct.");
+        assertTrue(profiler.getExpensiveLines().get(0).getNanos() >= profiler.getExpensiveLines()
+                .get(Profiler.EXPENSIVE_LINES_LIMIT - 1).getNanos(), "Expensive lines not sorted.");
+        assertTrue(profiler.getReport().contains(Stage.IDENTIFY.getLabel()), "Stage not reported.");
+    }
+}
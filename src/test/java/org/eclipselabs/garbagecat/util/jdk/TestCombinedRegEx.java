@@ -0,0 +1,64 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipselabs.garbagecat.util.jdk.unified.UnifiedRegEx;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestCombinedRegEx {
+
+    @Test
+    void testAlternatives() {
+        CombinedRegEx regex = CombinedRegEx.of(new String[] { "^(Eden|Old) regions: \\d{1,}$", "^Young .+$" });
+        assertTrue(regex.matches("Eden regions: 3"), "Eden alternative not matched.");
+        assertTrue(regex.matches("Old regions: 3"), "Old alternative not matched.");
+        assertTrue(regex.matches("Young regions: 3"), "Second regular expression not matched.");
+        assertFalse(regex.matches("Survivor regions: 3"), "Line without a matching prefix matched.");
+        assertFalse(regex.matches("Eden regions: x"), "Line with a matching prefix but not the whole regex matched.");
+    }
+
+    @Test
+    void testNoLiteralPrefix() {
+        CombinedRegEx regex = CombinedRegEx.of(new String[] { "^Eden.+$", "^.+\\[G1Ergonomics.+$" });
+        assertTrue(regex.matches("2.1: [G1Ergonomics (Mixed GCs) start mixed GCs, reason: x]"),
+                "Regular expression without a literal prefix not matched.");
+    }
+
+    @Test
+    void testSpaces() {
+        CombinedRegEx regex = CombinedRegEx.of(new String[] { "^[ ]{6}\\[Other:.+$", "^   \\[Clear CT:.+$" });
+        assertTrue(regex.matches("      [Other: 0.1 ms]"), "Indented line not matched.");
+        assertTrue(regex.matches("   [Clear CT: 0.1 ms]"), "Indented line not matched.");
+        assertFalse(regex.matches("   [Other: 0.1 ms]"), "Line with the wrong indentation matched.");
+    }
+
+    @Test
+    void testUnified() {
+        CombinedRegEx regex = CombinedRegEx.ofUnified(new String[] {
+                "^" + UnifiedRegEx.DECORATOR + "( O:)? Using \\d{1,} [wW]orkers$", UnifiedRegEx.BLANK_LINE });
+        assertTrue(regex.matches("[0.101s][info][gc,init] Using 2 Workers"),
+                "Line without optional group not matched.");
+        assertTrue(regex.matches("[0.101s][info][gc,phases] GC(1) O: Using 2 workers"),
+                "Line with gc event number and optional group not matched.");
+        assertTrue(regex.matches("[0.101s][info][gc]   "), "Blank line not matched.");
+        assertFalse(regex.matches("Using 2 workers"), "Line without decorator matched.");
+        assertFalse(regex.matches("[0.101s][info][gc] Y: Using 2 workers"), "Line with wrong generation matched.");
+    }
+}
@@ -203,6 +203,19 @@ class TestJdkMath {
                 "G1 details not converted to kilobytes.");
     }
 
+    @Test
+    void testConvertSizeToKilobytesValue() {
+        String[] sizes = { "102400", "1023", "306,0", "10.8", "0.1" };
+        char[] units = { 'B', 'B', 'M', 'G', 'K' };
+        for (int i = 0; i < sizes.length; i++) {
+            assertEquals(JdkMath.convertSizeToKilobytes(sizes[i], units[i]).getValue(Memory.Unit.KILOBYTES),
+                    JdkMath.convertSizeToKilobytesValue(sizes[i], units[i]),
+                    "Size not converted to kilobytes the same as a Memory: " + sizes[i] + units[i]);
+        }
+        assertEquals(0, Memory.kilobytesValue("1023", 'B'), "Whole size not rounded down.");
+        assertEquals(10240, Memory.kilobytesValue("10", 'M'), "Whole size not converted to kilobytes.");
+    }
+
     @Test
     void testInvertedParallelism() {
         assertTrue(JdkMath.isInvertedParallelism(0), "Inverted parallism not calculated correctly.");
@@ -0,0 +1,76 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import static org.eclipselabs.garbagecat.util.Memory.kilobytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipselabs.garbagecat.util.Memory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestLineScanner {
+
+    @Test
+    void testDecimal() {
+        String[] secs = { "0.0153682", "1234,5678901", "9.99999999" };
+        for (String value : secs) {
+            LineScanner scanner = new LineScanner(value);
+            assertTrue(scanner.decimal(1, 4, 7, 8, 6), "Decimal not scanned: " + value);
+            assertEquals(JdkMath.convertSecsToMicros(value).longValue(), scanner.getNumber(),
+                    "Decimal not rounded the same as JdkMath: " + value);
+        }
+        LineScanner scanner = new LineScanner("12345.0000000");
+        assertFalse(scanner.decimal(1, 4, 7, 8, 6), "Too many integer digits scanned.");
+        assertEquals(0, scanner.getPosition(), "Position not restored.");
+    }
+
+    @Test
+    void testDecorator() {
+        LineScanner scanner = new LineScanner("2016-10-18T01:50:54.034-0400: 1.015: [GC");
+        assertTrue(scanner.decorator(), "Decorator not scanned.");
+        assertEquals(1015, scanner.getTime(), "Time not correct.");
+        assertTrue(scanner.literal(" [GC"), "Position not correct.");
+        assertTrue(scanner.end(), "End not scanned.");
+    }
+
+    @Test
+    void testMemory() {
+        LineScanner scanner = new LineScanner("1523M->10.8G 0B");
+        assertEquals(1523 * 1024, scanner.memory(), "Size not correct.");
+        assertTrue(scanner.literal("->"), "Position not correct.");
+        assertEquals(Memory.UNKNOWN_KILOBYTES, scanner.memory(), "Size with tenths scanned as a whole size.");
+        assertEquals(JdkMath.convertSizeToKilobytes("10.8", 'G'), kilobytes(scanner.kilobytes()), "Size not correct.");
+        assertTrue(scanner.literal(' '), "Position not correct.");
+        assertEquals(0, scanner.memory(), "Size not correct.");
+        assertTrue(scanner.end(), "End not scanned.");
+    }
+
+    @Test
+    void testUnifiedDecorator() {
+        LineScanner scanner = new LineScanner("[2.785s][info][gc          ] GC(1) Pause Young");
+        assertTrue(scanner.unifiedDecorator(), "Decorator not scanned.");
+        assertEquals(2785, scanner.getTime(), "Time not correct.");
+        assertTrue(scanner.literal(" Pause Young"), "Position not correct.");
+        scanner = new LineScanner("[2020-02-14T15:21:55.207-0500][5353ms][info][gc] GC(0) Pause Young");
+        assertTrue(scanner.unifiedDecorator(), "Decorator not scanned.");
+        assertEquals(5353, scanner.getTime(), "Time not correct.");
+        scanner = new LineScanner("[2.785s][info][unknown] Pause Young");
+        assertFalse(scanner.unifiedDecorator(), "Decorator with unknown tags scanned.");
+    }
+}
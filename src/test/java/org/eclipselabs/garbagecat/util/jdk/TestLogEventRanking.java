@@ -0,0 +1,119 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipselabs.garbagecat.domain.NullEvent;
+import org.eclipselabs.garbagecat.util.Profiler;
+import org.eclipselabs.garbagecat.util.Profiler.EventTypeProfile;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.CollectorFamily;
+import org.eclipselabs.garbagecat.util.jdk.JdkUtil.LogEventType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestLogEventRanking {
+
+    @Test
+    void testHotCandidateTriedFirst() {
+        String logLine = "[0.064s][info][safepoint   ] Safepoint \"ClassLoaderStatsOperation\", "
+                + "Time since last: 4597148 ns, Reaching safepoint: 19270 ns, Cleanup: 47719 ns, At safepoint: "
+                + "59553 ns, Total: 126542 ns";
+        LogEventRanking ranking = new LogEventRanking();
+        Profiler profiler = new Profiler();
+        profiler.parseLogLine(logLine, new NullEvent(), CollectorFamily.G1, ranking);
+        profiler.parseLogLine(logLine, new NullEvent(), CollectorFamily.G1, ranking);
+        EventTypeProfile profile = null;
+        for (EventTypeProfile eventTypeProfile : profiler.getEventTypeProfiles()) {
+            if (eventTypeProfile.getEventType() == LogEventType.UNIFIED_SAFEPOINT) {
+                profile = eventTypeProfile;
+            }
+        }
+        assertEquals(2, profile.getLines(), "Lines not counted.");
+        Profiler inOrder = new Profiler();
+        inOrder.parseLogLine(logLine, new NullEvent(), CollectorFamily.G1);
+        long attempts = inOrder.getEventTypeProfiles().get(0).getAttempts();
+        assertEquals(attempts + 1, profile.getAttempts(), "Hot candidate not tried first.");
+    }
+
+    @Test
+    void testOverlapPrecedence() {
+        List<LogEventMatcher> matchers = Arrays.asList(
+                LogEventMatcher.of(LogEventType.UNIFIED_G1_YOUNG_PAUSE,
+                        logLine -> logLine.startsWith("Pause Young G1")),
+                LogEventMatcher.of(LogEventType.UNIFIED_YOUNG, logLine -> logLine.startsWith("Pause Young"))
+                        .overlaps(LogEventType.UNIFIED_G1_YOUNG_PAUSE));
+        LogEventRanking ranking = new LogEventRanking();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(LogEventType.UNIFIED_YOUNG, ranking.identify(matchers, "Pause Young", null, null),
+                    LogEventType.UNIFIED_YOUNG + " not identified.");
+        }
+        assertEquals(LogEventType.UNIFIED_G1_YOUNG_PAUSE, ranking.identify(matchers, "Pause Young G1", null, null),
+                "Overlapping earlier candidate did not take precedence over the most frequent candidate.");
+        assertEquals(3, ranking.getHits(matchers, LogEventType.UNIFIED_YOUNG),
+                LogEventType.UNIFIED_YOUNG + " hits not counted.");
+        assertEquals(1, ranking.getHits(matchers, LogEventType.UNIFIED_G1_YOUNG_PAUSE),
+                LogEventType.UNIFIED_G1_YOUNG_PAUSE + " hits not counted.");
+    }
+
+    @Test
+    void testShape() {
+        assertEquals(LogEventRanking.getShape("[0.064s][info][gc] GC(3) Pause Young (Normal) 24M->4M(256M) 1.123ms"),
+                LogEventRanking.getShape("[10.5s][info][gc] GC(1234) Pause Young (Normal) 1024M->96M(2048M) 15.6ms"),
+                "Log lines that differ only in numbers do not have the same shape.");
+        assertEquals(LogEventRanking.getShape("tid=0x00007f9c8c0b8800 nid=0x1a2b"),
+                LogEventRanking.getShape("tid=0x0000000000000001 nid=0xfe"), "Addresses not collapsed.");
+        assertNotEquals(LogEventRanking.getShape("[0.064s][info][gc] GC(3) Pause Young (Normal) 24M->4M(256M) 1.1ms"),
+                LogEventRanking.getShape("[0.064s][info][gc] GC(3) Pause Full (Normal) 24M->4M(256M) 1.1ms"),
+                "Log lines with different words have the same shape.");
+    }
+
+    @Test
+    void testShapeCandidateTriedFirst() {
+        AtomicInteger attempts = new AtomicInteger();
+        List<LogEventMatcher> matchers = Arrays.asList(
+                LogEventMatcher.of(LogEventType.UNIFIED_REMARK,
+                        logLine -> attempts.incrementAndGet() > 0 && logLine.startsWith("Pause Remark")),
+                LogEventMatcher.of(LogEventType.UNIFIED_YOUNG,
+                        logLine -> attempts.incrementAndGet() > 0 && logLine.startsWith("Pause Young")),
+                LogEventMatcher.of(LogEventType.UNIFIED_OLD,
+                        logLine -> attempts.incrementAndGet() > 0 && logLine.startsWith("Pause Full")));
+        LogEventRanking ranking = new LogEventRanking();
+        for (int i = 0; i < 4; i++) {
+            ranking.identify(matchers, "Pause Young " + i + "M", null, null);
+        }
+        ranking.identify(matchers, "Pause Full 1M", null, null);
+        attempts.set(0);
+        assertEquals(LogEventType.UNIFIED_OLD, ranking.identify(matchers, "Pause Full 2M", null, null),
+                LogEventType.UNIFIED_OLD + " not identified.");
+        assertEquals(1, attempts.get(), "Candidate that identified the log line shape not tried first.");
+    }
+
+    @Test
+    void testUnknown() {
+        List<LogEventMatcher> matchers = Arrays
+                .asList(LogEventMatcher.of(LogEventType.UNIFIED_YOUNG, logLine -> logLine.startsWith("Pause Young")));
+        LogEventRanking ranking = new LogEventRanking();
+        ranking.identify(matchers, "Pause Young", null, null);
+        assertEquals(LogEventType.UNKNOWN, ranking.identify(matchers, "Pause Full", null, null),
+                LogEventType.UNKNOWN + " not identified.");
+    }
+}
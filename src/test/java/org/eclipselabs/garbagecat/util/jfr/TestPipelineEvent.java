@@ -0,0 +1,121 @@
+/**********************************************************************************************************************
+ * garbagecat                                                                                                         *
+ *                                                                                                                    *
+ * Copyright (c) 2008-2023 Mike Millson                                                                               *
+ *                                                                                                                    * 
+ * All rights reserved. This program and the accompanying materials are made available under the terms of the Eclipse *
+ * Public License v1.0 which accompanies this distribution, and is available at                                       *
+ * http://www.eclipse.org/legal/epl-v10.html.                                                                         *
+ *                                                                                                                    *
+ * Contributors:                                                                                                      *
+ *    Mike Millson - initial API and implementation                                                                   *
+ *********************************************************************************************************************/
+package org.eclipselabs.garbagecat.util.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipselabs.garbagecat.domain.jdk.unified.UnifiedHeaderEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * @author <a href="mailto:mmillson@redhat.com">Mike Millson</a>
+ * 
+ */
+class TestPipelineEvent {
+
+    /**
+     * @return A class loader for the JDK 11+ classes of the multi-release jar, or null if they have not been built.
+     */
+    private static ClassLoader jdk11ClassLoader() throws Exception {
+        URL classes = PipelineEvent.class.getProtectionDomain().getCodeSource().getLocation();
+        File versions = new File(new File(classes.toURI()), "META-INF/versions/11");
+        if (!versions.isDirectory()) {
+            return null;
+        }
+        // The JDK 11+ classes come first, so they replace the JDK 8 classes with the same name.
+        return new URLClassLoader(new URL[] { versions.toURI().toURL(), classes }, null);
+    }
+
+    @Test
+    void testDisabled() {
+        PipelineEvent event = PipelineEvent.slowLine();
+        assertFalse(event.isEnabled(), "Event enabled.");
+        assertSame(event, event.begin(), "Event created when starting the event.");
+        assertSame(event, PipelineEvent.storeBatch(), "Event created for each stage.");
+        assertSame(event, PipelineEvent.reportSection("SUMMARY"), "Event created for each report section.");
+        event.commitLine("logLine", UnifiedHeaderEvent.class.getSimpleName());
+        event.commit(1, UnifiedHeaderEvent.class.getSimpleName());
+        EventBatch batch = new EventBatch(PipelineEvent::preprocessBatch);
+        batch.add(new UnifiedHeaderEvent("[0.013s][info][gc,init] Version: 17.0.1+12-LTS (release)"));
+        batch.flush();
+    }
+
+    @Test
+    void testDisabledJdk11() throws Exception {
+        ClassLoader classLoader = jdk11ClassLoader();
+        assumeTrue(classLoader != null, "JDK 11 classes not built.");
+        Class<?> pipelineEvent = classLoader.loadClass(PipelineEvent.class.getName());
+        Method slowLine = pipelineEvent.getMethod("slowLine");
+        Object event = slowLine.invoke(null);
+        assertFalse((Boolean) pipelineEvent.getMethod("isEnabled").invoke(event), "Event enabled.");
+        assertSame(event, slowLine.invoke(null), "Event created for each log line when not recorded.");
+        assertSame(event, pipelineEvent.getMethod("storeBatch").invoke(null), "Event created for each stage.");
+    }
+
+    @Test
+    void testRecordedJdk11(@TempDir Path temporaryFolder) throws Exception {
+        ClassLoader classLoader = jdk11ClassLoader();
+        assumeTrue(classLoader != null, "JDK 11 classes not built.");
+        Class<?> pipelineEvent = classLoader.loadClass(PipelineEvent.class.getName());
+        Method begin = pipelineEvent.getMethod("begin");
+        Path dump = temporaryFolder.resolve("garbagecat.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("garbagecat.StoreBatch");
+            recording.enable("garbagecat.SlowLine").withoutThreshold();
+            recording.start();
+            Object storeBatch = begin.invoke(pipelineEvent.getMethod("storeBatch").invoke(null));
+            assertTrue((Boolean) pipelineEvent.getMethod("isEnabled").invoke(storeBatch), "Event not enabled.");
+            pipelineEvent.getMethod("commit", long.class, String.class).invoke(storeBatch, 3,
+                    "UNIFIED_HEADER,UNIFIED_G1_YOUNG_PAUSE");
+            Object slowLine = begin.invoke(pipelineEvent.getMethod("slowLine").invoke(null));
+            pipelineEvent.getMethod("commitLine", String.class, String.class).invoke(slowLine, "logLine",
+                    "UNIFIED_G1_YOUNG_PAUSE");
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        RecordedEvent storeBatch = null;
+        RecordedEvent slowLine = null;
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("garbagecat.StoreBatch")) {
+                storeBatch = event;
+            } else if (event.getEventType().getName().equals("garbagecat.SlowLine")) {
+                slowLine = event;
+            }
+        }
+        assertNotNull(storeBatch, "Store batch event not recorded.");
+        assertEquals(3, storeBatch.getLong("lines"), "Lines not recorded.");
+        assertEquals("UNIFIED_HEADER,UNIFIED_G1_YOUNG_PAUSE", storeBatch.getString("eventTypes"),
+                "Event types not recorded.");
+        assertNotNull(slowLine, "Slow line event not recorded.");
+        assertEquals("logLine", slowLine.getString("logLine"), "Log line not recorded.");
+        assertEquals("UNIFIED_G1_YOUNG_PAUSE", slowLine.getString("eventType"), "Event type not recorded.");
+    }
+}
@@ -0,0 +1,17 @@
+#!/bin/sh
+#
+# Runs the end-to-end throughput benchmark over the test datasets (or the gc logs and directories passed in) and
+# compares the results to a stored baseline. The first run saves the baseline.
+#
+# Usage: sh ./benchmark.sh [FILE|DIR]...
+#
+
+GARBAGECAT_HOME=~/workspace/garbagecat
+BASELINE=$GARBAGECAT_HOME/target/benchmark-baseline.properties
+RESULT=$GARBAGECAT_HOME/target/benchmark.properties
+
+cd $GARBAGECAT_HOME
+mvn -q -DskipTests test-compile dependency:build-classpath -Dmdep.outputFile=target/benchmark.classpath
+
+java -Xmx2g -cp target/classes:target/test-classes:$(cat target/benchmark.classpath) \
+  org.eclipselabs.garbagecat.Benchmark -b $BASELINE -o $RESULT "$@"
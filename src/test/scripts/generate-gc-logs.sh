@@ -0,0 +1,30 @@
+#!/bin/sh
+#
+# Generates synthetic gc logging for every collector, format, datestamp, and safepoint combination for scale testing
+# (e.g. the throughput benchmark: sh ./benchmark.sh $OUTPUT_DIR).
+#
+# Usage: sh ./generate-gc-logs.sh [SIZE] [OUTPUT_DIR]
+#
+# SIZE is the approximate size of each log with an optional K, M, or G suffix (default 100M).
+#
+
+GARBAGECAT_HOME=~/workspace/garbagecat
+SIZE=${1:-100M}
+OUTPUT_DIR=${2:-$GARBAGECAT_HOME/target/synthetic}
+
+cd $GARBAGECAT_HOME
+mvn -q -DskipTests test-compile
+mkdir -p $OUTPUT_DIR
+
+for COLLECTOR in SERIAL PARALLEL CMS G1 SHENANDOAH Z; do
+  for FORMAT in UNIFIED LEGACY; do
+    if [ $COLLECTOR = Z ] && [ $FORMAT = LEGACY ]; then
+      continue
+    fi
+    for OPTIONS in "" "-d" "-s" "-d -s"; do
+      NAME=$(echo "$COLLECTOR-$FORMAT$OPTIONS" | tr -d " " | tr "A-Z" "a-z")
+      java -cp target/classes:target/test-classes org.eclipselabs.garbagecat.GcLogGenerator -c $COLLECTOR -f $FORMAT \
+        $OPTIONS -b $SIZE $OUTPUT_DIR/$NAME.log
+    done
+  done
+done